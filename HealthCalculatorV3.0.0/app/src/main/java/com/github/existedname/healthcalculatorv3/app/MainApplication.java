@@ -0,0 +1,121 @@
+package com.github.existedname.healthcalculatorv3.app;
+
+import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.service.BatchService;
+import com.github.existedname.healthcalculatorv3.service.FileService;
+import com.github.existedname.healthcalculatorv3.service.GameService;
+import com.github.existedname.healthcalculatorv3.service.UIService;
+
+import java.io.IOException;
+import java.util.Scanner;
+
+/**
+ * 应用程序主类, 负责启动健康计算器应用
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 2.0.0
+ * @UpdateTime 2025/8/30
+ */
+public final class MainApplication {
+    // ==================== 常量 ====================
+    /** 批量计算命令失败( 读写文件失败等 )时的退出码 */
+    private static final int EXIT_FAILURE = 1;
+    /** 批量计算命令的参数不正确时的退出码 */
+    private static final int EXIT_USAGE = 2;
+
+    // ==================== 静态变量 ====================
+    /** 当前用户, 之后可以拓展为 UserManager 集中管理用户 */
+    private static User user = new User();
+
+
+    // ==================== 实例变量 ====================
+
+
+
+    // ==================== 构造器 ====================
+    private MainApplication(){}
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 启动应用程序入口点
+     * @param args 命令行参数, 以 --batch 开头时执行批量计算命令( {@link BatchService } ), 否则启动游戏循环
+     */
+    public static void main( String[] args ){
+        if ( BatchService.isBatchCommand( args ) ){
+            startBatchCommand( args );
+            return;
+        }
+        startApplication( args );
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 应用程序核心执行流程<br>
+     * 包含: UI 展示、启动游戏循环、数据保存
+     * @param args 启动参数
+     */
+    private static void startApplication( String[] args ){
+        try ( Scanner scanner = new Scanner( System.in ) ){
+            /*      1. 前言      */
+            // 1.1 展示引言
+            UIService.getInstance().showCalculatorForeword( scanner );
+            // 1.2 展示功能及对应编号
+            UIService.getInstance().showCalculatorFunctionList( scanner );
+
+            /*      2. 重放会话日志, 恢复上次的用户状态      */
+            restoreUser();
+
+            /*      3. 游戏循环       */
+            GameService.getInstance().startGameLoop( user, scanner );
+            FileService.getInstance().shutdown();
+
+            /*      4. 将用户身体指标信息写入文档保存      */
+            // 该步骤移入 GameService#getEndOptionInput 中, 在"退出"之前保存
+        } catch ( RuntimeException e ){
+            System.err.println( "\t捕获运行时异常: " + e.getMessage() );
+            System.err.println( "\t请重新启动程序" );
+        } catch ( Exception e ){
+            System.err.println( "\t捕获未知异常: " + e.getMessage() );
+            System.err.println( "\t请重新启动程序" );
+        }
+    }
+
+    /**
+     * 重放会话日志恢复用户状态, 失败时只打印提示, 以空白用户继续
+     */
+    private static void restoreUser(){
+        try {
+            int entryCount = FileService.getInstance().restoreUserFromJournal( user );
+            if ( entryCount > 0 ){
+                System.out.println( "\t已从会话日志恢复 " + entryCount + " 次计算/分析后的用户数据" );
+                System.out.println();
+            }
+        } catch ( IOException e ){
+            System.err.println( "\t会话日志读取失败: " + e.getMessage() );
+        }
+    }
+
+    /**
+     * 批量计算命令的执行流程: 不展示 UI、不读取控制台输入<br>
+     * 失败时打印原因并以非 0 退出码结束, 供脚本判断: 参数不正确为 {@value #EXIT_USAGE }, 其他失败为 {@value #EXIT_FAILURE }
+     * @param args 启动参数: --batch 档案文件 结果文件
+     */
+    private static void startBatchCommand( String[] args ){
+        try {
+            BatchService.getInstance().runBatchCommand( args );
+        } catch ( IllegalArgumentException e ){
+            System.err.println( "\t参数错误: " + e.getMessage() );
+            System.exit( EXIT_USAGE );
+        } catch ( IOException e ){
+            System.err.println( "\t读写文件失败: " + e );
+            System.exit( EXIT_FAILURE );
+        } catch ( RuntimeException e ){
+            System.err.println( "\t捕获运行时异常: " + e );
+            System.exit( EXIT_FAILURE );
+        }
+    }
+
+}
+
@@ -0,0 +1,78 @@
+package com.github.existedname.healthcalculatorv3.service;
+
+import com.github.existedname.healthcalculatorv3.service.batch.ProfileBatchProcessor;
+import com.github.existedname.healthcalculatorv3.service.batch.ProfileBatchResult;
+import com.github.existedname.healthcalculatorv3.service.batch.ProfileCsvFormat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量计算服务类, 提供不经过游戏循环的非交互式批量计算命令
+ * <pre>
+ *     启动参数: --batch 档案文件 结果文件
+ *     档案文件、结果文件的格式见 {@link ProfileCsvFormat }; 大文件按可用处理器数分块并行计算
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 21:30
+ */
+public final class BatchService {
+    // ==================== 常量 ====================
+    /** 批量计算命令的启动参数 */
+    public static final String BATCH_OPTION = "--batch";
+
+
+    // ==================== 静态变量 ====================
+    private static BatchService batchService = null;
+
+
+    // ==================== 构造器 ====================
+    private BatchService(){ }
+
+
+    // ==================== 公有方法 ====================
+    public static BatchService getInstance(){
+        if ( Objects.isNull( batchService ) ){
+            batchService = new BatchService();
+        }
+        return batchService;
+    }
+
+    /**
+     * 判断启动参数是否为批量计算命令
+     *
+     * @param args 启动参数
+     * @return 第一个参数为 {@value #BATCH_OPTION } 时返回 true
+     */
+    public static boolean isBatchCommand( String[] args ){
+        return ( args != null && args.length > 0 && BATCH_OPTION.equals( args[ 0 ] ) );
+    }
+
+    /**
+     * 执行批量计算命令, 并打印结果统计
+     *
+     * @param args 启动参数: --batch 档案文件 结果文件
+     * @throws NullPointerException 当 args 为 null 时
+     * @throws IllegalArgumentException 当参数个数不正确时
+     * @throws IOException 当读写文件失败时
+     */
+    public void runBatchCommand( String[] args ) throws IOException{
+        Objects.requireNonNull( args, "参数 args( 启动参数 )不能为 null" );
+        if ( args.length != 3 ){
+            throw new IllegalArgumentException( String.format( "用法: %s 档案文件 结果文件", BATCH_OPTION ) );
+        }
+        Path inputPath = Paths.get( args[ 1 ] );
+        Path outputPath = Paths.get( args[ 2 ] );
+
+        System.out.println( "\t正在批量计算 " + inputPath );
+        ProfileBatchResult result = ProfileBatchProcessor.process( inputPath, outputPath );
+        System.out.printf( "\t已将 %d 份档案的计算结果保存到 %s( 不合法档案 %d 份, 分 %d 块计算, 耗时 %d ms )%n",
+                result.getRowCount(), outputPath, result.getInvalidRowCount(), result.getChunkCount(),
+                TimeUnit.NANOSECONDS.toMillis( result.getElapsedNanos() ) );
+    }
+}
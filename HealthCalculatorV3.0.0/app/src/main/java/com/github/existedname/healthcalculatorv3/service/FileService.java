@@ -0,0 +1,376 @@
+package com.github.existedname.healthcalculatorv3.service;
+
+import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.service.persistence.SessionJournal;
+import com.github.existedname.healthcalculatorv3.service.persistence.SessionJournalReader;
+import com.github.existedname.healthcalculatorv3.service.persistence.UserBinaryCodec;
+import com.github.existedname.healthcalculatorv3.service.persistence.WriteBehindUserWriter;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 文件服务类, 提供对文件的操作方法, 目前用于将用户数据保存到项目文件中
+ * <pre>
+ *     1. 用户数据以 {@link UserBinaryCodec } 的二进制格式保存在 {@link #USER_DATA_FILE_PATH }, 可以读回
+ *     2. 文本格式( {@link User#toString() } )只是导出视图: 系统属性 {@value #TEXT_EXPORT_PROPERTY } 为 true 时保存时一并导出,
+ *        也可以直接调用 {@link #exportUserToTextFile( User ) }
+ *     3. 每完成一次计算或分析, 用 {@link #recordFunction( String, User ) } 把结果追加到会话日志 {@link #SESSION_JOURNAL_FILE_PATH }
+ *        并立即提交, 进程中途退出也不会丢失; 启动时用 {@link #restoreUserFromJournal( User ) } 重放日志恢复用户状态
+ *     4. 系统属性 {@value #WRITE_BEHIND_PROPERTY } 为 true 时, {@link #saveUserToFile( User ) } 只把用户放进
+ *        {@link WriteBehindUserWriter } 的有界队列就返回, 由后台线程合并、成批写盘; 退出前调用 {@link #shutdown() } 写完队列
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.0.0
+ * @CreateTime 2025/8/30 8:04
+ */
+public final class FileService {
+    // ==================== 常量 ====================
+    /** 用户数据储存文件的名称 */
+    private static final String USER_FILE_NAME = "user.txt";
+    /**
+     * 用户数据储存文件的相对路径
+     * <pre>
+     *     Windows: src\com\github\existedname\healthcalculatorv3\USER_FILE_NAME
+     *     Mac/Linux: src/com/github/existedname/healthcalculatorv3/USER_FILE_NAME
+     * </pre>
+     */
+//    private static final String USER_FILE_PATH = Paths.get( "src", "com", "github", "existedname", "healthcalculatorv3", USER_FILE_NAME ).toString();
+    private static final String USER_FILE_PATH = Paths.get( "healthcalculatorv3", USER_FILE_NAME ).toString();
+    /** 用户数据二进制文件的名称 */
+    private static final String USER_DATA_FILE_NAME = "user.dat";
+    /** 用户数据二进制文件的相对路径 */
+    private static final Path USER_DATA_FILE_PATH = Paths.get( "healthcalculatorv3", USER_DATA_FILE_NAME );
+    /** 会话日志文件的相对路径 */
+    private static final Path SESSION_JOURNAL_FILE_PATH = Paths.get( "healthcalculatorv3", "session.journal" );
+    /** 保存用户数据时是否同时导出文本文件的系统属性名( 默认为 false ) */
+    public static final String TEXT_EXPORT_PROPERTY = "healthcalculatorv3.textExport";
+    /** 是否启用写后( 后台异步 )保存的系统属性名( 默认为 false ) */
+    public static final String WRITE_BEHIND_PROPERTY = "healthcalculatorv3.writeBehind";
+
+    // ==================== 静态变量 ====================
+    private static FileService fileService = null;
+
+    // ==================== 实例变量 ====================
+    /** 会话日志, 第一次记录时打开 */
+    private SessionJournal sessionJournal = null;
+    /** 写后写入器, 写后模式下第一次保存时创建 */
+    private WriteBehindUserWriter writeBehindWriter = null;
+    /** 用户数据文件锁: 同步保存的"读取 → 替换 → 写回"整体互斥, 避免并发保存互相覆盖 */
+    private final Object userFileLock = new Object();
+
+    // ==================== 构造器 ====================
+    /**
+     * 注册一个关闭钩子, 进程退出前调用 {@link #shutdown() } 写完保存队列、关闭会话日志
+     */
+    private FileService(){
+        Runtime.getRuntime().addShutdownHook( new Thread( () -> {
+            try {
+                shutdown();
+            } catch ( IOException e ){
+                System.err.println( "\t保存队列未能写完: " + e.getMessage() );
+            }
+        } ) );
+    }
+
+    // ==================== 公有方法 ====================
+    public static synchronized FileService getInstance(){
+        if ( Objects.isNull( fileService ) ){
+            fileService = new FileService();
+        }
+        return fileService;
+    }
+
+    /**
+     * 将用户数据存入项目中的二进制文件( 替换文件中编号相同的用户 ), 并打印操作信息及结果<br>
+     * <B>默认储存路径: {@link #USER_DATA_FILE_PATH }</B>; 系统属性 {@value #TEXT_EXPORT_PROPERTY } 为 true 时同时导出文本文件<br>
+     * 写后模式( 系统属性 {@value #WRITE_BEHIND_PROPERTY } 为 true )下只放进保存队列, 队列已满时阻塞到有空位;
+     * 否则同步读取、替换、写回, 多个线程同时保存时依次进行
+     *
+     * @param user 用户对象
+     * @throws NullPointerException 当 user 为 null 时
+     * @throws IOException
+     */
+    public void saveUserToFile( User user ) throws IOException{
+        Objects.requireNonNull( user, "参数 user 不能为 null" );
+        String operation = "正在保存用户数据", result = "";
+        UIService.getInstance().printLoadingProgress( operation, result );
+
+        if ( isWriteBehindEnabled() ){
+            try {
+                obtainWriteBehindWriter().save( user );
+            } catch ( InterruptedException e ){
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException( "等待保存队列空位时被中断" );
+            }
+            System.out.println( "\t已将用户数据加入保存队列, 稍后写入 " + USER_DATA_FILE_NAME );
+        } else {
+            replaceUserInFile( user );
+            System.out.println( "\t已将用户数据保存到 " + USER_DATA_FILE_NAME );
+        }
+
+        if ( Boolean.parseBoolean( System.getProperty( TEXT_EXPORT_PROPERTY, "false" ) ) ){
+            exportUserToTextFile( user );
+        }
+        System.out.println();
+    }
+
+    /**
+     * 将一组用户整体存入项目中的二进制文件( 覆盖原文件 ), 不打印信息
+     *
+     * @param users 用户集合
+     * @throws NullPointerException 当 users 或其中任意用户为 null 时
+     * @throws IOException
+     */
+    public void saveUsersToFile( Collection< ? extends User > users ) throws IOException{
+        Objects.requireNonNull( users, "参数 users( 用户集合 )不能为 null" );
+        Path parent = USER_DATA_FILE_PATH.toAbsolutePath().getParent();
+        if ( parent != null ){
+            Files.createDirectories( parent );
+        }
+        synchronized ( userFileLock ){
+            UserBinaryCodec.write( USER_DATA_FILE_PATH, users );
+        }
+    }
+
+    /**
+     * 读取项目中二进制文件保存的全部用户( 写后模式下先调用 {@link #flushUsers() }, 否则读不到队列中的用户 )
+     *
+     * @return 用户列表, 文件不存在时为空列表
+     * @throws IOException 当读取失败或文件已损坏时
+     */
+    public List< User > loadUsersFromFile() throws IOException{
+        if ( !Files.exists( USER_DATA_FILE_PATH ) ){
+            return Collections.emptyList();
+        }
+        return UserBinaryCodec.read( USER_DATA_FILE_PATH );
+    }
+
+    /**
+     * 将用户数据导出为项目中的文本文件( 只用于查看, 不能读回 )<br>
+     * <B>默认储存路径: {@link #USER_FILE_PATH }</B>
+     *
+     * @param user 用户对象
+     * @throws NullPointerException 当 user 为 null 时
+     * @throws IOException
+     */
+    public void exportUserToTextFile( User user ) throws IOException{
+        Objects.requireNonNull( user, "参数 user 不能为 null" );
+        saveTextToFile( USER_FILE_PATH, user.toString() );
+        System.out.println( "\t已将用户数据导出到 " + USER_FILE_NAME );
+    }
+
+
+
+
+    /**
+     * 把一次完成的计算或分析追加到会话日志并提交( 返回时已持久化 ), 不打印信息
+     *
+     * @param functionId 功能编号
+     * @param user 功能完成后的用户
+     * @throws NullPointerException 当 functionId 或 user 为 null 时
+     * @throws IOException 当打开或写入会话日志失败时
+     */
+    public void recordFunction( String functionId, User user ) throws IOException{
+        Objects.requireNonNull( functionId, "参数 functionId( 功能编号 )不能为 null" );
+        Objects.requireNonNull( user, "参数 user 不能为 null" );
+        SessionJournal journal = obtainSessionJournal();
+        journal.commit( journal.append( functionId, user ) );
+    }
+
+    /**
+     * 重放会话日志, 把编号与 user 相同的用户最后一次记录的身体数据及健康指标恢复到 user 中
+     *
+     * @param user 输出: 用户
+     * @return 重放的条目数, 日志不存在时为 0
+     * @throws NullPointerException 当 user 为 null 时
+     * @throws IOException 当读取失败或日志已损坏时
+     */
+    public int restoreUserFromJournal( User user ) throws IOException{
+        Objects.requireNonNull( user, "参数 user 不能为 null" );
+        if ( !Files.exists( SESSION_JOURNAL_FILE_PATH ) ){
+            return 0;
+        }
+        int entryCount = 0;
+        try ( SessionJournalReader reader = SessionJournalReader.open( SESSION_JOURNAL_FILE_PATH ) ){
+            while ( reader.next() ){
+                if ( reader.getUserId() == user.getId() ){
+                    reader.readProfile( user );
+                    entryCount++;
+                }
+            }
+        }
+        return entryCount;
+    }
+
+    /**
+     * 写后模式下等待保存队列中的用户全部写入文件, 未启用写后模式时无效果
+     *
+     * @throws IOException 当写入失败时
+     */
+    public void flushUsers() throws IOException{
+        WriteBehindUserWriter writer = getWriteBehindWriter();
+        if ( Objects.nonNull( writer ) ){
+            writer.flush();
+        }
+    }
+
+    /**
+     * 获取写后写入器, 用于读取队列深度、写盘耗时等指标
+     *
+     * @return 写后写入器, 未启用写后模式或尚未保存过时为 null
+     */
+    public synchronized WriteBehindUserWriter getWriteBehindWriter(){
+        return writeBehindWriter;
+    }
+
+    /**
+     * 退出前调用: 写完保存队列并打印队列指标, 再关闭会话日志
+     *
+     * @throws IOException 当写入或关闭失败时
+     */
+    public void shutdown() throws IOException{
+        WriteBehindUserWriter writer;
+        synchronized ( this ){
+            writer = writeBehindWriter;
+            writeBehindWriter = null;
+        }
+        try {
+            if ( Objects.nonNull( writer ) ){
+                writer.close();
+                System.out.println( "\t保存队列已写完: " + writer );
+            }
+        } finally {
+            closeSessionJournal();
+        }
+    }
+
+    /**
+     * 关闭会话日志( 未打开时无效果 )
+     *
+     * @throws IOException 当关闭失败时
+     */
+    public synchronized void closeSessionJournal() throws IOException{
+        if ( Objects.nonNull( sessionJournal ) ){
+            sessionJournal.close();
+            sessionJournal = null;
+        }
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 同步保存: 读出文件中的全部用户, 替换编号相同的用户后整体写回; 持有 {@link #userFileLock } 期间完成, 并发保存不会丢失更新
+     */
+    private void replaceUserInFile( User user ) throws IOException{
+        synchronized ( userFileLock ){
+            List< User > users = new ArrayList<>( loadUsersFromFile() );
+            users.removeIf( savedUser -> savedUser.getId() == user.getId() );
+            users.add( user );
+            saveUsersToFile( users );
+        }
+    }
+
+    private static boolean isWriteBehindEnabled(){
+        return Boolean.parseBoolean( System.getProperty( WRITE_BEHIND_PROPERTY, "false" ) );
+    }
+
+    /**
+     * 获取会话日志, 第一次调用时打开; 与 {@link #closeSessionJournal() } 互斥, 多个线程同时记录时只打开一次
+     */
+    private synchronized SessionJournal obtainSessionJournal() throws IOException{
+        if ( Objects.isNull( sessionJournal ) ){
+            Path parent = SESSION_JOURNAL_FILE_PATH.toAbsolutePath().getParent();
+            if ( parent != null ){
+                Files.createDirectories( parent );
+            }
+            sessionJournal = SessionJournal.open( SESSION_JOURNAL_FILE_PATH );
+        }
+        return sessionJournal;
+    }
+
+    /**
+     * 获取写后写入器, 第一次调用时创建( 进程退出前由构造器注册的关闭钩子写完队列 )
+     */
+    private synchronized WriteBehindUserWriter obtainWriteBehindWriter() throws IOException{
+        if ( Objects.isNull( writeBehindWriter ) ){
+            Path parent = USER_DATA_FILE_PATH.toAbsolutePath().getParent();
+            if ( parent != null ){
+                Files.createDirectories( parent );
+            }
+            writeBehindWriter = new WriteBehindUserWriter( USER_DATA_FILE_PATH );
+        }
+        return writeBehindWriter;
+    }
+
+    /**
+     * 将文本存入指定路径的文件, 细节由重载方法 {@link #saveTextToFile( File, String text ) } 实现
+     *
+     * @param filePath 指定路径
+     * @param text 待储存的文本
+     *
+     * @throws NullPointerException 当 filePath 或 text 为 null 时
+     * @throws IllegalArgumentException 当 user 为 null 时
+     * @throws IOException
+     */
+    private void saveTextToFile( String filePath, String text ) throws IOException {
+        Objects.requireNonNull( filePath, "参数 filePath( 指定的文件路径 )不能为 null" );
+        Objects.requireNonNull( text, "参数 text( 待储存的文本 )不能为 null" );
+        saveTextToFile( new File( filePath ), text );
+    }
+
+    /**
+     * 将文本存入指定的文件
+     *
+     * @param file 指定文件
+     * @param text 待储存的文本
+     *
+     * @throws NullPointerException 当 file 或 text 为 null 时
+     * @throws IllegalArgumentException 当 user 为 null 时
+     * @throws IOException
+     */
+    private void saveTextToFile( File file, String text ) throws IOException  {
+        Objects.requireNonNull( file, "参数 file( 指定的文件 )不能为 null" );
+        Objects.requireNonNull( text, "参数 text( 待储存的文本 )不能为 null" );
+        if ( ! file.exists() ){
+            if ( file.createNewFile() ){
+                System.out.println( "\t成功创建路径为 " + file.getPath() + " 的文件 !" );
+            } else {
+                throw new IOException( "路径为 " + file.getPath() + " 的文件不存在并且创建文件失败" );
+            }
+        }
+
+        try (
+            // 字符输出缓冲流 -套- 转换流 -套- 字节输出流
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(
+                            new FileOutputStream( file, false ), // 取消追加, 直接覆盖原文件
+                            StandardCharsets.UTF_8 // UTF-8 编码
+                    ), 8192 // 8KB 缓冲
+            )
+        ){
+            writer.write( text );
+        } catch ( FileNotFoundException e ){
+            throw new FileNotFoundException( "未找到路径为 " + file.getPath() + " 的文件" );
+        } catch ( IOException e ){
+            throw e;
+        }
+    }
+
+}
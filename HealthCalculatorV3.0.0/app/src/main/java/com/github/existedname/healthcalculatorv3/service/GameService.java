@@ -130,11 +130,26 @@ public final class GameService {
         } else if ( ApplicationConfig.hasBiConsumerFunction( functionId ) ){
             // 2.2.2 情况Ⅱ: 编号对应的方法有 2 个参数无返回值( idToBiConsumerMap )
             ApplicationConfig.executeBiConsumerById( functionId, currentUser, scanner );
+            recordFunction( functionId, currentUser ); // 计算、分析完成后记入会话日志
         } else {
             throw new IllegalArgumentException( "功能编号 " + functionId + " 无效" );
         }
     }
 
+    /**
+     * 把完成的功能记入会话日志, 写入失败时只打印提示, 不中断本次会话
+     *
+     * @param functionId 功能编号
+     * @param currentUser 当前用户
+     */
+    private void recordFunction( String functionId, User currentUser ){
+        try {
+            FileService.getInstance().recordFunction( functionId, currentUser );
+        } catch ( IOException e ){
+            System.err.println( "\t会话日志写入失败: " + e.getMessage() );
+        }
+    }
+
     /**
      * 获取用户结束选项输入( 继续/退出 )
      *
@@ -3,24 +3,12 @@ package com.github.existedname.healthcalculatorv3.service.analysis;
 import com.github.existedname.healthcalculatorv3.service.analysis.metrics.HealthMetricIntervalAssessment;
 import com.github.existedname.healthcalculatorv3.model.entity.User;
 import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
-import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BodyMetric;
 import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
 import com.github.existedname.healthcalculatorv3.service.calculation.CalculationService;
 import com.github.existedname.healthcalculatorv3.service.UIService;
-import com.github.existedname.healthcalculatorv3.service.analysis.metrics.HealthMetricsProvider;
-import com.github.existedname.healthcalculatorv3.service.analysis.metrics.basicbodyparameter.FemaleWaistCircumferenceMetrics;
-import com.github.existedname.healthcalculatorv3.service.analysis.metrics.basicbodyparameter.MaleWaistCircumferenceMetrics;
-import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.BMIMetrics;
-import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.BMRMetrics;
-import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.BSAMetrics;
-import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.FemaleBFRMetrics;
-import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.FemaleBRIMetrics;
-import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.FemaleWHRMetrics;
-import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.MaleBFRMetrics;
-import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.MaleBRIMetrics;
-import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.MaleWHRMetrics;
-import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.TDEEMetrics;
-import com.github.existedname.healthcalculatorv3.util.ValueFormatter;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.HealthMetricAssessor;
 import com.github.existedname.healthcalculatorv3.util.input.BodyDataReader;
 import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
 
@@ -73,7 +61,7 @@ public final class AnalysisService {
         MethodParameterValidator.validateUserAndScanner( user, scanner );
 
         CalculationService.getInstance().showBMICalculation( user, scanner );
-        HealthMetricIntervalAssessment assessment = HealthMetricsProvider.findByValue( BMIMetrics.values(), HealthMetric.BMI, user.getBMI() );
+        HealthMetricIntervalAssessment assessment = HealthMetricAssessor.assessBMI( user.getBMI() );
         analysisTemplate( assessment, HealthMetric.BMI, user.getBMI() );
     }
 
@@ -89,16 +77,11 @@ public final class AnalysisService {
     public void analyzeWaistCircumference( User user, Scanner scanner ){
         MethodParameterValidator.validateUserAndScanner( user, scanner );
 
-        String gender = BodyDataReader.readGender( scanner );
+        Gender gender = BodyDataReader.readGender( scanner );
         double waistCircumferenceCm = BodyDataReader.readWaistCircumference( scanner );
         user.setGender( gender ); user.setWaistCircumference( waistCircumferenceCm );
 
-        HealthMetricIntervalAssessment assessment;
-        if ( Gender.isMale( gender ) ){
-            assessment = HealthMetricsProvider.findByValue( MaleWaistCircumferenceMetrics.values(), BasicBodyParameter.WAIST_CIRCUMFERENCE, waistCircumferenceCm );
-        } else {
-            assessment = HealthMetricsProvider.findByValue( FemaleWaistCircumferenceMetrics.values(), BasicBodyParameter.WAIST_CIRCUMFERENCE, waistCircumferenceCm );
-        }
+        HealthMetricIntervalAssessment assessment = HealthMetricAssessor.assessWaistCircumference( gender, waistCircumferenceCm );
 
         analysisTemplate( assessment, BasicBodyParameter.WAIST_CIRCUMFERENCE, waistCircumferenceCm );
     }
@@ -117,12 +100,7 @@ public final class AnalysisService {
 
         CalculationService.getInstance().showWHRCalculation( user, scanner );
 
-        HealthMetricIntervalAssessment assessment;
-        if ( Gender.isMale( BodyDataReader.readGender( scanner ) ) ){
-            assessment = HealthMetricsProvider.findByValue( MaleWHRMetrics.values(), HealthMetric.WHR, user.getWHR() );
-        } else {
-            assessment = HealthMetricsProvider.findByValue( FemaleWHRMetrics.values(), HealthMetric.WHR, user.getWHR() );
-        }
+        HealthMetricIntervalAssessment assessment = HealthMetricAssessor.assessWHR( BodyDataReader.readGender( scanner ), user.getWHR() );
 
         analysisTemplate( assessment, HealthMetric.WHR, user.getWHR() );
     }
@@ -141,12 +119,7 @@ public final class AnalysisService {
 
         CalculationService.getInstance().showBFRCalculation( user, scanner );
 
-        HealthMetricIntervalAssessment assessment;
-        if ( Gender.isMale( BodyDataReader.readGender( scanner ) ) ){
-            assessment = HealthMetricsProvider.findByValue( MaleBFRMetrics.values(), HealthMetric.BFR, user.getBFR() );
-        } else {
-            assessment = HealthMetricsProvider.findByValue( FemaleBFRMetrics.values(), HealthMetric.BFR, user.getBFR() );
-        }
+        HealthMetricIntervalAssessment assessment = HealthMetricAssessor.assessBFR( BodyDataReader.readGender( scanner ), user.getBFR() );
 
         analysisTemplate( assessment, HealthMetric.BFR, user.getBFR() );
     }
@@ -165,12 +138,7 @@ public final class AnalysisService {
 
         CalculationService.getInstance().showBRICalculation( user, scanner );
 
-        HealthMetricIntervalAssessment assessment;
-        if ( Gender.isMale( BodyDataReader.readGender( scanner ) ) ){
-            assessment = HealthMetricsProvider.findByValue( MaleBRIMetrics.values(), HealthMetric.BRI, user.getBRI() );
-        } else {
-            assessment = HealthMetricsProvider.findByValue( FemaleBRIMetrics.values(), HealthMetric.BRI, user.getBRI() );
-        }
+        HealthMetricIntervalAssessment assessment = HealthMetricAssessor.assessBRI( BodyDataReader.readGender( scanner ), user.getBRI() );
 
         analysisTemplate( assessment, HealthMetric.BRI, user.getBRI() );
     }
@@ -189,7 +157,7 @@ public final class AnalysisService {
         MethodParameterValidator.validateUserAndScanner( user, scanner );
 
         CalculationService.getInstance().showBMRCalculation( user, scanner );
-        HealthMetricIntervalAssessment assessment = HealthMetricsProvider.findByValue( BMRMetrics.values(), HealthMetric.BMR, user.getBMR() );
+        HealthMetricIntervalAssessment assessment = HealthMetricAssessor.assessBMR( user.getBMR() );
         analysisTemplate( assessment, HealthMetric.BMR, user.getBMR() );
     }
 
@@ -206,7 +174,7 @@ public final class AnalysisService {
         MethodParameterValidator.validateUserAndScanner( user, scanner );
 
         CalculationService.getInstance().showTDEECalculation( user, scanner );
-        HealthMetricIntervalAssessment assessment = HealthMetricsProvider.findByValue( TDEEMetrics.values(), HealthMetric.TDEE, user.getTDEE() );
+        HealthMetricIntervalAssessment assessment = HealthMetricAssessor.assessTDEE( user.getTDEE() );
         analysisTemplate( assessment, HealthMetric.TDEE, user.getTDEE() );
     }
 
@@ -224,7 +192,7 @@ public final class AnalysisService {
         MethodParameterValidator.validateUserAndScanner( user, scanner );
 
         CalculationService.getInstance().showBSACalculation( user, scanner );
-        HealthMetricIntervalAssessment assessment = HealthMetricsProvider.findByValue( BSAMetrics.values(), HealthMetric.BSA, user.getBSA() );
+        HealthMetricIntervalAssessment assessment = HealthMetricAssessor.assessBSA( user.getBSA() );
         analysisTemplate( assessment, HealthMetric.BSA, user.getBSA() );
     }
 
@@ -232,73 +200,30 @@ public final class AnalysisService {
 
     // ==================== 私有辅助方法 ====================
     /**
-     * 健康指标分析模板
+     * 身体指标( 健康指标或基本身体参数 )分析模板
+     * <pre>
+     *     3.1.0 起报告中不变的部分( 区间、单位、健康状况、风险、建议 )由 {@link HealthMetricReportTemplate } 按区间预先渲染并缓存,
+     *     每次分析只填入格式化后的数值
+     * </pre>
      *
      * @param assessment 健康指标评估对象
-     * @param healthMetric 健康指标枚举成员
-     * @param value 健康指标数值
+     * @param bodyMetric 身体指标枚举成员
+     * @param value 身体指标数值
      *
-     * @throws NullPointerException 当 assessment 或 healthMetric 为 null 时
-     */
-    private void analysisTemplate( HealthMetricIntervalAssessment assessment, HealthMetric healthMetric, double value ){
-        Objects.requireNonNull( assessment, "参数 assessment( 健康指标评估对象 )不能为 null" );
-        Objects.requireNonNull( healthMetric, "参数 healthMetric( 健康指标枚举成员 )不能为 null" );
-
-        String nameAbbreviation = healthMetric.getAbbreviation();
-        String formattedValue = ValueFormatter.formatToOneDecimal( value );
-        String unit = healthMetric.getUnit();
-        analysisTemplate( assessment, nameAbbreviation, formattedValue, unit );
-    }
-
-    /**
-     * 基本身体参数分析模板
-     *
-     * @param assessment 健康指标评估对象
-     * @param bodyParameter 基本身体参数枚举成员
-     * @param value 基本身体参数数值
-     *
-     * @throws NullPointerException 当 assessment 或 healthMetric 为 null 时
-     */
-    private void analysisTemplate( HealthMetricIntervalAssessment assessment, BasicBodyParameter bodyParameter, double value ){
-        Objects.requireNonNull( assessment, "参数 assessment( 健康指标评估对象 )不能为 null" );
-        Objects.requireNonNull( bodyParameter, "参数 bodyParameter( 身体参数枚举成员 )不能为 null" );
-
-        String nameAbbreviation = bodyParameter.getAbbreviation();
-        String formattedValue = ValueFormatter.formatToOneDecimal( value );
-        String unit = bodyParameter.getUnit();
-        analysisTemplate( assessment, nameAbbreviation, formattedValue, unit );
-    }
-
-    /**
-     * 各种健康指标的通用分析模板
-     *
-     * @param assessment 健康指标评估对象
-     * @param metricName 健康指标名称
-     * @param formattedValue 格式化( 保留指定小数位数 )的健康指标数值字符串
-     * @param unit 健康指标的单位
-     *
-     * @throws NullPointerException 当 assessment 或 metricName 或 formattedValue 或 unit 为 null 时
+     * @throws NullPointerException 当 assessment 或 bodyMetric 为 null 时
      *
      * @since 2.0.0
      */
-    private void analysisTemplate( HealthMetricIntervalAssessment assessment, String metricName, String formattedValue, String unit ){
+    private void analysisTemplate( HealthMetricIntervalAssessment assessment, BodyMetric bodyMetric, double value ){
         Objects.requireNonNull( assessment, "参数 assessment( 健康指标评估对象 )不能为 null" );
-        Objects.requireNonNull( metricName, "参数 metricName( 健康指标名称 )不能为 null" );
-        Objects.requireNonNull( formattedValue, "参数 formattedValue( 格式化后的值 )不能为 null" );
-        Objects.requireNonNull( unit, "参数 unit( 单位 )不能为 null" );
-
-        // 1. 拼接报告
-        StringBuilder healthReport = new StringBuilder();
-        healthReport.append( "你的 " ).append( metricName ).append( " 所在区间为:\t" )
-                .append( assessment.getLowerBound() ).append( unit ).append( " ≤ " )
-                .append( formattedValue ).append( unit ).append( " < " )
-                .append( assessment.getUpperBound() ).append( unit ).append( "\n" );
-        healthReport.append( "你的健康状况为:\t" ).append( assessment.getHealthStatus() )
-                .append( "\n你的健康风险为:\t" ).append( assessment.getHealthRisk() )
-                .append( "\n你的健康建议为:\t" ).append( assessment.getHealthAdvice() );
+        Objects.requireNonNull( bodyMetric, "参数 bodyMetric( 身体指标枚举成员 )不能为 null" );
+
+        // 1. 生成报告
+        String metricName = bodyMetric.getAbbreviation();
+        String healthReport = HealthMetricReportTemplate.of( assessment, bodyMetric ).render( value );
         // 2. 输出报告
         UIService.getInstance().printLoadingProgress( "正在分析 " + metricName,
                 "成功生成 " + metricName + " 分析报告!" );
-        System.out.println( healthReport ); // TypeConvertor.toString( healthReport )
+        System.out.println( healthReport );
     }
 }
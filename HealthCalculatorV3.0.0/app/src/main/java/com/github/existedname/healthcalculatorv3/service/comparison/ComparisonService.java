@@ -0,0 +1,289 @@
+package com.github.existedname.healthcalculatorv3.service.comparison;
+
+import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.service.comparison.equation.description.EquationIntroduction;
+import com.github.existedname.healthcalculatorv3.util.ValueFormatter;
+import com.github.existedname.healthcalculatorv3.util.calculator.composite.HealthMetricCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.Equation;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.EquationInput;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.EquationRegistry;
+import com.github.existedname.healthcalculatorv3.util.input.BodyDataReader;
+import com.github.existedname.healthcalculatorv3.util.input.InputProcessor;
+import com.github.existedname.healthcalculatorv3.util.printer.PrinterConstants;
+import com.github.existedname.healthcalculatorv3.util.printer.UIPrinter;
+import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Scanner;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * 健康指标计算公式对比服务类
+ * <p>
+ * 该类用于对比不同公式的计算结果, 支持体脂率(BFR)、基础代谢率(BMR)和体表面积(BSA)等健康指标的多种计算公式<br>
+ * 通过此类可以查看同一健康指标使用不同公式得出的结果差异, 帮助用户选择最适合的计算方法
+ * </p>
+ * <p>
+ * 3.1.0 起公式不再写死在本类中, 而是遍历 {@link EquationRegistry } 中登记的公式;
+ * 计算交给 {@link EquationComparisonEngine }, 本类只负责读取输入与渲染对比结果, 不保存任何对比状态
+ * </p>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.0.0
+ * @CreateTime 2025/8/14 15:05
+ */
+public final class ComparisonService {
+    // ==================== 常量 ====================
+    /** 对比时才询问是否测量的输入( 围度 ) */
+    private static final Set< EquationInput > ON_DEMAND_INPUTS = EnumSet.of(
+            EquationInput.WAIST_CIRCUMFERENCE, EquationInput.HIP_CIRCUMFERENCE, EquationInput.NECK_CIRCUMFERENCE );
+
+
+    // ==================== 静态变量 ====================
+    private static ComparisonService comparisonService = null;
+
+    // ==================== 构造器 ====================
+    private ComparisonService(){ }
+
+
+    // ==================== 公有方法 ====================
+    public static ComparisonService getInstance(){
+        if ( Objects.isNull( comparisonService ) ){
+            comparisonService = new ComparisonService();
+        }
+        return comparisonService;
+    }
+    
+    
+    /*  对比不同公式得到的体态评估类健康指标  */
+    /**
+     * 对比 BFR 的各种计算公式<br>
+     * 该方法调用 {@link HealthMetricCalculator } 工具类读取体重、身高并计算保存 BMI, 同时涉及性别、年龄的读取和保存
+     * 
+     * @param user 用户对象
+     * @param scanner 输入流
+     *                
+     * @throws NullPointerException 当 user 或 scanner 为 null 时
+     */
+    public void compareVariousEquationsOfBFR( User user, Scanner scanner ){
+        MethodParameterValidator.validateUserAndScanner( user, scanner );
+
+        user.setGender( BodyDataReader.readGender( scanner ) );
+        user.setAge( BodyDataReader.readAge( scanner ) );
+        user.setBMI( HealthMetricCalculator.readBodyDataCalculateBMIAndUpdateUser( user, scanner ) );
+
+        compareRegisteredEquations( user, scanner, HealthMetric.BFR );
+    }
+
+    /*  对比不同公式得到的能量代谢类健康指标  */
+    /**
+     * 对比 BMR 的各种计算公式<br>
+     * 该方法涉及性别、年龄、体重、身高的读取和保存
+     *
+     * @param user 用户对象
+     * @param scanner 输入流
+     *
+     * @throws NullPointerException 当 user 或 scanner 为 null 时
+     */
+    public void compareVariousEquationsOfBMR( User user, Scanner scanner ){
+        MethodParameterValidator.validateUserAndScanner( user, scanner );
+
+        user.setGender( BodyDataReader.readGender( scanner ) );
+        user.setAge( BodyDataReader.readAge( scanner ) );
+        user.setWeight( BodyDataReader.readWeight( scanner ) );
+        user.setHeight( BodyDataReader.readHeight( scanner ) );
+
+        compareRegisteredEquations( user, scanner, HealthMetric.BMR );
+    }
+
+    /*  对比不同公式得到的生理特征类健康指标  */
+    /**
+     * 对比 BSA 的各种计算公式<br>
+     * 该方法涉及性别、体重、身高的读取和保存
+     *
+     * @param user 用户对象
+     * @param scanner 输入流
+     *
+     * @throws NullPointerException 当 user 或 scanner 为 null 时
+     */
+    public void compareVariousEquationsOfBSA( User user, Scanner scanner ){
+        MethodParameterValidator.validateUserAndScanner( user, scanner );
+
+        user.setGender( BodyDataReader.readGender( scanner ) );
+        user.setWeight( BodyDataReader.readWeight( scanner ) );
+        user.setHeight( BodyDataReader.readHeight( scanner ) );
+
+        compareRegisteredEquations( user, scanner, HealthMetric.BSA );
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 对比注册表中计算指定健康指标的各个公式, 再依次展示( 简介及计算结果 ), 最后输出计算结果范围
+     * <pre>
+     *     1. 需要额外测量围度的公式先询问用户是否体验, 只有体验的公式参与对比
+     *     2. 计算交给 {@link EquationComparisonEngine }, 结果是局部的不可变对象, 本类不保存任何对比状态
+     *     3. 同一公式的多个版本共用一个简介, 只打印一次
+     * </pre>
+     *
+     * @param user 用户对象
+     * @param scanner 输入流
+     * @param healthMetric 健康指标
+     */
+    private void compareRegisteredEquations( User user, Scanner scanner, HealthMetric healthMetric ){
+        List< Equation > equations = EquationRegistry.getEquations( healthMetric );
+        List< Equation > acceptedEquations = new ArrayList<>( equations.size() );
+        for ( int i = 0; i < equations.size(); i++ ){
+            if ( readOnDemandInputs( user, equations.get( i ), scanner ) ) acceptedEquations.add( equations.get( i ) );
+        }
+        EquationComparison comparison = EquationComparisonEngine.compare( healthMetric, acceptedEquations, user );
+
+        EquationIntroduction lastIntroduction = null;
+        for ( int i = 0; i < equations.size(); i++ ){
+            Equation equation = equations.get( i );
+            if ( equation.getIntroduction() != lastIntroduction ){
+                if ( lastIntroduction != null ) pauseBetweenEquations();
+                printEquationIntroduction( equation.getIntroduction() );
+                lastIntroduction = equation.getIntroduction();
+            }
+            if ( !equation.getVariantName().isEmpty() ){
+                System.out.println( equation.getVariantName() );
+            }
+            int index = comparison.indexOf( equation );
+            if ( index < 0 || !comparison.isEvaluated( index ) ) continue;
+
+            printFormattedValue( healthMetric, comparison.getValue( index ) );
+            printApplicabilityHint( equation, comparison.isApplicable( index ) );
+        }
+        pauseBetweenEquations();
+
+        /*      最后输出计算结果范围      */
+        printEquationResultsRange( comparison );
+    }
+
+    /**
+     * 公式需要额外测量的围度( 腰围、臀围、颈围 )时, 询问用户是否体验该公式, 体验则读取围度并存入 user
+     *
+     * @param user 用户对象
+     * @param equation 公式
+     * @param scanner 输入流
+     * @return 不需要额外测量或用户选择体验时返回 true, 用户放弃时返回 false
+     */
+    private boolean readOnDemandInputs( User user, Equation equation, Scanner scanner ){
+        List< EquationInput > onDemandInputs = new ArrayList<>( 3 );
+        for ( EquationInput equationInput : equation.getInputs() ){
+            if ( ON_DEMAND_INPUTS.contains( equationInput ) ) onDemandInputs.add( equationInput );
+        }
+        if ( onDemandInputs.isEmpty() ) return true;
+
+        // 1. 提示用户
+        StringJoiner inputNames = new StringJoiner( "、" );
+        onDemandInputs.forEach( equationInput -> inputNames.add( equationInput.getChineseName() ) );
+        String equationName = equation.getIntroduction().getEquationName() + equation.getVariantName();
+        System.out.println( "Question: " + equationName + " 需要测量" + inputNames + ",确定要体验该方法?" );
+        System.out.print( "Input( yes 或者 no ) >>\t" );
+
+        while ( true ){
+            String trimmedInput = InputProcessor.toTrimmedOrEmptyStr( scanner.nextLine() );
+            if ( "yes".equalsIgnoreCase( trimmedInput ) ){
+                // 2. 检查并获取有效围度, 更新 user
+                for ( EquationInput equationInput : onDemandInputs ){
+                    readOnDemandInput( user, equationInput, scanner );
+                }
+                return true;
+            } else if ( "no".equalsIgnoreCase( trimmedInput ) ){
+                return false;
+            } else {
+                System.out.print( "输入有误, 请重新输入:\t" );
+            }
+        }
+    }
+
+    /**
+     * 读取一个需要额外测量的围度, 存入 user
+     *
+     * @param user 用户对象
+     * @param equationInput 围度对应的公式输入
+     * @param scanner 输入流
+     */
+    private void readOnDemandInput( User user, EquationInput equationInput, Scanner scanner ){
+        switch ( equationInput ){
+            case WAIST_CIRCUMFERENCE:
+                user.setWaistCircumference( BodyDataReader.readWaistCircumference( scanner ) );
+                break;
+            case HIP_CIRCUMFERENCE:
+                user.setHipCircumference( BodyDataReader.readHipCircumference( scanner ) );
+                break;
+            case NECK_CIRCUMFERENCE:
+                user.setNeckCircumference( BodyDataReader.readNeckCircumference( scanner ) );
+                break;
+            default:
+                throw new IllegalArgumentException( "参数错误: " + equationInput + " 不是需要额外测量的围度" );
+        }
+    }
+
+    /**
+     * 打印公式简介( 名称 + 描述 )
+     *
+     * @param introduction 公式介绍
+     */
+    private void printEquationIntroduction( EquationIntroduction introduction ){
+        System.out.println( introduction.getEquationName() + "\n\t————" + introduction.getDescription() );
+    }
+
+    /**
+     * 当输入超出公式的适用范围时提示结果仅供参考( 本次对比没有读取年龄时不提示 )
+     *
+     * @param equation 公式
+     * @param applicable 档案是否在公式的适用范围内( 由 {@link EquationComparisonEngine } 判断 )
+     */
+    private void printApplicabilityHint( Equation equation, boolean applicable ){
+        if ( !applicable ){
+            System.out.println( "\t( 注意: 该公式适用于 " + equation.getApplicabilityRange() + ", 你的数据超出适用范围, 结果仅供参考 )" );
+        }
+    }
+
+    /**
+     * 两组公式之间停顿并空一行
+     */
+    private void pauseBetweenEquations(){
+        UIPrinter.threadSleep( PrinterConstants.TimeConstants.DisplayPause.EQUATION_DISPLAY_PAUSE );
+        System.out.println();
+    }
+
+    /**
+     * 打印指定健康指标的计算结果( 名称 + 数值 )
+     *
+     * @param healthMetric {@link HealthMetric } 健康指标枚举成员
+     * @throws NullPointerException 当 healthMetric 为 null 时
+     */
+    private void printFormattedValue( HealthMetric healthMetric, double value ){
+        Objects.requireNonNull( healthMetric, "参数 healthMetric( 健康指标枚举成员 )不能为 null" );
+        System.out.println( String.format( "你的 %s 数值为:\t%s%s", healthMetric.getAbbreviation(),
+                ValueFormatter.formatToTwoDecimal( value ), healthMetric.getUnit() ) );
+    }
+
+    /**
+     * 打印指定健康指标的各个公式计算结果所在范围[ 最小值, 最大值 ]
+     *
+     * @param comparison 公式对比结果
+     * @throws NullPointerException 当 comparison 为 null 时
+     * @throws IllegalStateException 当没有任何公式被计算时
+     */
+    private void printEquationResultsRange( EquationComparison comparison ){
+        Objects.requireNonNull( comparison, "参数 comparison( 公式对比结果 )不能为 null" );
+        if ( comparison.getEvaluatedCount() == 0 ) throw new IllegalStateException( "没有任何公式参与对比, 无法给出结果范围" );
+        HealthMetric healthMetric = comparison.getMetric();
+        double minValue = comparison.getMinValue();
+        double maxValue = comparison.getMaxValue();
+        System.out.println( String.format( "\t结合以上公式结果,你的 %s 所在范围大致为%s%s", healthMetric.getAbbreviation(),
+                ValueFormatter.formatToTwoDecimalClosedRange( minValue, maxValue ), healthMetric.getUnit() ) );
+    }
+
+
+}
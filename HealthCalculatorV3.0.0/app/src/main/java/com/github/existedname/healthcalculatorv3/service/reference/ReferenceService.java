@@ -4,6 +4,7 @@ import com.github.existedname.healthcalculatorv3.model.entity.User;
 import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
 import com.github.existedname.healthcalculatorv3.util.ValueFormatter;
 import com.github.existedname.healthcalculatorv3.util.calculator.basic.IdealWeightCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.composite.HealthMetricCalculator;
 import com.github.existedname.healthcalculatorv3.util.printer.PrinterConstants;
 import com.github.existedname.healthcalculatorv3.util.printer.UIPrinter;
 import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
@@ -177,7 +178,7 @@ public final class ReferenceService {
     private void showIdealWeightBasedOnHeight( User user, Scanner scanner ){
         MethodParameterValidator.validateUserAndScanner( user, scanner );
 
-        double idealWeight = IdealWeightCalculator.BasedOnHeight.getCalculatedIdealWeight( user, scanner );
+        double idealWeight = HealthMetricCalculator.readBodyDataCalculateIdealWeightAndUpdateUser( user, scanner );
         String idealWeightRange = IdealWeightCalculator.BasedOnHeight.formatIdealWeightRange( idealWeight );
         String unit = BasicBodyParameter.WEIGHT.getUnit();
 
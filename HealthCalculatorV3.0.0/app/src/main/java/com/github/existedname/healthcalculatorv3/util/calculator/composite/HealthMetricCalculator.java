@@ -1,25 +1,21 @@
 package com.github.existedname.healthcalculatorv3.util.calculator.composite;
 
 import com.github.existedname.healthcalculatorv3.model.entity.User;
-import com.github.existedname.healthcalculatorv3.util.calculator.basic.BFRCalculator;
-import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMICalculator;
-import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMRCalculator;
-import com.github.existedname.healthcalculatorv3.util.calculator.basic.BRICalculator;
-import com.github.existedname.healthcalculatorv3.util.calculator.basic.BSACalculator;
-import com.github.existedname.healthcalculatorv3.util.calculator.basic.TDEECalculator;
-import com.github.existedname.healthcalculatorv3.util.calculator.basic.WHRCalculator;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.IdealWeightCalculator;
 import com.github.existedname.healthcalculatorv3.util.input.BodyDataReader;
 import com.github.existedname.healthcalculatorv3.util.convertor.UnitConvertor;
 import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
 
-import java.util.Objects;
 import java.util.Scanner;
 
 /**
  * 健康指标综合计算器工具类, 作为外界计算各个身体指标和底层工具方法的中间桥梁
  * <pre>
- *     内部调用 {@link BodyDataReader }、{@link com.github.existedname.healthcalculatorv3.util.calculator }、{@link User },
+ *     内部调用 {@link BodyDataReader }、{@link ProfileMetricCalculator }、{@link User },
  *     将读入基本身体参数、计算健康指标、保存读取以及计算的数据到用户对象等一系列操作封装进每个方法, 提高便利性
+ *     具体计算交给 user 的健康指标依赖图( {@link com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile#getOrCalculateBMI() } 等 ),
+ *     读入的数据未改变时直接复用缓存的指标( 如计算 BFR 时复用 BMI、计算 TDEE 时复用 BMR ), 这里只负责控制台读取与回写
  *     缺点是为了表意清晰, 方法命名很长( readBodyDataCalculateXxxAndUpdateUser )
  * </pre>
  *
@@ -56,10 +52,9 @@ public final class HealthMetricCalculator {
         // 1. 读取有效体重、身高
         double weight = BodyDataReader.readWeight( scanner );
         double height = BodyDataReader.readHeight( scanner );
-        // 2. 调用相应的工具类、计算方法
-        double bmi = BMICalculator.calculateBMI( weight, height );
-        // 3. 更新 user 成员变量
-        user.setBMI( bmi ); user.setWeight( weight ); user.setHeight( height );
+        user.setWeight( weight ); user.setHeight( height );
+        // 2. 由 user 的健康指标依赖图计算并缓存( 输入未改变的上游指标直接复用 )
+        double bmi = user.getOrCalculateBMI();
         return bmi;
     }
 
@@ -77,10 +72,9 @@ public final class HealthMetricCalculator {
         // 1. 读取有效腰围、臀围
         double waistCircumferenceCm = BodyDataReader.readWaistCircumference( scanner );
         double hipCircumferenceCm = BodyDataReader.readHipCircumference( scanner );
-        // 2. 调用相应的工具类以及计算方法
-        double whr = WHRCalculator.calculateWHR( waistCircumferenceCm, hipCircumferenceCm );
-        // 3. 更新 user 成员变量
-        user.setWHR( whr ); user.setWaistCircumference( waistCircumferenceCm ); user.setHipCircumference( hipCircumferenceCm );
+        user.setWaistCircumference( waistCircumferenceCm ); user.setHipCircumference( hipCircumferenceCm );
+        // 2. 由 user 的健康指标依赖图计算并缓存( 输入未改变的上游指标直接复用 )
+        double whr = user.getOrCalculateWHR();
         return whr;
     }
 
@@ -98,14 +92,13 @@ public final class HealthMetricCalculator {
     public static double readBodyDataCalculateBFRAndUpdateUser( User user, Scanner scanner ){
         validateBasicParameters( user, scanner );
         // 1. 获取有效 BMI、性别、年龄
-        double bmi = readBodyDataCalculateBMIAndUpdateUser( user, scanner );
-        String gender = BodyDataReader.readGender( scanner );
+        readBodyDataCalculateBMIAndUpdateUser( user, scanner );
+        Gender gender = BodyDataReader.readGender( scanner );
         int age = BodyDataReader.readAge( scanner );
-        // 2. 调用相应的工具类以及计算方法
+        user.setGender( gender ); user.setAge( age );
+        // 2. 由 user 的健康指标依赖图计算并缓存( 输入未改变的上游指标直接复用 )
         // 默认使用最常见的 Deurenberg 公式
-        double bfr = BFRCalculator.calculateBFRByDeurenbergEquation( bmi, age, gender );
-        // 3. 更新 user 成员变量
-        user.setBFR( bfr ); user.setGender( gender ); user.setAge( age );
+        double bfr = user.getOrCalculateBFR();
         return bfr;
     }
 
@@ -123,10 +116,9 @@ public final class HealthMetricCalculator {
         // 1. 读取有效腰围、身高
         double waistCircumferenceCm = BodyDataReader.readWaistCircumference( scanner );
         double height = BodyDataReader.readHeight( scanner );
-        // 2. 调用相应的工具类以及计算方法
-        double bri = BRICalculator.calculateBRI( waistCircumferenceCm, height );
-        // 3. 更新 user 成员变量
-        user.setBRI( bri ); user.setWaistCircumference( waistCircumferenceCm ); user.setHeight( height );
+        user.setWaistCircumference( waistCircumferenceCm ); user.setHeight( height );
+        // 2. 由 user 的健康指标依赖图计算并缓存( 输入未改变的上游指标直接复用 )
+        double bri = user.getOrCalculateBRI();
         return bri;
     }
 
@@ -142,15 +134,14 @@ public final class HealthMetricCalculator {
     public static double readBodyDataCalculateBMRAndUpdateUser( User user, Scanner scanner ){
         validateBasicParameters( user, scanner );
         // 1. 读取有效性别、年龄、体重、身高
-        String gender = BodyDataReader.readGender( scanner );
+        Gender gender = BodyDataReader.readGender( scanner );
         int age = BodyDataReader.readAge( scanner );
         double weight = BodyDataReader.readWeight( scanner );
         double height = BodyDataReader.readHeight( scanner );
-        // 2. 调用相应的工具类以及计算方法
+        user.setGender( gender ); user.setAge( age ); user.setWeight( weight ); user.setHeight( height );
+        // 2. 由 user 的健康指标依赖图计算并缓存( 输入未改变的上游指标直接复用 )
         // 选用相对准确的 Mifflin-St Jeor( MSJ ) 公式
-        double bmr = BMRCalculator.calculateBMRByMSJEquation( gender, weight, height, age );
-        // 3. 更新 user 成员变量
-        user.setBMR( bmr ); user.setGender( gender ); user.setAge( age ); user.setWeight( weight ); user.setHeight( height );
+        double bmr = user.getOrCalculateBMR();
         return bmr;
     }
 
@@ -167,14 +158,12 @@ public final class HealthMetricCalculator {
     public static double readBodyDataCalculateTDEEAndUpdateUser( User user, Scanner scanner ){
         validateBasicParameters( user, scanner );
         // 1. 获取有效 BMR
-        double bmr = readBodyDataCalculateBMRAndUpdateUser( user, scanner );
+        readBodyDataCalculateBMRAndUpdateUser( user, scanner );
         // 2. 获取有效 活动系数
         double activityCoefficient = BodyDataReader.readActivityCoefficient( scanner );
-        // 3. 调用相应的工具类以及计算方法
-        double tdee = TDEECalculator.calculateTDEE( bmr, activityCoefficient );
-        // 4. 更新 user 成员变量
-        user.setTDEE( tdee ); user.setActivityCoefficient( activityCoefficient );
-        return tdee;
+        user.setActivityCoefficient( activityCoefficient );
+        // 3. 复用上一步缓存的 BMR 计算 TDEE( 结果同时缓存到 user )
+        return user.getOrCalculateTDEE();
     }
 
     /**
@@ -191,14 +180,41 @@ public final class HealthMetricCalculator {
         // 1. 读取有效体重、身高
         double weight = BodyDataReader.readWeight( scanner );
         double height = BodyDataReader.readHeight( scanner );
-        // 2. 调用相应的工具类、计算方法
+        user.setWeight( weight ); user.setHeight( height );
+        // 2. 由 user 的健康指标依赖图计算并缓存( 输入未改变的上游指标直接复用 )
         // 选择最经典、应用最广泛的 Du Bois Formula 杜博伊斯公式
-        double bsa = BSACalculator.calculateBSAByDuBoisEquation( height, weight );
-        // 3. 更新 user 成员变量
-        user.setBSA( bsa ); user.setWeight( weight ); user.setHeight( height );
+        double bsa = user.getOrCalculateBSA();
         return bsa;
     }
 
+    /**
+     * 读取有效性别、身高, 根据身高估计理想体重, 将读取数据存入 user, 最后返回理想体重, <B>单位: kg</B>
+     * <p>
+     *     内部封装读取、计算操作:
+     *     <pre>
+     *     调用 {@link BodyDataReader } 读取用户性别和身高数据
+     *     调用 {@link ProfileMetricCalculator#calculateIdealWeight( com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile ) } 计算理想体重
+     *     </pre>
+     * </p>
+     *
+     * @param user 用户对象
+     * @param scanner 扫描器
+     *
+     * @return 理想体重, <B>单位: kg</B>
+     * @throws NullPointerException 当 user 或 scanner 为 null 时
+     * @see IdealWeightCalculator.BasedOnHeight
+     * @since 3.1.0
+     */
+    public static double readBodyDataCalculateIdealWeightAndUpdateUser( User user, Scanner scanner ){
+        validateBasicParameters( user, scanner );
+        // 1. 读取、保存有效性别、身高
+        Gender gender = BodyDataReader.readGender( scanner );
+        double height = BodyDataReader.readHeight( scanner );
+        user.setGender( gender ); user.setHeight( height );
+        // 2. 计算理想体重
+        return ProfileMetricCalculator.calculateIdealWeight( user );
+    }
+
 
 
     // ==================== 私有辅助方法 ====================
@@ -37,13 +37,13 @@ public final class BodyDataReader {
      * 读取并返回有效性别
      *
      * @param scanner 扫描器
-     * @return 有效性别( 类型: String )
+     * @return 有效性别( 类型: {@link Gender }, 输入字符串只在此处解析一次 )
      * @throws NullPointerException 当 scanner 为 null 时
      */
-    public static String readGender( Scanner scanner ){
+    public static Gender readGender( Scanner scanner ){
         MethodParameterValidator.validateScanner( scanner );
         String gender = InputReader.readValidString( scanner, Gender.Category.CHINESE_NAME, Gender.getValidGenderOptions() );
-        return InputProcessor.toTrimmedOrEmptyStr( gender ); // 确保去除首尾空字符
+        return Gender.parse( InputProcessor.toTrimmedOrEmptyStr( gender ) ); // 确保去除首尾空字符
     }
 
     /**
@@ -122,7 +122,7 @@ public final class BodyDataReader {
     public static double readActivityCoefficient( Scanner scanner ){
         System.out.println( "请阅读以下活动系数对照表, 找到属于你的活动系数👆" );
         UIPrinter.threadSleep( PrinterConstants.TimeConstants.DisplayPause.READING_PREPARATION_PAUSE );
-        TDEECalculator.printCoefficientTable();
+        TDEECalculator.getCoefficientTable().forEach( System.out::println );
 //        System.out.print( "请根据该表输入你的活动系数估计值:\t" );
         UIPrinter.threadSleep( PrinterConstants.TimeConstants.DisplayPause.TABLE_DISPLAY_PAUSE );
         return readDoubleBodyParameter( scanner, BasicBodyParameter.ACTIVITY_COEFFICIENT );
@@ -0,0 +1,63 @@
+package com.github.existedname.healthcalculatorv3.benchmark;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BFRCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BFRCalculator } 基准测试, 覆盖所有 BFR 公式, 性别参数区分字符串与 {@link Gender } 枚举两种重载
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 11:14
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class BFRCalculatorBenchmark {
+    /** Deurenberg 公式 */
+    @Benchmark
+    public double deurenbergEquation( BodyParameterState state ){
+        return BFRCalculator.calculateBFRByDeurenbergEquation( state.bmi, state.age, state.gender );
+    }
+
+    /** Gallagher 公式版本Ⅰ */
+    @Benchmark
+    public double gallagherEquation1( BodyParameterState state ){
+        return BFRCalculator.calculateBFRByGallagherEquation1( state.bmi, state.age, state.gender );
+    }
+
+    /** Gallagher 公式版本Ⅱ */
+    @Benchmark
+    public double gallagherEquation2( BodyParameterState state ){
+        return BFRCalculator.calculateBFRByGallagherEquation2( state.bmi, state.age, state.gender );
+    }
+
+    /** Jackson-Pollock 简化公式 */
+    @Benchmark
+    public double jacksonPollockSimplifiedEquation( BodyParameterState state ){
+        return BFRCalculator.calculateBFRByJacksonPollockSimplifiedEquation( state.bmi, state.age, state.gender );
+    }
+
+    /** 美国海军公式 */
+    @Benchmark
+    public double usnEquation( BodyParameterState state ){
+        return BFRCalculator.calculateBFRByUSNEquation( state.gender, state.waistCircumference, state.hipCircumference, state.neckCircumference, state.height );
+    }
+
+    /** 美国海军公式( {@link Gender } 枚举重载 ) */
+    @Benchmark
+    public double usnEquationWithGenderEnum( BodyParameterState state ){
+        return BFRCalculator.calculateBFRByUSNEquation( state.genderOption, state.waistCircumference, state.hipCircumference, state.neckCircumference, state.height );
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.existedname.healthcalculatorv3.benchmark;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMRCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BMRCalculator } 基准测试, 覆盖所有 BMR 公式, 性别参数区分字符串与 {@link Gender } 枚举两种重载
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 11:18
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class BMRCalculatorBenchmark {
+    /** Mifflin-St Jeor 公式 */
+    @Benchmark
+    public double msjEquation( BodyParameterState state ){
+        return BMRCalculator.calculateBMRByMSJEquation( state.gender, state.weight, state.height, state.age );
+    }
+
+    /** Mifflin-St Jeor 公式( {@link Gender } 枚举重载 ) */
+    @Benchmark
+    public double msjEquationWithGenderEnum( BodyParameterState state ){
+        return BMRCalculator.calculateBMRByMSJEquation( state.genderOption, state.weight, state.height, state.age );
+    }
+
+    /** Harris-Benedict 公式 */
+    @Benchmark
+    public double hbEquation( BodyParameterState state ){
+        return BMRCalculator.calculateBMRByHBEquation( state.gender, state.weight, state.height, state.age );
+    }
+
+    /** Harris-Benedict 公式( {@link Gender } 枚举重载 ) */
+    @Benchmark
+    public double hbEquationWithGenderEnum( BodyParameterState state ){
+        return BMRCalculator.calculateBMRByHBEquation( state.genderOption, state.weight, state.height, state.age );
+    }
+
+    /** Henry 公式 */
+    @Benchmark
+    public double henryEquation( BodyParameterState state ){
+        return BMRCalculator.calculateBMRByHenryEquation( state.gender, state.weight, state.age );
+    }
+
+    /** Henry 公式( {@link Gender } 枚举重载 ) */
+    @Benchmark
+    public double henryEquationWithGenderEnum( BodyParameterState state ){
+        return BMRCalculator.calculateBMRByHenryEquation( state.genderOption, state.weight, state.age );
+    }
+
+    /** Schofield 公式 */
+    @Benchmark
+    public double schofieldEquation( BodyParameterState state ){
+        return BMRCalculator.calculateBMRBySchofieldEquation( state.gender, state.weight, state.age );
+    }
+
+    /** Schofield 公式( {@link Gender } 枚举重载 ) */
+    @Benchmark
+    public double schofieldEquationWithGenderEnum( BodyParameterState state ){
+        return BMRCalculator.calculateBMRBySchofieldEquation( state.genderOption, state.weight, state.age );
+    }
+
+    /** Katch-McArdle 公式 */
+    @Benchmark
+    public double katchMcArdleEquation( BodyParameterState state ){
+        return BMRCalculator.calculateBMRByKatchMcArdleEquation( state.bfr, state.weight );
+    }
+
+    /** Shizgal-Rosa 公式 */
+    @Benchmark
+    public double shizgalRosaEquation( BodyParameterState state ){
+        return BMRCalculator.calculateBMRByShizgalRosaEquation( state.gender, state.weight, state.height, state.age );
+    }
+
+    /** Shizgal-Rosa 公式( {@link Gender } 枚举重载 ) */
+    @Benchmark
+    public double shizgalRosaEquationWithGenderEnum( BodyParameterState state ){
+        return BMRCalculator.calculateBMRByShizgalRosaEquation( state.genderOption, state.weight, state.height, state.age );
+    }
+
+    /** 毛德倩公式 */
+    @Benchmark
+    public double maoEquation( BodyParameterState state ){
+        return BMRCalculator.calculateBMRByMaoEquation( state.gender, state.weight );
+    }
+
+    /** 毛德倩公式( {@link Gender } 枚举重载 ) */
+    @Benchmark
+    public double maoEquationWithGenderEnum( BodyParameterState state ){
+        return BMRCalculator.calculateBMRByMaoEquation( state.genderOption, state.weight );
+    }
+
+    /** 基于 BSA 的公式 */
+    @Benchmark
+    public double bsaBasedEquation( BodyParameterState state ){
+        return BMRCalculator.calculateBSABasedBMR( state.gender, state.age, state.bsa );
+    }
+
+    /** 基于 BSA 的公式( {@link Gender } 枚举重载 ) */
+    @Benchmark
+    public double bsaBasedEquationWithGenderEnum( BodyParameterState state ){
+        return BMRCalculator.calculateBSABasedBMR( state.genderOption, state.age, state.bsa );
+    }
+}
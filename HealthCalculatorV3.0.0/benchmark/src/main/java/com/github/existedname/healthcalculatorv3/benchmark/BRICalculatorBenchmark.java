@@ -0,0 +1,32 @@
+package com.github.existedname.healthcalculatorv3.benchmark;
+
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BRICalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BRICalculator } 基准测试
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 11:16
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class BRICalculatorBenchmark {
+    /** BRI */
+    @Benchmark
+    public double calculateBRI( BodyParameterState state ){
+        return BRICalculator.calculateBRI( state.waistCircumference, state.height );
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.existedname.healthcalculatorv3.benchmark;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BSACalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BSACalculator } 基准测试, 覆盖所有 BSA 公式, 性别参数区分字符串与 {@link Gender } 枚举两种重载
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 11:22
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class BSACalculatorBenchmark {
+    /** Du Bois 公式 */
+    @Benchmark
+    public double duBoisEquation( BodyParameterState state ){
+        return BSACalculator.calculateBSAByDuBoisEquation( state.height, state.weight );
+    }
+
+    /** Haycock 公式 */
+    @Benchmark
+    public double haycockEquation( BodyParameterState state ){
+        return BSACalculator.calculateBSAByHaycockEquation( state.height, state.weight );
+    }
+
+    /** Mosteller 公式 */
+    @Benchmark
+    public double mostellerEquation( BodyParameterState state ){
+        return BSACalculator.calculateBSAByMostellerEquation( state.height, state.weight );
+    }
+
+    /** Schlich 公式 */
+    @Benchmark
+    public double schlichEquation( BodyParameterState state ){
+        return BSACalculator.calculateBSABySchlichEquation( state.gender, state.height, state.weight );
+    }
+
+    /** Schlich 公式( {@link Gender } 枚举重载 ) */
+    @Benchmark
+    public double schlichEquationWithGenderEnum( BodyParameterState state ){
+        return BSACalculator.calculateBSABySchlichEquation( state.genderOption, state.height, state.weight );
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.existedname.healthcalculatorv3.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口( benchmarks.jar 的主类 ), 在 JMH 命令行参数的基础上默认开启 GC 分析器,
+ * 这样每个公式都会同时输出 ns/op 和 B/op( gc.alloc.rate.norm )
+ * <pre>
+ *     java -jar benchmark/target/benchmarks.jar                             运行全部基准测试
+ *     java -jar benchmark/target/benchmarks.jar BMRCalculator               只运行名称匹配的基准测试
+ *     java -jar benchmark/target/benchmarks.jar -bm thrpt -tu s BMRCalculator   改测吞吐量, 单位为 ops/s
+ * </pre>
+ * 基准测试类只声明平均耗时一种模式: JMH 的输出单位按类统一设置, 同时声明吞吐量会得到 ops/ns 这类难读的数值
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 11:30
+ */
+public final class BenchmarkRunner {
+    // ==================== 构造器 ====================
+    private BenchmarkRunner(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 解析 JMH 命令行参数, 追加 GC 分析器后运行
+     *
+     * @param args JMH 命令行参数( 与 JMH 自带的 Main 相同 )
+     * @throws CommandLineOptionException 当命令行参数无效时
+     * @throws RunnerException 当基准测试运行失败时
+     */
+    public static void main( String[] args ) throws CommandLineOptionException, RunnerException {
+        Options options = new OptionsBuilder()
+                .parent( new CommandLineOptions( args ) )
+                .addProfiler( GCProfiler.class )
+                .build();
+        new Runner( options ).run();
+    }
+}
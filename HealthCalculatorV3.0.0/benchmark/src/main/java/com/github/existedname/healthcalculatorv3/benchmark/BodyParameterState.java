@@ -0,0 +1,116 @@
+package com.github.existedname.healthcalculatorv3.benchmark;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.util.convertor.TypeConvertor;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 基准测试的共享输入状态, 按 {@link InputCase } 生成一组基本身体参数以及派生健康指标
+ * <pre>
+ *     TYPICAL: 常见成年人数值
+ *     MIN / MAX: 取 {@link BasicBodyParameter }、{@link HealthMetric } 有效范围的下限 / 上限, 覆盖边界输入
+ * </pre>
+ * 字段均为非 final 的实例变量, 避免 JIT 把输入当作常量折叠
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 11:00
+ */
+@State( Scope.Benchmark )
+public class BodyParameterState {
+    // ==================== 常量 ====================
+    /**
+     * 输入数值的取值方式
+     */
+    public enum InputCase {
+        /** 常见成年人数值 */
+        TYPICAL,
+        /** 有效范围下限 */
+        MIN,
+        /** 有效范围上限 */
+        MAX;
+
+        /**
+         * 按取值方式选取基本身体参数的数值
+         *
+         * @param bodyParameter 基本身体参数枚举成员
+         * @param typicalValue 常见数值
+         * @return 选取的数值
+         */
+        public double pick( BasicBodyParameter bodyParameter, double typicalValue ){
+            return switch ( this ){
+                case TYPICAL -> typicalValue;
+                case MIN -> bodyParameter.getMinValue();
+                case MAX -> bodyParameter.getMaxValue();
+            };
+        }
+
+        /**
+         * 按取值方式选取健康指标的数值
+         *
+         * @param healthMetric 健康指标枚举成员
+         * @param typicalValue 常见数值
+         * @return 选取的数值
+         */
+        public double pick( HealthMetric healthMetric, double typicalValue ){
+            return switch ( this ){
+                case TYPICAL -> typicalValue;
+                case MIN -> healthMetric.getMinValue();
+                case MAX -> healthMetric.getMaxValue();
+            };
+        }
+    }
+
+
+    // ==================== 实例变量 ====================
+    /** 输入取值方式 */
+    @Param( { "TYPICAL", "MIN", "MAX" } )
+    public InputCase inputCase;
+
+    /** 性别枚举成员( 参数名用英文, 避免非 UTF-8 控制台下 JMH 参数乱码 ) */
+    @Param( { "MALE", "FEMALE" } )
+    public Gender genderOption;
+
+    /** 性别字符串( "男"、"女" ), 由 {@link #genderOption } 转换而来 */
+    public String gender;
+
+    /*      基本身体参数      */
+    public int age;
+    public double weight;
+    public double height;
+    public double waistCircumference;
+    public double hipCircumference;
+    public double neckCircumference;
+    public double activityCoefficient;
+
+    /*      派生健康指标( 作为其他公式的输入 )     */
+    public double bmi;
+    public double bfr;
+    public double bmr;
+    public double bsa;
+
+
+    // ==================== 公有方法 ====================
+    @Setup
+    public void setUp(){
+        gender = genderOption.getChineseName();
+        age = TypeConvertor.toInt( inputCase.pick( BasicBodyParameter.AGE, 30 ) );
+        weight = inputCase.pick( BasicBodyParameter.WEIGHT, 70.0 );
+        height = inputCase.pick( BasicBodyParameter.HEIGHT, 170.0 );
+        waistCircumference = inputCase.pick( BasicBodyParameter.WAIST_CIRCUMFERENCE, 80.0 );
+        hipCircumference = inputCase.pick( BasicBodyParameter.HIP_CIRCUMFERENCE, 95.0 );
+        neckCircumference = inputCase.pick( BasicBodyParameter.NECK_CIRCUMFERENCE, 37.0 );
+        activityCoefficient = inputCase.pick( BasicBodyParameter.ACTIVITY_COEFFICIENT, 1.55 );
+
+        // 边界组合( 如最小体重 + 最小身高 )算出的 BMI 等可能超出有效范围, 所以派生指标单独取边界值
+        bmi = inputCase.pick( HealthMetric.BMI, 24.2 );
+        bfr = inputCase.pick( HealthMetric.BFR, 20.0 );
+        bmr = inputCase.pick( HealthMetric.BMR, 1600.0 );
+        bsa = inputCase.pick( HealthMetric.BSA, 1.8 );
+    }
+}
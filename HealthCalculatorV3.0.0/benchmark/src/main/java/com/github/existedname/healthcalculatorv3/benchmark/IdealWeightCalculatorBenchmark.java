@@ -0,0 +1,45 @@
+package com.github.existedname.healthcalculatorv3.benchmark;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.IdealWeightCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IdealWeightCalculator } 基准测试, 性别参数区分字符串与 {@link Gender } 枚举两种重载
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 11:24
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class IdealWeightCalculatorBenchmark {
+    /** 基于身高的理想体重 */
+    @Benchmark
+    public double idealWeightBasedOnHeight( BodyParameterState state ){
+        return IdealWeightCalculator.BasedOnHeight.calculateIdealWeight( state.gender, state.height );
+    }
+
+    /** 基于身高的理想体重( {@link Gender } 枚举重载 ) */
+    @Benchmark
+    public double idealWeightBasedOnHeightWithGenderEnum( BodyParameterState state ){
+        return IdealWeightCalculator.BasedOnHeight.calculateIdealWeight( state.genderOption, state.height );
+    }
+
+    /** 基于 BMI 的理想体重下限 */
+    @Benchmark
+    public double minIdealWeightBasedOnBMI( BodyParameterState state ){
+        return IdealWeightCalculator.BasedOnBMI.calculateMinIdealWeight( state.height );
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.existedname.healthcalculatorv3.benchmark;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * 批量( 列式 )基准测试的共享输入状态, 按 {@link #populationSize } 生成一组人群的基本身体参数列
+ * <pre>
+ *     使用固定随机种子, 每次运行的输入相同; 数值均落在各参数的有效范围内
+ *     输出列 {@link #out } 预先分配, 基准方法内不再分配内存
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 14:30
+ */
+@State( Scope.Benchmark )
+public class PopulationState {
+    // ==================== 常量 ====================
+    /** 随机种子 */
+    private static final long SEED = 20261018L;
+
+
+    // ==================== 实例变量 ====================
+    /** 人群规模( 列长度 ) */
+    @Param( { "1024", "100000" } )
+    public int populationSize;
+
+    /*      基本身体参数列      */
+    public byte[] genderCodes;
+    public int[] ages;
+    public double[] weights;
+    public double[] heights;
+    public double[] bmis;
+
+    /** 输出列 */
+    public double[] out;
+
+
+    // ==================== 公有方法 ====================
+    @Setup
+    public void setUp(){
+        Random random = new Random( SEED );
+        genderCodes = new byte[ populationSize ];
+        ages = new int[ populationSize ];
+        weights = new double[ populationSize ];
+        heights = new double[ populationSize ];
+        bmis = new double[ populationSize ];
+        out = new double[ populationSize ];
+        for ( int i = 0; i < populationSize; i++ ){
+            genderCodes[ i ] = ( byte ) ( random.nextBoolean() ? Gender.MALE.getCode() : Gender.FEMALE.getCode() );
+            ages[ i ] = 18 + random.nextInt( 60 );
+            weights[ i ] = 45 + random.nextDouble() * 55;
+            heights[ i ] = 150 + random.nextDouble() * 45;
+            bmis[ i ] = 17 + random.nextDouble() * 15;
+        }
+    }
+}
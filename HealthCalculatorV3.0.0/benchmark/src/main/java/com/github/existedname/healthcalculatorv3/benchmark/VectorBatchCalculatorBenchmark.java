@@ -0,0 +1,89 @@
+package com.github.existedname.healthcalculatorv3.benchmark;
+
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BFRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BSACalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.vector.VectorBatchCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 标量批量计算与 {@link VectorBatchCalculator } 的对比基准测试, 覆盖线性公式( BMR、BFR )与幂函数公式( BSA )
+ * <pre>
+ *     分叉的 JVM 会添加 jdk.incubator.vector 模块, 使向量后端生效;
+ *     结果单位为每次计算整列的耗时( us/op ), 除以 populationSize 即为每个元素的耗时
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 14:30
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" } )
+public class VectorBatchCalculatorBenchmark {
+    /** MSJ 公式( 标量批量 ) */
+    @Benchmark
+    public double[] scalarMSJEquation( PopulationState state ){
+        BMRCalculator.calculateBMRByMSJEquation( state.genderCodes, state.weights, state.heights, state.ages, state.out );
+        return state.out;
+    }
+
+    /** MSJ 公式( 向量批量 ) */
+    @Benchmark
+    public double[] vectorMSJEquation( PopulationState state ){
+        VectorBatchCalculator.calculateBMRByMSJEquation( state.genderCodes, state.weights, state.heights, state.ages, state.out );
+        return state.out;
+    }
+
+    /** Deurenberg 公式( 标量批量 ) */
+    @Benchmark
+    public double[] scalarDeurenbergEquation( PopulationState state ){
+        BFRCalculator.calculateBFRByDeurenbergEquation( state.bmis, state.ages, state.genderCodes, state.out );
+        return state.out;
+    }
+
+    /** Deurenberg 公式( 向量批量 ) */
+    @Benchmark
+    public double[] vectorDeurenbergEquation( PopulationState state ){
+        VectorBatchCalculator.calculateBFRByDeurenbergEquation( state.bmis, state.ages, state.genderCodes, state.out );
+        return state.out;
+    }
+
+    /** Du Bois 公式( 标量批量 ) */
+    @Benchmark
+    public double[] scalarDuBoisEquation( PopulationState state ){
+        BSACalculator.calculateBSAByDuBoisEquation( state.heights, state.weights, state.out );
+        return state.out;
+    }
+
+    /** Du Bois 公式( 向量批量 ) */
+    @Benchmark
+    public double[] vectorDuBoisEquation( PopulationState state ){
+        VectorBatchCalculator.calculateBSAByDuBoisEquation( state.heights, state.weights, state.out );
+        return state.out;
+    }
+
+    /** Schlich 公式( 标量批量 ) */
+    @Benchmark
+    public double[] scalarSchlichEquation( PopulationState state ){
+        BSACalculator.calculateBSABySchlichEquation( state.genderCodes, state.heights, state.weights, state.out );
+        return state.out;
+    }
+
+    /** Schlich 公式( 向量批量 ) */
+    @Benchmark
+    public double[] vectorSchlichEquation( PopulationState state ){
+        VectorBatchCalculator.calculateBSABySchlichEquation( state.genderCodes, state.heights, state.weights, state.out );
+        return state.out;
+    }
+}
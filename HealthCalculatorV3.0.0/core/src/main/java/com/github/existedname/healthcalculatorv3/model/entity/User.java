@@ -62,7 +62,7 @@ public class User extends UserBodyProfile implements Comparable< User > {
                 .append( "\n\tName = " ).append( this.name )
                 .append( "\n\tId = " ).append( this.id )
                 .append( "\n\t==== 基本身体参数 ====" )
-                .append( "\n\t" ).append( Gender.Category.ENGLISH_NAME ).append( " = " ).append( super.getGender() )
+                .append( "\n\t" ).append( Gender.Category.ENGLISH_NAME ).append( " = " ).append( super.getGender() == null ? null : super.getGender().getChineseName() )
                 .append( "\n\t" ).append( BasicBodyParameter.AGE.getEnglishName() ).append( " = " ).append( super.getAge() )
                 .append( "\n\t" ).append( BasicBodyParameter.WEIGHT.getEnglishName() ).append( " = " ).append( super.getWeight( ) )
                 .append( "\n\t" ).append( BasicBodyParameter.HEIGHT.getEnglishName() ).append( " = " ).append( super.getHeight( ) )
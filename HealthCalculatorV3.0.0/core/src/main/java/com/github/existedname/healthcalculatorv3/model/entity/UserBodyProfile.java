@@ -0,0 +1,469 @@
+package com.github.existedname.healthcalculatorv3.model.entity;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BFRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMICalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BRICalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BSACalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.TDEECalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.WHRCalculator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Objects;
+
+/**
+ * 用户身体参数档案:
+ * <p>
+ *     <pre>
+ *     1. 基本身体数据
+ *      基础数据( 性别, 年龄, 体重, 身高 )、围度( 腰围, 臀围, 肩宽, 臂围 )、活动系数
+ *     2. 计算得到的健康指标
+ *      (1)体态评估类: BMI, WHR, BFR, BRI
+ *      (2)能量代谢类: BMR, TDEE
+ *      (3)生理特征类: BSA
+ *     3. 健康指标依赖图( 3.1.0 起 )
+ *      BMI → BFR, BMR → TDEE, 身高/体重 → BSA → 基于 BSA 的 BMR, 腰围/臀围 → WHR, 腰围/身高 → BRI
+ *      修改基本身体数据时只让下游的健康指标失效, getOrCalculateXxx 方法按需计算并缓存,
+ *      同一份档案改动一项数据( 如体重 )后只重算受影响的公式
+ *     </pre>
+ * </p>
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 2.0.0
+ * @UpdateTime 2025/8/26 14:06
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserBodyProfile {
+    // ==================== 常量 ====================
+    /*      健康指标缓存位( cachedMetrics 的各个二进制位 )      */
+    private static final int BMI_BIT = 1;
+    private static final int WHR_BIT = 1 << 1;
+    private static final int BFR_BIT = 1 << 2;
+    private static final int BRI_BIT = 1 << 3;
+    private static final int BMR_BIT = 1 << 4;
+    private static final int TDEE_BIT = 1 << 5;
+    private static final int BSA_BIT = 1 << 6;
+    private static final int BSA_BASED_BMR_BIT = 1 << 7;
+
+    /*      修改某项数据时需要失效的下游健康指标      */
+    private static final int GENDER_OR_AGE_DEPENDENTS = BFR_BIT | BMR_BIT | TDEE_BIT | BSA_BASED_BMR_BIT;
+    private static final int WEIGHT_DEPENDENTS = BMI_BIT | BFR_BIT | BMR_BIT | TDEE_BIT | BSA_BIT | BSA_BASED_BMR_BIT;
+    private static final int HEIGHT_DEPENDENTS = WEIGHT_DEPENDENTS | BRI_BIT;
+    private static final int WAIST_CIRCUMFERENCE_DEPENDENTS = WHR_BIT | BRI_BIT;
+    private static final int HIP_CIRCUMFERENCE_DEPENDENTS = WHR_BIT;
+    private static final int ACTIVITY_COEFFICIENT_DEPENDENTS = TDEE_BIT;
+
+
+    // ==================== 静态变量 ====================
+
+
+
+    // ==================== 实例变量 ====================
+    /*      基本身体数据      */
+    /** 性别( 输入字符串只在输入边界由 {@link Gender#parse( String ) } 解析一次 ) */
+    private Gender gender;
+    /** 年龄 */
+    private int age;
+    /** 体重( 单位: kg ) */
+    private double weight;
+    /** 身高( 单位: cm ) */
+    private double height;
+    /** 腰围( 单位: cm ) */
+    private double waistCircumference;
+    /** 臀围( 单位: cm ) */
+    private double hipCircumference;
+    /** 颈围( 单位: cm ) */
+    private double neckCircumference;
+    /** 臂围( 单位: cm ) */
+    private double armCircumference;
+    /** 活动系数( 无单位 ) */
+    private double activityCoefficient;
+
+
+    /*      计算得出的健康指标       */
+    // 体态评估类健康指标
+    /** BMI( Body Mass Index ): 身体质量指数( 单位: kg/m² ) */
+    private double bmi;
+    /** WHR( Waist-Hip Ratio ): 腰臀比( 无单位, 但注意转为 % 需要乘以 100 ) */
+    private double whr;
+    /** BFR( Body Fat Rate ): 体脂率( 无单位, 但注意转为 % 需要乘以 100 ) */
+    private double bfr;
+    /** BRI( Body Roundness Index ): 身体圆度指数( 无单位 ) */
+    private double bri; // body roundness index 身体圆度指数
+
+    // 能量代谢类健康指标
+    /**
+     * BMR( Basal Metabolic Rate ): 基础代谢率( 单位: kcal/day ) <br>
+     * 注意: 通俗说的 BMR 是以 day 为单位时间,即 1 天的基础代谢
+     */
+    private double bmr;
+    /** TDEE( Total Daily Energy Expedite ): 每日总能量消耗( 单位: kcal/day ) */
+    private double tdee;
+
+    // 生理特征类健康指标
+    /** BSA( Body Surface Area ): 体表面积( 单位: m² ) */
+    private double bsa;
+    /** 基于 BSA 的 BMR( 单位: kcal/day ) */
+    @Getter( AccessLevel.NONE ) @Setter( AccessLevel.NONE )
+    private double bsaBasedBMR;
+
+    /** 已缓存( 与当前基本身体数据一致 )的健康指标, 每个二进制位对应一个 XXX_BIT */
+    @Getter( AccessLevel.NONE ) @Setter( AccessLevel.NONE )
+    private int cachedMetrics;
+
+
+
+    // ==================== 构造器 ====================
+    public UserBodyProfile( Gender gender, int age ){
+        this.gender = gender;
+        this.age = age;
+    }
+
+    public UserBodyProfile( double weight, double height ){
+        this.weight = weight;
+        this.height = height;
+    }
+
+    public UserBodyProfile( Gender gender, int age, double weight, double height ){
+        this( gender, age );
+        this.weight = weight;
+        this.height = height;
+    }
+
+    /**
+     * 全参构造器, 传入的健康指标视为已缓存
+     */
+    public UserBodyProfile( Gender gender, int age, double weight, double height,
+                            double waistCircumference, double hipCircumference, double neckCircumference, double armCircumference,
+                            double activityCoefficient,
+                            double bmi, double whr, double bfr, double bri, double bmr, double tdee, double bsa ){
+        this( gender, age, weight, height );
+        this.waistCircumference = waistCircumference;
+        this.hipCircumference = hipCircumference;
+        this.neckCircumference = neckCircumference;
+        this.armCircumference = armCircumference;
+        this.activityCoefficient = activityCoefficient;
+        this.bmi = bmi;
+        this.whr = whr;
+        this.bfr = bfr;
+        this.bri = bri;
+        this.bmr = bmr;
+        this.tdee = tdee;
+        this.bsa = bsa;
+        this.cachedMetrics = BMI_BIT | WHR_BIT | BFR_BIT | BRI_BIT | BMR_BIT | TDEE_BIT | BSA_BIT;
+    }
+
+
+    // ==================== 公有方法 ====================
+    /*      核心业务方法      */
+    /*
+     *      健康指标依赖图: getOrCalculateXxx
+     *      已缓存时直接返回; 否则调用 basic 包中的计算器( 默认公式与 ProfileMetricCalculator 一致 )计算,
+     *  上游指标同样按需计算并缓存, 结果写回对应字段
+     */
+    /**
+     * 获取 BMI, 未缓存时根据体重、身高计算并缓存, <B>单位: kg/m²</B>
+     *
+     * @return BMI, <B>单位: kg/m²</B>
+     * @throws IllegalArgumentException 当体重或身高不在有效范围时
+     * @since 3.1.0
+     */
+    public double getOrCalculateBMI(){
+        if ( ! isCached( BMI_BIT ) ){
+            setBMI( BMICalculator.calculateBMI( weight, height ) );
+        }
+        return bmi;
+    }
+
+    /**
+     * 获取 WHR, 未缓存时根据腰围、臀围计算并缓存, <B>单位: 无</B>
+     *
+     * @return WHR, <B>单位: 无</B>
+     * @throws IllegalArgumentException 当腰围或臀围不在有效范围时
+     * @since 3.1.0
+     */
+    public double getOrCalculateWHR(){
+        if ( ! isCached( WHR_BIT ) ){
+            setWHR( WHRCalculator.calculateWHR( waistCircumference, hipCircumference ) );
+        }
+        return whr;
+    }
+
+    /**
+     * 获取 BFR( Deurenberg 公式 ), 未缓存时根据 BMI、年龄、性别计算并缓存, <B>单位: %</B>
+     *
+     * @return BFR, <B>单位: %</B>
+     * @throws NullPointerException 当性别为 null 时
+     * @throws IllegalArgumentException 当性别、年龄、体重或身高不在有效范围时
+     * @since 3.1.0
+     */
+    public double getOrCalculateBFR(){
+        if ( ! isCached( BFR_BIT ) ){
+            setBFR( BFRCalculator.calculateBFRByDeurenbergEquation( getOrCalculateBMI(), age, gender ) );
+        }
+        return bfr;
+    }
+
+    /**
+     * 获取 BRI, 未缓存时根据腰围、身高计算并缓存, <B>单位: 无</B>
+     *
+     * @return BRI, <B>单位: 无</B>
+     * @throws IllegalArgumentException 当腰围或身高不在有效范围时
+     * @since 3.1.0
+     */
+    public double getOrCalculateBRI(){
+        if ( ! isCached( BRI_BIT ) ){
+            setBRI( BRICalculator.calculateBRI( waistCircumference, height ) );
+        }
+        return bri;
+    }
+
+    /**
+     * 获取 BMR( MSJ 公式 ), 未缓存时根据性别、年龄、体重、身高计算并缓存, <B>单位: Kcal</B>
+     *
+     * @return BMR, <B>单位: Kcal</B>
+     * @throws NullPointerException 当性别为 null 时
+     * @throws IllegalArgumentException 当性别、年龄、体重或身高不在有效范围时
+     * @since 3.1.0
+     */
+    public double getOrCalculateBMR(){
+        if ( ! isCached( BMR_BIT ) ){
+            setBMR( BMRCalculator.calculateBMRByMSJEquation( gender, weight, height, age ) );
+        }
+        return bmr;
+    }
+
+    /**
+     * 获取 TDEE, 未缓存时根据 BMR、活动系数计算并缓存, <B>单位: Kcal</B>
+     *
+     * @return TDEE, <B>单位: Kcal</B>
+     * @throws NullPointerException 当性别为 null 时
+     * @throws IllegalArgumentException 当 BMR 所需参数或活动系数不在有效范围时
+     * @since 3.1.0
+     */
+    public double getOrCalculateTDEE(){
+        if ( ! isCached( TDEE_BIT ) ){
+            setTDEE( TDEECalculator.calculateTDEE( getOrCalculateBMR(), activityCoefficient ) );
+        }
+        return tdee;
+    }
+
+    /**
+     * 获取 BSA( Du Bois 公式 ), 未缓存时根据身高、体重计算并缓存, <B>单位: m²</B>
+     *
+     * @return BSA, <B>单位: m²</B>
+     * @throws IllegalArgumentException 当体重或身高不在有效范围时
+     * @since 3.1.0
+     */
+    public double getOrCalculateBSA(){
+        if ( ! isCached( BSA_BIT ) ){
+            setBSA( BSACalculator.calculateBSAByDuBoisEquation( height, weight ) );
+        }
+        return bsa;
+    }
+
+    /**
+     * 获取基于 BSA 的 BMR, 未缓存时根据性别、年龄、BSA 计算并缓存, <B>单位: Kcal</B>
+     *
+     * @return 基于 BSA 的 BMR, <B>单位: Kcal</B>
+     * @throws NullPointerException 当性别为 null 时
+     * @throws IllegalArgumentException 当年龄、体重或身高不在有效范围时
+     * @since 3.1.0
+     */
+    public double getOrCalculateBSABasedBMR(){
+        if ( ! isCached( BSA_BASED_BMR_BIT ) ){
+            setBSABasedBMR( BMRCalculator.calculateBSABasedBMR( gender, age, getOrCalculateBSA() ) );
+        }
+        return bsaBasedBMR;
+    }
+
+    /**
+     * 判断健康指标是否已缓存( 与当前基本身体数据一致 ), 未缓存时对应字段的数值没有意义
+     *
+     * @param healthMetric 健康指标
+     * @return 已缓存时返回 true
+     * @throws NullPointerException 当 healthMetric 为 null 时
+     * @since 3.1.0
+     */
+    public boolean isCached( HealthMetric healthMetric ){
+        Objects.requireNonNull( healthMetric, "参数 healthMetric( 健康指标 )不能为 null" );
+        return isCached( toMetricBit( healthMetric ) );
+    }
+
+    /**
+     * 让全部健康指标失效, 下次调用 getOrCalculateXxx 时重新计算
+     *
+     * @since 3.1.0
+     */
+    public void invalidateAllMetrics(){
+        cachedMetrics = 0;
+    }
+
+
+    /*
+     *      基本身体数据 setter
+     *      数值确实改变时才让下游的健康指标失效, 重复录入相同数据不会触发重算
+     */
+    public void setGender( Gender gender ){
+        if ( ! Objects.equals( this.gender, gender ) ){
+            this.gender = gender;
+            invalidate( GENDER_OR_AGE_DEPENDENTS );
+        }
+    }
+    public void setAge( int age ){
+        if ( this.age != age ){
+            this.age = age;
+            invalidate( GENDER_OR_AGE_DEPENDENTS );
+        }
+    }
+    public void setWeight( double weight ){
+        if ( Double.compare( this.weight, weight ) != 0 ){
+            this.weight = weight;
+            invalidate( WEIGHT_DEPENDENTS );
+        }
+    }
+    public void setHeight( double height ){
+        if ( Double.compare( this.height, height ) != 0 ){
+            this.height = height;
+            invalidate( HEIGHT_DEPENDENTS );
+        }
+    }
+    public void setWaistCircumference( double waistCircumference ){
+        if ( Double.compare( this.waistCircumference, waistCircumference ) != 0 ){
+            this.waistCircumference = waistCircumference;
+            invalidate( WAIST_CIRCUMFERENCE_DEPENDENTS );
+        }
+    }
+    public void setHipCircumference( double hipCircumference ){
+        if ( Double.compare( this.hipCircumference, hipCircumference ) != 0 ){
+            this.hipCircumference = hipCircumference;
+            invalidate( HIP_CIRCUMFERENCE_DEPENDENTS );
+        }
+    }
+    public void setActivityCoefficient( double activityCoefficient ){
+        if ( Double.compare( this.activityCoefficient, activityCoefficient ) != 0 ){
+            this.activityCoefficient = activityCoefficient;
+            invalidate( ACTIVITY_COEFFICIENT_DEPENDENTS );
+        }
+    }
+
+    /*
+     *      getter/setter
+     *      lombok 不好处理缩略词, 会出现 getBmi、setBmi 的情况,
+     *  跟实际期望的 getBMI、setBMI 不一致, 所以这里为缩略词手动添加
+     *  getter/setter
+     */
+    // 体态评估类健康指标
+    public double getBMI() {
+        return bmi;
+    }
+    public double getWHR() {
+        return whr;
+    }
+    public double getBFR() {
+        return bfr;
+    }
+    public double getBRI() {
+        return bri;
+    }
+
+    // 能量代谢类健康指标
+    public double getBMR() {
+        return bmr;
+    }
+    public double getTDEE() {
+        return tdee;
+    }
+
+    // 生理特征类健康指标
+    public double getBSA() {
+        return bsa;
+    }
+    public double getBSABasedBMR() {
+        return bsaBasedBMR;
+    }
+
+
+    /*
+     *      健康指标 setter
+     *      写入的数值视为已缓存, 同时让以它为输入的下游指标失效
+     */
+    // 体态评估类健康指标
+    public void setBMI(double BMI) {
+        this.bmi = BMI;
+        cache( BMI_BIT, BFR_BIT );
+    }
+    public void setWHR( double whr ) {
+        this.whr = whr;
+        cache( WHR_BIT, 0 );
+    }
+    public void setBFR( double bfr ) {
+        this.bfr = bfr;
+        cache( BFR_BIT, 0 );
+    }
+    public void setBRI( double bri ) {
+        this.bri = bri;
+        cache( BRI_BIT, 0 );
+    }
+
+    // 能量代谢类健康指标
+    public void setBMR( double bmr ) {
+        this.bmr = bmr;
+        cache( BMR_BIT, TDEE_BIT );
+    }
+    public void setTDEE( double tdee ) {
+        this.tdee = tdee;
+        cache( TDEE_BIT, 0 );
+    }
+
+    // 生理特征类健康指标
+    public void setBSA( double bsa ) {
+        this.bsa = bsa;
+        cache( BSA_BIT, BSA_BASED_BMR_BIT );
+    }
+    public void setBSABasedBMR( double bsaBasedBMR ) {
+        this.bsaBasedBMR = bsaBasedBMR;
+        cache( BSA_BASED_BMR_BIT, 0 );
+    }
+
+
+    /*      重写方法        */
+
+
+
+    // ==================== 私有辅助方法 ====================
+    private boolean isCached( int metricBit ){
+        return ( cachedMetrics & metricBit ) != 0;
+    }
+
+    /**
+     * 标记一个健康指标已缓存, 并让它的下游指标失效
+     */
+    private void cache( int metricBit, int dependents ){
+        cachedMetrics = ( cachedMetrics | metricBit ) & ~dependents;
+    }
+
+    private void invalidate( int dependents ){
+        cachedMetrics &= ~dependents;
+    }
+
+    private static int toMetricBit( HealthMetric healthMetric ){
+        switch ( healthMetric ){
+            case BMI: return BMI_BIT;
+            case WHR: return WHR_BIT;
+            case BFR: return BFR_BIT;
+            case BRI: return BRI_BIT;
+            case BMR: return BMR_BIT;
+            case TDEE: return TDEE_BIT;
+            case BSA: return BSA_BIT;
+            default:
+                throw new IllegalArgumentException( String.format( "未知的健康指标: %s", healthMetric ) );
+        }
+    }
+}
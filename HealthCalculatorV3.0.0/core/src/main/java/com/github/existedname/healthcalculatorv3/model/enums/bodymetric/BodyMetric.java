@@ -17,4 +17,12 @@ public interface BodyMetric {
     String getFormattedClosedRange();
     /** 检查身体指标的数值是否有效 */
     boolean isValid( double value );
+    /** 获取有效范围的下限( 闭区间 ) */
+    double getMinValue();
+    /** 获取有效范围的上限( 闭区间 ) */
+    double getMaxValue();
+    /** 获取缩写, 如 "BMI"、"WT" */
+    String getAbbreviation();
+    /** 获取单位, 无单位时为空字符串 */
+    String getUnit();
 }
@@ -0,0 +1,183 @@
+package com.github.existedname.healthcalculatorv3.model.enums.bodymetric;
+
+import lombok.AllArgsConstructor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 性别枚举类, 用于表示个体的性别信息
+ * <p>
+ * 包含两种性别选项: {@link #FEMALE 女性} 和 {@link #MALE 男性}<br>
+ * 提供了性别相关的操作方法，如验证性别、判断是否为男性等
+ * </p><p>
+ * 性别字符串只在输入边界用 {@link #parse( String ) } 解析一次( 查预先建好的拼写表, 英文不区分大小写 ),
+ * 之后在档案、计算器中一律传递枚举成员或性别代码, 不再重复解析字符串
+ * </p>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.0.0
+ * @UpdateTime 2025/8/26 14:13
+ */
+@AllArgsConstructor
+public enum Gender {
+    // GENDER( "性别", "Gender", -1 ),
+    // UNKNOWN("未知", "Unknown", -1),
+    FEMALE("女", "Female", 0),
+    MALE("男", "Male", 1);
+
+    private final String chineseName;
+    private final String englishName;
+    private final int code;
+
+    /** 可接受的性别拼写 → 性别( 中文名; 英文名的原样、小写形式 ), 其他大小写形式先转小写再查 */
+    private static final Map< String, Gender > GENDER_BY_SPELLING = new HashMap<>();
+    /** 性别代码 → 性别 */
+    private static final Gender[] GENDER_BY_CODE = new Gender[ values().length ];
+
+    static {
+        for ( Gender gender : values() ){
+            GENDER_BY_SPELLING.put( gender.chineseName, gender );
+            GENDER_BY_SPELLING.put( gender.englishName, gender );
+            GENDER_BY_SPELLING.put( gender.englishName.toLowerCase( Locale.ROOT ), gender );
+            GENDER_BY_CODE[ gender.code ] = gender;
+        }
+    }
+
+    /**
+     * "性别"类别, 用于获取"性能"的名称
+     */
+    public static final class Category {
+        /** 中文名称 */
+        public static final String CHINESE_NAME = "性别";
+        /** 英文名称 */
+        public static final String ENGLISH_NAME = "Gender";
+    }
+
+    /**
+     * 获取所有的有效性别选项( "男"、"女" )
+     * @return List< String > 类型的性别选项
+     */
+    public static List< String > getValidGenderOptions() {
+        return Arrays.stream( values() ).map( Gender::getChineseName ).toList();
+    }
+
+    /**
+     * 判断给定的性别字符串是否有效
+     * @param gender 性别字符串
+     * @return true: 有效性别, false: 无效性别字符串或者 gender 为 null
+     */
+    public static boolean isValidGender( String gender ){
+        return ( parseOrNull( gender ) != null );
+    }
+
+    /**
+     * 解析性别字符串( 支持 "男"/"女"、"Male"/"Female", 英文不区分大小写, 忽略首尾空白 )
+     * @param gender 性别字符串
+     * @return 性别枚举成员
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 为无效性别时
+     * @since 3.1.0
+     */
+    public static Gender parse( String gender ){
+        Objects.requireNonNull( gender, "参数 gender( 性别 )不能为 null" );
+        Gender parsedGender = parseOrNull( gender );
+        if ( parsedGender == null ){
+            throw new IllegalArgumentException( String.format( "参数 gender 不在有效范围%s", getValidGenderOptions() ) );
+        }
+        return parsedGender;
+    }
+
+    /**
+     * 解析性别字符串, 无效时返回 null 而不抛出异常( 用于批量导入 )
+     * @param gender 性别字符串
+     * @return 性别枚举成员, 无效性别或者 gender 为 null 时返回 null
+     * @since 3.1.0
+     */
+    public static Gender parseOrNull( String gender ){
+        if ( gender == null ) return null;
+        // 常见拼写直接命中, 不创建新字符串
+        Gender parsedGender = GENDER_BY_SPELLING.get( gender );
+        if ( parsedGender != null ) return parsedGender;
+        return GENDER_BY_SPELLING.get( gender.trim().toLowerCase( Locale.ROOT ) );
+    }
+
+    /**
+     * 根据性别代码获取性别
+     * @param genderCode 性别代码( 女0 男1 )
+     * @return 性别枚举成员
+     * @throws IllegalArgumentException 当 genderCode 不是有效的性别代码时
+     * @since 3.1.0
+     */
+    public static Gender fromCode( int genderCode ){
+        if ( genderCode < 0 || genderCode >= GENDER_BY_CODE.length ){
+            throw new IllegalArgumentException( String.format( "参数 genderCode = %d 不是有效的性别代码( 女%d 男%d )",
+                    genderCode, FEMALE.code, MALE.code ) );
+        }
+        return GENDER_BY_CODE[ genderCode ];
+    }
+
+    /**
+     * 判断是否是男性
+     * @param gender 性别字符串
+     * @return true: 是男性( "男"、"Male" ), false: 不是男性( "女"、"Female" )
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 为无效性别时
+     */
+    public static boolean isMale( String gender ){
+        return parse( gender ).isMale();
+    }
+
+    /**
+     * 将 boolean 型的 isMale 换为 int 型,作为访问数组的下标或者用来计算
+     * ( {@link com.github.existedname.healthcalculatorv3.util.calculator.basic.BFRCalculator#calculateBFRByGallagherEquation2 } )
+     * @param gender 性别字符串
+     * @return 男性: 1, 女性: 0
+     *
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 为无效性别时
+     */
+    public static int intIsMale( String gender ){
+        return parse( gender ).code;
+    }
+
+    /**
+     * 判断性别代码( {@link #getCode() }, 女0 男1 )是否有效, 用于批量计算中的 byte 性别列
+     * @param genderCode 性别代码
+     * @return true: 有效性别代码, false: 无效性别代码
+     * @since 3.1.0
+     */
+    public static boolean isValidGenderCode( byte genderCode ){
+        return ( genderCode == FEMALE.code || genderCode == MALE.code );
+    }
+
+    /**
+     * 根据性别代码判断是否是男性, 调用方需先保证代码有效( {@link #isValidGenderCode( byte ) } )
+     * @param genderCode 性别代码( 女0 男1 )
+     * @return true: 是男性, false: 不是男性
+     * @since 3.1.0
+     */
+    public static boolean isMale( byte genderCode ){
+        return ( genderCode == MALE.code );
+    }
+
+    /**
+     * 判断当前性别是否是男性
+     * @return true: 是男性, false: 是女性
+     * @since 3.1.0
+     */
+    public boolean isMale(){
+        return ( this == MALE );
+    }
+
+    /** 获取当前性别枚举成员的中文名 */
+    public String getChineseName() { return chineseName; }
+    /** 获取当前性别枚举成员的英文名 */
+    public String getEnglishName() { return englishName; }
+    /** 获取当前性别枚举成员的代码( 女0 男1 ) */
+    public int getCode() { return code; }
+}
\ No newline at end of file
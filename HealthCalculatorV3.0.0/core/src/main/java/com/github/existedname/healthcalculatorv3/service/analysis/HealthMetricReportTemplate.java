@@ -0,0 +1,233 @@
+package com.github.existedname.healthcalculatorv3.service.analysis;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BodyMetric;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.HealthMetricIntervalAssessment;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.HealthMetricsIndex;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.HealthMetricsProvider;
+import com.github.existedname.healthcalculatorv3.util.ValueFormatter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 健康指标分析报告模板: 每个指标集枚举成员( 即每个区间的评估 )只渲染一次报告中不变的部分
+ * <pre>
+ *     1. 报告 = 前缀 + 数值( 1 位小数 ) + 后缀, 前缀、后缀预先编码为 UTF-8 字节,
+ *        区间起止、单位、健康状况、风险、建议都在后缀/前缀里, 生成一份报告只需两次数组复制和写入几个数字
+ *     2. 报告文字与控制台 {@code AnalysisService } 原先逐段拼接的结果逐字节一致
+ *     3. 数值直接写成 ASCII 数字, 只有恰好处于四舍五入临界点附近( 或默认区域设置不使用 '.' 作小数点 )时
+ *        才回退到 {@link ValueFormatter#formatToOneDecimal( double ) }
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 19:40
+ */
+public final class HealthMetricReportTemplate {
+    // ==================== 常量 ====================
+    /** 直接写数字的数值上限( 超过时回退到 String.format ) */
+    private static final double FAST_FORMAT_LIMIT = 1e15;
+    /** 直接写出的数值最多占用的字节数: 15 位整数 + 小数点 + 1 位小数 */
+    private static final int MAX_FAST_VALUE_LENGTH = 17;
+    /** 判断是否处于四舍五入临界点的容差 */
+    private static final double ROUNDING_TIE_TOLERANCE = 1e-6;
+    /** 默认区域设置是否以 '.' 作小数点, 否则数值一律交给 String.format */
+    private static final boolean FAST_FORMAT_ENABLED = "1.5".equals( ValueFormatter.formatToOneDecimal( 1.5 ) );
+
+
+    // ==================== 静态变量 ====================
+    /** 模板缓存: 评估对象 → 身体指标 → 报告模板( 评估对象与指标集枚举成员一一对应 ) */
+    private static final Map< HealthMetricIntervalAssessment, Map< BodyMetric, HealthMetricReportTemplate > > TEMPLATES = new ConcurrentHashMap<>();
+
+
+    // ==================== 实例变量 ====================
+    /** 报告对应的身体指标 */
+    private final BodyMetric bodyMetric;
+    /** 数值之前的部分( UTF-8 ) */
+    private final byte[] prefix;
+    /** 数值之后的部分( UTF-8 ) */
+    private final byte[] suffix;
+
+
+    // ==================== 构造器 ====================
+    private HealthMetricReportTemplate( HealthMetricIntervalAssessment assessment, BodyMetric bodyMetric ){
+        String unit = bodyMetric.getUnit();
+        String prefixText = "你的 " + bodyMetric.getAbbreviation() + " 所在区间为:\t"
+                + assessment.getLowerBound() + unit + " ≤ ";
+        String suffixText = unit + " < " + assessment.getUpperBound() + unit + "\n"
+                + "你的健康状况为:\t" + assessment.getHealthStatus()
+                + "\n你的健康风险为:\t" + assessment.getHealthRisk()
+                + "\n你的健康建议为:\t" + assessment.getHealthAdvice();
+        this.bodyMetric = bodyMetric;
+        this.prefix = prefixText.getBytes( StandardCharsets.UTF_8 );
+        this.suffix = suffixText.getBytes( StandardCharsets.UTF_8 );
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 获取一个区间评估的报告模板( 每组 区间评估 + 身体指标 首次调用时渲染, 之后直接返回缓存 )
+     *
+     * @param assessment 区间评估( 来自指标集枚举成员 )
+     * @param bodyMetric 评估对应的身体指标, 如 {@code HealthMetric.BMI }
+     * @return 报告模板
+     * @throws NullPointerException 当 assessment 或 bodyMetric 为 null 时
+     */
+    public static HealthMetricReportTemplate of( HealthMetricIntervalAssessment assessment, BodyMetric bodyMetric ){
+        Objects.requireNonNull( assessment, "参数 assessment( 区间评估 )不能为 null" );
+        Objects.requireNonNull( bodyMetric, "参数 bodyMetric( 身体指标 )不能为 null" );
+        return TEMPLATES.computeIfAbsent( assessment, key -> new ConcurrentHashMap<>() )
+                .computeIfAbsent( bodyMetric, metric -> new HealthMetricReportTemplate( assessment, metric ) );
+    }
+
+    /**
+     * 获取指标集成员的报告模板
+     *
+     * @param metricsProvider 指标集成员, 如 {@code BMIMetrics.NORMAL }
+     * @param bodyMetric 指标集对应的身体指标
+     * @return 报告模板
+     * @throws NullPointerException 当 metricsProvider 或 bodyMetric 为 null 时
+     */
+    public static HealthMetricReportTemplate of( HealthMetricsProvider metricsProvider, BodyMetric bodyMetric ){
+        Objects.requireNonNull( metricsProvider, "参数 metricsProvider( 指标集成员 )不能为 null" );
+        return of( metricsProvider.getAssessment(), bodyMetric );
+    }
+
+    /**
+     * 获取整个指标集的报告模板, 下标为区间序号( 与 {@code HealthMetricBatchAssessor } 输出的 ordinal 对应 )
+     *
+     * @param metricsIndex 指标集区间索引
+     * @param bodyMetric 指标集对应的身体指标
+     * @return 报告模板数组
+     * @throws NullPointerException 当 metricsIndex 或 bodyMetric 为 null 时
+     */
+    public static HealthMetricReportTemplate[] of( HealthMetricsIndex metricsIndex, BodyMetric bodyMetric ){
+        Objects.requireNonNull( metricsIndex, "参数 metricsIndex( 区间索引 )不能为 null" );
+        HealthMetricReportTemplate[] templates = new HealthMetricReportTemplate[ metricsIndex.size() ];
+        for ( int i = 0; i < templates.length; i++ ){
+            templates[ i ] = of( metricsIndex.getAssessment( i ), bodyMetric );
+        }
+        return templates;
+    }
+
+    /**
+     * 把报告写入字节缓冲区( UTF-8, 不含末尾换行 )
+     *
+     * @param out 输出缓冲区
+     * @param value 指标数值
+     * @throws NullPointerException 当 out 为 null 时
+     * @throws java.nio.BufferOverflowException 当缓冲区剩余空间不足时
+     */
+    public void writeTo( ByteBuffer out, double value ){
+        Objects.requireNonNull( out, "参数 out( 输出缓冲区 )不能为 null" );
+        out.put( prefix );
+        if ( out.hasArray() && out.remaining() >= MAX_FAST_VALUE_LENGTH ){
+            int position = out.position();
+            int end = writeValue( out.array(), out.arrayOffset() + position, value );
+            if ( end >= 0 ){
+                out.position( end - out.arrayOffset() );
+                out.put( suffix );
+                return;
+            }
+        }
+        out.put( formatValue( value ) );
+        out.put( suffix );
+    }
+
+    /**
+     * 把报告写入字节数组( UTF-8, 不含末尾换行 )
+     *
+     * @param out 输出数组
+     * @param offset 起始下标
+     * @param value 指标数值
+     * @return 报告之后的下一个下标
+     * @throws NullPointerException 当 out 为 null 时
+     * @throws ArrayIndexOutOfBoundsException 当数组剩余空间不足时
+     */
+    public int writeTo( byte[] out, int offset, double value ){
+        Objects.requireNonNull( out, "参数 out( 输出数组 )不能为 null" );
+        System.arraycopy( prefix, 0, out, offset, prefix.length );
+        int position = offset + prefix.length;
+        int end = ( out.length - position >= MAX_FAST_VALUE_LENGTH ? writeValue( out, position, value ) : -1 );
+        if ( end < 0 ){
+            byte[] formattedValue = formatValue( value );
+            System.arraycopy( formattedValue, 0, out, position, formattedValue.length );
+            end = position + formattedValue.length;
+        }
+        System.arraycopy( suffix, 0, out, end, suffix.length );
+        return end + suffix.length;
+    }
+
+    /**
+     * 渲染为字符串( 控制台单次输出使用 )
+     *
+     * @param value 指标数值
+     * @return 报告
+     */
+    public String render( double value ){
+        byte[] report = new byte[ prefix.length + MAX_FAST_VALUE_LENGTH + suffix.length ];
+        int position = prefix.length;
+        System.arraycopy( prefix, 0, report, 0, position );
+        int end = writeValue( report, position, value );
+        if ( end < 0 ){
+            byte[] formattedValue = formatValue( value );
+            report = Arrays.copyOf( report, prefix.length + formattedValue.length + suffix.length );
+            System.arraycopy( formattedValue, 0, report, position, formattedValue.length );
+            end = position + formattedValue.length;
+        }
+        System.arraycopy( suffix, 0, report, end, suffix.length );
+        return new String( report, 0, end + suffix.length, StandardCharsets.UTF_8 );
+    }
+
+    /**
+     * @return 报告不含数值部分的字节数
+     */
+    public int getTemplateLength(){
+        return prefix.length + suffix.length;
+    }
+
+    public BodyMetric getBodyMetric(){
+        return bodyMetric;
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 把数值按 1 位小数直接写成 ASCII 数字
+     *
+     * @return 数值之后的下一个下标; 需要回退到 String.format 时返回 -1( 不写入任何内容 )
+     */
+    private static int writeValue( byte[] out, int offset, double value ){
+        double scaledValue = value * 10;
+        if ( !FAST_FORMAT_ENABLED || !( scaledValue < FAST_FORMAT_LIMIT ) || Double.doubleToRawLongBits( value ) < 0 ){
+            return -1;  // 负数( 包括 -0.0 )、NaN、无穷大、过大的数值
+        }
+        double floor = Math.floor( scaledValue );
+        double fraction = scaledValue - floor;
+        if ( Math.abs( fraction - 0.5 ) < ROUNDING_TIE_TOLERANCE ){
+            return -1;  // 四舍五入临界点, 交给 String.format 保证结果一致
+        }
+        long tenths = ( long ) floor + ( fraction > 0.5 ? 1 : 0 );
+        long integerPart = tenths / 10;
+        int digitCount = 1;
+        for ( long rest = integerPart / 10; rest > 0; rest /= 10 ){
+            digitCount++;
+        }
+        int position = offset + digitCount;
+        for ( int i = position - 1; i >= offset; i-- ){
+            out[ i ] = ( byte ) ( '0' + integerPart % 10 );
+            integerPart /= 10;
+        }
+        out[ position++ ] = '.';
+        out[ position++ ] = ( byte ) ( '0' + tenths % 10 );
+        return position;
+    }
+
+    private static byte[] formatValue( double value ){
+        return ValueFormatter.formatToOneDecimal( value ).getBytes( StandardCharsets.UTF_8 );
+    }
+}
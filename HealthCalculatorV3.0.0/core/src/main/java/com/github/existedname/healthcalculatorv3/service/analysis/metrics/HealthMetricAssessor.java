@@ -0,0 +1,204 @@
+package com.github.existedname.healthcalculatorv3.service.analysis.metrics;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.basicbodyparameter.FemaleWaistCircumferenceMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.basicbodyparameter.MaleWaistCircumferenceMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.BMIMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.BMRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.BSAMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.FemaleBFRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.FemaleBRIMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.FemaleWHRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.MaleBFRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.MaleBRIMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.MaleWHRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.TDEEMetrics;
+
+/**
+ * 健康指标评估器工具类, 根据指标数值( 以及性别 )选择对应的指标集并返回区间评估
+ * <pre>
+ *     只做查找, 不读取输入、不打印, 供控制台 {@code AnalysisService } 以及其他无界面调用方共用;
+ *     区分性别的指标( 腰围、WHR、BFR、BRI )需要传入性别( {@link Gender } 或性别字符串 )
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 9:45
+ */
+public final class HealthMetricAssessor {
+    // ==================== 常量 ====================
+
+
+    // ==================== 静态变量 ====================
+
+
+    // ==================== 实例变量 ====================
+
+
+    // ==================== 构造器 ====================
+    private HealthMetricAssessor(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 评估 BMI
+     *
+     * @param bmi BMI, <B>单位: kg/m²</B>
+     * @return 对应区间的评估
+     * @throws IllegalArgumentException 当 bmi 不在有效范围时
+     */
+    public static HealthMetricIntervalAssessment assessBMI( double bmi ){
+        return HealthMetricsProvider.findByValue( BMIMetrics.values(), HealthMetric.BMI, bmi );
+    }
+
+    /**
+     * 评估 腰围
+     *
+     * @param gender 性别
+     * @param waistCircumference 腰围, <B>单位: cm</B>
+     * @return 对应区间的评估
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 无效或 waistCircumference 不在有效范围时
+     */
+    public static HealthMetricIntervalAssessment assessWaistCircumference( String gender, double waistCircumference ){
+        return assessWaistCircumference( Gender.parse( gender ), waistCircumference );
+    }
+
+    /**
+     * 评估 腰围( 性别为 {@link Gender } 枚举 )
+     *
+     * @param gender 性别
+     * @param waistCircumference 腰围, <B>单位: cm</B>
+     * @return 对应区间的评估
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 waistCircumference 不在有效范围时
+     */
+    public static HealthMetricIntervalAssessment assessWaistCircumference( Gender gender, double waistCircumference ){
+        HealthMetricsProvider[] metricsProviders = gender.isMale() ?
+                MaleWaistCircumferenceMetrics.values() : FemaleWaistCircumferenceMetrics.values();
+        return HealthMetricsProvider.findByValue( metricsProviders, BasicBodyParameter.WAIST_CIRCUMFERENCE, waistCircumference );
+    }
+
+    /**
+     * 评估 WHR
+     *
+     * @param gender 性别
+     * @param whr WHR, <B>单位: 无</B>
+     * @return 对应区间的评估
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 无效或 whr 不在有效范围时
+     */
+    public static HealthMetricIntervalAssessment assessWHR( String gender, double whr ){
+        return assessWHR( Gender.parse( gender ), whr );
+    }
+
+    /**
+     * 评估 WHR( 性别为 {@link Gender } 枚举 )
+     *
+     * @param gender 性别
+     * @param whr WHR, <B>单位: 无</B>
+     * @return 对应区间的评估
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 whr 不在有效范围时
+     */
+    public static HealthMetricIntervalAssessment assessWHR( Gender gender, double whr ){
+        HealthMetricsProvider[] metricsProviders = gender.isMale() ?
+                MaleWHRMetrics.values() : FemaleWHRMetrics.values();
+        return HealthMetricsProvider.findByValue( metricsProviders, HealthMetric.WHR, whr );
+    }
+
+    /**
+     * 评估 BFR
+     *
+     * @param gender 性别
+     * @param bfr BFR, <B>单位: %</B>
+     * @return 对应区间的评估
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 无效或 bfr 不在有效范围时
+     */
+    public static HealthMetricIntervalAssessment assessBFR( String gender, double bfr ){
+        return assessBFR( Gender.parse( gender ), bfr );
+    }
+
+    /**
+     * 评估 BFR( 性别为 {@link Gender } 枚举 )
+     *
+     * @param gender 性别
+     * @param bfr BFR, <B>单位: %</B>
+     * @return 对应区间的评估
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 bfr 不在有效范围时
+     */
+    public static HealthMetricIntervalAssessment assessBFR( Gender gender, double bfr ){
+        HealthMetricsProvider[] metricsProviders = gender.isMale() ?
+                MaleBFRMetrics.values() : FemaleBFRMetrics.values();
+        return HealthMetricsProvider.findByValue( metricsProviders, HealthMetric.BFR, bfr );
+    }
+
+    /**
+     * 评估 BRI
+     *
+     * @param gender 性别
+     * @param bri BRI, <B>单位: 无</B>
+     * @return 对应区间的评估
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 无效或 bri 不在有效范围时
+     */
+    public static HealthMetricIntervalAssessment assessBRI( String gender, double bri ){
+        return assessBRI( Gender.parse( gender ), bri );
+    }
+
+    /**
+     * 评估 BRI( 性别为 {@link Gender } 枚举 )
+     *
+     * @param gender 性别
+     * @param bri BRI, <B>单位: 无</B>
+     * @return 对应区间的评估
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 bri 不在有效范围时
+     */
+    public static HealthMetricIntervalAssessment assessBRI( Gender gender, double bri ){
+        HealthMetricsProvider[] metricsProviders = gender.isMale() ?
+                MaleBRIMetrics.values() : FemaleBRIMetrics.values();
+        return HealthMetricsProvider.findByValue( metricsProviders, HealthMetric.BRI, bri );
+    }
+
+    /**
+     * 评估 BMR
+     *
+     * @param bmr BMR, <B>单位: Kcal</B>
+     * @return 对应区间的评估
+     * @throws IllegalArgumentException 当 bmr 不在有效范围时
+     */
+    public static HealthMetricIntervalAssessment assessBMR( double bmr ){
+        return HealthMetricsProvider.findByValue( BMRMetrics.values(), HealthMetric.BMR, bmr );
+    }
+
+    /**
+     * 评估 TDEE
+     *
+     * @param tdee TDEE, <B>单位: Kcal</B>
+     * @return 对应区间的评估
+     * @throws IllegalArgumentException 当 tdee 不在有效范围时
+     */
+    public static HealthMetricIntervalAssessment assessTDEE( double tdee ){
+        return HealthMetricsProvider.findByValue( TDEEMetrics.values(), HealthMetric.TDEE, tdee );
+    }
+
+    /**
+     * 评估 BSA
+     *
+     * @param bsa BSA, <B>单位: m²</B>
+     * @return 对应区间的评估
+     * @throws IllegalArgumentException 当 bsa 不在有效范围时
+     */
+    public static HealthMetricIntervalAssessment assessBSA( double bsa ){
+        return HealthMetricsProvider.findByValue( BSAMetrics.values(), HealthMetric.BSA, bsa );
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+
+}
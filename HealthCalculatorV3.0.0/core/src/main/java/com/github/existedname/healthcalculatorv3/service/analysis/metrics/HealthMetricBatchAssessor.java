@@ -0,0 +1,334 @@
+package com.github.existedname.healthcalculatorv3.service.analysis.metrics;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.basicbodyparameter.FemaleWaistCircumferenceMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.basicbodyparameter.MaleWaistCircumferenceMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.BMIMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.BMRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.BSAMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.FemaleBFRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.FemaleBRIMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.FemaleWHRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.MaleBFRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.MaleBRIMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.MaleWHRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.TDEEMetrics;
+import com.github.existedname.healthcalculatorv3.util.validator.BasicBodyParameterValidator;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 健康指标批量评估器工具类: 对一整列数值分类, 输出每个数值的区间序号并统计各区间人数
+ * <pre>
+ *     1. 与 {@link HealthMetricAssessor } 一一对应, 但不为每个人创建或查找 {@link HealthMetricIntervalAssessment },
+ *        只写入 byte[] 区间序号( 枚举 ordinal, 不在有效范围内为 {@link HealthMetricsIndex#OUT_OF_RANGE } )
+ *        并返回 {@link HealthMetricHistogram }; 需要评估文字时再用 ordinal 取枚举成员
+ *     2. 分类使用 {@link HealthMetricsLookupTable } 查表; 区分性别的指标( 腰围、WHR、BFR、BRI )额外传入性别代码列( 女0 男1 ),
+ *        返回按性别代码排列的两个直方图: [ 女性指标集直方图, 男性指标集直方图 ]
+ *     3. parallel 为 true 时按 {@value #PARTITION_SIZE } 行切分为多个分区, 在 {@link ForkJoinPool#commonPool() } 中分别统计后合并直方图;
+ *        不同分区只写入各自下标范围内的区间序号, 结果与顺序执行完全一致
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 19:10
+ */
+public final class HealthMetricBatchAssessor {
+    // ==================== 常量 ====================
+    /** 并行执行时每个分区的最大行数 */
+    public static final int PARTITION_SIZE = 1 << 15;
+
+
+    // ==================== 构造器 ====================
+    private HealthMetricBatchAssessor(){ }
+
+
+    // ==================== 公有方法 ====================
+    /*      不区分性别的指标      */
+    /**
+     * 批量评估 BMI
+     *
+     * @param bmis BMI 列, <B>单位: kg/m²</B>
+     * @param ordinals 输出: {@link BMIMetrics } 的 ordinal 列
+     * @param parallel 是否并行分区统计
+     * @return BMI 指标集直方图
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致时
+     */
+    public static HealthMetricHistogram assessBMI( double[] bmis, byte[] ordinals, boolean parallel ){
+        return assess( HealthMetricsLookupTable.of( BMIMetrics.class, HealthMetric.BMI ), bmis, ordinals, parallel );
+    }
+
+    /**
+     * 批量评估 BMR
+     *
+     * @param bmrs BMR 列, <B>单位: Kcal</B>
+     * @param ordinals 输出: {@link BMRMetrics } 的 ordinal 列
+     * @param parallel 是否并行分区统计
+     * @return BMR 指标集直方图
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致时
+     */
+    public static HealthMetricHistogram assessBMR( double[] bmrs, byte[] ordinals, boolean parallel ){
+        return assess( HealthMetricsLookupTable.of( BMRMetrics.class, HealthMetric.BMR ), bmrs, ordinals, parallel );
+    }
+
+    /**
+     * 批量评估 TDEE
+     *
+     * @param tdees TDEE 列, <B>单位: Kcal</B>
+     * @param ordinals 输出: {@link TDEEMetrics } 的 ordinal 列
+     * @param parallel 是否并行分区统计
+     * @return TDEE 指标集直方图
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致时
+     */
+    public static HealthMetricHistogram assessTDEE( double[] tdees, byte[] ordinals, boolean parallel ){
+        return assess( HealthMetricsLookupTable.of( TDEEMetrics.class, HealthMetric.TDEE ), tdees, ordinals, parallel );
+    }
+
+    /**
+     * 批量评估 BSA
+     *
+     * @param bsas BSA 列, <B>单位: m²</B>
+     * @param ordinals 输出: {@link BSAMetrics } 的 ordinal 列
+     * @param parallel 是否并行分区统计
+     * @return BSA 指标集直方图
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致时
+     */
+    public static HealthMetricHistogram assessBSA( double[] bsas, byte[] ordinals, boolean parallel ){
+        return assess( HealthMetricsLookupTable.of( BSAMetrics.class, HealthMetric.BSA ), bsas, ordinals, parallel );
+    }
+
+
+    /*      区分性别的指标      */
+    /**
+     * 批量评估 腰围
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param waistCircumferences 腰围列, <B>单位: cm</B>
+     * @param ordinals 输出: 对应性别腰围指标集的 ordinal 列
+     * @param parallel 是否并行分区统计
+     * @return [ 女性腰围指标集直方图, 男性腰围指标集直方图 ]
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或性别代码无效时
+     */
+    public static HealthMetricHistogram[] assessWaistCircumference( byte[] genderCodes, double[] waistCircumferences, byte[] ordinals, boolean parallel ){
+        return assess( HealthMetricsLookupTable.of( FemaleWaistCircumferenceMetrics.class, BasicBodyParameter.WAIST_CIRCUMFERENCE ),
+                HealthMetricsLookupTable.of( MaleWaistCircumferenceMetrics.class, BasicBodyParameter.WAIST_CIRCUMFERENCE ),
+                genderCodes, waistCircumferences, ordinals, parallel );
+    }
+
+    /**
+     * 批量评估 WHR
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param whrs WHR 列, <B>单位: 无</B>
+     * @param ordinals 输出: 对应性别 WHR 指标集的 ordinal 列
+     * @param parallel 是否并行分区统计
+     * @return [ 女性 WHR 指标集直方图, 男性 WHR 指标集直方图 ]
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或性别代码无效时
+     */
+    public static HealthMetricHistogram[] assessWHR( byte[] genderCodes, double[] whrs, byte[] ordinals, boolean parallel ){
+        return assess( HealthMetricsLookupTable.of( FemaleWHRMetrics.class, HealthMetric.WHR ),
+                HealthMetricsLookupTable.of( MaleWHRMetrics.class, HealthMetric.WHR ),
+                genderCodes, whrs, ordinals, parallel );
+    }
+
+    /**
+     * 批量评估 BFR
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param bfrs BFR 列, <B>单位: %</B>
+     * @param ordinals 输出: 对应性别 BFR 指标集的 ordinal 列
+     * @param parallel 是否并行分区统计
+     * @return [ 女性 BFR 指标集直方图, 男性 BFR 指标集直方图 ]
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或性别代码无效时
+     */
+    public static HealthMetricHistogram[] assessBFR( byte[] genderCodes, double[] bfrs, byte[] ordinals, boolean parallel ){
+        return assess( HealthMetricsLookupTable.of( FemaleBFRMetrics.class, HealthMetric.BFR ),
+                HealthMetricsLookupTable.of( MaleBFRMetrics.class, HealthMetric.BFR ),
+                genderCodes, bfrs, ordinals, parallel );
+    }
+
+    /**
+     * 批量评估 BRI
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param bris BRI 列, <B>单位: 无</B>
+     * @param ordinals 输出: 对应性别 BRI 指标集的 ordinal 列
+     * @param parallel 是否并行分区统计
+     * @return [ 女性 BRI 指标集直方图, 男性 BRI 指标集直方图 ]
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或性别代码无效时
+     */
+    public static HealthMetricHistogram[] assessBRI( byte[] genderCodes, double[] bris, byte[] ordinals, boolean parallel ){
+        return assess( HealthMetricsLookupTable.of( FemaleBRIMetrics.class, HealthMetric.BRI ),
+                HealthMetricsLookupTable.of( MaleBRIMetrics.class, HealthMetric.BRI ),
+                genderCodes, bris, ordinals, parallel );
+    }
+
+
+    /*      通用入口      */
+    /**
+     * 用任意查找表批量评估一列数值
+     *
+     * @param lookupTable 指标集查找表
+     * @param values 数值列
+     * @param ordinals 输出: 区间序号列
+     * @param parallel 是否并行分区统计
+     * @return 指标集直方图
+     * @throws NullPointerException 当 lookupTable 或任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致时
+     */
+    public static HealthMetricHistogram assess( HealthMetricsLookupTable lookupTable, double[] values, byte[] ordinals, boolean parallel ){
+        Objects.requireNonNull( lookupTable, "参数 lookupTable( 指标集查找表 )不能为 null" );
+        validateColumns( values, ordinals );
+
+        HealthMetricsLookupTable[] lookupTables = { lookupTable };
+        int[][] shiftedCounts = classify( lookupTables, null, values, ordinals, parallel );
+        return toHistograms( lookupTables, shiftedCounts )[ 0 ];
+    }
+
+    /**
+     * 用按性别区分的两个查找表批量评估一列数值
+     *
+     * @param femaleLookupTable 女性指标集查找表
+     * @param maleLookupTable 男性指标集查找表
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param values 数值列
+     * @param ordinals 输出: 对应性别指标集的区间序号列
+     * @param parallel 是否并行分区统计
+     * @return 按性别代码排列的直方图: [ 女性指标集直方图, 男性指标集直方图 ]
+     * @throws NullPointerException 当任意查找表或任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或性别代码无效时
+     */
+    public static HealthMetricHistogram[] assess( HealthMetricsLookupTable femaleLookupTable, HealthMetricsLookupTable maleLookupTable,
+                                                  byte[] genderCodes, double[] values, byte[] ordinals, boolean parallel ){
+        Objects.requireNonNull( femaleLookupTable, "参数 femaleLookupTable( 女性指标集查找表 )不能为 null" );
+        Objects.requireNonNull( maleLookupTable, "参数 maleLookupTable( 男性指标集查找表 )不能为 null" );
+        validateColumns( values, ordinals );
+        BasicBodyParameterValidator.validateGender( genderCodes );
+        if ( genderCodes.length != values.length ){
+            throw new IllegalArgumentException(
+                    String.format( "参数错误: genderCodes 长度( %d )与 values 长度( %d )不一致", genderCodes.length, values.length )
+            );
+        }
+
+        HealthMetricsLookupTable[] lookupTables = new HealthMetricsLookupTable[ 2 ];
+        lookupTables[ Gender.FEMALE.getCode() ] = femaleLookupTable;
+        lookupTables[ Gender.MALE.getCode() ] = maleLookupTable;
+        int[][] shiftedCounts = classify( lookupTables, genderCodes, values, ordinals, parallel );
+        return toHistograms( lookupTables, shiftedCounts );
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    private static void validateColumns( double[] values, byte[] ordinals ){
+        Objects.requireNonNull( values, "参数 values( 数值列 )不能为 null" );
+        Objects.requireNonNull( ordinals, "参数 ordinals( 区间序号列 )不能为 null" );
+        if ( ordinals.length != values.length ){
+            throw new IllegalArgumentException(
+                    String.format( "参数错误: ordinals 长度( %d )与 values 长度( %d )不一致", ordinals.length, values.length )
+            );
+        }
+    }
+
+    /**
+     * 分类并统计带偏移的计数: shiftedCounts[ 查找表下标 ][ 0 ] 为不在有效范围内的个数, [ ordinal + 1 ] 为各区间人数
+     */
+    private static int[][] classify( HealthMetricsLookupTable[] lookupTables, byte[] genderCodes,
+                                     double[] values, byte[] ordinals, boolean parallel ){
+        PartitionTask task = new PartitionTask( lookupTables, genderCodes, values, ordinals, 0, values.length );
+        return ( parallel && values.length > PARTITION_SIZE ?
+                ForkJoinPool.commonPool().invoke( task ) :
+                task.classifyPartition() );
+    }
+
+    private static HealthMetricHistogram[] toHistograms( HealthMetricsLookupTable[] lookupTables, int[][] shiftedCounts ){
+        HealthMetricHistogram[] histograms = new HealthMetricHistogram[ lookupTables.length ];
+        for ( int i = 0; i < lookupTables.length; i++ ){
+            histograms[ i ] = new HealthMetricHistogram( lookupTables[ i ].getMetricsIndex() );
+            histograms[ i ].addShiftedCounts( shiftedCounts[ i ] );
+        }
+        return histograms;
+    }
+
+    /**
+     * 一个分区的分类任务, 行数超过 {@link #PARTITION_SIZE } 时对半拆分, 子任务的计数逐项相加
+     */
+    private static final class PartitionTask extends RecursiveTask< int[][] > {
+        private static final long serialVersionUID = 1L;
+
+        /** 查找表, 按性别代码排列( 不区分性别时只有一个 ) */
+        private final HealthMetricsLookupTable[] lookupTables;
+        /** 性别代码列, 不区分性别时为 null */
+        private final byte[] genderCodes;
+        private final double[] values;
+        private final byte[] ordinals;
+        private final int fromIndex;
+        private final int toIndex;
+
+        private PartitionTask( HealthMetricsLookupTable[] lookupTables, byte[] genderCodes,
+                               double[] values, byte[] ordinals, int fromIndex, int toIndex ){
+            this.lookupTables = lookupTables;
+            this.genderCodes = genderCodes;
+            this.values = values;
+            this.ordinals = ordinals;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        protected int[][] compute(){
+            if ( toIndex - fromIndex <= PARTITION_SIZE ){
+                return classifyPartition();
+            }
+            int middleIndex = ( fromIndex + toIndex ) >>> 1;
+            PartitionTask left = new PartitionTask( lookupTables, genderCodes, values, ordinals, fromIndex, middleIndex );
+            PartitionTask right = new PartitionTask( lookupTables, genderCodes, values, ordinals, middleIndex, toIndex );
+            left.fork();
+            int[][] rightCounts = right.compute();
+            int[][] leftCounts = left.join();
+            for ( int t = 0; t < leftCounts.length; t++ ){
+                for ( int k = 0; k < leftCounts[ t ].length; k++ ){
+                    leftCounts[ t ][ k ] += rightCounts[ t ][ k ];
+                }
+            }
+            return leftCounts;
+        }
+
+        /**
+         * 顺序分类当前分区
+         */
+        private int[][] classifyPartition(){
+            int[][] shiftedCounts = new int[ lookupTables.length ][];
+            for ( int t = 0; t < lookupTables.length; t++ ){
+                shiftedCounts[ t ] = new int[ lookupTables[ t ].getMetricsIndex().size() + 1 ];
+            }
+
+            if ( genderCodes == null ){
+                lookupTables[ 0 ].classify( values, fromIndex, toIndex, ordinals );
+                int[] counts = shiftedCounts[ 0 ];
+                for ( int i = fromIndex; i < toIndex; i++ ){
+                    counts[ ordinals[ i ] + 1 ]++;
+                }
+            } else {
+                for ( int i = fromIndex; i < toIndex; i++ ){
+                    int genderCode = genderCodes[ i ];
+                    int ordinal = lookupTables[ genderCode ].classify( values[ i ] );
+                    ordinals[ i ] = ( byte ) ordinal;
+                    shiftedCounts[ genderCode ][ ordinal + 1 ]++;
+                }
+            }
+            return shiftedCounts;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.github.existedname.healthcalculatorv3.service.analysis.metrics;
+
+import java.util.Objects;
+
+/**
+ * 指标集直方图: 统计一批数值落在指标集各区间( 如 BMI 的 {@code OBESITY_LEVEL_II } )的人数
+ * <pre>
+ *     1. 下标 = 区间序号( 枚举指标集即 ordinal ), 另外单独统计不在有效范围内的数值个数
+ *     2. 同一指标集的直方图可以合并( {@link #merge( HealthMetricHistogram ) } ), 供并行分区各自统计后汇总
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 19:10
+ */
+public final class HealthMetricHistogram {
+    // ==================== 实例变量 ====================
+    /** 直方图对应的指标集区间索引 */
+    private final HealthMetricsIndex metricsIndex;
+    /** 各区间的人数 */
+    private final int[] counts;
+    /** 不在有效范围内的数值个数 */
+    private int outOfRangeCount;
+
+
+    // ==================== 构造器 ====================
+    /**
+     * 创建空直方图
+     *
+     * @param metricsIndex 指标集区间索引
+     * @throws NullPointerException 当 metricsIndex 为 null 时
+     */
+    public HealthMetricHistogram( HealthMetricsIndex metricsIndex ){
+        this.metricsIndex = Objects.requireNonNull( metricsIndex, "参数 metricsIndex( 区间索引 )不能为 null" );
+        this.counts = new int[ metricsIndex.size() ];
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 记录一个分类结果
+     *
+     * @param ordinal 区间序号, {@link HealthMetricsIndex#OUT_OF_RANGE } 表示不在有效范围内
+     * @throws ArrayIndexOutOfBoundsException 当 ordinal 既不是有效序号也不是 OUT_OF_RANGE 时
+     */
+    public void record( int ordinal ){
+        if ( ordinal == HealthMetricsIndex.OUT_OF_RANGE ){
+            outOfRangeCount++;
+        } else {
+            counts[ ordinal ]++;
+        }
+    }
+
+    /**
+     * 把另一个直方图的计数累加到当前直方图
+     *
+     * @param other 同一指标集的直方图
+     * @return 当前直方图
+     * @throws NullPointerException 当 other 为 null 时
+     * @throws IllegalArgumentException 当两个直方图不属于同一指标集时
+     */
+    public HealthMetricHistogram merge( HealthMetricHistogram other ){
+        Objects.requireNonNull( other, "参数 other( 直方图 )不能为 null" );
+        if ( other.metricsIndex != metricsIndex ){
+            throw new IllegalArgumentException( "参数错误: 只能合并同一指标集的直方图" );
+        }
+        for ( int i = 0; i < counts.length; i++ ){
+            counts[ i ] += other.counts[ i ];
+        }
+        outOfRangeCount += other.outOfRangeCount;
+        return this;
+    }
+
+    /**
+     * @param ordinal 区间序号
+     * @return 该区间的人数
+     * @throws ArrayIndexOutOfBoundsException 当 ordinal 不在 [ 0, 区间数 ) 内时
+     */
+    public int getCount( int ordinal ){
+        return counts[ ordinal ];
+    }
+
+    /**
+     * @param metricsProvider 指标集成员, 如 {@code BMIMetrics.OBESITY_LEVEL_II }
+     * @return 该区间的人数
+     * @throws NullPointerException 当 metricsProvider 为 null 时
+     * @throws IllegalArgumentException 当 metricsProvider 不属于当前指标集时
+     */
+    public int getCount( HealthMetricsProvider metricsProvider ){
+        Objects.requireNonNull( metricsProvider, "参数 metricsProvider( 指标集成员 )不能为 null" );
+        for ( int i = 0; i < counts.length; i++ ){
+            if ( metricsIndex.getMetricsProvider( i ) == metricsProvider ){
+                return counts[ i ];
+            }
+        }
+        throw new IllegalArgumentException( String.format( "参数 metricsProvider = %s 不属于当前指标集", metricsProvider ) );
+    }
+
+    /**
+     * @return 各区间的人数( 副本, 下标为区间序号 )
+     */
+    public int[] getCounts(){
+        return counts.clone();
+    }
+
+    public int getOutOfRangeCount(){
+        return outOfRangeCount;
+    }
+
+    /**
+     * @return 记录的数值总数( 包括不在有效范围内的 )
+     */
+    public long getTotalCount(){
+        long total = outOfRangeCount;
+        for ( int count : counts ){
+            total += count;
+        }
+        return total;
+    }
+
+    public HealthMetricsIndex getMetricsIndex(){
+        return metricsIndex;
+    }
+
+    @Override
+    public String toString(){
+        StringBuilder sb = new StringBuilder( "HealthMetricHistogram{ " );
+        for ( int i = 0; i < counts.length; i++ ){
+            sb.append( metricsIndex.getMetricsProvider( i ) ).append( '=' ).append( counts[ i ] ).append( ", " );
+        }
+        return sb.append( "OUT_OF_RANGE=" ).append( outOfRangeCount ).append( " }" ).toString();
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 累加带偏移的计数( 下标 0 为不在有效范围内的个数, 下标 ordinal + 1 为各区间的人数 ), 供批量分类使用
+     */
+    void addShiftedCounts( int[] shiftedCounts ){
+        outOfRangeCount += shiftedCounts[ 0 ];
+        for ( int i = 0; i < counts.length; i++ ){
+            counts[ i ] += shiftedCounts[ i + 1 ];
+        }
+    }
+}
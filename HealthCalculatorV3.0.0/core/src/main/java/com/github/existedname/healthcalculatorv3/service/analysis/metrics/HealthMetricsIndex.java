@@ -0,0 +1,205 @@
+package com.github.existedname.healthcalculatorv3.service.analysis.metrics;
+
+import java.util.Objects;
+
+/**
+ * 指标集区间索引: 把一个指标集( 如 {@code BMIMetrics }、{@code MaleBFRMetrics } )的各区间编译为有序断点数组,
+ * 用二分查找把数值归入区间, 返回区间序号( 指标集为枚举时即枚举成员的 ordinal )
+ * <pre>
+ *     1. 半开区间: 第 i 个区间为 [ 第 i 个区间起点, 第 i + 1 个区间起点 ), 最后一个区间为闭区间 [ 起点, 终点 ];
+ *        原来相邻区间之间的空隙( 如 BMI 24.9 与 25.0 之间的 24.95 )归入前一个区间, 有效范围内的任意数值都有所属区间
+ *     2. 断点数组 = 第 1 ~ n-1 个区间的起点, 区间序号 = 断点中 <= value 的个数, 二分查找 O( log n ),
+ *        循环体只有条件赋值, 便于 JIT 生成无分支代码
+ *     3. 枚举指标集只编译一次( 按枚举类缓存 ), 单个数值的评估与批量分类共用同一个索引
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 18:10
+ */
+public final class HealthMetricsIndex {
+    // ==================== 常量 ====================
+    /** 数值不在指标集有效范围内时 {@link #classify( double ) } 的返回值 */
+    public static final int OUT_OF_RANGE = -1;
+
+
+    // ==================== 静态变量 ====================
+    /** 枚举指标集的索引缓存, 每个枚举类只编译一次 */
+    private static final ClassValue< HealthMetricsIndex > ENUM_INDEXES = new ClassValue<>() {
+        @Override
+        protected HealthMetricsIndex computeValue( Class< ? > type ){
+            return new HealthMetricsIndex( ( HealthMetricsProvider[] ) type.getEnumConstants() );
+        }
+    };
+
+
+    // ==================== 实例变量 ====================
+    /** 指标集成员( 按区间升序 ) */
+    private final HealthMetricsProvider[] metricsProviders;
+    /** 第 1 ~ n-1 个区间的起点( 严格递增 ) */
+    private final double[] breakpoints;
+    /** 有效范围下限( 第一个区间的起点 ) */
+    private final double lowerBound;
+    /** 有效范围上限( 最后一个区间的终点 ) */
+    private final double upperBound;
+
+
+    // ==================== 构造器 ====================
+    private HealthMetricsIndex( HealthMetricsProvider[] metricsProviders ){
+        Objects.requireNonNull( metricsProviders, "参数 metricsProviders( 指标集成员数组 )不能为 null" );
+        if ( metricsProviders.length == 0 ){
+            throw new IllegalArgumentException( "参数 metricsProviders( 指标集成员数组 )不能为空" );
+        }
+        this.metricsProviders = metricsProviders.clone();
+        this.breakpoints = new double[ metricsProviders.length - 1 ];
+        for ( int i = 1; i < metricsProviders.length; i++ ){
+            double previousLowerBound = metricsProviders[ i - 1 ].getAssessment().getLowerBound();
+            double currentLowerBound = metricsProviders[ i ].getAssessment().getLowerBound();
+            if ( ! ( previousLowerBound < currentLowerBound ) ){
+                throw new IllegalArgumentException(
+                        String.format( "参数错误: 指标集成员 %s 的区间起点( %s )必须大于前一个成员的区间起点( %s )",
+                                metricsProviders[ i ], currentLowerBound, previousLowerBound )
+                );
+            }
+            breakpoints[ i - 1 ] = currentLowerBound;
+        }
+        this.lowerBound = metricsProviders[ 0 ].getAssessment().getLowerBound();
+        this.upperBound = metricsProviders[ metricsProviders.length - 1 ].getAssessment().getUpperBound();
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 获取枚举指标集的索引( 首次调用时编译, 之后直接返回缓存 )
+     *
+     * @param metricsClass 指标集枚举类, 如 {@code BMIMetrics.class }
+     * @return 区间索引
+     * @param <E> 指标集枚举类型
+     * @throws NullPointerException 当 metricsClass 为 null 时
+     * @throws IllegalArgumentException 当枚举成员为空或区间起点不是严格递增时
+     */
+    public static < E extends Enum< E > & HealthMetricsProvider > HealthMetricsIndex of( Class< E > metricsClass ){
+        Objects.requireNonNull( metricsClass, "参数 metricsClass( 指标集枚举类 )不能为 null" );
+        return ENUM_INDEXES.get( metricsClass );
+    }
+
+    /**
+     * 获取指标集成员数组的索引
+     * <pre>
+     *     数组恰好是某个枚举指标集的全部成员( 如 {@code BMIMetrics.values() } )时返回该枚举的缓存索引,
+     *     否则按数组顺序编译一个新索引
+     * </pre>
+     *
+     * @param metricsProviders 指标集成员( 按区间升序 )
+     * @return 区间索引
+     * @throws NullPointerException 当 metricsProviders 为 null 时
+     * @throws IllegalArgumentException 当数组为空或区间起点不是严格递增时
+     */
+    public static HealthMetricsIndex of( HealthMetricsProvider[] metricsProviders ){
+        Objects.requireNonNull( metricsProviders, "参数 metricsProviders( 指标集成员数组 )不能为 null" );
+        if ( metricsProviders.length > 0 && metricsProviders[ 0 ] instanceof Enum< ? > first ){
+            HealthMetricsIndex cached = ENUM_INDEXES.get( first.getDeclaringClass() );
+            if ( isSameMembers( cached.metricsProviders, metricsProviders ) ){
+                return cached;
+            }
+        }
+        return new HealthMetricsIndex( metricsProviders );
+    }
+
+    /**
+     * 把数值归入区间
+     *
+     * @param value 数值
+     * @return 区间序号( 枚举指标集即 ordinal ), 不在有效范围内( 包括 NaN )时返回 {@link #OUT_OF_RANGE }
+     */
+    public int classify( double value ){
+        if ( ! ( lowerBound <= value && value <= upperBound ) ){
+            return OUT_OF_RANGE;
+        }
+        return countBreakpointsNotAbove( value );
+    }
+
+    /**
+     * @param value 数值
+     * @return 数值是否在指标集的有效范围[ 下限, 上限 ]内
+     */
+    public boolean isInRange( double value ){
+        return ( lowerBound <= value && value <= upperBound );
+    }
+
+    /**
+     * 获取区间序号对应的指标集成员
+     *
+     * @param index 区间序号
+     * @return 指标集成员
+     * @throws ArrayIndexOutOfBoundsException 当 index 不在 [ 0, 区间数 ) 内时
+     */
+    public HealthMetricsProvider getMetricsProvider( int index ){
+        return metricsProviders[ index ];
+    }
+
+    /**
+     * 获取区间序号对应的评估
+     *
+     * @param index 区间序号
+     * @return 该区间的评估
+     * @throws ArrayIndexOutOfBoundsException 当 index 不在 [ 0, 区间数 ) 内时
+     */
+    public HealthMetricIntervalAssessment getAssessment( int index ){
+        return metricsProviders[ index ].getAssessment();
+    }
+
+    /**
+     * @return 区间数
+     */
+    public int size(){
+        return metricsProviders.length;
+    }
+
+    public double getLowerBound(){
+        return lowerBound;
+    }
+
+    public double getUpperBound(){
+        return upperBound;
+    }
+
+    /**
+     * @return 第 1 ~ n-1 个区间的起点( 副本 )
+     */
+    public double[] getBreakpoints(){
+        return breakpoints.clone();
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 统计断点中 <= value 的个数( upper bound ), 每轮把查找范围减半, 只做条件赋值
+     */
+    private int countBreakpointsNotAbove( double value ){
+        double[] points = breakpoints;
+        int length = points.length;
+        if ( length == 0 ){
+            return 0;
+        }
+        int base = 0;
+        while ( length > 1 ){
+            int half = length >>> 1;
+            base = ( points[ base + half - 1 ] <= value ) ? base + half : base;
+            length -= half;
+        }
+        return base + ( points[ base ] <= value ? 1 : 0 );
+    }
+
+    private static boolean isSameMembers( HealthMetricsProvider[] expected, HealthMetricsProvider[] actual ){
+        if ( expected.length != actual.length ){
+            return false;
+        }
+        for ( int i = 0; i < expected.length; i++ ){
+            if ( expected[ i ] != actual[ i ] ){
+                return false;
+            }
+        }
+        return true;
+    }
+}
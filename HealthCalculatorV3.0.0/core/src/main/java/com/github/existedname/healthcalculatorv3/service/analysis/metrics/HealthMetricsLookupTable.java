@@ -0,0 +1,246 @@
+package com.github.existedname.healthcalculatorv3.service.analysis.metrics;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BodyMetric;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 指标集量化查找表: 把数值量化到网格后直接查表得到区间序号, 单个数值 O( 1 )
+ * <pre>
+ *     1. 网格: 先选能让所有断点落在网格上的最粗网格( 如 BMI 0.1、BMR/TDEE 1 kcal、WHR 0.01 ),
+ *        单元格数不超过 4096 时再逐级细化到 1/10, 降低边界单元格的占比;
+ *        查找表覆盖身体指标( {@link BodyMetric } )的有效范围[ 最小值, 最大值 ]
+ *     2. 查找表 byte[]: 第 k 个单元格 = ( int )( ( value - 最小值 ) * 网格倒数 ), 存放该单元格内数值所属的区间序号;
+ *        断点所在的单元格及其左右相邻单元格标记为边界单元格( {@link #BOUNDARY_CELL } ),
+ *        只有落在边界单元格内的数值才回退到 {@link HealthMetricsIndex } 精确比较, 避免浮点舍入把数值划到断点另一侧
+ *     3. 分类结果与 {@link HealthMetricsIndex#classify( double ) } 逐个一致, 批量分类只是一个查表循环
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 18:40
+ */
+public final class HealthMetricsLookupTable {
+    // ==================== 常量 ====================
+    /** 边界单元格标记: 需要回退到精确比较 */
+    public static final byte BOUNDARY_CELL = -1;
+    /** 候选网格倒数( 依次尝试 1、0.1、0.01、0.001 的网格 ) */
+    private static final int[] CANDIDATE_SCALES = { 1, 10, 100, 1000 };
+    /** 判断断点是否落在网格上的容差 */
+    private static final double GRID_TOLERANCE = 1e-9;
+    /** 细化网格时单元格数的上限( 单元格太粗会让边界单元格占比过高, 太细又浪费内存 ) */
+    private static final int MAX_REFINED_CELL_COUNT = 1 << 12;
+
+
+    // ==================== 静态变量 ====================
+    /** 枚举指标集的查找表缓存: 指标集枚举类 → 身体指标 → 查找表 */
+    private static final Map< Class< ? >, Map< BodyMetric, HealthMetricsLookupTable > > ENUM_TABLES = new ConcurrentHashMap<>();
+
+
+    // ==================== 实例变量 ====================
+    /** 精确比较使用的区间索引 */
+    private final HealthMetricsIndex metricsIndex;
+    /** 查找表覆盖的身体指标 */
+    private final BodyMetric bodyMetric;
+    /** 查找表起点( 身体指标的最小值 ) */
+    private final double tableMinValue;
+    /** 网格倒数: 每单位数值对应的单元格数 */
+    private final int scale;
+    /** 单元格 → 区间序号, 边界单元格为 {@link #BOUNDARY_CELL } */
+    private final byte[] cells;
+
+
+    // ==================== 构造器 ====================
+    private HealthMetricsLookupTable( HealthMetricsIndex metricsIndex, BodyMetric bodyMetric ){
+        if ( metricsIndex.size() > Byte.MAX_VALUE ){
+            throw new IllegalArgumentException(
+                    String.format( "参数错误: 区间数( %d )超过查找表上限 %d", metricsIndex.size(), Byte.MAX_VALUE )
+            );
+        }
+        this.metricsIndex = metricsIndex;
+        this.bodyMetric = bodyMetric;
+        this.tableMinValue = bodyMetric.getMinValue();
+        double[] breakpoints = metricsIndex.getBreakpoints();
+        this.scale = chooseScale( breakpoints, bodyMetric.getMaxValue() - tableMinValue );
+        int cellCount = countCells( bodyMetric.getMaxValue() - tableMinValue, scale );
+        this.cells = new byte[ cellCount ];
+
+        for ( int cell = 0; cell < cellCount; cell++ ){
+            double cellMidValue = tableMinValue + ( cell + 0.5 ) / scale;
+            cells[ cell ] = ( byte ) metricsIndex.classify( cellMidValue );  // 超出指标集范围时为 OUT_OF_RANGE( 同样回退 )
+        }
+        for ( double breakpoint : breakpoints ){
+            int breakpointCell = ( int ) Math.floor( ( breakpoint - tableMinValue ) * scale );
+            for ( int cell = breakpointCell - 1; cell <= breakpointCell + 1; cell++ ){
+                if ( 0 <= cell && cell < cellCount ){
+                    cells[ cell ] = BOUNDARY_CELL;
+                }
+            }
+        }
+        // 指标集范围的两端同样需要精确比较
+        markBoundaryCell( metricsIndex.getLowerBound() );
+        markBoundaryCell( metricsIndex.getUpperBound() );
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 获取枚举指标集的查找表( 每组 指标集枚举类 + 身体指标 首次调用时编译, 之后直接返回缓存 )
+     *
+     * @param metricsClass 指标集枚举类, 如 {@code BMIMetrics.class }
+     * @param bodyMetric 指标集对应的身体指标, 如 {@code HealthMetric.BMI }
+     * @return 量化查找表
+     * @param <E> 指标集枚举类型
+     * @throws NullPointerException 当 metricsClass 或 bodyMetric 为 null 时
+     * @throws IllegalArgumentException 当区间起点不是严格递增或区间数超过 127 时
+     */
+    public static < E extends Enum< E > & HealthMetricsProvider > HealthMetricsLookupTable of( Class< E > metricsClass, BodyMetric bodyMetric ){
+        Objects.requireNonNull( metricsClass, "参数 metricsClass( 指标集枚举类 )不能为 null" );
+        Objects.requireNonNull( bodyMetric, "参数 bodyMetric( 身体指标 )不能为 null" );
+        return ENUM_TABLES.computeIfAbsent( metricsClass, type -> new ConcurrentHashMap<>() )
+                .computeIfAbsent( bodyMetric, metric -> new HealthMetricsLookupTable( HealthMetricsIndex.of( metricsClass ), metric ) );
+    }
+
+    /**
+     * 为任意区间索引编译查找表( 不缓存 )
+     *
+     * @param metricsIndex 区间索引
+     * @param bodyMetric 指标集对应的身体指标
+     * @return 量化查找表
+     * @throws NullPointerException 当 metricsIndex 或 bodyMetric 为 null 时
+     * @throws IllegalArgumentException 当区间数超过 127 时
+     */
+    public static HealthMetricsLookupTable of( HealthMetricsIndex metricsIndex, BodyMetric bodyMetric ){
+        Objects.requireNonNull( metricsIndex, "参数 metricsIndex( 区间索引 )不能为 null" );
+        Objects.requireNonNull( bodyMetric, "参数 bodyMetric( 身体指标 )不能为 null" );
+        return new HealthMetricsLookupTable( metricsIndex, bodyMetric );
+    }
+
+    /**
+     * 把数值归入区间
+     *
+     * @param value 数值
+     * @return 区间序号( 枚举指标集即 ordinal ), 不在有效范围内( 包括 NaN )时返回 {@link HealthMetricsIndex#OUT_OF_RANGE }
+     */
+    public int classify( double value ){
+        double offset = ( value - tableMinValue ) * scale;
+        if ( offset >= 0 && offset < cells.length ){
+            byte ordinal = cells[ ( int ) offset ];
+            if ( ordinal != BOUNDARY_CELL ){
+                return ordinal;
+            }
+        }
+        return metricsIndex.classify( value );
+    }
+
+    /**
+     * 批量把一列数值归入区间
+     *
+     * @param values 数值列
+     * @param ordinals 输出: 区间序号列( 长度不小于 values ), 不在有效范围内的数值写入 {@link HealthMetricsIndex#OUT_OF_RANGE }
+     * @throws NullPointerException 当 values 或 ordinals 为 null 时
+     * @throws IllegalArgumentException 当 ordinals 长度小于 values 时
+     */
+    public void classify( double[] values, byte[] ordinals ){
+        Objects.requireNonNull( values, "参数 values( 数值列 )不能为 null" );
+        Objects.requireNonNull( ordinals, "参数 ordinals( 区间序号列 )不能为 null" );
+        if ( ordinals.length < values.length ){
+            throw new IllegalArgumentException(
+                    String.format( "参数错误: ordinals 长度( %d )小于 values 长度( %d )", ordinals.length, values.length )
+            );
+        }
+        classify( values, 0, values.length, ordinals );
+    }
+
+    /**
+     * 批量把一列数值的 [ fromIndex, toIndex ) 部分归入区间( 不检验参数, 供批量分析按分区调用 )
+     *
+     * @param values 数值列
+     * @param fromIndex 起始下标( 含 )
+     * @param toIndex 结束下标( 不含 )
+     * @param ordinals 输出: 区间序号列, 与 values 下标一一对应
+     */
+    public void classify( double[] values, int fromIndex, int toIndex, byte[] ordinals ){
+        byte[] table = cells;
+        double minValue = tableMinValue;
+        int cellScale = scale;
+        for ( int i = fromIndex; i < toIndex; i++ ){
+            double value = values[ i ];
+            double offset = ( value - minValue ) * cellScale;
+            byte ordinal = ( offset >= 0 && offset < table.length ) ? table[ ( int ) offset ] : BOUNDARY_CELL;
+            ordinals[ i ] = ( ordinal != BOUNDARY_CELL ) ? ordinal : ( byte ) metricsIndex.classify( value );
+        }
+    }
+
+    public HealthMetricsIndex getMetricsIndex(){
+        return metricsIndex;
+    }
+
+    public BodyMetric getBodyMetric(){
+        return bodyMetric;
+    }
+
+    /**
+     * @return 网格大小, 如 0.1
+     */
+    public double getGridSize(){
+        return 1.0 / scale;
+    }
+
+    /**
+     * @return 单元格数
+     */
+    public int getCellCount(){
+        return cells.length;
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 选择能让所有断点都落在网格上的最粗网格( 都不满足时使用最细的候选网格, 仍然正确, 只是边界单元格更多 ),
+     * 再在单元格数不超过 {@link #MAX_REFINED_CELL_COUNT } 时逐级细化
+     */
+    private static int chooseScale( double[] breakpoints, double range ){
+        int alignedScale = findAlignedScale( breakpoints );
+        while ( countCells( range, alignedScale * 10 ) <= MAX_REFINED_CELL_COUNT ){
+            alignedScale *= 10;
+        }
+        return alignedScale;
+    }
+
+    private static int findAlignedScale( double[] breakpoints ){
+        for ( int candidateScale : CANDIDATE_SCALES ){
+            boolean aligned = true;
+            for ( double breakpoint : breakpoints ){
+                double scaled = breakpoint * candidateScale;
+                if ( Math.abs( scaled - Math.rint( scaled ) ) > GRID_TOLERANCE * Math.max( 1.0, Math.abs( scaled ) ) ){
+                    aligned = false;
+                    break;
+                }
+            }
+            if ( aligned ){
+                return candidateScale;
+            }
+        }
+        return CANDIDATE_SCALES[ CANDIDATE_SCALES.length - 1 ];
+    }
+
+    private static int countCells( double range, int scale ){
+        return ( int ) Math.ceil( range * scale ) + 1;
+    }
+
+    private void markBoundaryCell( double bound ){
+        double offset = Math.floor( ( bound - tableMinValue ) * scale );
+        if ( offset < -1 || offset > cells.length ){
+            return;
+        }
+        int boundCell = ( int ) offset;
+        for ( int cell = boundCell - 1; cell <= boundCell + 1; cell++ ){
+            if ( 0 <= cell && cell < cells.length ){
+                cells[ cell ] = BOUNDARY_CELL;
+            }
+        }
+    }
+}
@@ -7,7 +7,7 @@ import com.github.existedname.healthcalculatorv3.util.ValueFormatter;
 import java.util.Objects;
 
 /**
- *
+ * 指标集接口, 由各指标集枚举类实现, 每个枚举成员对应一个数值区间的评估
  *
  * @author <a href="https://github.com/existed-name"> existed-name </a>
  * @since 3.0.0
@@ -58,6 +58,10 @@ public interface HealthMetricsProvider {
 
     /**
      * 根据身体参数的数值查找其所在区间对应的评估
+     * <pre>
+     *     3.1.0 起通过 {@link HealthMetricsIndex } 二分查找: 区间按半开区间[ 起点, 下一区间起点 )划分,
+     *     相邻区间之间的空隙归入前一个区间, 恰好等于某个区间起点的数值归入该区间
+     * </pre>
      *
      * @param metricsProviders 身体参数指标集的所有枚举成员
      * @param nameAbbreviation 该身体参数的简称
@@ -75,10 +79,10 @@ public interface HealthMetricsProvider {
         Objects.requireNonNull( nameAbbreviation, "参数 nameAbbreviation( 健康指标的简称 )不能为 null" );
         Objects.requireNonNull( formattedClosedRange, "参数 formattedClosedRange( 健康指标的格式化有效范围 )不能为 null" );
 
-        for ( HealthMetricsProvider metricsProvider : metricsProviders ){
-            if ( metricsProvider.getAssessment().isInRange( value ) ){
-                return metricsProvider.getAssessment();
-            }
+        HealthMetricsIndex metricsIndex = HealthMetricsIndex.of( metricsProviders );
+        int index = metricsIndex.classify( value );
+        if ( index != HealthMetricsIndex.OUT_OF_RANGE ){
+            return metricsIndex.getAssessment( index );
         }
         throw new IllegalArgumentException(
                 String.format( "参数 value = %s, 不能超过 %s 的有效范围%s",
@@ -0,0 +1,421 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * 内存映射的档案 CSV 读取器: 用 {@link FileChannel#map } 把文件按窗口映射到内存, 直接在字节上查找分隔符并解析数值
+ * <pre>
+ *     1. 每次映射 {@value #WINDOW_SIZE } 字节的窗口( 单个 MappedByteBuffer 不能超过 2 GB ), 窗口末尾不完整的行
+ *        从该行行首重新映射下一个窗口; 读取过程不经过 Reader/String, 不把文件内容复制到堆内存
+ *     2. 解析不创建对象:
+ *        (1) 性别: 与 "男"( E7 94 B7 )、"女"( E5 A5 B3 )的 UTF-8 字节直接比较, "Male"/"Female" 按 ASCII 不区分大小写比较
+ *        (2) 年龄: 逐位累加十进制数字, 超出 int 范围时为无法识别; 含非 ASCII 字符时才回退到 {@link Integer#parseInt( String ) }
+ *        (3) 小数: 有效数字不超过 {@value #MAX_FAST_DIGITS } 位、小数位不超过 22 位时, 整数尾数 ÷ 10 的整数次幂一次舍入得到结果,
+ *            两个操作数都是精确的 double, 结果与 {@link Double#parseDouble( String ) } 一致;
+ *            其他写法( 科学计数法、超长数字、非数字 )才回退到 {@link Double#parseDouble( String ) }
+ *     3. 行结束符、空白与空行的规则见 {@link ProfileCsvFormat }, 解析规则( 表头、字节顺序标记、缺失列 )与 {@link ProfileCsvReader } 一致;
+ *        也可以只读取文件中以行首开始的一段, 供 {@link ProfileBatchProcessor } 分块并行读取
+ *     4. 映射的内存在 MappedByteBuffer 被回收时才释放( JDK 17 没有公开的解除映射方法 ), 关闭读取器只关闭文件通道
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 21:50
+ */
+public final class MappedProfileCsvReader implements ProfileBatchReader {
+    // ==================== 常量 ====================
+    /** 映射窗口大小( 字节数 ), 也是一行的最大长度 */
+    public static final int WINDOW_SIZE = 1 << 26;
+    /** 快速解析小数时的最大有效数字位数( 尾数不超过 2^53 ) */
+    private static final int MAX_FAST_DIGITS = 15;
+    /** 10 的 0 到 22 次幂, 都能用 double 精确表示 */
+    private static final double[] POWERS_OF_TEN = new double[ 23 ];
+    /** "男"、"女" 的 UTF-8 编码 */
+    private static final byte[] MALE_CHINESE_NAME = Gender.MALE.getChineseName().getBytes( StandardCharsets.UTF_8 );
+    private static final byte[] FEMALE_CHINESE_NAME = Gender.FEMALE.getChineseName().getBytes( StandardCharsets.UTF_8 );
+    /** "male"、"female" 的 ASCII 编码( 小写 ) */
+    private static final byte[] MALE_ENGLISH_NAME = Gender.MALE.getEnglishName().toLowerCase().getBytes( StandardCharsets.US_ASCII );
+    private static final byte[] FEMALE_ENGLISH_NAME = Gender.FEMALE.getEnglishName().toLowerCase().getBytes( StandardCharsets.US_ASCII );
+    /** UTF-8 字节顺序标记 */
+    private static final byte[] BYTE_ORDER_MARK = { ( byte ) 0xEF, ( byte ) 0xBB, ( byte ) 0xBF };
+
+    static {
+        POWERS_OF_TEN[ 0 ] = 1;
+        for ( int i = 1; i < POWERS_OF_TEN.length; i++ ){
+            POWERS_OF_TEN[ i ] = POWERS_OF_TEN[ i - 1 ] * 10;
+        }
+    }
+
+
+    // ==================== 实例变量 ====================
+    private final FileChannel channel;
+    /** 读取范围的结束位置( 不含 ) */
+    private final long end;
+    /** 下一个未读字节在文件中的位置 */
+    private long position;
+    /** 当前窗口 */
+    private MappedByteBuffer window;
+    /** 当前窗口起点在文件中的位置 */
+    private long windowStart;
+    /** 下一份档案的行号 */
+    private long nextRowNumber;
+    /** 是否还没有读到第一个非空行( 只有从文件开头读取时才需要识别字节顺序标记和表头 ) */
+    private boolean beforeFirstLine;
+    /** {@link #nextLine() } 找到的数据行在当前窗口中的范围 [ lineStart, lineEnd ) */
+    private int lineStart;
+    private int lineEnd;
+
+
+    // ==================== 构造器 ====================
+    /**
+     * 读取文件通道中 [ start, end ) 范围内的档案
+     *
+     * @param start 起始位置, 必须是行首; 不为 0 时不识别字节顺序标记和表头
+     * @param firstRowNumber 范围内第一份档案的行号
+     */
+    MappedProfileCsvReader( FileChannel channel, long start, long end, long firstRowNumber ){
+        this.channel = channel;
+        this.position = start;
+        this.end = end;
+        this.windowStart = start;
+        this.nextRowNumber = firstRowNumber;
+        this.beforeFirstLine = ( start == 0 );
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 打开档案文件
+     *
+     * @param path 档案 CSV 文件( UTF-8 编码 )
+     * @return 内存映射的读取器
+     * @throws NullPointerException 当 path 为 null 时
+     * @throws IOException 当打开文件失败时
+     */
+    public static MappedProfileCsvReader open( Path path ) throws IOException{
+        Objects.requireNonNull( path, "参数 path( 档案文件路径 )不能为 null" );
+        return open( path, 0, Long.MAX_VALUE, 1 );
+    }
+
+    /**
+     * 打开档案文件中 [ start, end ) 范围内的档案( end 超过文件大小时读到文件末尾 ), 每个读取器使用独立的文件通道
+     *
+     * @param start 起始位置, 必须是行首; 不为 0 时不识别字节顺序标记和表头
+     * @param firstRowNumber 范围内第一份档案的行号
+     */
+    static MappedProfileCsvReader open( Path path, long start, long end, long firstRowNumber ) throws IOException{
+        FileChannel channel = FileChannel.open( path, StandardOpenOption.READ );
+        return new MappedProfileCsvReader( channel, start, Math.min( end, channel.size() ), firstRowNumber );
+    }
+
+    @Override
+    public boolean read( ProfileBatch batch ) throws IOException{
+        Objects.requireNonNull( batch, "参数 batch( 档案批次 )不能为 null" );
+        batch.clear( nextRowNumber );
+        while ( !batch.isFull() && nextLine() ){
+            parseLine( window, lineStart, lineEnd, batch );
+            nextRowNumber++;
+        }
+        return batch.getRowCount() > 0;
+    }
+
+    /**
+     * 跳过档案, 只按与 {@link #read( ProfileBatch ) } 相同的规则数行, 不解析字段
+     *
+     * @param maxRowCount 最多跳过的档案数
+     * @return 跳过的档案数
+     * @throws IOException 当读取失败时
+     */
+    long skipRows( long maxRowCount ) throws IOException{
+        long rowCount = 0;
+        while ( rowCount < maxRowCount && nextLine() ){
+            rowCount++;
+        }
+        nextRowNumber += rowCount;
+        return rowCount;
+    }
+
+    /**
+     * @return 下一个未读字节在文件中的位置( 总是行首, 读完时为范围的结束位置 )
+     */
+    long getPosition(){
+        return Math.min( position, end );
+    }
+
+    @Override
+    public void close() throws IOException{
+        window = null;
+        channel.close();
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 从 position 开始映射下一个窗口
+     */
+    private void mapWindow() throws IOException{
+        long size = Math.min( WINDOW_SIZE, end - position );
+        window = channel.map( FileChannel.MapMode.READ_ONLY, position, size );
+        windowStart = position;
+    }
+
+    /**
+     * 定位下一个数据行( 跳过空行和表头 ), 范围记录在 lineStart / lineEnd
+     *
+     * @return 没有更多数据行时返回 false
+     */
+    private boolean nextLine() throws IOException{
+        while ( position < end ){
+            if ( window == null || position >= windowStart + window.limit() ){
+                mapWindow();
+            }
+            MappedByteBuffer buffer = window;
+            int from = ( int ) ( position - windowStart );
+            int limit = buffer.limit();
+            int terminator = indexOfLineTerminator( buffer, from, limit );
+            // 窗口末尾的 "\r" 要看下一个字节才知道是不是 "\r\n", 与没有行结束符一样从行首重新映射
+            boolean complete = ( terminator >= 0 && ( terminator + 1 < limit || buffer.get( terminator ) == ProfileCsvFormat.LINE_SEPARATOR ) );
+            if ( !complete && windowStart + limit < end ){
+                if ( from == 0 ){
+                    throw new IOException( String.format( "文件位置 %d 处的一行超过 %d 字节", position, WINDOW_SIZE ) );
+                }
+                mapWindow();  // 不完整的行: 从行首重新映射
+                continue;
+            }
+            int to;
+            if ( terminator < 0 ){
+                to = limit;  // 最后一行没有行结束符
+                position = windowStart + limit;
+            } else {
+                to = terminator;
+                int next = terminator + 1;
+                if ( buffer.get( terminator ) == ProfileCsvFormat.CARRIAGE_RETURN && next < limit
+                        && buffer.get( next ) == ProfileCsvFormat.LINE_SEPARATOR ){
+                    next++;
+                }
+                position = windowStart + next;
+            }
+
+            if ( beforeFirstLine && startsWith( buffer, from, to, BYTE_ORDER_MARK ) ){
+                from += BYTE_ORDER_MARK.length;
+            }
+            if ( isBlank( buffer, from, to ) ) continue;
+            if ( beforeFirstLine ){
+                beforeFirstLine = false;
+                if ( isHeader( buffer, from, to ) ) continue;
+            }
+            lineStart = from;
+            lineEnd = to;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 把 [ lineStart, lineEnd ) 解析为批次的下一行
+     */
+    private static void parseLine( MappedByteBuffer buffer, int lineStart, int lineEnd, ProfileBatch batch ){
+        int row = batch.rowCount++;
+        int fieldStart = lineStart;
+        for ( int column = 0; column < ProfileCsvFormat.INPUT_COLUMN_COUNT; column++ ){
+            int fieldEnd = lineEnd;
+            if ( fieldStart <= lineEnd ){
+                fieldEnd = indexOf( buffer, ( byte ) ProfileCsvFormat.DELIMITER, fieldStart, lineEnd );
+                if ( fieldEnd < 0 ) fieldEnd = lineEnd;
+            } else {
+                fieldStart = lineEnd;  // 缺失的列
+            }
+            if ( column == 0 ){
+                batch.genderCodes[ row ] = parseGenderCode( buffer, fieldStart, fieldEnd );
+            } else if ( column == 1 ){
+                batch.ages[ row ] = parseAge( buffer, fieldStart, fieldEnd );
+            } else {
+                batch.parameterColumns[ ProfileCsvFormat.getInputParameter( column ).ordinal() ][ row ] =
+                        parseDouble( buffer, fieldStart, fieldEnd );
+            }
+            fieldStart = fieldEnd + 1;
+        }
+    }
+
+    /**
+     * 首行的性别、年龄都无法识别时视为表头
+     */
+    private static boolean isHeader( MappedByteBuffer buffer, int lineStart, int lineEnd ){
+        int genderEnd = indexOf( buffer, ( byte ) ProfileCsvFormat.DELIMITER, lineStart, lineEnd );
+        if ( genderEnd < 0 ) return parseGenderCode( buffer, lineStart, lineEnd ) < 0;
+        int ageEnd = indexOf( buffer, ( byte ) ProfileCsvFormat.DELIMITER, genderEnd + 1, lineEnd );
+        if ( ageEnd < 0 ) ageEnd = lineEnd;
+        return parseGenderCode( buffer, lineStart, genderEnd ) < 0
+                && parseAge( buffer, genderEnd + 1, ageEnd ) < 0;
+    }
+
+    /**
+     * @return 性别代码, 无法识别时为 -1
+     */
+    private static byte parseGenderCode( MappedByteBuffer buffer, int from, int to ){
+        while ( from < to && isWhitespace( buffer.get( from ) ) ) from++;
+        while ( to > from && isWhitespace( buffer.get( to - 1 ) ) ) to--;
+        if ( matches( buffer, from, to, MALE_CHINESE_NAME ) || matchesIgnoreCase( buffer, from, to, MALE_ENGLISH_NAME ) ){
+            return ( byte ) Gender.MALE.getCode();
+        }
+        if ( matches( buffer, from, to, FEMALE_CHINESE_NAME ) || matchesIgnoreCase( buffer, from, to, FEMALE_ENGLISH_NAME ) ){
+            return ( byte ) Gender.FEMALE.getCode();
+        }
+        return -1;
+    }
+
+    /**
+     * 与 {@link Integer#parseInt( String ) } 接受的写法一致( 可带正负号, 不允许小数点 )
+     *
+     * @return 年龄, 无法识别时为 -1
+     */
+    private static int parseAge( MappedByteBuffer buffer, int from, int to ){
+        while ( from < to && isWhitespace( buffer.get( from ) ) ) from++;
+        while ( to > from && isWhitespace( buffer.get( to - 1 ) ) ) to--;
+        int i = from;
+        boolean negative = false;
+        if ( i < to && ( buffer.get( i ) == '-' || buffer.get( i ) == '+' ) ){
+            negative = ( buffer.get( i ) == '-' );
+            i++;
+        }
+        if ( i == to ) return -1;
+        long limit = ( negative ? -( long ) Integer.MIN_VALUE : Integer.MAX_VALUE );
+        long value = 0;
+        for ( ; i < to; i++ ){
+            byte b = buffer.get( i );
+            if ( b < 0 ) return parseAgeSlowly( buffer, from, to );  // 全角数字等非 ASCII 数字
+            int digit = b - '0';
+            if ( digit < 0 || digit > 9 ) return -1;
+            value = value * 10 + digit;
+            if ( value > limit ) return -1;  // 与 Integer.parseInt 一样, 溢出时无法识别( 前导 0 不影响 )
+        }
+        return ( int ) ( negative ? -value : value );
+    }
+
+    /**
+     * 含非 ASCII 字符的年龄回退到 {@link Integer#parseInt( String ) }
+     */
+    private static int parseAgeSlowly( MappedByteBuffer buffer, int from, int to ){
+        byte[] bytes = new byte[ to - from ];
+        buffer.get( from, bytes );
+        try {
+            return Integer.parseInt( new String( bytes, StandardCharsets.UTF_8 ) );
+        } catch ( NumberFormatException e ){
+            return -1;
+        }
+    }
+
+    /**
+     * @return 数值, 空白或无法识别时为 NaN
+     */
+    private static double parseDouble( MappedByteBuffer buffer, int from, int to ){
+        while ( from < to && isWhitespace( buffer.get( from ) ) ) from++;
+        while ( to > from && isWhitespace( buffer.get( to - 1 ) ) ) to--;
+        if ( from == to ) return Double.NaN;
+
+        int i = from;
+        boolean negative = false;
+        if ( buffer.get( i ) == '-' || buffer.get( i ) == '+' ){
+            negative = ( buffer.get( i ) == '-' );
+            i++;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean hasDigit = false;
+        boolean hasPoint = false;
+        for ( ; i < to; i++ ){
+            byte b = buffer.get( i );
+            int digit = b - '0';
+            if ( 0 <= digit && digit <= 9 ){
+                hasDigit = true;
+                if ( mantissa != 0 || digit != 0 ){
+                    if ( ++significantDigits > MAX_FAST_DIGITS ) return parseDoubleSlowly( buffer, from, to );
+                }
+                mantissa = mantissa * 10 + digit;
+                if ( hasPoint ) fractionDigits++;
+            } else if ( b == '.' && !hasPoint ){
+                hasPoint = true;
+            } else {
+                return parseDoubleSlowly( buffer, from, to );  // 科学计数法、非数字等
+            }
+        }
+        if ( !hasDigit || fractionDigits >= POWERS_OF_TEN.length ){
+            return parseDoubleSlowly( buffer, from, to );
+        }
+        double value = ( fractionDigits == 0 ? mantissa : mantissa / POWERS_OF_TEN[ fractionDigits ] );
+        return ( negative ? -value : value );
+    }
+
+    /**
+     * 少见写法回退到 {@link Double#parseDouble( String ) }
+     */
+    private static double parseDoubleSlowly( MappedByteBuffer buffer, int from, int to ){
+        byte[] bytes = new byte[ to - from ];
+        buffer.get( from, bytes );
+        try {
+            return Double.parseDouble( new String( bytes, StandardCharsets.UTF_8 ) );
+        } catch ( NumberFormatException e ){
+            return Double.NaN;
+        }
+    }
+
+    private static int indexOf( MappedByteBuffer buffer, byte target, int from, int to ){
+        for ( int i = from; i < to; i++ ){
+            if ( buffer.get( i ) == target ) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @return [ from, to ) 中第一个行结束符的位置, 没有时为 -1
+     */
+    private static int indexOfLineTerminator( MappedByteBuffer buffer, int from, int to ){
+        for ( int i = from; i < to; i++ ){
+            if ( ProfileCsvFormat.isLineTerminator( buffer.get( i ) & 0xFF ) ) return i;
+        }
+        return -1;
+    }
+
+    private static boolean isWhitespace( byte b ){
+        return ProfileCsvFormat.isWhitespace( b & 0xFF );
+    }
+
+    private static boolean isBlank( MappedByteBuffer buffer, int from, int to ){
+        for ( int i = from; i < to; i++ ){
+            if ( !isWhitespace( buffer.get( i ) ) ) return false;
+        }
+        return true;
+    }
+
+    private static boolean startsWith( MappedByteBuffer buffer, int from, int to, byte[] prefix ){
+        return ( to - from >= prefix.length && matches( buffer, from, from + prefix.length, prefix ) );
+    }
+
+    private static boolean matches( MappedByteBuffer buffer, int from, int to, byte[] expected ){
+        if ( to - from != expected.length ) return false;
+        for ( int i = 0; i < expected.length; i++ ){
+            if ( buffer.get( from + i ) != expected[ i ] ) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param lowerCaseExpected 小写 ASCII 字母
+     */
+    private static boolean matchesIgnoreCase( MappedByteBuffer buffer, int from, int to, byte[] lowerCaseExpected ){
+        if ( to - from != lowerCaseExpected.length ) return false;
+        for ( int i = 0; i < lowerCaseExpected.length; i++ ){
+            if ( ( buffer.get( from + i ) | 0x20 ) != lowerCaseExpected[ i ] ) return false;
+        }
+        return true;
+    }
+}
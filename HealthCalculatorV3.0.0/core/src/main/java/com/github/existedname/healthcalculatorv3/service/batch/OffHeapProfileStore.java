@@ -0,0 +1,460 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * 堆外档案存储: 档案按 {@link ProfileRecordLayout } 的定长记录保存在堆外内存或内存映射文件中, 堆内存占用与人数无关
+ * <pre>
+ *     1. 记录按 {@value #RECORDS_PER_SEGMENT } 条一段分段保存( 单个 ByteBuffer 不能超过 2 GB ), 第 row 条记录位于
+ *        第 row / {@value #RECORDS_PER_SEGMENT } 段的 ( row % {@value #RECORDS_PER_SEGMENT } ) × {@value ProfileRecordLayout#RECORD_SIZE } 处
+ *     2. 三种创建方式:
+ *        (1) {@link #allocate( long ) }: 直接内存( ByteBuffer.allocateDirect ), 进程结束即丢失
+ *        (2) {@link #create( Path, long ) }: 新建文件并可读写映射, 文件头记录容量与行数
+ *        (3) {@link #open( Path, boolean ) }: 映射已有文件, 可只读
+ *     3. 访问方式: 按行随机访问( getXxx( row ) ), 或用 {@link Cursor } 顺序遍历
+ *     4. {@link #score() } 每次把 {@value ProfileBatch#DEFAULT_CAPACITY } 条记录的输入读入同一个 {@link ProfileBatch },
+ *        用 {@link ProfileBatchScorer } 按列计算后把健康指标及区间序号写回记录; 堆上只有这一个批次
+ *     5. JDK 17 没有公开的释放方法, 关闭后直接内存和映射在缓冲区被回收时才释放; 关闭后不能再访问
+ *     6. 非线程安全
+ * </pre>
+ * 文件格式( 小端字节序 ): {@value #HEADER_SIZE } 字节的文件头( 魔数 "HCPS"、版本、记录字节数、容量、行数 ), 之后是容量条记录
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 22:10
+ */
+public final class OffHeapProfileStore implements Closeable {
+    // ==================== 常量 ====================
+    /** 每段的记录数( 每段 128 MB ) */
+    public static final int RECORDS_PER_SEGMENT = 1 << 20;
+    /** 文件头字节数 */
+    public static final int HEADER_SIZE = 64;
+    /** 文件魔数 "HCPS"( Health Calculator Profile Store ) */
+    private static final int MAGIC = 0x53504348;
+    /** 文件格式版本 */
+    private static final int VERSION = 1;
+
+    /*      文件头各字段的偏移      */
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int RECORD_SIZE_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 16;
+    private static final int ROW_COUNT_OFFSET = 24;
+
+    private static final int SEGMENT_SHIFT = Integer.numberOfTrailingZeros( RECORDS_PER_SEGMENT );
+    private static final int SEGMENT_MASK = RECORDS_PER_SEGMENT - 1;
+
+
+    // ==================== 实例变量 ====================
+    /** 各段记录 */
+    private ByteBuffer[] segments;
+    /** 文件头( 直接内存存储为 null ) */
+    private MappedByteBuffer header;
+    /** 容量( 记录数 ) */
+    private final long capacity;
+    /** 是否可写 */
+    private final boolean writable;
+    /** 当前行数 */
+    private long size;
+
+
+    // ==================== 构造器 ====================
+    private OffHeapProfileStore( ByteBuffer[] segments, MappedByteBuffer header, long capacity, long size, boolean writable ){
+        this.segments = segments;
+        this.header = header;
+        this.capacity = capacity;
+        this.size = size;
+        this.writable = writable;
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 在直接内存中创建存储
+     *
+     * @param capacity 容量( 记录数 )
+     * @return 空的存储
+     * @throws IllegalArgumentException 当 capacity 为负数时
+     */
+    public static OffHeapProfileStore allocate( long capacity ){
+        validateCapacity( capacity );
+        ByteBuffer[] segments = new ByteBuffer[ segmentCount( capacity ) ];
+        for ( int i = 0; i < segments.length; i++ ){
+            segments[ i ] = ByteBuffer.allocateDirect( segmentSize( capacity, i ) ).order( ByteOrder.LITTLE_ENDIAN );
+        }
+        return new OffHeapProfileStore( segments, null, capacity, 0, true );
+    }
+
+    /**
+     * 新建存储文件( 已存在时覆盖 )并可读写映射
+     *
+     * @param path 存储文件
+     * @param capacity 容量( 记录数 ), 文件大小固定为 文件头 + 容量 × 记录字节数
+     * @return 空的存储
+     * @throws NullPointerException 当 path 为 null 时
+     * @throws IllegalArgumentException 当 capacity 为负数时
+     * @throws IOException 当创建或映射文件失败时
+     */
+    public static OffHeapProfileStore create( Path path, long capacity ) throws IOException{
+        Objects.requireNonNull( path, "参数 path( 存储文件路径 )不能为 null" );
+        validateCapacity( capacity );
+        try ( FileChannel channel = FileChannel.open( path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE ) ){
+            MappedByteBuffer header = channel.map( FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE );
+            header.order( ByteOrder.LITTLE_ENDIAN );
+            header.putInt( MAGIC_OFFSET, MAGIC );
+            header.putInt( VERSION_OFFSET, VERSION );
+            header.putInt( RECORD_SIZE_OFFSET, ProfileRecordLayout.RECORD_SIZE );
+            header.putLong( CAPACITY_OFFSET, capacity );
+            header.putLong( ROW_COUNT_OFFSET, 0 );
+            ByteBuffer[] segments = mapSegments( channel, FileChannel.MapMode.READ_WRITE, capacity );
+            return new OffHeapProfileStore( segments, header, capacity, 0, true );
+        }
+    }
+
+    /**
+     * 映射已有的存储文件
+     *
+     * @param path 存储文件
+     * @param writable 是否可写( 可写时可以继续追加记录、重新计算 )
+     * @return 存储
+     * @throws NullPointerException 当 path 为 null 时
+     * @throws IOException 当文件不是有效的存储文件, 或打开、映射失败时
+     */
+    public static OffHeapProfileStore open( Path path, boolean writable ) throws IOException{
+        Objects.requireNonNull( path, "参数 path( 存储文件路径 )不能为 null" );
+        FileChannel.MapMode mode = ( writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY );
+        try ( FileChannel channel = writable ?
+                FileChannel.open( path, StandardOpenOption.READ, StandardOpenOption.WRITE ) :
+                FileChannel.open( path, StandardOpenOption.READ ) ){
+            if ( channel.size() < HEADER_SIZE ){
+                throw new IOException( String.format( "%s 不是档案存储文件: 文件过短", path ) );
+            }
+            MappedByteBuffer header = channel.map( mode, 0, HEADER_SIZE );
+            header.order( ByteOrder.LITTLE_ENDIAN );
+            if ( header.getInt( MAGIC_OFFSET ) != MAGIC ){
+                throw new IOException( String.format( "%s 不是档案存储文件: 魔数不匹配", path ) );
+            }
+            if ( header.getInt( VERSION_OFFSET ) != VERSION || header.getInt( RECORD_SIZE_OFFSET ) != ProfileRecordLayout.RECORD_SIZE ){
+                throw new IOException( String.format( "%s 的版本( %d )或记录字节数( %d )不受支持",
+                        path, header.getInt( VERSION_OFFSET ), header.getInt( RECORD_SIZE_OFFSET ) ) );
+            }
+            long capacity = header.getLong( CAPACITY_OFFSET );
+            long size = header.getLong( ROW_COUNT_OFFSET );
+            if ( capacity < 0 || size < 0 || size > capacity
+                    || channel.size() < HEADER_SIZE + capacity * ProfileRecordLayout.RECORD_SIZE ){
+                throw new IOException( String.format( "%s 已损坏: 容量 %d, 行数 %d, 文件大小 %d", path, capacity, size, channel.size() ) );
+            }
+            ByteBuffer[] segments = mapSegments( channel, mode, capacity );
+            return new OffHeapProfileStore( segments, header, capacity, size, writable );
+        }
+    }
+
+    /**
+     * 追加一个用户的档案
+     *
+     * @param user 用户
+     * @return 新记录的行号
+     * @throws NullPointerException 当 user 为 null 时
+     * @throws IllegalStateException 当存储已满或只读时
+     */
+    public long append( User user ){
+        Objects.requireNonNull( user, "参数 user( 用户 )不能为 null" );
+        return append( user.getId(), user );
+    }
+
+    /**
+     * 追加一份档案, 保存档案中已缓存的健康指标数值( 不触发计算, 未缓存的为 NaN )
+     *
+     * @param id 用户编号
+     * @param profile 身体参数档案
+     * @return 新记录的行号
+     * @throws NullPointerException 当 profile 为 null 时
+     * @throws IllegalStateException 当存储已满或只读时
+     */
+    public long append( int id, UserBodyProfile profile ){
+        Objects.requireNonNull( profile, "参数 profile( 身体参数档案 )不能为 null" );
+        ensureWritable( 1 );
+        long row = size;
+        ProfileRecordLayout.write( segment( row ), offset( row ), id, profile );
+        setSize( row + 1 );
+        return row;
+    }
+
+    /**
+     * 从档案批次读取器批量追加档案; 用户编号为档案的行号, 健康指标为 NaN( 需要时调用 {@link #score() } )
+     *
+     * @param reader 档案批次读取器( 不关闭 )
+     * @return 追加的行数
+     * @throws NullPointerException 当 reader 为 null 时
+     * @throws IllegalStateException 当存储已满、只读或行号超过 int 范围时
+     * @throws IOException 当读取失败时
+     */
+    public long load( ProfileBatchReader reader ) throws IOException{
+        Objects.requireNonNull( reader, "参数 reader( 档案批次读取器 )不能为 null" );
+        ProfileBatch batch = new ProfileBatch();
+        long oldSize = size;
+        while ( reader.read( batch ) ){
+            int count = batch.rowCount;
+            ensureWritable( count );
+            if ( batch.firstRowNumber + count - 1 > Integer.MAX_VALUE ){
+                throw new IllegalStateException( String.format( "行号 %d 超过用户编号的范围", batch.firstRowNumber + count - 1 ) );
+            }
+            for ( int i = 0; i < count; i++ ){
+                long row = size + i;
+                ProfileRecordLayout.writeInputs( batch, i, ( int ) ( batch.firstRowNumber + i ), segment( row ), offset( row ) );
+            }
+            setSize( size + count );
+        }
+        return size - oldSize;
+    }
+
+    /**
+     * 按记录的输入重新计算全部行的健康指标及区间序号( 公式与 {@link ProfileBatchScorer } 一致, 无法计算的为 NaN / OUT_OF_RANGE )
+     *
+     * @throws IllegalStateException 当存储只读时
+     */
+    public void score(){
+        ensureWritable( 0 );
+        if ( size == 0 ) return;
+        ProfileBatch batch = new ProfileBatch( ( int ) Math.min( size, ProfileBatch.DEFAULT_CAPACITY ) );
+        for ( long from = 0; from < size; from += batch.getCapacity() ){
+            int count = ( int ) Math.min( batch.getCapacity(), size - from );
+            batch.clear( from + 1 );
+            batch.rowCount = count;
+            for ( int i = 0; i < count; i++ ){
+                ProfileRecordLayout.readInputs( segment( from + i ), offset( from + i ), batch, i );
+            }
+            ProfileBatchScorer.score( batch );
+            for ( int i = 0; i < count; i++ ){
+                ProfileRecordLayout.writeResults( batch, i, segment( from + i ), offset( from + i ) );
+            }
+        }
+    }
+
+    public long size(){
+        return size;
+    }
+
+    public long getCapacity(){
+        return capacity;
+    }
+
+    public int getId( long row ){
+        return segment( checkRow( row ) ).getInt( offset( row ) + ProfileRecordLayout.ID_OFFSET );
+    }
+
+    /**
+     * @return 性别代码( 女0 男1 ), 未知为 -1
+     */
+    public byte getGenderCode( long row ){
+        return segment( checkRow( row ) ).get( offset( row ) + ProfileRecordLayout.GENDER_CODE_OFFSET );
+    }
+
+    public int getAge( long row ){
+        return segment( checkRow( row ) ).getInt( offset( row ) + ProfileRecordLayout.AGE_OFFSET );
+    }
+
+    /**
+     * @param row 行号
+     * @param parameter 基本身体参数( AGE 返回年龄 )
+     * @return 参数值
+     * @throws NullPointerException 当 parameter 为 null 时
+     * @throws IndexOutOfBoundsException 当 row 不在 [ 0, size ) 内时
+     */
+    public double getParameter( long row, BasicBodyParameter parameter ){
+        Objects.requireNonNull( parameter, "参数 parameter( 基本身体参数 )不能为 null" );
+        if ( parameter == BasicBodyParameter.AGE ) return getAge( row );
+        return segment( checkRow( row ) ).getDouble( offset( row ) + ProfileRecordLayout.parameterOffset( parameter ) );
+    }
+
+    /**
+     * @param row 行号
+     * @param healthMetric 健康指标
+     * @return 健康指标数值
+     * @throws NullPointerException 当 healthMetric 为 null 时
+     * @throws IndexOutOfBoundsException 当 row 不在 [ 0, size ) 内时
+     */
+    public double getMetric( long row, HealthMetric healthMetric ){
+        return segment( checkRow( row ) ).getDouble( offset( row ) + ProfileRecordLayout.metricOffset( healthMetric ) );
+    }
+
+    /**
+     * @param row 行号
+     * @param healthMetric 健康指标
+     * @return 区间序号, 未计算或不在有效范围内时为 OUT_OF_RANGE
+     * @throws NullPointerException 当 healthMetric 为 null 时
+     * @throws IndexOutOfBoundsException 当 row 不在 [ 0, size ) 内时
+     */
+    public int getMetricOrdinal( long row, HealthMetric healthMetric ){
+        return segment( checkRow( row ) ).get( offset( row ) + ProfileRecordLayout.metricOrdinalOffset( healthMetric ) );
+    }
+
+    /**
+     * 把一条记录读入档案( 基本身体数据逐项写入, 不是 NaN 的健康指标视为已缓存 )
+     *
+     * @param row 行号
+     * @param profile 输出: 身体参数档案
+     * @throws NullPointerException 当 profile 为 null 时
+     * @throws IndexOutOfBoundsException 当 row 不在 [ 0, size ) 内时
+     */
+    public void read( long row, UserBodyProfile profile ){
+        ProfileRecordLayout.read( segment( checkRow( row ) ), offset( row ), profile );
+    }
+
+    /**
+     * @return 从第一行开始的顺序游标
+     */
+    public Cursor cursor(){
+        return new Cursor( this );
+    }
+
+    /**
+     * 把映射文件的修改写入磁盘( 直接内存存储不做任何事 )
+     */
+    public void force(){
+        if ( header == null || !writable ) return;
+        for ( ByteBuffer segment : segments ){
+            ( ( MappedByteBuffer ) segment ).force();
+        }
+        header.force();
+    }
+
+    /**
+     * 可写的映射文件先写入磁盘, 然后丢弃所有缓冲区的引用
+     */
+    @Override
+    public void close(){
+        if ( segments == null ) return;
+        force();
+        segments = null;
+        header = null;
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    private static void validateCapacity( long capacity ){
+        if ( capacity < 0 || segmentCount( capacity ) > Integer.MAX_VALUE - 8 ){
+            throw new IllegalArgumentException( String.format( "参数 capacity( 容量 ) = %d 超出范围", capacity ) );
+        }
+    }
+
+    private static int segmentCount( long capacity ){
+        return ( int ) Math.min( Integer.MAX_VALUE, ( capacity + RECORDS_PER_SEGMENT - 1 ) >>> SEGMENT_SHIFT );
+    }
+
+    /**
+     * @return 第 index 段的字节数( 最后一段可能不满 )
+     */
+    private static int segmentSize( long capacity, int index ){
+        long records = Math.min( RECORDS_PER_SEGMENT, capacity - ( ( long ) index << SEGMENT_SHIFT ) );
+        return ( int ) records * ProfileRecordLayout.RECORD_SIZE;
+    }
+
+    private static ByteBuffer[] mapSegments( FileChannel channel, FileChannel.MapMode mode, long capacity ) throws IOException{
+        ByteBuffer[] segments = new ByteBuffer[ segmentCount( capacity ) ];
+        for ( int i = 0; i < segments.length; i++ ){
+            long position = HEADER_SIZE + ( ( long ) i << SEGMENT_SHIFT ) * ProfileRecordLayout.RECORD_SIZE;
+            segments[ i ] = channel.map( mode, position, segmentSize( capacity, i ) ).order( ByteOrder.LITTLE_ENDIAN );
+        }
+        return segments;
+    }
+
+    private ByteBuffer segment( long row ){
+        if ( segments == null ) throw new IllegalStateException( "档案存储已关闭" );
+        return segments[ ( int ) ( row >>> SEGMENT_SHIFT ) ];
+    }
+
+    private static int offset( long row ){
+        return ( int ) ( row & SEGMENT_MASK ) * ProfileRecordLayout.RECORD_SIZE;
+    }
+
+    private long checkRow( long row ){
+        return Objects.checkIndex( row, size );
+    }
+
+    /**
+     * @param rowCount 即将追加的行数
+     */
+    private void ensureWritable( int rowCount ){
+        if ( !writable ){
+            throw new IllegalStateException( "档案存储为只读" );
+        }
+        if ( size + rowCount > capacity ){
+            throw new IllegalStateException( String.format( "档案存储已满( 容量 %d, 行数 %d, 追加 %d )", capacity, size, rowCount ) );
+        }
+    }
+
+    private void setSize( long size ){
+        this.size = size;
+        if ( header != null ) header.putLong( ROW_COUNT_OFFSET, size );
+    }
+
+
+    // ==================== 内部类 ====================
+    /**
+     * 顺序游标: 调用 {@link #next() } 移到下一行后读取当前行的字段
+     */
+    public static final class Cursor {
+        private final OffHeapProfileStore store;
+        private long row = -1;
+
+        private Cursor( OffHeapProfileStore store ){
+            this.store = store;
+        }
+
+        /**
+         * @return 移到下一行, 没有下一行时返回 false
+         */
+        public boolean next(){
+            if ( row + 1 >= store.size ) return false;
+            row++;
+            return true;
+        }
+
+        public long getRow(){
+            return row;
+        }
+
+        public int getId(){
+            return store.getId( row );
+        }
+
+        public byte getGenderCode(){
+            return store.getGenderCode( row );
+        }
+
+        public int getAge(){
+            return store.getAge( row );
+        }
+
+        public double getParameter( BasicBodyParameter parameter ){
+            return store.getParameter( row, parameter );
+        }
+
+        public double getMetric( HealthMetric healthMetric ){
+            return store.getMetric( row, healthMetric );
+        }
+
+        public int getMetricOrdinal( HealthMetric healthMetric ){
+            return store.getMetricOrdinal( row, healthMetric );
+        }
+
+        public void read( UserBodyProfile profile ){
+            store.read( row, profile );
+        }
+    }
+}
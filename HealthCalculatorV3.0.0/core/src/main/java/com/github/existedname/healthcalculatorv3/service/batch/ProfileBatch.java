@@ -0,0 +1,216 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.HealthMetricsIndex;
+
+import java.util.Objects;
+
+/**
+ * 档案批次: 一段连续档案的输入列与结果列, 容量固定, 逐批复用
+ * <pre>
+ *     1. 输入列: 性别代码列( 女0 男1, 无法识别为 -1 )、年龄列( 无法识别为 -1 ),
+ *        其余基本身体参数按 {@link BasicBodyParameter } 的 ordinal 各一列 double[]( 缺失或无法识别为 NaN )
+ *     2. 结果列: 按 {@link HealthMetric } 的 ordinal 各一列 double[] 数值与一列 byte[] 区间序号( 指标集枚举的 ordinal ),
+ *        另有腰围的区间序号列; 无法计算的结果为 NaN, 区间序号为 {@link HealthMetricsIndex#OUT_OF_RANGE }
+ *     3. 计算列: 输入列的副本, 由 {@link ProfileBatchScorer } 计算时把不合法的行替换为占位值后整列计算,
+ *        因此计算后输入列仍保留原始数据
+ *     4. 所有列的长度都等于容量, 只有前 rowCount 行有效
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 21:10
+ */
+public final class ProfileBatch {
+    // ==================== 常量 ====================
+    /** 默认容量( 行数 ) */
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+
+
+    // ==================== 实例变量 ====================
+    /** 容量 */
+    private final int capacity;
+    /** 当前行数 */
+    int rowCount;
+    /** 第一行在整个输入中的行号( 从 1 开始, 不含表头 ) */
+    long firstRowNumber = 1;
+
+    /*      输入列      */
+    /** 性别代码列 */
+    final byte[] genderCodes;
+    /** 年龄列 */
+    final int[] ages;
+    /** 其余基本身体参数列, 下标为 BasicBodyParameter 的 ordinal( AGE 对应的位置为 null ) */
+    final double[][] parameterColumns;
+
+    /*      计算列: 与输入列一一对应, 不合法的行为占位值      */
+    final byte[] scoringGenderCodes;
+    final int[] scoringAges;
+    final double[][] scoringParameterColumns;
+
+    /*      结果列      */
+    /** 健康指标列, 下标为 HealthMetric 的 ordinal */
+    final double[][] metricColumns;
+    /** 健康指标的区间序号列, 下标为 HealthMetric 的 ordinal */
+    final byte[][] metricOrdinals;
+    /** 腰围的区间序号列 */
+    final byte[] waistCircumferenceOrdinals;
+
+    /*      计算过程使用的位图( 第 row 行对应 words[ row / 64 ] 的第 row % 64 位 )      */
+    /** 计算所有指标都需要的参数( 性别、年龄、体重、身高 )都合法的行 */
+    final long[] validRows;
+    /** 计算过程中各指标的临时位图 */
+    final long[] scratchRows;
+    final long[] auxiliaryRows;
+
+
+    // ==================== 构造器 ====================
+    /**
+     * 创建默认容量( {@value #DEFAULT_CAPACITY } 行 )的批次
+     */
+    public ProfileBatch(){
+        this( DEFAULT_CAPACITY );
+    }
+
+    /**
+     * @param capacity 容量( 行数 )
+     * @throws IllegalArgumentException 当 capacity 不是正数时
+     */
+    public ProfileBatch( int capacity ){
+        if ( capacity <= 0 ){
+            throw new IllegalArgumentException( String.format( "参数 capacity( 容量 ) = %d 必须是正数", capacity ) );
+        }
+        this.capacity = capacity;
+        this.genderCodes = new byte[ capacity ];
+        this.ages = new int[ capacity ];
+        this.parameterColumns = new double[ BasicBodyParameter.values().length ][];
+        this.scoringGenderCodes = new byte[ capacity ];
+        this.scoringAges = new int[ capacity ];
+        this.scoringParameterColumns = new double[ BasicBodyParameter.values().length ][];
+        for ( BasicBodyParameter parameter : BasicBodyParameter.values() ){
+            if ( parameter != BasicBodyParameter.AGE ){
+                parameterColumns[ parameter.ordinal() ] = new double[ capacity ];
+                scoringParameterColumns[ parameter.ordinal() ] = new double[ capacity ];
+            }
+        }
+        this.metricColumns = new double[ HealthMetric.values().length ][ capacity ];
+        this.metricOrdinals = new byte[ HealthMetric.values().length ][ capacity ];
+        this.waistCircumferenceOrdinals = new byte[ capacity ];
+        int wordCount = ( capacity + Long.SIZE - 1 ) >>> 6;
+        this.validRows = new long[ wordCount ];
+        this.scratchRows = new long[ wordCount ];
+        this.auxiliaryRows = new long[ wordCount ];
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 追加一行
+     *
+     * @param genderCode 性别代码( 女0 男1 ), 无法识别时传 -1
+     * @param age 年龄, 无法识别时传 -1
+     * @param parameters 其余基本身体参数, 下标为 BasicBodyParameter 的 ordinal( AGE 对应的位置忽略 ), 缺失时为 NaN
+     * @throws NullPointerException 当 parameters 为 null 时
+     * @throws IllegalStateException 当批次已满时
+     */
+    public void addRow( byte genderCode, int age, double[] parameters ){
+        Objects.requireNonNull( parameters, "参数 parameters( 基本身体参数 )不能为 null" );
+        if ( isFull() ){
+            throw new IllegalStateException( String.format( "批次已满( 容量 %d )", capacity ) );
+        }
+        int row = rowCount++;
+        genderCodes[ row ] = genderCode;
+        ages[ row ] = age;
+        for ( int p = 0; p < parameterColumns.length; p++ ){
+            if ( parameterColumns[ p ] != null ){
+                parameterColumns[ p ][ row ] = parameters[ p ];
+            }
+        }
+    }
+
+    /**
+     * 清空批次, 下一批的第一行行号为 firstRowNumber
+     *
+     * @param firstRowNumber 下一批第一行的行号
+     */
+    public void clear( long firstRowNumber ){
+        this.rowCount = 0;
+        this.firstRowNumber = firstRowNumber;
+    }
+
+    public boolean isFull(){
+        return rowCount == capacity;
+    }
+
+    public int getCapacity(){
+        return capacity;
+    }
+
+    public int getRowCount(){
+        return rowCount;
+    }
+
+    public long getFirstRowNumber(){
+        return firstRowNumber;
+    }
+
+    /**
+     * @param row 行号( 批次内下标 )
+     * @return 该行计算所有指标都需要的参数是否合法( 计算后才有意义 )
+     * @throws IndexOutOfBoundsException 当 row 不在 [ 0, 行数 ) 内时
+     */
+    public boolean isValidRow( int row ){
+        Objects.checkIndex( row, rowCount );
+        return ( validRows[ row >>> 6 ] & ( 1L << row ) ) != 0;
+    }
+
+    /**
+     * @return 前 rowCount 行中计算所有指标都需要的参数不合法的行数( 计算后才有意义 )
+     */
+    public int countInvalidRows(){
+        int validCount = 0;
+        for ( long word : validRows ){
+            validCount += Long.bitCount( word );
+        }
+        return rowCount - validCount;
+    }
+
+    /**
+     * 获取健康指标的结果列( 内部数组, 调用方不要修改 )
+     *
+     * @param healthMetric 健康指标
+     * @return 结果列, 长度为容量, 前 rowCount 行有效
+     * @throws NullPointerException 当 healthMetric 为 null 时
+     */
+    public double[] getMetricColumn( HealthMetric healthMetric ){
+        Objects.requireNonNull( healthMetric, "参数 healthMetric( 健康指标 )不能为 null" );
+        return metricColumns[ healthMetric.ordinal() ];
+    }
+
+    /**
+     * 获取健康指标的区间序号列( 内部数组, 调用方不要修改 )
+     *
+     * @param healthMetric 健康指标
+     * @return 区间序号列( 区分性别的指标为对应性别指标集的 ordinal )
+     * @throws NullPointerException 当 healthMetric 为 null 时
+     */
+    public byte[] getMetricOrdinals( HealthMetric healthMetric ){
+        Objects.requireNonNull( healthMetric, "参数 healthMetric( 健康指标 )不能为 null" );
+        return metricOrdinals[ healthMetric.ordinal() ];
+    }
+
+    /**
+     * @return 腰围的区间序号列( 内部数组, 调用方不要修改 )
+     */
+    public byte[] getWaistCircumferenceOrdinals(){
+        return waistCircumferenceOrdinals;
+    }
+
+    /**
+     * @return 性别代码列( 内部数组, 调用方不要修改 )
+     */
+    public byte[] getGenderCodes(){
+        return genderCodes;
+    }
+}
@@ -0,0 +1,319 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 档案批量计算工具类: 流式读取档案 CSV, 计算全部健康指标及类别, 流式写出结果 CSV( 格式见 {@link ProfileCsvFormat } )
+ * <pre>
+ *     1. 读取( 文件用 {@link MappedProfileCsvReader }, 输入流用 {@link ProfileCsvReader } ) → 按列计算( {@link ProfileBatchScorer } )
+ *        → 写出( {@link ProfileCsvWriter } ), 每个读取线程只复用一个 {@link ProfileBatch }( 默认 {@value ProfileBatch#DEFAULT_CAPACITY } 行 ),
+ *        内存占用与文件大小无关
+ *     2. 读取文件时按行边界切成最多 并行度 块( 每块至少 {@value #MIN_CHUNK_SIZE } 字节 ), 在 {@link ForkJoinPool#commonPool() } 中分两步并行:
+ *        (1) 各块只数行不解析, 前缀和得到各块第一份档案的行号
+ *        (2) 各块独立读取、计算、写出: 第一块直接写入结果文件, 其余块写入结果文件所在目录的临时文件, 最后按原顺序追加到结果文件
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 21:30
+ */
+public final class ProfileBatchProcessor {
+    // ==================== 常量 ====================
+    /** 并行读取时每块的最小字节数 */
+    public static final long MIN_CHUNK_SIZE = 1L << 22;
+    /** 查找行边界时每次读取的字节数 */
+    private static final int SCAN_BUFFER_SIZE = 1 << 16;
+
+
+    // ==================== 构造器 ====================
+    private ProfileBatchProcessor(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 批量计算档案文件, 结果写入输出文件( 已存在时覆盖 ), 并行度为可用处理器数
+     *
+     * @param inputPath 档案 CSV 文件
+     * @param outputPath 结果 CSV 文件
+     * @return 结果统计
+     * @throws NullPointerException 当 inputPath 或 outputPath 为 null 时
+     * @throws IOException 当读写文件失败时
+     */
+    public static ProfileBatchResult process( Path inputPath, Path outputPath ) throws IOException{
+        return process( inputPath, outputPath, Runtime.getRuntime().availableProcessors() );
+    }
+
+    /**
+     * 批量计算档案文件, 结果写入输出文件( 已存在时覆盖 ); 文件足够大时按行边界分块并行计算, 结果与串行计算逐字节一致
+     *
+     * @param inputPath 档案 CSV 文件
+     * @param outputPath 结果 CSV 文件( 不能与 inputPath 相同 )
+     * @param parallelism 最大分块数, 为 1 时串行计算
+     * @return 结果统计
+     * @throws NullPointerException 当 inputPath 或 outputPath 为 null 时
+     * @throws IllegalArgumentException 当 parallelism 不是正数, 或 outputPath 与 inputPath 是同一个文件时
+     * @throws IOException 当读写文件失败时
+     */
+    public static ProfileBatchResult process( Path inputPath, Path outputPath, int parallelism ) throws IOException{
+        Objects.requireNonNull( inputPath, "参数 inputPath( 档案文件路径 )不能为 null" );
+        Objects.requireNonNull( outputPath, "参数 outputPath( 结果文件路径 )不能为 null" );
+        if ( parallelism < 1 ){
+            throw new IllegalArgumentException( String.format( "参数 parallelism( 并行度 )必须为正数, 实际为 %d", parallelism ) );
+        }
+        // 输出文件会先被截断, 与输入是同一个文件时输入会在读取前被清空
+        if ( Files.exists( outputPath ) && Files.isSameFile( inputPath, outputPath ) ){
+            throw new IllegalArgumentException( String.format( "结果文件 %s 不能与档案文件 %s 相同", outputPath, inputPath ) );
+        }
+        long startTime = System.nanoTime();
+        long[] boundaries = split( inputPath, parallelism );
+        int chunkCount = boundaries.length - 1;
+        if ( chunkCount == 1 ){
+            try ( ProfileBatchReader reader = MappedProfileCsvReader.open( inputPath );
+                  OutputStream out = Files.newOutputStream( outputPath ) ){
+                return process( reader, out, true );
+            }
+        }
+
+        // 1. 各块数行, 前缀和得到各块第一份档案的行号
+        List< CountTask > countTasks = new ArrayList<>( chunkCount );
+        for ( int i = 0; i < chunkCount; i++ ){
+            countTasks.add( new CountTask( inputPath, boundaries[ i ], boundaries[ i + 1 ] ) );
+        }
+        List< Long > rowCounts = invokeInOrder( countTasks );
+
+        // 2. 各块独立计算, 第一块直接写入结果文件, 其余块写入临时文件
+        Path[] segments = new Path[ chunkCount ];
+        segments[ 0 ] = outputPath;
+        try {
+            Path directory = outputPath.toAbsolutePath().getParent();
+            String prefix = outputPath.getFileName() + ".";
+            List< ChunkTask > chunkTasks = new ArrayList<>( chunkCount );
+            long firstRowNumber = 1;
+            for ( int i = 0; i < chunkCount; i++ ){
+                if ( i > 0 ) segments[ i ] = Files.createTempFile( directory, prefix, ".part" );
+                chunkTasks.add( new ChunkTask( inputPath, boundaries[ i ], boundaries[ i + 1 ], firstRowNumber, segments[ i ] ) );
+                firstRowNumber += rowCounts.get( i );
+            }
+            List< ProfileBatchResult > chunkResults = invokeInOrder( chunkTasks );
+
+            // 3. 按原顺序拼接
+            try ( FileChannel target = FileChannel.open( outputPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND ) ){
+                for ( int i = 1; i < chunkCount; i++ ){
+                    append( segments[ i ], target );
+                }
+            }
+            long rowCount = 0;
+            long invalidRowCount = 0;
+            for ( ProfileBatchResult chunkResult : chunkResults ){
+                rowCount += chunkResult.getRowCount();
+                invalidRowCount += chunkResult.getInvalidRowCount();
+            }
+            return new ProfileBatchResult( rowCount, invalidRowCount, System.nanoTime() - startTime, chunkCount );
+        } finally {
+            for ( int i = 1; i < chunkCount; i++ ){
+                if ( segments[ i ] != null ) Files.deleteIfExists( segments[ i ] );
+            }
+        }
+    }
+
+    /**
+     * 批量计算档案输入流, 结果写入输出流( 不关闭两个流 )
+     *
+     * @param in UTF-8 编码的档案 CSV 输入流
+     * @param out 结果 CSV 输出流
+     * @return 结果统计
+     * @throws NullPointerException 当 in 或 out 为 null 时
+     * @throws IOException 当读写失败时
+     */
+    public static ProfileBatchResult process( InputStream in, OutputStream out ) throws IOException{
+        return process( new ProfileCsvReader( in ), out, true );
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 逐批读取、计算、写出
+     *
+     * @param writeHeader 是否先写出表头( 只有第一块需要 )
+     */
+    private static ProfileBatchResult process( ProfileBatchReader reader, OutputStream out, boolean writeHeader ) throws IOException{
+        long startTime = System.nanoTime();
+        ProfileCsvWriter writer = new ProfileCsvWriter( out );
+        ProfileBatch batch = new ProfileBatch();
+        long rowCount = 0;
+        long invalidRowCount = 0;
+
+        if ( writeHeader ) writer.writeHeader();
+        while ( reader.read( batch ) ){
+            ProfileBatchScorer.score( batch );
+            writer.write( batch );
+            rowCount += batch.getRowCount();
+            invalidRowCount += batch.countInvalidRows();
+        }
+        writer.flush();
+        return new ProfileBatchResult( rowCount, invalidRowCount, System.nanoTime() - startTime );
+    }
+
+    /**
+     * 把文件按行边界切成最多 parallelism 块, 每块至少 {@link #MIN_CHUNK_SIZE } 字节( 空块除外 );
+     * 第一块至少包含第一份档案, 保证字节顺序标记和表头只出现在第一块
+     *
+     * @return 各块的边界, 长度为块数 + 1
+     */
+    private static long[] split( Path inputPath, int parallelism ) throws IOException{
+        try ( FileChannel channel = FileChannel.open( inputPath, StandardOpenOption.READ ) ){
+            long size = channel.size();
+            int chunkCount = ( int ) Math.max( 1, Math.min( parallelism, size / MIN_CHUNK_SIZE ) );
+            long[] boundaries = new long[ chunkCount + 1 ];
+            boundaries[ chunkCount ] = size;
+            if ( chunkCount == 1 ) return boundaries;
+
+            long lowerBound;
+            try ( MappedProfileCsvReader reader = MappedProfileCsvReader.open( inputPath, 0, size, 1 ) ){
+                reader.skipRows( 1 );
+                lowerBound = reader.getPosition();
+            }
+            ByteBuffer buffer = ByteBuffer.allocate( SCAN_BUFFER_SIZE );
+            for ( int i = 1; i < chunkCount; i++ ){
+                long target = Math.max( size / chunkCount * i, Math.max( lowerBound, boundaries[ i - 1 ] ) );
+                boundaries[ i ] = nextLineStart( channel, target, buffer );
+            }
+            return boundaries;
+        }
+    }
+
+    /**
+     * 按 {@link ProfileCsvFormat } 的行结束符查找行首, 不会落在 "\r\n" 中间
+     *
+     * @return 不小于 position 的第一个行首位置, 没有时返回文件大小
+     */
+    private static long nextLineStart( FileChannel channel, long position, ByteBuffer buffer ) throws IOException{
+        if ( position == 0 ) return 0;
+        long size = channel.size();
+        long offset = position - 1;  // 前一个字节是行结束符时 position 本身可能就是行首
+        boolean afterCarriageReturn = false;
+        while ( offset < size ){
+            buffer.clear();
+            int count = channel.read( buffer, offset );
+            if ( count <= 0 ) break;
+            for ( int i = 0; i < count; i++ ){
+                byte b = buffer.get( i );
+                if ( afterCarriageReturn ){
+                    return ( b == ProfileCsvFormat.LINE_SEPARATOR ? offset + i + 1 : offset + i );
+                }
+                if ( b == ProfileCsvFormat.LINE_SEPARATOR ) return offset + i + 1;
+                afterCarriageReturn = ( b == ProfileCsvFormat.CARRIAGE_RETURN );
+            }
+            offset += count;
+        }
+        return size;
+    }
+
+    /**
+     * 把临时文件的全部内容追加到结果文件
+     */
+    private static void append( Path segment, FileChannel target ) throws IOException{
+        try ( FileChannel source = FileChannel.open( segment, StandardOpenOption.READ ) ){
+            long size = source.size();
+            long position = 0;
+            while ( position < size ){
+                position += source.transferTo( position, size - position, target );
+            }
+        }
+    }
+
+    /**
+     * 第一个任务在当前线程执行, 其余任务提交到 {@link ForkJoinPool#commonPool() }, 按任务顺序返回结果;
+     * 有任务失败时先等全部任务结束( 删除临时文件时不再有任务写入 ), 再抛出第一个失败任务的异常
+     */
+    private static < T > List< T > invokeInOrder( List< ? extends ForkJoinTask< T > > tasks ) throws IOException{
+        for ( int i = 1; i < tasks.size(); i++ ){
+            tasks.get( i ).fork();
+        }
+        tasks.get( 0 ).quietlyInvoke();
+        for ( ForkJoinTask< T > task : tasks ){
+            task.quietlyJoin();
+        }
+        List< T > results = new ArrayList<>( tasks.size() );
+        for ( ForkJoinTask< T > task : tasks ){
+            try {
+                results.add( task.join() );
+            } catch ( UncheckedIOException e ){
+                throw e.getCause();
+            }
+        }
+        return results;
+    }
+
+
+    /**
+     * 一块的数行任务: 返回块内的档案数
+     */
+    private static final class CountTask extends RecursiveTask< Long > {
+        private static final long serialVersionUID = 1L;
+
+        private final Path inputPath;
+        private final long start;
+        private final long end;
+
+        private CountTask( Path inputPath, long start, long end ){
+            this.inputPath = inputPath;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Long compute(){
+            try ( MappedProfileCsvReader reader = MappedProfileCsvReader.open( inputPath, start, end, 1 ) ){
+                return reader.skipRows( Long.MAX_VALUE );
+            } catch ( IOException e ){
+                throw new UncheckedIOException( e );
+            }
+        }
+    }
+
+    /**
+     * 一块的计算任务: 读取、计算块内档案, 写入该块的输出文件( 只有第一块写出表头 )
+     */
+    private static final class ChunkTask extends RecursiveTask< ProfileBatchResult > {
+        private static final long serialVersionUID = 1L;
+
+        private final Path inputPath;
+        private final long start;
+        private final long end;
+        private final long firstRowNumber;
+        private final Path segment;
+
+        private ChunkTask( Path inputPath, long start, long end, long firstRowNumber, Path segment ){
+            this.inputPath = inputPath;
+            this.start = start;
+            this.end = end;
+            this.firstRowNumber = firstRowNumber;
+            this.segment = segment;
+        }
+
+        @Override
+        protected ProfileBatchResult compute(){
+            try ( ProfileBatchReader reader = MappedProfileCsvReader.open( inputPath, start, end, firstRowNumber );
+                  OutputStream out = Files.newOutputStream( segment ) ){
+                return process( reader, out, start == 0 );
+            } catch ( IOException e ){
+                throw new UncheckedIOException( e );
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 档案批次读取器接口: 按 {@link ProfileCsvFormat } 的输入格式逐批读取档案, 填入 {@link ProfileBatch }
+ * <pre>
+ *     实现类:
+ *     1. {@link ProfileCsvReader }: 从任意输入流按字符读取
+ *     2. {@link MappedProfileCsvReader }: 内存映射文件, 直接在字节上解析
+ *     两者对同一输入的解析结果一致
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 21:40
+ */
+public interface ProfileBatchReader extends Closeable {
+    /**
+     * 清空批次并读取下一批档案, 直到批次已满或输入结束
+     *
+     * @param batch 档案批次
+     * @return 读到至少一份档案时返回 true, 输入已结束时返回 false
+     * @throws NullPointerException 当 batch 为 null 时
+     * @throws IOException 当读取失败时
+     */
+    boolean read( ProfileBatch batch ) throws IOException;
+}
@@ -0,0 +1,66 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 档案批量计算的结果统计: 档案数、不合法的档案数、耗时、并行读取的分块数
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 21:30
+ */
+public final class ProfileBatchResult {
+    // ==================== 实例变量 ====================
+    /** 档案数 */
+    private final long rowCount;
+    /** 计算所有指标都需要的参数( 性别、年龄、体重、身高 )不合法的档案数 */
+    private final long invalidRowCount;
+    /** 耗时( 纳秒 ) */
+    private final long elapsedNanos;
+    /** 输入文件的分块数( 串行读取时为 1 ) */
+    private final int chunkCount;
+
+
+    // ==================== 构造器 ====================
+    ProfileBatchResult( long rowCount, long invalidRowCount, long elapsedNanos ){
+        this( rowCount, invalidRowCount, elapsedNanos, 1 );
+    }
+
+    ProfileBatchResult( long rowCount, long invalidRowCount, long elapsedNanos, int chunkCount ){
+        this.rowCount = rowCount;
+        this.invalidRowCount = invalidRowCount;
+        this.elapsedNanos = elapsedNanos;
+        this.chunkCount = chunkCount;
+    }
+
+
+    // ==================== 公有方法 ====================
+    public long getRowCount(){
+        return rowCount;
+    }
+
+    public long getInvalidRowCount(){
+        return invalidRowCount;
+    }
+
+    public long getElapsedNanos(){
+        return elapsedNanos;
+    }
+
+    public int getChunkCount(){
+        return chunkCount;
+    }
+
+    /**
+     * @return 每秒处理的档案数, 耗时为 0 时为 0
+     */
+    public double getRowsPerSecond(){
+        return ( elapsedNanos == 0 ? 0 : rowCount * ( double ) TimeUnit.SECONDS.toNanos( 1 ) / elapsedNanos );
+    }
+
+    @Override
+    public String toString(){
+        return String.format( "ProfileBatchResult{ rowCount=%d, invalidRowCount=%d, elapsed=%d ms, rowsPerSecond=%.0f, chunkCount=%d }",
+                rowCount, invalidRowCount, TimeUnit.NANOSECONDS.toMillis( elapsedNanos ), getRowsPerSecond(), chunkCount );
+    }
+}
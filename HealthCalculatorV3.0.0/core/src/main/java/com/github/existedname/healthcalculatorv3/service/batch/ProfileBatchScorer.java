@@ -0,0 +1,330 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BodyMetric;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.HealthMetricsLookupTable;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.basicbodyparameter.FemaleWaistCircumferenceMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.basicbodyparameter.MaleWaistCircumferenceMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.BMIMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.BMRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.BSAMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.FemaleBFRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.FemaleBRIMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.FemaleWHRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.MaleBFRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.MaleBRIMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.MaleWHRMetrics;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.healthmetric.TDEEMetrics;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMICalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BRICalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.TDEECalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.WHRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.vector.VectorBatchCalculator;
+import com.github.existedname.healthcalculatorv3.util.convertor.TypeConvertor;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 档案批次计算器工具类: 用批量计算器一次算出整批档案的全部健康指标, 再用指标集查找表分类
+ * <pre>
+ *     1. 各指标选用的公式与 {@link com.github.existedname.healthcalculatorv3.util.calculator.composite.ProfileEvaluator } 一致:
+ *          BMI → BFR( Deurenberg 公式 ), BMR( MSJ 公式 ) → TDEE, BSA( Du Bois 公式 ), WHR, BRI
+ *        线性公式( BFR、BMR )与幂函数公式( BSA )使用 {@link VectorBatchCalculator }, 向量后端可用时按通道计算
+ *     2. 批量计算器在任意元素不合法时抛出异常, 而一批导入数据中总会有缺失或录入错误的行, 因此按列计算前:
+ *        (1) 用 {@link VectorBatchCalculator#retainRange( double[], double, double, long[], int ) } 求出每个指标的输入都合法的行( 位图 )
+ *        (2) 把输入列复制到批次的计算列, 计算列中不合法的行( 包括批次末尾未使用的行 )替换为一个合法的占位档案
+ *            ( 女, 30 岁, 60 kg, 165 cm ... ), 整列照常计算; 输入列保持不变
+ *        (3) 计算后把不合法的行, 以及结果超出健康指标有效范围的行写为 NaN( 与单人计算检验中间结果一致 )
+ *        整个过程不分配对象, 每批复用 {@link ProfileBatch } 中的列
+ *     3. 性别、年龄、体重、身高任一不合法时该行的全部指标都为 NaN; 腰围、臀围、活动系数只影响用到它们的指标
+ *        ( 腰围 → 腰围分类、WHR、BRI, 臀围 → WHR, 活动系数 → TDEE ); 颈围、臂围目前没有指标使用
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 21:10
+ */
+public final class ProfileBatchScorer {
+    // ==================== 常量 ====================
+    /*      占位档案: 替换不合法的行, 保证整列都能通过批量计算器的检验      */
+    private static final byte PLACEHOLDER_GENDER_CODE = ( byte ) Gender.FEMALE.getCode();
+    private static final int PLACEHOLDER_AGE = 30;
+    private static final double PLACEHOLDER_WEIGHT = 60.0;
+    private static final double PLACEHOLDER_HEIGHT = 165.0;
+    private static final double PLACEHOLDER_WAIST_CIRCUMFERENCE = 70.0;
+    private static final double PLACEHOLDER_HIP_CIRCUMFERENCE = 90.0;
+    private static final double PLACEHOLDER_ACTIVITY_COEFFICIENT = 1.2;
+    private static final double PLACEHOLDER_BMI = 22.0;
+    private static final double PLACEHOLDER_BMR = 1300.0;
+
+    /*      指标集查找表, 按性别代码排列( 不区分性别的指标两个性别共用一个 )      */
+    private static final HealthMetricsLookupTable[][] METRIC_TABLES = new HealthMetricsLookupTable[ HealthMetric.values().length ][];
+    private static final HealthMetricsLookupTable[] WAIST_CIRCUMFERENCE_TABLES = byGender(
+            HealthMetricsLookupTable.of( FemaleWaistCircumferenceMetrics.class, BasicBodyParameter.WAIST_CIRCUMFERENCE ),
+            HealthMetricsLookupTable.of( MaleWaistCircumferenceMetrics.class, BasicBodyParameter.WAIST_CIRCUMFERENCE ) );
+
+    static {
+        HealthMetricsLookupTable bmiTable = HealthMetricsLookupTable.of( BMIMetrics.class, HealthMetric.BMI );
+        HealthMetricsLookupTable bmrTable = HealthMetricsLookupTable.of( BMRMetrics.class, HealthMetric.BMR );
+        HealthMetricsLookupTable tdeeTable = HealthMetricsLookupTable.of( TDEEMetrics.class, HealthMetric.TDEE );
+        HealthMetricsLookupTable bsaTable = HealthMetricsLookupTable.of( BSAMetrics.class, HealthMetric.BSA );
+        METRIC_TABLES[ HealthMetric.BMI.ordinal() ] = byGender( bmiTable, bmiTable );
+        METRIC_TABLES[ HealthMetric.WHR.ordinal() ] = byGender(
+                HealthMetricsLookupTable.of( FemaleWHRMetrics.class, HealthMetric.WHR ),
+                HealthMetricsLookupTable.of( MaleWHRMetrics.class, HealthMetric.WHR ) );
+        METRIC_TABLES[ HealthMetric.BFR.ordinal() ] = byGender(
+                HealthMetricsLookupTable.of( FemaleBFRMetrics.class, HealthMetric.BFR ),
+                HealthMetricsLookupTable.of( MaleBFRMetrics.class, HealthMetric.BFR ) );
+        METRIC_TABLES[ HealthMetric.BRI.ordinal() ] = byGender(
+                HealthMetricsLookupTable.of( FemaleBRIMetrics.class, HealthMetric.BRI ),
+                HealthMetricsLookupTable.of( MaleBRIMetrics.class, HealthMetric.BRI ) );
+        METRIC_TABLES[ HealthMetric.BMR.ordinal() ] = byGender( bmrTable, bmrTable );
+        METRIC_TABLES[ HealthMetric.TDEE.ordinal() ] = byGender( tdeeTable, tdeeTable );
+        METRIC_TABLES[ HealthMetric.BSA.ordinal() ] = byGender( bsaTable, bsaTable );
+    }
+
+
+    // ==================== 构造器 ====================
+    private ProfileBatchScorer(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 计算批次前 rowCount 行的全部健康指标及其区间序号, 结果写入批次的结果列
+     * <p>
+     * 只读取批次的输入列, 占位值写入批次的计算列, 计算后输入列仍是调用前的原始数据
+     *
+     * @param batch 档案批次
+     * @throws NullPointerException 当 batch 为 null 时
+     */
+    public static void score( ProfileBatch batch ){
+        Objects.requireNonNull( batch, "参数 batch( 档案批次 )不能为 null" );
+        int rowCount = batch.rowCount;
+        byte[] genderCodes = batch.scoringGenderCodes;
+        int[] ages = batch.scoringAges;
+        double[] weights = batch.scoringParameterColumns[ BasicBodyParameter.WEIGHT.ordinal() ];
+        double[] heights = batch.scoringParameterColumns[ BasicBodyParameter.HEIGHT.ordinal() ];
+        long[] validRows = batch.validRows;
+        long[] scratchRows = batch.scratchRows;
+        copyInputColumns( batch, rowCount );
+
+        // 1. 所有指标都需要的参数
+        resetRows( validRows, rowCount );
+        retainGenderCodes( genderCodes, validRows, rowCount );
+        BasicBodyParameter age = BasicBodyParameter.AGE;
+        VectorBatchCalculator.retainRange( ages, TypeConvertor.toInt( age.getMinValue() ), TypeConvertor.toInt( age.getMaxValue() ), validRows, rowCount );
+        retainRange( BasicBodyParameter.WEIGHT, weights, validRows, rowCount );
+        retainRange( BasicBodyParameter.HEIGHT, heights, validRows, rowCount );
+        replaceInvalid( genderCodes, validRows, PLACEHOLDER_GENDER_CODE );
+        replaceInvalid( ages, validRows, PLACEHOLDER_AGE );
+        replaceInvalid( weights, validRows, PLACEHOLDER_WEIGHT );
+        replaceInvalid( heights, validRows, PLACEHOLDER_HEIGHT );
+
+        // 2. BMI → BFR
+        double[] bmis = batch.metricColumns[ HealthMetric.BMI.ordinal() ];
+        double[] bfrs = batch.metricColumns[ HealthMetric.BFR.ordinal() ];
+        BMICalculator.calculateBMI( weights, heights, bmis );
+        System.arraycopy( validRows, 0, scratchRows, 0, validRows.length );
+        retainRange( HealthMetric.BMI, bmis, scratchRows, rowCount );
+        replaceInvalid( bmis, scratchRows, PLACEHOLDER_BMI );
+        VectorBatchCalculator.calculateBFRByDeurenbergEquation( bmis, ages, genderCodes, bfrs );
+        clearInvalid( bmis, scratchRows );
+        retainRange( HealthMetric.BFR, bfrs, scratchRows, rowCount );
+        clearInvalid( bfrs, scratchRows );
+
+        // 3. BMR → TDEE
+        scoreEnergyMetrics( batch, rowCount );
+
+        // 4. BSA
+        double[] bsas = batch.metricColumns[ HealthMetric.BSA.ordinal() ];
+        VectorBatchCalculator.calculateBSAByDuBoisEquation( heights, weights, bsas );
+        System.arraycopy( validRows, 0, scratchRows, 0, validRows.length );
+        retainRange( HealthMetric.BSA, bsas, scratchRows, rowCount );
+        clearInvalid( bsas, scratchRows );
+
+        // 5. 腰围 → WHR、BRI
+        scoreCircumferenceMetrics( batch, rowCount );
+
+        // 6. 分类
+        for ( HealthMetric healthMetric : HealthMetric.values() ){
+            classify( METRIC_TABLES[ healthMetric.ordinal() ], genderCodes,
+                    batch.metricColumns[ healthMetric.ordinal() ], batch.metricOrdinals[ healthMetric.ordinal() ], rowCount );
+        }
+        classify( WAIST_CIRCUMFERENCE_TABLES, genderCodes,
+                batch.scoringParameterColumns[ BasicBodyParameter.WAIST_CIRCUMFERENCE.ordinal() ], batch.waistCircumferenceOrdinals, rowCount );
+    }
+
+    /**
+     * @param healthMetric 健康指标
+     * @param genderCode 性别代码( 女0 男1 )
+     * @return 该性别的指标集查找表( 不区分性别的指标两个性别相同 )
+     */
+    static HealthMetricsLookupTable getLookupTable( HealthMetric healthMetric, int genderCode ){
+        return METRIC_TABLES[ healthMetric.ordinal() ][ genderCode ];
+    }
+
+    /**
+     * @param genderCode 性别代码( 女0 男1 )
+     * @return 该性别的腰围指标集查找表
+     */
+    static HealthMetricsLookupTable getWaistCircumferenceLookupTable( int genderCode ){
+        return WAIST_CIRCUMFERENCE_TABLES[ genderCode ];
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * BMR( MSJ 公式 ) → TDEE: scratchRows 为 BMR 合法的行, auxiliaryRows 为 TDEE 合法的行
+     */
+    private static void scoreEnergyMetrics( ProfileBatch batch, int rowCount ){
+        long[] scratchRows = batch.scratchRows;
+        long[] auxiliaryRows = batch.auxiliaryRows;
+        double[] weights = batch.scoringParameterColumns[ BasicBodyParameter.WEIGHT.ordinal() ];
+        double[] heights = batch.scoringParameterColumns[ BasicBodyParameter.HEIGHT.ordinal() ];
+        double[] activityCoefficients = batch.scoringParameterColumns[ BasicBodyParameter.ACTIVITY_COEFFICIENT.ordinal() ];
+        double[] bmrs = batch.metricColumns[ HealthMetric.BMR.ordinal() ];
+        double[] tdees = batch.metricColumns[ HealthMetric.TDEE.ordinal() ];
+
+        VectorBatchCalculator.calculateBMRByMSJEquation( batch.scoringGenderCodes, weights, heights, batch.scoringAges, bmrs );
+        System.arraycopy( batch.validRows, 0, scratchRows, 0, scratchRows.length );
+        retainRange( HealthMetric.BMR, bmrs, scratchRows, rowCount );
+        replaceInvalid( bmrs, scratchRows, PLACEHOLDER_BMR );
+
+        System.arraycopy( scratchRows, 0, auxiliaryRows, 0, auxiliaryRows.length );
+        retainRange( BasicBodyParameter.ACTIVITY_COEFFICIENT, activityCoefficients, auxiliaryRows, rowCount );
+        replaceInvalid( activityCoefficients, auxiliaryRows, PLACEHOLDER_ACTIVITY_COEFFICIENT );
+        TDEECalculator.calculateTDEE( bmrs, activityCoefficients, tdees );
+        retainRange( HealthMetric.TDEE, tdees, auxiliaryRows, rowCount );
+        clearInvalid( tdees, auxiliaryRows );
+        clearInvalid( bmrs, scratchRows );
+    }
+
+    /**
+     * 腰围 → WHR、BRI: auxiliaryRows 为腰围合法的行( 同时要求性别等参数合法, 腰围分类按性别区分 ),
+     * scratchRows 依次为 WHR、BRI 合法的行; 腰围不合法的行写为 NaN, 供之后分类
+     */
+    private static void scoreCircumferenceMetrics( ProfileBatch batch, int rowCount ){
+        long[] scratchRows = batch.scratchRows;
+        long[] auxiliaryRows = batch.auxiliaryRows;
+        double[] heights = batch.scoringParameterColumns[ BasicBodyParameter.HEIGHT.ordinal() ];
+        double[] waistCircumferences = batch.scoringParameterColumns[ BasicBodyParameter.WAIST_CIRCUMFERENCE.ordinal() ];
+        double[] hipCircumferences = batch.scoringParameterColumns[ BasicBodyParameter.HIP_CIRCUMFERENCE.ordinal() ];
+        double[] whrs = batch.metricColumns[ HealthMetric.WHR.ordinal() ];
+        double[] bris = batch.metricColumns[ HealthMetric.BRI.ordinal() ];
+
+        System.arraycopy( batch.validRows, 0, auxiliaryRows, 0, auxiliaryRows.length );
+        retainRange( BasicBodyParameter.WAIST_CIRCUMFERENCE, waistCircumferences, auxiliaryRows, rowCount );
+        replaceInvalid( waistCircumferences, auxiliaryRows, PLACEHOLDER_WAIST_CIRCUMFERENCE );
+
+        // WHR 只需要腰围、臀围
+        System.arraycopy( auxiliaryRows, 0, scratchRows, 0, scratchRows.length );
+        retainRange( BasicBodyParameter.HIP_CIRCUMFERENCE, hipCircumferences, scratchRows, rowCount );
+        replaceInvalid( hipCircumferences, scratchRows, PLACEHOLDER_HIP_CIRCUMFERENCE );
+        WHRCalculator.calculateWHR( waistCircumferences, hipCircumferences, whrs );
+        retainRange( HealthMetric.WHR, whrs, scratchRows, rowCount );
+        clearInvalid( whrs, scratchRows );
+
+        // BRI 需要腰围、身高
+        System.arraycopy( auxiliaryRows, 0, scratchRows, 0, scratchRows.length );
+        BRICalculator.calculateBRI( waistCircumferences, heights, bris );
+        retainRange( HealthMetric.BRI, bris, scratchRows, rowCount );
+        clearInvalid( bris, scratchRows );
+
+        clearInvalid( waistCircumferences, auxiliaryRows );
+    }
+
+    /**
+     * 把前 rowCount 行的输入列复制到计算列
+     */
+    private static void copyInputColumns( ProfileBatch batch, int rowCount ){
+        System.arraycopy( batch.genderCodes, 0, batch.scoringGenderCodes, 0, rowCount );
+        System.arraycopy( batch.ages, 0, batch.scoringAges, 0, rowCount );
+        for ( int p = 0; p < batch.parameterColumns.length; p++ ){
+            if ( batch.parameterColumns[ p ] != null ){
+                System.arraycopy( batch.parameterColumns[ p ], 0, batch.scoringParameterColumns[ p ], 0, rowCount );
+            }
+        }
+    }
+
+    private static HealthMetricsLookupTable[] byGender( HealthMetricsLookupTable femaleTable, HealthMetricsLookupTable maleTable ){
+        HealthMetricsLookupTable[] tables = new HealthMetricsLookupTable[ 2 ];
+        tables[ Gender.FEMALE.getCode() ] = femaleTable;
+        tables[ Gender.MALE.getCode() ] = maleTable;
+        return tables;
+    }
+
+    /**
+     * 位图只保留前 rowCount 行
+     */
+    private static void resetRows( long[] words, int rowCount ){
+        Arrays.fill( words, 0L );
+        int fullWords = rowCount >>> 6;
+        Arrays.fill( words, 0, fullWords, -1L );
+        if ( ( rowCount & 63 ) != 0 ){
+            words[ fullWords ] = ( 1L << rowCount ) - 1;
+        }
+    }
+
+    private static void retainGenderCodes( byte[] genderCodes, long[] words, int rowCount ){
+        for ( int row = 0; row < rowCount; row++ ){
+            if ( !Gender.isValidGenderCode( genderCodes[ row ] ) ){
+                words[ row >>> 6 ] &= ~( 1L << row );
+            }
+        }
+    }
+
+    private static void retainRange( BodyMetric bodyMetric, double[] values, long[] words, int rowCount ){
+        VectorBatchCalculator.retainRange( values, bodyMetric.getMinValue(), bodyMetric.getMaxValue(), words, rowCount );
+    }
+
+    /*      把位图中未置位的行( 包括 rowCount 之后的行 )替换为占位值 / NaN      */
+    private static void replaceInvalid( byte[] column, long[] words, byte placeholder ){
+        for ( int w = 0; w < words.length; w++ ){
+            for ( long invalid = ~words[ w ]; invalid != 0; invalid &= invalid - 1 ){
+                int row = ( w << 6 ) + Long.numberOfTrailingZeros( invalid );
+                if ( row >= column.length ) break;
+                column[ row ] = placeholder;
+            }
+        }
+    }
+
+    private static void replaceInvalid( int[] column, long[] words, int placeholder ){
+        for ( int w = 0; w < words.length; w++ ){
+            for ( long invalid = ~words[ w ]; invalid != 0; invalid &= invalid - 1 ){
+                int row = ( w << 6 ) + Long.numberOfTrailingZeros( invalid );
+                if ( row >= column.length ) break;
+                column[ row ] = placeholder;
+            }
+        }
+    }
+
+    private static void replaceInvalid( double[] column, long[] words, double placeholder ){
+        for ( int w = 0; w < words.length; w++ ){
+            for ( long invalid = ~words[ w ]; invalid != 0; invalid &= invalid - 1 ){
+                int row = ( w << 6 ) + Long.numberOfTrailingZeros( invalid );
+                if ( row >= column.length ) break;
+                column[ row ] = placeholder;
+            }
+        }
+    }
+
+    private static void clearInvalid( double[] column, long[] words ){
+        replaceInvalid( column, words, Double.NaN );
+    }
+
+    /**
+     * 按性别选择查找表, 把前 rowCount 行归入区间( NaN 归为 OUT_OF_RANGE )
+     */
+    private static void classify( HealthMetricsLookupTable[] tables, byte[] genderCodes, double[] values, byte[] ordinals, int rowCount ){
+        if ( tables[ 0 ] == tables[ 1 ] ){
+            tables[ 0 ].classify( values, 0, rowCount, ordinals );
+            return;
+        }
+        for ( int row = 0; row < rowCount; row++ ){
+            ordinals[ row ] = ( byte ) tables[ genderCodes[ row ] ].classify( values[ row ] );
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+
+/**
+ * 档案 CSV 格式常量类
+ * <pre>
+ *     1. 输入: 每行一份档案, 逗号分隔, 依次为
+ *          性别( 男/女/Male/Female ), 年龄, 体重, 身高, 腰围, 臀围, 颈围, 臂围, 活动系数
+ *        单位与 {@link BasicBodyParameter } 一致( kg、cm ); 没有测量的参数留空, 末尾的空列可以省略;
+ *        首行的性别、年龄都无法识别时视为表头并跳过, 空行跳过
+ *        (1) 行结束符: "\n"、"\r\n" 或单独的 "\r"( 与 {@link java.io.BufferedReader#readLine() } 一致 )
+ *        (2) 空白: 不大于空格( U+0020 )的字符( 与 {@link String#trim() } 一致 ), 全角空格等其他 Unicode 空白不算空白;
+ *            只含空白的行为空行, 字段去掉首尾空白后再解析
+ *     2. 输出: 表头 + 每份档案一行, 依次为
+ *          行号, 腰围类别, BMI, BMI 类别, WHR, WHR 类别, BFR, BFR 类别, BRI, BRI 类别, BMR, BMR 类别, TDEE, TDEE 类别, BSA, BSA 类别
+ *        行号为档案在输入中的序号( 从 1 开始, 不含表头、空行 ); 数值保留 2 位小数,
+ *        类别为指标集枚举成员名( 如 NORMAL ); 无法计算的数值、类别留空
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 21:10
+ */
+public final class ProfileCsvFormat {
+    // ==================== 常量 ====================
+    /** 列分隔符 */
+    public static final char DELIMITER = ',';
+    /** 行分隔符( 输出使用 ) */
+    public static final char LINE_SEPARATOR = '\n';
+    /** 回车符: 单独出现时也是行结束符, 后跟 {@link #LINE_SEPARATOR } 时两者一起作为行结束符 */
+    public static final char CARRIAGE_RETURN = '\r';
+    /** 输入中性别列之后的各列对应的基本身体参数 */
+    private static final BasicBodyParameter[] INPUT_PARAMETERS = {
+            BasicBodyParameter.AGE,
+            BasicBodyParameter.WEIGHT,
+            BasicBodyParameter.HEIGHT,
+            BasicBodyParameter.WAIST_CIRCUMFERENCE,
+            BasicBodyParameter.HIP_CIRCUMFERENCE,
+            BasicBodyParameter.NECK_CIRCUMFERENCE,
+            BasicBodyParameter.ARM_CIRCUMFERENCE,
+            BasicBodyParameter.ACTIVITY_COEFFICIENT
+    };
+    /** 输入的列数 */
+    public static final int INPUT_COLUMN_COUNT = INPUT_PARAMETERS.length + 1;
+    /** 输出数值保留的小数位数 */
+    public static final int OUTPUT_DECIMAL_PLACES = 2;
+
+
+    // ==================== 构造器 ====================
+    private ProfileCsvFormat(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * @param column 输入列号( 从 0 开始, 第 0 列为性别 )
+     * @return 该列对应的基本身体参数
+     * @throws IndexOutOfBoundsException 当 column 不在 [ 1, 输入列数 ) 内时
+     */
+    public static BasicBodyParameter getInputParameter( int column ){
+        return INPUT_PARAMETERS[ column - 1 ];
+    }
+
+    /**
+     * @param c 字符, 或 UTF-8 字节( 按无符号数传入 )
+     * @return 是否为行结束符( {@link #LINE_SEPARATOR } 或 {@link #CARRIAGE_RETURN } )
+     */
+    public static boolean isLineTerminator( int c ){
+        return ( c == LINE_SEPARATOR || c == CARRIAGE_RETURN );
+    }
+
+    /**
+     * 与 {@link String#trim() } 一致: 不大于空格的字符都视为空白; UTF-8 多字节字符的各字节都大于 0x7F, 不会被误判
+     *
+     * @param c 字符, 或 UTF-8 字节( 按无符号数传入 )
+     * @return 是否为空白
+     */
+    public static boolean isWhitespace( int c ){
+        return ( c <= ' ' );
+    }
+
+    /**
+     * @param line 一行( 不含行结束符 )
+     * @return 是否只含空白
+     */
+    public static boolean isBlank( CharSequence line ){
+        for ( int i = 0; i < line.length(); i++ ){
+            if ( !isWhitespace( line.charAt( i ) ) ) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 档案 CSV 读取器: 从输入流逐批读取档案( 格式见 {@link ProfileCsvFormat } ), 填入 {@link ProfileBatch }
+ * <pre>
+ *     1. 以 {@value #BUFFER_SIZE } 个字符为单位整块读取输入, 每次只保留一批档案, 内存占用与输入大小无关
+ *     2. 无法识别的性别、年龄记为 -1, 无法识别或缺失的其他参数记为 NaN, 由 {@link ProfileBatchScorer } 按不合法处理,
+ *        读取过程不因个别行出错而中断
+ *     3. 按 {@link BufferedReader#readLine() } 分行, 行结束符与空行的规则见 {@link ProfileCsvFormat }
+ *     4. 适用于标准输入等不能内存映射的输入流; 读取文件时优先使用 {@link MappedProfileCsvReader }
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 21:20
+ */
+public final class ProfileCsvReader implements ProfileBatchReader {
+    // ==================== 常量 ====================
+    /** 读取缓冲区大小( 字符数 ) */
+    public static final int BUFFER_SIZE = 1 << 20;
+    /** UTF-8 字节顺序标记 */
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+
+    // ==================== 实例变量 ====================
+    private final BufferedReader reader;
+    /** 下一份档案的行号 */
+    private long nextRowNumber = 1;
+    /** 是否还没有读到第一个非空行 */
+    private boolean beforeFirstLine = true;
+
+
+    // ==================== 构造器 ====================
+    /**
+     * @param in UTF-8 编码的输入流
+     * @throws NullPointerException 当 in 为 null 时
+     */
+    public ProfileCsvReader( InputStream in ){
+        Objects.requireNonNull( in, "参数 in( 输入流 )不能为 null" );
+        this.reader = new BufferedReader( new InputStreamReader( in, StandardCharsets.UTF_8 ), BUFFER_SIZE );
+    }
+
+
+    // ==================== 公有方法 ====================
+    @Override
+    public boolean read( ProfileBatch batch ) throws IOException{
+        Objects.requireNonNull( batch, "参数 batch( 档案批次 )不能为 null" );
+        batch.clear( nextRowNumber );
+        String line;
+        while ( !batch.isFull() && ( line = reader.readLine() ) != null ){
+            if ( beforeFirstLine && !line.isEmpty() && line.charAt( 0 ) == BYTE_ORDER_MARK ){
+                line = line.substring( 1 );
+            }
+            if ( ProfileCsvFormat.isBlank( line ) ) continue;
+            if ( beforeFirstLine ){
+                beforeFirstLine = false;
+                if ( isHeader( line ) ) continue;
+            }
+            parseLine( line, batch );
+            nextRowNumber++;
+        }
+        return batch.getRowCount() > 0;
+    }
+
+    @Override
+    public void close() throws IOException{
+        reader.close();
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 把一行解析为批次的下一行
+     */
+    private static void parseLine( String line, ProfileBatch batch ){
+        int row = batch.rowCount++;
+        int fieldStart = 0;
+        for ( int column = 0; column < ProfileCsvFormat.INPUT_COLUMN_COUNT; column++ ){
+            String field = "";
+            if ( fieldStart <= line.length() ){
+                int fieldEnd = line.indexOf( ProfileCsvFormat.DELIMITER, fieldStart );
+                if ( fieldEnd < 0 ) fieldEnd = line.length();
+                field = line.substring( fieldStart, fieldEnd ).trim();
+                fieldStart = fieldEnd + 1;
+            }
+            if ( column == 0 ){
+                batch.genderCodes[ row ] = parseGenderCode( field );
+            } else if ( column == 1 ){
+                batch.ages[ row ] = parseAge( field );
+            } else {
+                batch.parameterColumns[ ProfileCsvFormat.getInputParameter( column ).ordinal() ][ row ] = parseDouble( field );
+            }
+        }
+    }
+
+    /**
+     * 首行的性别、年龄都无法识别时视为表头
+     */
+    private static boolean isHeader( String line ){
+        int genderEnd = line.indexOf( ProfileCsvFormat.DELIMITER );
+        if ( genderEnd < 0 ) return parseGenderCode( line.trim() ) < 0;
+        int ageEnd = line.indexOf( ProfileCsvFormat.DELIMITER, genderEnd + 1 );
+        if ( ageEnd < 0 ) ageEnd = line.length();
+        return parseGenderCode( line.substring( 0, genderEnd ).trim() ) < 0
+                && parseAge( line.substring( genderEnd + 1, ageEnd ).trim() ) < 0;
+    }
+
+    private static byte parseGenderCode( String field ){
+        Gender gender = Gender.parseOrNull( field );
+        return ( gender == null ? -1 : ( byte ) gender.getCode() );
+    }
+
+    private static int parseAge( String field ){
+        try {
+            return Integer.parseInt( field );
+        } catch ( NumberFormatException e ){
+            return -1;
+        }
+    }
+
+    private static double parseDouble( String field ){
+        if ( field.isEmpty() ) return Double.NaN;
+        try {
+            return Double.parseDouble( field );
+        } catch ( NumberFormatException e ){
+            return Double.NaN;
+        }
+    }
+}
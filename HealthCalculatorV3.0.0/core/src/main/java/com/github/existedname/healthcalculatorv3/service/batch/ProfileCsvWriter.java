@@ -0,0 +1,208 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.HealthMetricsIndex;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.HealthMetricsLookupTable;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 档案 CSV 写出器: 把计算后的 {@link ProfileBatch } 按 {@link ProfileCsvFormat } 的输出格式写出
+ * <pre>
+ *     1. 数值直接按十进制数字写入一个可复用的 byte[] 缓冲区( 四舍五入到 {@value ProfileCsvFormat#OUTPUT_DECIMAL_PLACES } 位小数 ),
+ *        类别名预先编码为 byte[], 写出过程不创建 String; 缓冲区满时整块写入输出流
+ *     2. 写完最后一批后需调用 {@link #flush() } 写出缓冲区; {@link #close() } 写出缓冲区后还会关闭输出流
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 21:20
+ */
+public final class ProfileCsvWriter implements Closeable, Flushable {
+    // ==================== 常量 ====================
+    /** 写出缓冲区大小( 字节数 ) */
+    public static final int BUFFER_SIZE = 1 << 16;
+    /** 一行输出的最大字节数( 写每一行之前保证缓冲区剩余空间不少于该值 ) */
+    private static final int MAX_LINE_LENGTH = 1 << 10;
+    /** 2 位小数的缩放倍数 */
+    private static final double DECIMAL_SCALE = Math.pow( 10, ProfileCsvFormat.OUTPUT_DECIMAL_PLACES );
+    /** 各健康指标的类别名, 下标为 [ HealthMetric 的 ordinal ][ 性别代码 ][ 指标集枚举的 ordinal ] */
+    private static final byte[][][][] METRIC_CATEGORY_NAMES = new byte[ HealthMetric.values().length ][ 2 ][][];
+    /** 腰围的类别名, 下标为 [ 性别代码 ][ 指标集枚举的 ordinal ] */
+    private static final byte[][][] WAIST_CIRCUMFERENCE_CATEGORY_NAMES = new byte[ 2 ][][];
+
+    static {
+        for ( Gender gender : Gender.values() ){
+            int genderCode = gender.getCode();
+            for ( HealthMetric healthMetric : HealthMetric.values() ){
+                METRIC_CATEGORY_NAMES[ healthMetric.ordinal() ][ genderCode ] =
+                        encodeCategoryNames( ProfileBatchScorer.getLookupTable( healthMetric, genderCode ) );
+            }
+            WAIST_CIRCUMFERENCE_CATEGORY_NAMES[ genderCode ] =
+                    encodeCategoryNames( ProfileBatchScorer.getWaistCircumferenceLookupTable( genderCode ) );
+        }
+    }
+
+
+    // ==================== 实例变量 ====================
+    private final OutputStream out;
+    /** 写出缓冲区 */
+    private final byte[] buffer = new byte[ BUFFER_SIZE ];
+    /** 缓冲区中已写入的字节数 */
+    private int position;
+
+
+    // ==================== 构造器 ====================
+    /**
+     * @param out 输出流
+     * @throws NullPointerException 当 out 为 null 时
+     */
+    public ProfileCsvWriter( OutputStream out ){
+        this.out = Objects.requireNonNull( out, "参数 out( 输出流 )不能为 null" );
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 写出表头
+     *
+     * @throws IOException 当写出失败时
+     */
+    public void writeHeader() throws IOException{
+        StringBuilder header = new StringBuilder( "ROW" );
+        header.append( ProfileCsvFormat.DELIMITER ).append( BasicBodyParameter.WAIST_CIRCUMFERENCE.getAbbreviation() ).append( "_CATEGORY" );
+        for ( HealthMetric healthMetric : HealthMetric.values() ){
+            header.append( ProfileCsvFormat.DELIMITER ).append( healthMetric.getAbbreviation() );
+            header.append( ProfileCsvFormat.DELIMITER ).append( healthMetric.getAbbreviation() ).append( "_CATEGORY" );
+        }
+        header.append( ProfileCsvFormat.LINE_SEPARATOR );
+        byte[] bytes = header.toString().getBytes( StandardCharsets.UTF_8 );
+        ensureCapacity( bytes.length );
+        System.arraycopy( bytes, 0, buffer, position, bytes.length );
+        position += bytes.length;
+    }
+
+    /**
+     * 写出批次的前 rowCount 行
+     *
+     * @param batch 已由 {@link ProfileBatchScorer#score( ProfileBatch ) } 计算的档案批次
+     * @throws NullPointerException 当 batch 为 null 时
+     * @throws IOException 当写出失败时
+     */
+    public void write( ProfileBatch batch ) throws IOException{
+        Objects.requireNonNull( batch, "参数 batch( 档案批次 )不能为 null" );
+        HealthMetric[] healthMetrics = HealthMetric.values();
+        byte[] genderCodes = batch.scoringGenderCodes;
+        long rowNumber = batch.firstRowNumber;
+        for ( int row = 0; row < batch.rowCount; row++ ){
+            ensureCapacity( MAX_LINE_LENGTH );
+            int genderCode = genderCodes[ row ];
+            writeLong( rowNumber++ );
+            buffer[ position++ ] = ProfileCsvFormat.DELIMITER;
+            writeCategory( WAIST_CIRCUMFERENCE_CATEGORY_NAMES[ genderCode ], batch.waistCircumferenceOrdinals[ row ] );
+            for ( int m = 0; m < healthMetrics.length; m++ ){
+                buffer[ position++ ] = ProfileCsvFormat.DELIMITER;
+                writeDecimal( batch.metricColumns[ m ][ row ] );
+                buffer[ position++ ] = ProfileCsvFormat.DELIMITER;
+                writeCategory( METRIC_CATEGORY_NAMES[ m ][ genderCode ], batch.metricOrdinals[ m ][ row ] );
+            }
+            buffer[ position++ ] = ProfileCsvFormat.LINE_SEPARATOR;
+        }
+    }
+
+    /**
+     * 写出缓冲区并刷新输出流
+     *
+     * @throws IOException 当写出失败时
+     */
+    @Override
+    public void flush() throws IOException{
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException{
+        try {
+            flushBuffer();
+        } finally {
+            out.close();
+        }
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    private static byte[][] encodeCategoryNames( HealthMetricsLookupTable lookupTable ){
+        HealthMetricsIndex metricsIndex = lookupTable.getMetricsIndex();
+        byte[][] names = new byte[ metricsIndex.size() ][];
+        for ( int k = 0; k < names.length; k++ ){
+            names[ k ] = metricsIndex.getMetricsProvider( k ).toString().getBytes( StandardCharsets.UTF_8 );
+        }
+        return names;
+    }
+
+    private void ensureCapacity( int length ) throws IOException{
+        if ( buffer.length - position < length ){
+            flushBuffer();
+        }
+        if ( buffer.length < length ){
+            throw new IllegalStateException( String.format( "一次写出的字节数( %d )超过缓冲区大小( %d )", length, buffer.length ) );
+        }
+    }
+
+    private void flushBuffer() throws IOException{
+        if ( position > 0 ){
+            out.write( buffer, 0, position );
+            position = 0;
+        }
+    }
+
+    private void writeCategory( byte[][] names, byte ordinal ){
+        if ( ordinal == HealthMetricsIndex.OUT_OF_RANGE ) return;
+        byte[] name = names[ ordinal ];
+        System.arraycopy( name, 0, buffer, position, name.length );
+        position += name.length;
+    }
+
+    /**
+     * 写出保留 2 位小数的数值, NaN 不写出
+     */
+    private void writeDecimal( double value ){
+        if ( Double.isNaN( value ) ) return;
+        if ( value < 0 ){
+            buffer[ position++ ] = '-';
+            value = -value;
+        }
+        long scaled = Math.round( value * DECIMAL_SCALE );
+        long scale = ( long ) DECIMAL_SCALE;
+        writeLong( scaled / scale );
+        buffer[ position++ ] = '.';
+        long fraction = scaled % scale;
+        for ( long digitScale = scale / 10; digitScale > 0; digitScale /= 10 ){
+            buffer[ position++ ] = ( byte ) ( '0' + fraction / digitScale % 10 );
+        }
+    }
+
+    /**
+     * 写出非负整数
+     */
+    private void writeLong( long value ){
+        int digitCount = 1;
+        for ( long rest = value / 10; rest > 0; rest /= 10 ){
+            digitCount++;
+        }
+        int end = position + digitCount;
+        for ( int i = end - 1; i >= position; i-- ){
+            buffer[ i ] = ( byte ) ( '0' + value % 10 );
+            value /= 10;
+        }
+        position = end;
+    }
+}
@@ -0,0 +1,247 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.HealthMetricsIndex;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * 定长档案记录的内存布局: 一份档案占 {@value #RECORD_SIZE } 字节, 所有字段按自身宽度对齐, 小端字节序
+ * <pre>
+ *     偏移  宽度  字段
+ *       0    4   用户编号( int )
+ *       4    4   年龄( int, 无法识别为 -1 )
+ *       8    1   性别代码( byte, 女0 男1, 无法识别为 -1 )
+ *       9    7   各健康指标的区间序号( byte, 按 HealthMetric 的 ordinal, 未计算为 OUT_OF_RANGE )
+ *      16   56   年龄以外的 7 个基本身体参数( double, 按 BasicBodyParameter 的 ordinal, 缺失为 NaN )
+ *      72   56   7 个健康指标( double, 按 HealthMetric 的 ordinal, 无法计算为 NaN )
+ *     调用方传入的 ByteBuffer 必须已设为 {@link ByteOrder#LITTLE_ENDIAN }
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 22:10
+ */
+public final class ProfileRecordLayout {
+    // ==================== 常量 ====================
+    /** 一份档案记录的字节数 */
+    public static final int RECORD_SIZE = 128;
+
+    /*      各字段在记录中的偏移      */
+    public static final int ID_OFFSET = 0;
+    public static final int AGE_OFFSET = 4;
+    public static final int GENDER_CODE_OFFSET = 8;
+    public static final int METRIC_ORDINALS_OFFSET = 9;
+    public static final int PARAMETERS_OFFSET = 16;
+    public static final int METRICS_OFFSET = PARAMETERS_OFFSET + Double.BYTES * ( BasicBodyParameter.values().length - 1 );
+
+    /** 年龄以外的基本身体参数在记录中的偏移, 下标为 BasicBodyParameter 的 ordinal( AGE 对应的位置为 -1 ) */
+    private static final int[] PARAMETER_OFFSETS = new int[ BasicBodyParameter.values().length ];
+
+    static {
+        int offset = PARAMETERS_OFFSET;
+        for ( BasicBodyParameter parameter : BasicBodyParameter.values() ){
+            if ( parameter == BasicBodyParameter.AGE ){
+                PARAMETER_OFFSETS[ parameter.ordinal() ] = -1;
+            } else {
+                PARAMETER_OFFSETS[ parameter.ordinal() ] = offset;
+                offset += Double.BYTES;
+            }
+        }
+        if ( METRIC_ORDINALS_OFFSET + HealthMetric.values().length > PARAMETERS_OFFSET
+                || METRICS_OFFSET + Double.BYTES * HealthMetric.values().length > RECORD_SIZE ){
+            throw new ExceptionInInitializerError( "档案记录布局放不下全部字段" );
+        }
+    }
+
+
+    // ==================== 构造器 ====================
+    private ProfileRecordLayout(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * @param parameter 基本身体参数( 年龄除外 )
+     * @return 该参数在记录中的偏移
+     * @throws NullPointerException 当 parameter 为 null 时
+     * @throws IllegalArgumentException 当 parameter 为 AGE 时( 年龄为 int 字段, 偏移为 {@link #AGE_OFFSET } )
+     */
+    public static int parameterOffset( BasicBodyParameter parameter ){
+        Objects.requireNonNull( parameter, "参数 parameter( 基本身体参数 )不能为 null" );
+        if ( parameter == BasicBodyParameter.AGE ){
+            throw new IllegalArgumentException( "年龄为 int 字段, 偏移为 AGE_OFFSET" );
+        }
+        return PARAMETER_OFFSETS[ parameter.ordinal() ];
+    }
+
+    /**
+     * @param healthMetric 健康指标
+     * @return 该指标数值在记录中的偏移
+     * @throws NullPointerException 当 healthMetric 为 null 时
+     */
+    public static int metricOffset( HealthMetric healthMetric ){
+        Objects.requireNonNull( healthMetric, "参数 healthMetric( 健康指标 )不能为 null" );
+        return METRICS_OFFSET + Double.BYTES * healthMetric.ordinal();
+    }
+
+    /**
+     * @param healthMetric 健康指标
+     * @return 该指标区间序号在记录中的偏移
+     * @throws NullPointerException 当 healthMetric 为 null 时
+     */
+    public static int metricOrdinalOffset( HealthMetric healthMetric ){
+        Objects.requireNonNull( healthMetric, "参数 healthMetric( 健康指标 )不能为 null" );
+        return METRIC_ORDINALS_OFFSET + healthMetric.ordinal();
+    }
+
+    /**
+     * 把一份档案写为记录, 保存档案中已缓存的健康指标数值( 不触发计算, 未缓存的写为 NaN ), 区间序号写为 OUT_OF_RANGE
+     *
+     * @param buffer 小端字节序的缓冲区
+     * @param offset 记录在缓冲区中的起始位置
+     * @param id 用户编号
+     * @param profile 身体参数档案
+     * @throws NullPointerException 当 buffer 或 profile 为 null 时
+     * @throws IndexOutOfBoundsException 当缓冲区放不下记录时
+     */
+    public static void write( ByteBuffer buffer, int offset, int id, UserBodyProfile profile ){
+        Objects.requireNonNull( buffer, "参数 buffer( 缓冲区 )不能为 null" );
+        Objects.requireNonNull( profile, "参数 profile( 身体参数档案 )不能为 null" );
+        Objects.checkFromIndexSize( offset, RECORD_SIZE, buffer.limit() );
+        buffer.putInt( offset + ID_OFFSET, id );
+        buffer.putInt( offset + AGE_OFFSET, profile.getAge() );
+        buffer.put( offset + GENDER_CODE_OFFSET, ( profile.getGender() == null ? -1 : ( byte ) profile.getGender().getCode() ) );
+        putParameter( buffer, offset, BasicBodyParameter.WEIGHT, profile.getWeight() );
+        putParameter( buffer, offset, BasicBodyParameter.HEIGHT, profile.getHeight() );
+        putParameter( buffer, offset, BasicBodyParameter.WAIST_CIRCUMFERENCE, profile.getWaistCircumference() );
+        putParameter( buffer, offset, BasicBodyParameter.HIP_CIRCUMFERENCE, profile.getHipCircumference() );
+        putParameter( buffer, offset, BasicBodyParameter.NECK_CIRCUMFERENCE, profile.getNeckCircumference() );
+        putParameter( buffer, offset, BasicBodyParameter.ARM_CIRCUMFERENCE, profile.getArmCircumference() );
+        putParameter( buffer, offset, BasicBodyParameter.ACTIVITY_COEFFICIENT, profile.getActivityCoefficient() );
+        for ( HealthMetric healthMetric : HealthMetric.values() ){
+            putMetric( buffer, offset, healthMetric, getCachedMetric( profile, healthMetric ) );
+        }
+    }
+
+    /**
+     * 把记录读入档案: 基本身体数据逐项写入, 不是 NaN 的健康指标视为已缓存
+     *
+     * @param buffer 小端字节序的缓冲区
+     * @param offset 记录在缓冲区中的起始位置
+     * @param profile 输出: 身体参数档案
+     * @throws NullPointerException 当 buffer 或 profile 为 null 时
+     * @throws IndexOutOfBoundsException 当缓冲区放不下记录时
+     */
+    public static void read( ByteBuffer buffer, int offset, UserBodyProfile profile ){
+        Objects.requireNonNull( buffer, "参数 buffer( 缓冲区 )不能为 null" );
+        Objects.requireNonNull( profile, "参数 profile( 身体参数档案 )不能为 null" );
+        Objects.checkFromIndexSize( offset, RECORD_SIZE, buffer.limit() );
+        byte genderCode = buffer.get( offset + GENDER_CODE_OFFSET );
+        profile.setGender( Gender.isValidGenderCode( genderCode ) ? Gender.fromCode( genderCode ) : null );
+        profile.setAge( buffer.getInt( offset + AGE_OFFSET ) );
+        profile.setWeight( getParameter( buffer, offset, BasicBodyParameter.WEIGHT ) );
+        profile.setHeight( getParameter( buffer, offset, BasicBodyParameter.HEIGHT ) );
+        profile.setWaistCircumference( getParameter( buffer, offset, BasicBodyParameter.WAIST_CIRCUMFERENCE ) );
+        profile.setHipCircumference( getParameter( buffer, offset, BasicBodyParameter.HIP_CIRCUMFERENCE ) );
+        profile.setNeckCircumference( getParameter( buffer, offset, BasicBodyParameter.NECK_CIRCUMFERENCE ) );
+        profile.setArmCircumference( getParameter( buffer, offset, BasicBodyParameter.ARM_CIRCUMFERENCE ) );
+        profile.setActivityCoefficient( getParameter( buffer, offset, BasicBodyParameter.ACTIVITY_COEFFICIENT ) );
+        // 先写上游指标: 写入上游指标会让下游指标失效
+        double bmi = getMetric( buffer, offset, HealthMetric.BMI );
+        double bmr = getMetric( buffer, offset, HealthMetric.BMR );
+        double bsa = getMetric( buffer, offset, HealthMetric.BSA );
+        double whr = getMetric( buffer, offset, HealthMetric.WHR );
+        double bfr = getMetric( buffer, offset, HealthMetric.BFR );
+        double bri = getMetric( buffer, offset, HealthMetric.BRI );
+        double tdee = getMetric( buffer, offset, HealthMetric.TDEE );
+        if ( !Double.isNaN( bmi ) ) profile.setBMI( bmi );
+        if ( !Double.isNaN( bmr ) ) profile.setBMR( bmr );
+        if ( !Double.isNaN( bsa ) ) profile.setBSA( bsa );
+        if ( !Double.isNaN( whr ) ) profile.setWHR( whr );
+        if ( !Double.isNaN( bfr ) ) profile.setBFR( bfr );
+        if ( !Double.isNaN( bri ) ) profile.setBRI( bri );
+        if ( !Double.isNaN( tdee ) ) profile.setTDEE( tdee );
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * @return 档案中已缓存的健康指标数值, 未缓存时为 NaN
+     */
+    static double getCachedMetric( UserBodyProfile profile, HealthMetric healthMetric ){
+        if ( !profile.isCached( healthMetric ) ) return Double.NaN;
+        switch ( healthMetric ){
+            case BMI: return profile.getBMI();
+            case WHR: return profile.getWHR();
+            case BFR: return profile.getBFR();
+            case BRI: return profile.getBRI();
+            case BMR: return profile.getBMR();
+            case TDEE: return profile.getTDEE();
+            case BSA: return profile.getBSA();
+            default:
+                throw new IllegalArgumentException( String.format( "未知的健康指标: %s", healthMetric ) );
+        }
+    }
+
+    /**
+     * 把批次第 row 行的输入写为记录, 健康指标写为 NaN, 区间序号写为 OUT_OF_RANGE
+     */
+    static void writeInputs( ProfileBatch batch, int row, int id, ByteBuffer buffer, int offset ){
+        buffer.putInt( offset + ID_OFFSET, id );
+        buffer.putInt( offset + AGE_OFFSET, batch.ages[ row ] );
+        buffer.put( offset + GENDER_CODE_OFFSET, batch.genderCodes[ row ] );
+        for ( int p = 0; p < PARAMETER_OFFSETS.length; p++ ){
+            if ( PARAMETER_OFFSETS[ p ] >= 0 ){
+                buffer.putDouble( offset + PARAMETER_OFFSETS[ p ], batch.parameterColumns[ p ][ row ] );
+            }
+        }
+        for ( HealthMetric healthMetric : HealthMetric.values() ){
+            putMetric( buffer, offset, healthMetric, Double.NaN );
+        }
+    }
+
+    /**
+     * 把记录的输入读到批次第 row 行
+     */
+    static void readInputs( ByteBuffer buffer, int offset, ProfileBatch batch, int row ){
+        batch.ages[ row ] = buffer.getInt( offset + AGE_OFFSET );
+        batch.genderCodes[ row ] = buffer.get( offset + GENDER_CODE_OFFSET );
+        for ( int p = 0; p < PARAMETER_OFFSETS.length; p++ ){
+            if ( PARAMETER_OFFSETS[ p ] >= 0 ){
+                batch.parameterColumns[ p ][ row ] = buffer.getDouble( offset + PARAMETER_OFFSETS[ p ] );
+            }
+        }
+    }
+
+    /**
+     * 把批次第 row 行的健康指标及区间序号写回记录
+     */
+    static void writeResults( ProfileBatch batch, int row, ByteBuffer buffer, int offset ){
+        for ( int m = 0; m < batch.metricColumns.length; m++ ){
+            buffer.putDouble( offset + METRICS_OFFSET + Double.BYTES * m, batch.metricColumns[ m ][ row ] );
+            buffer.put( offset + METRIC_ORDINALS_OFFSET + m, batch.metricOrdinals[ m ][ row ] );
+        }
+    }
+
+    private static double getParameter( ByteBuffer buffer, int offset, BasicBodyParameter parameter ){
+        return buffer.getDouble( offset + PARAMETER_OFFSETS[ parameter.ordinal() ] );
+    }
+
+    private static void putParameter( ByteBuffer buffer, int offset, BasicBodyParameter parameter, double value ){
+        buffer.putDouble( offset + PARAMETER_OFFSETS[ parameter.ordinal() ], value );
+    }
+
+    private static double getMetric( ByteBuffer buffer, int offset, HealthMetric healthMetric ){
+        return buffer.getDouble( offset + METRICS_OFFSET + Double.BYTES * healthMetric.ordinal() );
+    }
+
+    private static void putMetric( ByteBuffer buffer, int offset, HealthMetric healthMetric, double value ){
+        buffer.putDouble( offset + METRICS_OFFSET + Double.BYTES * healthMetric.ordinal(), value );
+        buffer.put( offset + METRIC_ORDINALS_OFFSET + healthMetric.ordinal(), ( byte ) HealthMetricsIndex.OUT_OF_RANGE );
+    }
+}
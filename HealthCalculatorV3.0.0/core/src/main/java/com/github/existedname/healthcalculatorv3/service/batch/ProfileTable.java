@@ -0,0 +1,459 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.service.analysis.metrics.HealthMetricsIndex;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * 档案表: 列式( struct-of-arrays )保存一整个人群的档案, 代替逐个 {@link User } 对象
+ * <pre>
+ *     1. 每一列都是基本类型数组: 用户编号列 int[]、性别代码列 byte[]( 女0 男1, 未知为 -1 )、年龄列 int[],
+ *        其余基本身体参数按 {@link BasicBodyParameter } 的 ordinal 各一列 double[], 健康指标按 {@link HealthMetric } 的 ordinal
+ *        各一列 double[] 数值与一列 byte[] 区间序号; 一百万份档案只占十几个数组, 按列扫描时内存连续
+ *     2. 容量不足时按 1.5 倍扩容, 所有列的长度都等于容量, 只有前 size 行有效; {@link #trimToSize() } 后列长度等于行数,
+ *        可以直接传给要求整列长度一致的批量计算器和 {@link com.github.existedname.healthcalculatorv3.service.analysis.metrics.HealthMetricBatchAssessor }
+ *     3. {@link #score() } 按 {@value ProfileBatch#DEFAULT_CAPACITY } 行一段复制到 {@link ProfileBatch } 中, 用 {@link ProfileBatchScorer }
+ *        按列计算后把健康指标及区间序号写回, 表中的输入列保留原始数据
+ *     4. {@link Row } 是某一行的视图, 可以用 {@link Row#moveTo( int ) } 复用同一个视图逐行访问, 需要对象时再用 {@link Row#toUser() } 转换
+ *     5. 非线程安全
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 22:00
+ */
+public final class ProfileTable {
+    // ==================== 常量 ====================
+    /** 默认初始容量( 行数 ) */
+    public static final int DEFAULT_INITIAL_CAPACITY = 1 << 10;
+    /** 最大容量( 部分虚拟机保留数组头部的几个字 ) */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+
+    // ==================== 实例变量 ====================
+    /** 当前行数 */
+    private int size;
+
+    /*      输入列      */
+    /** 用户编号列 */
+    private int[] ids;
+    /** 性别代码列 */
+    private byte[] genderCodes;
+    /** 年龄列 */
+    private int[] ages;
+    /** 其余基本身体参数列, 下标为 BasicBodyParameter 的 ordinal( AGE 对应的位置为 null ) */
+    private final double[][] parameterColumns = new double[ BasicBodyParameter.values().length ][];
+
+    /*      结果列      */
+    /** 健康指标列, 下标为 HealthMetric 的 ordinal */
+    private final double[][] metricColumns = new double[ HealthMetric.values().length ][];
+    /** 健康指标的区间序号列, 下标为 HealthMetric 的 ordinal */
+    private final byte[][] metricOrdinals = new byte[ HealthMetric.values().length ][];
+
+
+    // ==================== 构造器 ====================
+    /**
+     * 创建默认初始容量( {@value #DEFAULT_INITIAL_CAPACITY } 行 )的档案表
+     */
+    public ProfileTable(){
+        this( DEFAULT_INITIAL_CAPACITY );
+    }
+
+    /**
+     * @param initialCapacity 初始容量( 行数 )
+     * @throws IllegalArgumentException 当 initialCapacity 为负数或超过最大容量时
+     */
+    public ProfileTable( int initialCapacity ){
+        if ( initialCapacity < 0 || initialCapacity > MAX_CAPACITY ){
+            throw new IllegalArgumentException( String.format( "参数 initialCapacity( 初始容量 ) = %d 不在 [ 0, %d ] 内", initialCapacity, MAX_CAPACITY ) );
+        }
+        resize( initialCapacity );
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 追加一个用户的档案
+     *
+     * @param user 用户
+     * @return 新行的下标
+     * @throws NullPointerException 当 user 为 null 时
+     */
+    public int append( User user ){
+        Objects.requireNonNull( user, "参数 user( 用户 )不能为 null" );
+        return append( user.getId(), user );
+    }
+
+    /**
+     * 追加一份档案, 保存档案中已缓存的健康指标数值( 不触发计算, 未缓存的为 NaN ), 需要按输入重新计算时调用 {@link #score() }
+     *
+     * @param id 用户编号
+     * @param profile 身体参数档案
+     * @return 新行的下标
+     * @throws NullPointerException 当 profile 为 null 时
+     * @throws IllegalStateException 当行数已达最大容量时
+     */
+    public int append( int id, UserBodyProfile profile ){
+        Objects.requireNonNull( profile, "参数 profile( 身体参数档案 )不能为 null" );
+        ensureCapacity( size + 1 );
+        int row = size++;
+        ids[ row ] = id;
+        genderCodes[ row ] = ( profile.getGender() == null ? -1 : ( byte ) profile.getGender().getCode() );
+        ages[ row ] = profile.getAge();
+        setParameter( BasicBodyParameter.WEIGHT, row, profile.getWeight() );
+        setParameter( BasicBodyParameter.HEIGHT, row, profile.getHeight() );
+        setParameter( BasicBodyParameter.WAIST_CIRCUMFERENCE, row, profile.getWaistCircumference() );
+        setParameter( BasicBodyParameter.HIP_CIRCUMFERENCE, row, profile.getHipCircumference() );
+        setParameter( BasicBodyParameter.NECK_CIRCUMFERENCE, row, profile.getNeckCircumference() );
+        setParameter( BasicBodyParameter.ARM_CIRCUMFERENCE, row, profile.getArmCircumference() );
+        setParameter( BasicBodyParameter.ACTIVITY_COEFFICIENT, row, profile.getActivityCoefficient() );
+        for ( HealthMetric healthMetric : HealthMetric.values() ){
+            setMetric( healthMetric, row, ProfileRecordLayout.getCachedMetric( profile, healthMetric ) );
+        }
+        return row;
+    }
+
+    /**
+     * 批量追加用户的档案, 只扩容一次
+     *
+     * @param users 用户集合
+     * @throws NullPointerException 当 users 或其中任意用户为 null 时
+     * @throws IllegalStateException 当行数超过最大容量时
+     */
+    public void appendAll( Collection< ? extends User > users ){
+        Objects.requireNonNull( users, "参数 users( 用户集合 )不能为 null" );
+        ensureCapacity( ( int ) Math.min( ( long ) size + users.size(), Integer.MAX_VALUE ) );
+        for ( User user : users ){
+            append( user );
+        }
+    }
+
+    /**
+     * 从档案批次读取器批量追加档案, 每批按列整段复制; 用户编号为档案的行号, 健康指标为 NaN( 需要时调用 {@link #score() } )
+     *
+     * @param reader 档案批次读取器( 不关闭 )
+     * @return 追加的行数
+     * @throws NullPointerException 当 reader 为 null 时
+     * @throws IllegalStateException 当行数超过最大容量或行号超过 int 范围时
+     * @throws IOException 当读取失败时
+     */
+    public int load( ProfileBatchReader reader ) throws IOException{
+        Objects.requireNonNull( reader, "参数 reader( 档案批次读取器 )不能为 null" );
+        ProfileBatch batch = new ProfileBatch();
+        int oldSize = size;
+        while ( reader.read( batch ) ){
+            int count = batch.rowCount;
+            ensureCapacity( ( int ) Math.min( ( long ) size + count, Integer.MAX_VALUE ) );
+            if ( batch.firstRowNumber + count - 1 > Integer.MAX_VALUE ){
+                throw new IllegalStateException( String.format( "行号 %d 超过用户编号的范围", batch.firstRowNumber + count - 1 ) );
+            }
+            for ( int i = 0; i < count; i++ ){
+                ids[ size + i ] = ( int ) ( batch.firstRowNumber + i );
+            }
+            System.arraycopy( batch.genderCodes, 0, genderCodes, size, count );
+            System.arraycopy( batch.ages, 0, ages, size, count );
+            for ( int p = 0; p < parameterColumns.length; p++ ){
+                if ( parameterColumns[ p ] != null ){
+                    System.arraycopy( batch.parameterColumns[ p ], 0, parameterColumns[ p ], size, count );
+                }
+            }
+            for ( int m = 0; m < metricColumns.length; m++ ){
+                Arrays.fill( metricColumns[ m ], size, size + count, Double.NaN );
+                Arrays.fill( metricOrdinals[ m ], size, size + count, ( byte ) HealthMetricsIndex.OUT_OF_RANGE );
+            }
+            size += count;
+        }
+        return size - oldSize;
+    }
+
+    /**
+     * 按输入列重新计算全部行的健康指标及区间序号( 公式与 {@link ProfileBatchScorer } 一致, 无法计算的为 NaN / OUT_OF_RANGE ),
+     * 输入列不变
+     */
+    public void score(){
+        if ( size == 0 ) return;
+        ProfileBatch batch = new ProfileBatch( Math.min( size, ProfileBatch.DEFAULT_CAPACITY ) );
+        for ( int from = 0; from < size; from += batch.getCapacity() ){
+            int count = Math.min( batch.getCapacity(), size - from );
+            batch.clear( from + 1 );
+            batch.rowCount = count;
+            System.arraycopy( genderCodes, from, batch.genderCodes, 0, count );
+            System.arraycopy( ages, from, batch.ages, 0, count );
+            for ( int p = 0; p < parameterColumns.length; p++ ){
+                if ( parameterColumns[ p ] != null ){
+                    System.arraycopy( parameterColumns[ p ], from, batch.parameterColumns[ p ], 0, count );
+                }
+            }
+            ProfileBatchScorer.score( batch );
+            for ( int m = 0; m < metricColumns.length; m++ ){
+                System.arraycopy( batch.metricColumns[ m ], 0, metricColumns[ m ], from, count );
+                System.arraycopy( batch.metricOrdinals[ m ], 0, metricOrdinals[ m ], from, count );
+            }
+        }
+    }
+
+    /**
+     * 保证容量至少为 minCapacity, 不足时按 1.5 倍( 至少 minCapacity )扩容
+     *
+     * @param minCapacity 最小容量
+     * @throws IllegalStateException 当 minCapacity 超过最大容量时
+     */
+    public void ensureCapacity( int minCapacity ){
+        if ( minCapacity < 0 || minCapacity > MAX_CAPACITY ){
+            throw new IllegalStateException( String.format( "档案表的容量不能超过 %d 行", MAX_CAPACITY ) );
+        }
+        int capacity = ids.length;
+        if ( minCapacity > capacity ){
+            resize( ( int ) Math.min( MAX_CAPACITY, Math.max( minCapacity, capacity + ( long ) ( capacity >> 1 ) ) ) );
+        }
+    }
+
+    /**
+     * 把所有列的长度缩减为行数
+     */
+    public void trimToSize(){
+        if ( ids.length != size ) resize( size );
+    }
+
+    /**
+     * 清空档案表( 不释放容量 )
+     */
+    public void clear(){
+        size = 0;
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public int getCapacity(){
+        return ids.length;
+    }
+
+    /**
+     * @return 用户编号列( 内部数组, 长度为容量, 前 size 行有效 )
+     */
+    public int[] getIds(){
+        return ids;
+    }
+
+    /**
+     * @return 性别代码列( 内部数组, 长度为容量, 前 size 行有效 )
+     */
+    public byte[] getGenderCodes(){
+        return genderCodes;
+    }
+
+    /**
+     * @return 年龄列( 内部数组, 长度为容量, 前 size 行有效 )
+     */
+    public int[] getAges(){
+        return ages;
+    }
+
+    /**
+     * 获取基本身体参数列( 内部数组, 长度为容量, 前 size 行有效 )
+     *
+     * @param parameter 基本身体参数( 年龄除外 )
+     * @return 参数列
+     * @throws NullPointerException 当 parameter 为 null 时
+     * @throws IllegalArgumentException 当 parameter 为 AGE 时( 年龄列为 int[], 使用 {@link #getAges() } )
+     */
+    public double[] getParameterColumn( BasicBodyParameter parameter ){
+        Objects.requireNonNull( parameter, "参数 parameter( 基本身体参数 )不能为 null" );
+        if ( parameter == BasicBodyParameter.AGE ){
+            throw new IllegalArgumentException( "年龄列为 int[], 请使用 getAges()" );
+        }
+        return parameterColumns[ parameter.ordinal() ];
+    }
+
+    /**
+     * 获取健康指标列( 内部数组, 长度为容量, 前 size 行有效 )
+     *
+     * @param healthMetric 健康指标
+     * @return 健康指标列
+     * @throws NullPointerException 当 healthMetric 为 null 时
+     */
+    public double[] getMetricColumn( HealthMetric healthMetric ){
+        Objects.requireNonNull( healthMetric, "参数 healthMetric( 健康指标 )不能为 null" );
+        return metricColumns[ healthMetric.ordinal() ];
+    }
+
+    /**
+     * 获取健康指标的区间序号列( 内部数组, 长度为容量, 前 size 行有效; 只有 {@link #score() } 算过的行有意义, 其余为 OUT_OF_RANGE )
+     *
+     * @param healthMetric 健康指标
+     * @return 区间序号列( 区分性别的指标为对应性别指标集的 ordinal )
+     * @throws NullPointerException 当 healthMetric 为 null 时
+     */
+    public byte[] getMetricOrdinals( HealthMetric healthMetric ){
+        Objects.requireNonNull( healthMetric, "参数 healthMetric( 健康指标 )不能为 null" );
+        return metricOrdinals[ healthMetric.ordinal() ];
+    }
+
+    /**
+     * 创建某一行的视图
+     *
+     * @param row 行下标
+     * @return 行视图
+     * @throws IndexOutOfBoundsException 当 row 不在 [ 0, size ) 内时
+     */
+    public Row getRow( int row ){
+        return new Row( this ).moveTo( row );
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 把所有列复制到长度为 capacity 的新数组( 新增的行区间序号为 OUT_OF_RANGE )
+     */
+    private void resize( int capacity ){
+        int oldCapacity = ( ids == null ? 0 : ids.length );
+        ids = ( ids == null ? new int[ capacity ] : Arrays.copyOf( ids, capacity ) );
+        genderCodes = ( genderCodes == null ? new byte[ capacity ] : Arrays.copyOf( genderCodes, capacity ) );
+        ages = ( ages == null ? new int[ capacity ] : Arrays.copyOf( ages, capacity ) );
+        for ( BasicBodyParameter parameter : BasicBodyParameter.values() ){
+            if ( parameter != BasicBodyParameter.AGE ){
+                double[] column = parameterColumns[ parameter.ordinal() ];
+                parameterColumns[ parameter.ordinal() ] = ( column == null ? new double[ capacity ] : Arrays.copyOf( column, capacity ) );
+            }
+        }
+        for ( int m = 0; m < metricColumns.length; m++ ){
+            metricColumns[ m ] = ( metricColumns[ m ] == null ? new double[ capacity ] : Arrays.copyOf( metricColumns[ m ], capacity ) );
+            metricOrdinals[ m ] = ( metricOrdinals[ m ] == null ? new byte[ capacity ] : Arrays.copyOf( metricOrdinals[ m ], capacity ) );
+            if ( capacity > oldCapacity ){
+                Arrays.fill( metricOrdinals[ m ], oldCapacity, capacity, ( byte ) HealthMetricsIndex.OUT_OF_RANGE );
+            }
+        }
+    }
+
+    private void setParameter( BasicBodyParameter parameter, int row, double value ){
+        parameterColumns[ parameter.ordinal() ][ row ] = value;
+    }
+
+    private void setMetric( HealthMetric healthMetric, int row, double value ){
+        metricColumns[ healthMetric.ordinal() ][ row ] = value;
+        metricOrdinals[ healthMetric.ordinal() ][ row ] = ( byte ) HealthMetricsIndex.OUT_OF_RANGE;
+    }
+
+
+    // ==================== 内部类 ====================
+    /**
+     * 档案表某一行的只读视图, 不复制数据; 可以用 {@link #moveTo( int ) } 移到其他行复用
+     */
+    public static final class Row {
+        private final ProfileTable table;
+        private int row;
+
+        private Row( ProfileTable table ){
+            this.table = table;
+        }
+
+        /**
+         * 移到另一行
+         *
+         * @param row 行下标
+         * @return 当前视图
+         * @throws IndexOutOfBoundsException 当 row 不在 [ 0, size ) 内时
+         */
+        public Row moveTo( int row ){
+            this.row = Objects.checkIndex( row, table.size );
+            return this;
+        }
+
+        public int getIndex(){
+            return row;
+        }
+
+        public int getId(){
+            return table.ids[ row ];
+        }
+
+        /**
+         * @return 性别代码( 女0 男1 ), 未知为 -1
+         */
+        public byte getGenderCode(){
+            return table.genderCodes[ row ];
+        }
+
+        /**
+         * @return 性别, 未知时为 null
+         */
+        public Gender getGender(){
+            byte genderCode = table.genderCodes[ row ];
+            return ( Gender.isValidGenderCode( genderCode ) ? Gender.fromCode( genderCode ) : null );
+        }
+
+        public int getAge(){
+            return table.ages[ row ];
+        }
+
+        /**
+         * @param parameter 基本身体参数( AGE 返回年龄 )
+         * @return 参数值
+         * @throws NullPointerException 当 parameter 为 null 时
+         */
+        public double getParameter( BasicBodyParameter parameter ){
+            Objects.requireNonNull( parameter, "参数 parameter( 基本身体参数 )不能为 null" );
+            return ( parameter == BasicBodyParameter.AGE ?
+                    table.ages[ row ] :
+                    table.parameterColumns[ parameter.ordinal() ][ row ] );
+        }
+
+        /**
+         * @param healthMetric 健康指标
+         * @return 健康指标数值
+         * @throws NullPointerException 当 healthMetric 为 null 时
+         */
+        public double getMetric( HealthMetric healthMetric ){
+            Objects.requireNonNull( healthMetric, "参数 healthMetric( 健康指标 )不能为 null" );
+            return table.metricColumns[ healthMetric.ordinal() ][ row ];
+        }
+
+        /**
+         * @param healthMetric 健康指标
+         * @return 区间序号, 未计算或不在有效范围内时为 {@link HealthMetricsIndex#OUT_OF_RANGE }
+         * @throws NullPointerException 当 healthMetric 为 null 时
+         */
+        public int getMetricOrdinal( HealthMetric healthMetric ){
+            Objects.requireNonNull( healthMetric, "参数 healthMetric( 健康指标 )不能为 null" );
+            return table.metricOrdinals[ healthMetric.ordinal() ][ row ];
+        }
+
+        /**
+         * 转换为用户对象( 不含姓名 ), 不是 NaN 的健康指标视为已缓存
+         *
+         * @return 新的用户对象
+         */
+        public User toUser(){
+            User user = new User();
+            user.setId( getId() );
+            user.setGender( getGender() );
+            user.setAge( getAge() );
+            user.setWeight( getParameter( BasicBodyParameter.WEIGHT ) );
+            user.setHeight( getParameter( BasicBodyParameter.HEIGHT ) );
+            user.setWaistCircumference( getParameter( BasicBodyParameter.WAIST_CIRCUMFERENCE ) );
+            user.setHipCircumference( getParameter( BasicBodyParameter.HIP_CIRCUMFERENCE ) );
+            user.setNeckCircumference( getParameter( BasicBodyParameter.NECK_CIRCUMFERENCE ) );
+            user.setArmCircumference( getParameter( BasicBodyParameter.ARM_CIRCUMFERENCE ) );
+            user.setActivityCoefficient( getParameter( BasicBodyParameter.ACTIVITY_COEFFICIENT ) );
+            // 先写上游指标: 写入上游指标会让下游指标失效
+            if ( !Double.isNaN( getMetric( HealthMetric.BMI ) ) ) user.setBMI( getMetric( HealthMetric.BMI ) );
+            if ( !Double.isNaN( getMetric( HealthMetric.BMR ) ) ) user.setBMR( getMetric( HealthMetric.BMR ) );
+            if ( !Double.isNaN( getMetric( HealthMetric.BSA ) ) ) user.setBSA( getMetric( HealthMetric.BSA ) );
+            if ( !Double.isNaN( getMetric( HealthMetric.WHR ) ) ) user.setWHR( getMetric( HealthMetric.WHR ) );
+            if ( !Double.isNaN( getMetric( HealthMetric.BFR ) ) ) user.setBFR( getMetric( HealthMetric.BFR ) );
+            if ( !Double.isNaN( getMetric( HealthMetric.BRI ) ) ) user.setBRI( getMetric( HealthMetric.BRI ) );
+            if ( !Double.isNaN( getMetric( HealthMetric.TDEE ) ) ) user.setTDEE( getMetric( HealthMetric.TDEE ) );
+            return user;
+        }
+    }
+}
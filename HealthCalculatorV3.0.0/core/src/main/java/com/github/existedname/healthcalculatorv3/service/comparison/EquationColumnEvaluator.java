@@ -0,0 +1,176 @@
+package com.github.existedname.healthcalculatorv3.service.comparison;
+
+import com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BFRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMICalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BSACalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.ApplicabilityMask;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.BodyColumns;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.Equation;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.EquationInput;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 公式列计算器( 包内使用 ): 把一段档案转为输入列, 再用各公式的批量计算方法得到 用户 × 公式 结果列
+ * <pre>
+ *     1. 中间指标列( BMI、BFR、BSA )与 {@link EquationComparisonEngine } 单份对比一致: 由体重、身高,
+ *        Deurenberg 公式, Du Bois 公式批量算出
+ *     2. 只计算适用的( 行, 公式 ): 先按 {@link ApplicabilityMask } 把适用的行收集为一组较短的输入列,
+ *        算完再写回原位置, 其余行为 NaN( 如超出 Gallagher 公式的年龄、BMI 范围, 或没有测量美国海军公式需要的围度 )
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 20:30
+ */
+final class EquationColumnEvaluator {
+    // ==================== 构造器 ====================
+    private EquationColumnEvaluator(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 把档案列表的 [ fromIndex, toIndex ) 部分转为输入列, 并按公式需要算出中间指标列
+     *
+     * @param profiles 身体档案
+     * @param fromIndex 起始下标( 含 )
+     * @param toIndex 结束下标( 不含 )
+     * @param equations 待计算的公式
+     * @return 输入列, 长度为 toIndex - fromIndex
+     * @throws NullPointerException 当档案或档案的性别为 null 时
+     */
+    static BodyColumns toBodyColumns( List< ? extends UserBodyProfile > profiles, int fromIndex, int toIndex,
+                                      List< Equation > equations ){
+        int rowCount = toIndex - fromIndex;
+        byte[] genderCodes = new byte[ rowCount ];
+        int[] ages = new int[ rowCount ];
+        double[] weights = new double[ rowCount ];
+        double[] heights = new double[ rowCount ];
+        double[] waistCircumferences = new double[ rowCount ];
+        double[] hipCircumferences = new double[ rowCount ];
+        double[] neckCircumferences = new double[ rowCount ];
+        for ( int row = 0; row < rowCount; row++ ){
+            UserBodyProfile profile = Objects.requireNonNull( profiles.get( fromIndex + row ),
+                    "参数 profiles 中的档案不能为 null" );
+            genderCodes[ row ] = ( byte ) Objects.requireNonNull( profile.getGender(), "档案的性别不能为 null" ).getCode();
+            ages[ row ] = profile.getAge();
+            weights[ row ] = profile.getWeight();
+            heights[ row ] = profile.getHeight();
+            waistCircumferences[ row ] = profile.getWaistCircumference();
+            hipCircumferences[ row ] = profile.getHipCircumference();
+            neckCircumferences[ row ] = profile.getNeckCircumference();
+        }
+
+        BodyColumns columns = new BodyColumns();
+        columns.setGenderCodes( genderCodes );
+        columns.setAges( ages );
+        columns.setWeights( weights );
+        columns.setHeights( heights );
+        columns.setWaistCircumferences( waistCircumferences );
+        columns.setHipCircumferences( hipCircumferences );
+        columns.setNeckCircumferences( neckCircumferences );
+
+        boolean needsBFR = requiresInput( equations, EquationInput.BFR );
+        if ( requiresInput( equations, EquationInput.BMI ) || needsBFR ){
+            double[] bmis = new double[ rowCount ];
+            BMICalculator.calculateBMI( weights, heights, bmis );
+            columns.setBmis( bmis );
+        }
+        if ( needsBFR ){
+            double[] bfrs = new double[ rowCount ];
+            BFRCalculator.calculateBFRByDeurenbergEquation( columns.getBmis(), ages, genderCodes, bfrs );
+            columns.setBfrs( bfrs );
+        }
+        if ( requiresInput( equations, EquationInput.BSA ) ){
+            double[] bsas = new double[ rowCount ];
+            BSACalculator.calculateBSAByDuBoisEquation( heights, weights, bsas );
+            columns.setBsas( bsas );
+        }
+        return columns;
+    }
+
+    /**
+     * 用每个公式计算整组输入列, 第 k 个公式的结果写入 out[ k ]( 不适用该公式的行写入 NaN )
+     *
+     * @param equations 公式
+     * @param columns 输入列
+     * @param rowCount 行数
+     * @param out 输出矩阵, 行数 = 公式数, 每行长度 = rowCount
+     */
+    static void evaluate( List< Equation > equations, BodyColumns columns, int rowCount, double[][] out ){
+        for ( int k = 0; k < equations.size(); k++ ){
+            Equation equation = equations.get( k );
+            ApplicabilityMask applicabilityMask = ApplicabilityMask.of( equation, columns, rowCount );
+            if ( applicabilityMask.isAllApplicable() ){
+                equation.evaluate( columns, out[ k ] );
+                continue;
+            }
+            Arrays.fill( out[ k ], Double.NaN );
+            int[] applicableRows = applicabilityMask.toRowIndexes();
+            if ( applicableRows.length == 0 ) continue;
+
+            double[] applicableOut = new double[ applicableRows.length ];
+            equation.evaluate( gather( columns, applicableRows ), applicableOut );
+            for ( int i = 0; i < applicableRows.length; i++ ){
+                out[ k ][ applicableRows[ i ] ] = applicableOut[ i ];
+            }
+        }
+    }
+
+    static boolean requiresInput( List< Equation > equations, EquationInput equationInput ){
+        for ( int i = 0; i < equations.size(); i++ ){
+            if ( equations.get( i ).getInputs().contains( equationInput ) ) return true;
+        }
+        return false;
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 收集指定行, 组成一组较短的输入列( 只收集非 null 的列 )
+     */
+    private static BodyColumns gather( BodyColumns columns, int[] rows ){
+        BodyColumns gathered = new BodyColumns();
+        gathered.setGenderCodes( gather( columns.getGenderCodes(), rows ) );
+        gathered.setAges( gather( columns.getAges(), rows ) );
+        gathered.setWeights( gather( columns.getWeights(), rows ) );
+        gathered.setHeights( gather( columns.getHeights(), rows ) );
+        gathered.setWaistCircumferences( gather( columns.getWaistCircumferences(), rows ) );
+        gathered.setHipCircumferences( gather( columns.getHipCircumferences(), rows ) );
+        gathered.setNeckCircumferences( gather( columns.getNeckCircumferences(), rows ) );
+        gathered.setBmis( gather( columns.getBmis(), rows ) );
+        gathered.setBfrs( gather( columns.getBfrs(), rows ) );
+        gathered.setBsas( gather( columns.getBsas(), rows ) );
+        return gathered;
+    }
+
+    private static double[] gather( double[] column, int[] rows ){
+        if ( column == null ) return null;
+        double[] gathered = new double[ rows.length ];
+        for ( int i = 0; i < rows.length; i++ ){
+            gathered[ i ] = column[ rows[ i ] ];
+        }
+        return gathered;
+    }
+
+    private static int[] gather( int[] column, int[] rows ){
+        if ( column == null ) return null;
+        int[] gathered = new int[ rows.length ];
+        for ( int i = 0; i < rows.length; i++ ){
+            gathered[ i ] = column[ rows[ i ] ];
+        }
+        return gathered;
+    }
+
+    private static byte[] gather( byte[] column, int[] rows ){
+        if ( column == null ) return null;
+        byte[] gathered = new byte[ rows.length ];
+        for ( int i = 0; i < rows.length; i++ ){
+            gathered[ i ] = column[ rows[ i ] ];
+        }
+        return gathered;
+    }
+}
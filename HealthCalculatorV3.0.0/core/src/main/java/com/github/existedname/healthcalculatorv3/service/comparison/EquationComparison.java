@@ -0,0 +1,153 @@
+package com.github.existedname.healthcalculatorv3.service.comparison;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.Equation;
+
+import java.util.List;
+
+/**
+ * 一次公式对比的结果( 不可变 ): 同一健康指标的各个公式对同一份档案的计算结果及其统计量
+ * <pre>
+ *     1. 计算结果与公式一一对应( 下标相同 ), 存放在 double[] 中; 因缺少围度等输入而未计算的公式记为 NaN
+ *     2. 最小值、最大值、平均值、标准差只统计已计算的结果, 由 {@link RunningStatistics } 一次遍历算出,
+ *        与多份档案汇总( {@link EquationComparisonSummary } )的统计口径一致
+ *     3. 对象创建后不再修改, 可以在线程之间自由传递, 控制台只负责渲染
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 19:55
+ */
+public final class EquationComparison {
+    // ==================== 实例变量 ====================
+    /** 对比的健康指标 */
+    private final HealthMetric metric;
+    /** 参与对比的公式( 不可修改 ) */
+    private final List< Equation > equations;
+    /** 各公式的计算结果, 未计算的为 NaN */
+    private final double[] values;
+    /** 各公式的适用范围是否包含本档案( 没有年龄时视为适用 ) */
+    private final boolean[] applicable;
+    /** 已计算的结果个数 */
+    private final int evaluatedCount;
+    private final double minValue;
+    private final double maxValue;
+    private final double meanValue;
+    /** 样本标准差 */
+    private final double standardDeviation;
+
+
+    // ==================== 构造器 ====================
+    /**
+     * 由引擎创建, values、applicable 直接被持有( 调用方不再修改 )
+     */
+    EquationComparison( HealthMetric metric, List< Equation > equations, double[] values, boolean[] applicable ){
+        this.metric = metric;
+        this.equations = equations;
+        this.values = values;
+        this.applicable = applicable;
+
+        RunningStatistics statistics = new RunningStatistics();
+        for ( double value : values ){
+            statistics.accept( value );
+        }
+        this.evaluatedCount = ( int ) statistics.getCount();
+        this.minValue = statistics.getMinValue();
+        this.maxValue = statistics.getMaxValue();
+        this.meanValue = statistics.getMean();
+        this.standardDeviation = statistics.getStandardDeviation();
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * @param equation 公式
+     * @return 公式在本次对比中的下标, 未参与对比时返回 -1
+     */
+    public int indexOf( Equation equation ){
+        return equations.indexOf( equation );
+    }
+
+    /**
+     * @param index 公式下标
+     * @return 该公式的计算结果, 未计算时为 NaN
+     * @throws ArrayIndexOutOfBoundsException 当 index 不在 [ 0, 公式数 ) 内时
+     */
+    public double getValue( int index ){
+        return values[ index ];
+    }
+
+    /**
+     * @param index 公式下标
+     * @return 该公式是否已计算
+     * @throws ArrayIndexOutOfBoundsException 当 index 不在 [ 0, 公式数 ) 内时
+     */
+    public boolean isEvaluated( int index ){
+        return !Double.isNaN( values[ index ] );
+    }
+
+    /**
+     * @param index 公式下标
+     * @return 档案是否在该公式的适用范围内( 没有年龄时视为适用 )
+     * @throws ArrayIndexOutOfBoundsException 当 index 不在 [ 0, 公式数 ) 内时
+     */
+    public boolean isApplicable( int index ){
+        return applicable[ index ];
+    }
+
+    /**
+     * @return 各公式的计算结果( 副本 ), 未计算的为 NaN
+     */
+    public double[] getValues(){
+        return values.clone();
+    }
+
+    public HealthMetric getMetric(){
+        return metric;
+    }
+
+    public List< Equation > getEquations(){
+        return equations;
+    }
+
+    /**
+     * @return 已计算的结果个数
+     */
+    public int getEvaluatedCount(){
+        return evaluatedCount;
+    }
+
+    /**
+     * @return 已计算结果的最小值, 没有结果时为 NaN
+     */
+    public double getMinValue(){
+        return minValue;
+    }
+
+    /**
+     * @return 已计算结果的最大值, 没有结果时为 NaN
+     */
+    public double getMaxValue(){
+        return maxValue;
+    }
+
+    /**
+     * @return 已计算结果的平均值, 没有结果时为 NaN
+     */
+    public double getMeanValue(){
+        return meanValue;
+    }
+
+    /**
+     * @return 已计算结果的样本标准差( 除以 n - 1 ), 少于 2 个结果时为 NaN
+     */
+    public double getStandardDeviation(){
+        return standardDeviation;
+    }
+
+    @Override
+    public String toString(){
+        return String.format( "EquationComparison{ metric=%s, evaluated=%d/%d, min=%s, max=%s, mean=%s, sd=%s }",
+                metric, evaluatedCount, values.length, minValue, maxValue, meanValue, standardDeviation );
+    }
+}
@@ -0,0 +1,430 @@
+package com.github.existedname.healthcalculatorv3.service.comparison;
+
+import com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.ApplicabilityRange;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.BodyColumns;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.Equation;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.EquationInput;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.EquationRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 公式对比引擎: 用同一健康指标的各个公式计算同一份档案, 得到不可变的 {@link EquationComparison }
+ * <pre>
+ *     1. 无共享可变状态: 每次对比复制一份输入档案并预先算出中间指标( BMI、BFR、BSA ), 结果写入局部 double[],
+ *        调用方的档案不会被修改, 多个会话同时对比互不干扰
+ *     2. 公式需要的围度( 腰围、臀围、颈围 )不在有效范围内时不计算该公式, 结果记为 NaN;
+ *        单份对比中超出公式适用范围的结果仍然计算, 只标记为不适用( 控制台提示结果仅供参考 )
+ *     3. 批量对比按 用户 × 公式 切分, 单元数超过 {@value #LEAF_CELL_COUNT } 时在 {@link ForkJoinPool#commonPool() } 中并行,
+ *        每个子任务只写自己负责的结果下标
+ *     4. 整批人群可生成列式的 用户 × 公式 矩阵( {@link EquationComparisonMatrix } ), 每 {@value #CHUNK_ROW_COUNT } 行一块,
+ *        用公式的批量计算方法逐块计算, 只计算适用的( 行, 公式 )( 按适用位图跳过超出适用范围或缺少围度的行 );
+ *        只需要统计量时按块流式汇总( {@link EquationComparisonSummary } ), 内存占用只与块大小有关
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 20:05
+ */
+public final class EquationComparisonEngine {
+    // ==================== 常量 ====================
+    /** 批量对比中一个子任务最多计算的 用户 × 公式 单元数 */
+    public static final int LEAF_CELL_COUNT = 1 << 12;
+    /** 矩阵计算与流式汇总每块的行数 */
+    public static final int CHUNK_ROW_COUNT = 1 << 14;
+
+
+    // ==================== 构造器 ====================
+    private EquationComparisonEngine(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 用注册表中计算该指标的全部公式对比一份档案
+     *
+     * @param metric 健康指标, 如 {@code HealthMetric.BMR }
+     * @param profile 身体档案( 不会被修改 )
+     * @return 对比结果
+     * @throws NullPointerException 当 metric 或 profile 为 null 时
+     * @throws IllegalArgumentException 当档案的基本数据( 性别、年龄、体重、身高 )不满足公式要求时
+     */
+    public static EquationComparison compare( HealthMetric metric, UserBodyProfile profile ){
+        Objects.requireNonNull( metric, "参数 metric( 健康指标 )不能为 null" );
+        return compare( metric, EquationRegistry.getEquations( metric ), profile );
+    }
+
+    /**
+     * 用指定公式对比一份档案( 如控制台只对比用户选择体验的公式 )
+     *
+     * @param metric 健康指标
+     * @param equations 参与对比的公式, 都必须计算 metric
+     * @param profile 身体档案( 不会被修改 )
+     * @return 对比结果, 下标与 equations 一一对应
+     * @throws NullPointerException 当参数或公式为 null 时
+     * @throws IllegalArgumentException 当有公式不计算 metric, 或档案的基本数据不满足公式要求时
+     */
+    public static EquationComparison compare( HealthMetric metric, List< Equation > equations, UserBodyProfile profile ){
+        List< Equation > comparedEquations = validateEquations( metric, equations );
+        Objects.requireNonNull( profile, "参数 profile( 身体档案 )不能为 null" );
+        return evaluate( metric, comparedEquations, profile );
+    }
+
+    /**
+     * 用注册表中计算该指标的全部公式对比一批档案
+     *
+     * @param metric 健康指标
+     * @param profiles 身体档案( 不会被修改 )
+     * @return 对比结果, 下标与 profiles 一一对应
+     * @throws NullPointerException 当参数或档案为 null 时
+     * @throws IllegalArgumentException 当某份档案的基本数据不满足公式要求时
+     */
+    public static EquationComparison[] compareAll( HealthMetric metric, List< ? extends UserBodyProfile > profiles ){
+        Objects.requireNonNull( metric, "参数 metric( 健康指标 )不能为 null" );
+        return compareAll( metric, EquationRegistry.getEquations( metric ), profiles );
+    }
+
+    /**
+     * 用指定公式对比一批档案
+     *
+     * @param metric 健康指标
+     * @param equations 参与对比的公式, 都必须计算 metric
+     * @param profiles 身体档案( 不会被修改 )
+     * @return 对比结果, 下标与 profiles 一一对应
+     * @throws NullPointerException 当参数、公式或档案为 null 时
+     * @throws IllegalArgumentException 当有公式不计算 metric, 或某份档案的基本数据不满足公式要求时
+     */
+    public static EquationComparison[] compareAll( HealthMetric metric, List< Equation > equations,
+                                                   List< ? extends UserBodyProfile > profiles ){
+        List< Equation > comparedEquations = validateEquations( metric, equations );
+        Objects.requireNonNull( profiles, "参数 profiles( 身体档案列表 )不能为 null" );
+        for ( int i = 0; i < profiles.size(); i++ ){
+            if ( profiles.get( i ) == null ){
+                throw new NullPointerException( String.format( "参数 profiles 的第 %d 个档案为 null", i ) );
+            }
+        }
+
+        EquationComparison[] comparisons = new EquationComparison[ profiles.size() ];
+        ComparisonTask task = new ComparisonTask( metric, comparedEquations, profiles, comparisons, 0, profiles.size() );
+        if ( ( long ) profiles.size() * Math.max( 1, comparedEquations.size() ) > LEAF_CELL_COUNT ){
+            ForkJoinPool.commonPool().invoke( task );
+        } else {
+            task.compute();
+        }
+        return comparisons;
+    }
+
+    /**
+     * 用注册表中计算该指标的全部公式计算一批档案, 得到列式的 用户 × 公式 矩阵
+     *
+     * @param metric 健康指标
+     * @param profiles 身体档案( 不会被修改 )
+     * @return 对比矩阵, 行与 profiles 一一对应
+     * @throws NullPointerException 当参数、档案或档案的性别为 null 时
+     * @throws IllegalArgumentException 当某份档案的基本数据不满足公式要求时
+     */
+    public static EquationComparisonMatrix compareMatrix( HealthMetric metric, List< ? extends UserBodyProfile > profiles ){
+        Objects.requireNonNull( metric, "参数 metric( 健康指标 )不能为 null" );
+        return compareMatrix( metric, EquationRegistry.getEquations( metric ), profiles );
+    }
+
+    /**
+     * 用指定公式计算一批档案, 得到列式的 用户 × 公式 矩阵; 超过一块时各块在 {@link ForkJoinPool#commonPool() } 中并行计算
+     *
+     * @param metric 健康指标
+     * @param equations 参与对比的公式, 都必须计算 metric
+     * @param profiles 身体档案( 不会被修改 )
+     * @return 对比矩阵, 第 k 列对应 equations 的第 k 个公式
+     * @throws NullPointerException 当参数、档案或档案的性别为 null 时
+     * @throws IllegalArgumentException 当有公式不计算 metric, 或某份档案的基本数据不满足公式要求时
+     */
+    public static EquationComparisonMatrix compareMatrix( HealthMetric metric, List< Equation > equations,
+                                                          List< ? extends UserBodyProfile > profiles ){
+        List< Equation > comparedEquations = validateEquations( metric, equations );
+        Objects.requireNonNull( profiles, "参数 profiles( 身体档案列表 )不能为 null" );
+        int rowCount = profiles.size();
+        double[][] values = new double[ comparedEquations.size() ][ rowCount ];
+        MatrixTask task = new MatrixTask( comparedEquations, profiles, values, 0, rowCount );
+        if ( rowCount > CHUNK_ROW_COUNT ){
+            ForkJoinPool.commonPool().invoke( task );
+        } else {
+            task.compute();
+        }
+        return new EquationComparisonMatrix( metric, comparedEquations, values, rowCount );
+    }
+
+    /**
+     * 汇总对比矩阵: 各公式的统计量与每对公式的一致性
+     *
+     * @param matrix 对比矩阵
+     * @param parallel 是否按块在 {@link ForkJoinPool#commonPool() } 中并行汇总后合并
+     * @return 汇总
+     * @throws NullPointerException 当 matrix 为 null 时
+     */
+    public static EquationComparisonSummary summarize( EquationComparisonMatrix matrix, boolean parallel ){
+        Objects.requireNonNull( matrix, "参数 matrix( 对比矩阵 )不能为 null" );
+        SummaryTask task = new SummaryTask( matrix, 0, matrix.getRowCount() );
+        return ( parallel && matrix.getRowCount() > CHUNK_ROW_COUNT ? ForkJoinPool.commonPool().invoke( task ) : task.compute() );
+    }
+
+    /**
+     * 流式汇总一批档案( 如逐行读取的大文件 ): 每 {@value #CHUNK_ROW_COUNT } 行计算一块并累加到汇总, 不保留矩阵
+     *
+     * @param metric 健康指标
+     * @param profiles 身体档案( 只遍历一次, 不会被修改 )
+     * @return 汇总
+     * @throws NullPointerException 当参数、档案或档案的性别为 null 时
+     * @throws IllegalArgumentException 当某份档案的基本数据不满足公式要求时
+     */
+    public static EquationComparisonSummary summarize( HealthMetric metric, Iterable< ? extends UserBodyProfile > profiles ){
+        Objects.requireNonNull( metric, "参数 metric( 健康指标 )不能为 null" );
+        return summarize( metric, EquationRegistry.getEquations( metric ), profiles );
+    }
+
+    /**
+     * 用指定公式流式汇总一批档案
+     *
+     * @param metric 健康指标
+     * @param equations 参与对比的公式, 都必须计算 metric
+     * @param profiles 身体档案( 只遍历一次, 不会被修改 )
+     * @return 汇总
+     * @throws NullPointerException 当参数、档案或档案的性别为 null 时
+     * @throws IllegalArgumentException 当有公式不计算 metric, 或某份档案的基本数据不满足公式要求时
+     */
+    public static EquationComparisonSummary summarize( HealthMetric metric, List< Equation > equations,
+                                                       Iterable< ? extends UserBodyProfile > profiles ){
+        List< Equation > comparedEquations = validateEquations( metric, equations );
+        Objects.requireNonNull( profiles, "参数 profiles( 身体档案 )不能为 null" );
+        EquationComparisonSummary summary = new EquationComparisonSummary( metric, comparedEquations );
+        List< UserBodyProfile > chunk = new ArrayList<>( CHUNK_ROW_COUNT );
+        for ( UserBodyProfile profile : profiles ){
+            chunk.add( profile );
+            if ( chunk.size() == CHUNK_ROW_COUNT ){
+                summarizeChunk( comparedEquations, chunk, summary );
+                chunk.clear();
+            }
+        }
+        if ( !chunk.isEmpty() ){
+            summarizeChunk( comparedEquations, chunk, summary );
+        }
+        return summary;
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    private static List< Equation > validateEquations( HealthMetric metric, List< Equation > equations ){
+        Objects.requireNonNull( metric, "参数 metric( 健康指标 )不能为 null" );
+        Objects.requireNonNull( equations, "参数 equations( 公式列表 )不能为 null" );
+        List< Equation > comparedEquations = List.copyOf( equations );
+        for ( Equation equation : comparedEquations ){
+            if ( equation.getMetric() != metric ){
+                throw new IllegalArgumentException(
+                        String.format( "参数错误: 公式 %s 计算的是 %s, 不是 %s", equation.getId(), equation.getMetric(), metric )
+                );
+            }
+        }
+        return comparedEquations;
+    }
+
+    /**
+     * 对比一份档案: 复制输入、逐个公式计算、判断适用范围
+     */
+    private static EquationComparison evaluate( HealthMetric metric, List< Equation > equations, UserBodyProfile profile ){
+        UserBodyProfile equationInputs = toEquationInputs( profile, equations );
+        double[] values = new double[ equations.size() ];
+        boolean[] applicable = new boolean[ equations.size() ];
+        for ( int k = 0; k < values.length; k++ ){
+            Equation equation = equations.get( k );
+            values[ k ] = hasMeasuredCircumferences( equation, equationInputs ) ? equation.evaluate( equationInputs ) : Double.NaN;
+            applicable[ k ] = isApplicable( equation.getApplicabilityRange(), equationInputs );
+        }
+        return new EquationComparison( metric, equations, values, applicable );
+    }
+
+    private static void summarizeChunk( List< Equation > equations, List< ? extends UserBodyProfile > chunk,
+                                        EquationComparisonSummary summary ){
+        double[][] values = new double[ equations.size() ][ chunk.size() ];
+        BodyColumns columns = EquationColumnEvaluator.toBodyColumns( chunk, 0, chunk.size(), equations );
+        EquationColumnEvaluator.evaluate( equations, columns, chunk.size(), values );
+        summary.accept( values, 0, chunk.size() );
+    }
+
+    /**
+     * 由档案生成公式的输入档案( 副本 ), 并预先算出公式需要的中间指标
+     * <pre>
+     *     BMI: 由体重、身高计算
+     *     BFR: 由 Deurenberg 公式计算( 如 Katch-McArdle 公式需要瘦体重 )
+     *     BSA: 由 Du Bois 公式计算( 如基于 BSA 的 BMR 计算法 )
+     * </pre>
+     */
+    private static UserBodyProfile toEquationInputs( UserBodyProfile profile, List< Equation > equations ){
+        UserBodyProfile equationInputs = new UserBodyProfile( profile.getGender(), profile.getAge(), profile.getWeight(), profile.getHeight() );
+        equationInputs.setWaistCircumference( profile.getWaistCircumference() );
+        equationInputs.setHipCircumference( profile.getHipCircumference() );
+        equationInputs.setNeckCircumference( profile.getNeckCircumference() );
+
+        // 中间指标交给档案的依赖图按需计算: 算 BFR 时复用已算出的 BMI
+        boolean needsBFR = EquationColumnEvaluator.requiresInput( equations, EquationInput.BFR );
+        if ( EquationColumnEvaluator.requiresInput( equations, EquationInput.BMI ) || needsBFR ){
+            equationInputs.getOrCalculateBMI();
+        } else {
+            equationInputs.setBMI( profile.getBMI() );
+        }
+        if ( needsBFR ){
+            equationInputs.getOrCalculateBFR();
+        }
+        if ( EquationColumnEvaluator.requiresInput( equations, EquationInput.BSA ) ){
+            equationInputs.getOrCalculateBSA();
+        }
+        return equationInputs;
+    }
+
+    /**
+     * 判断公式需要的围度是否都已测量( 在有效范围内 )
+     */
+    private static boolean hasMeasuredCircumferences( Equation equation, UserBodyProfile equationInputs ){
+        for ( EquationInput equationInput : equation.getInputs() ){
+            switch ( equationInput ){
+                case WAIST_CIRCUMFERENCE:
+                    if ( !BasicBodyParameter.WAIST_CIRCUMFERENCE.isValid( equationInputs.getWaistCircumference() ) ) return false;
+                    break;
+                case HIP_CIRCUMFERENCE:
+                    if ( !BasicBodyParameter.HIP_CIRCUMFERENCE.isValid( equationInputs.getHipCircumference() ) ) return false;
+                    break;
+                case NECK_CIRCUMFERENCE:
+                    if ( !BasicBodyParameter.NECK_CIRCUMFERENCE.isValid( equationInputs.getNeckCircumference() ) ) return false;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 判断档案是否在公式的适用范围内( 没有有效年龄时无法判断, 视为适用 )
+     */
+    private static boolean isApplicable( ApplicabilityRange applicabilityRange, UserBodyProfile equationInputs ){
+        if ( !BasicBodyParameter.AGE.isValid( equationInputs.getAge() ) ) return true;
+        return applicabilityRange.isBMIRestricted() ?
+                applicabilityRange.isApplicable( equationInputs.getAge(), equationInputs.getBMI() ) :
+                applicabilityRange.isApplicableAge( equationInputs.getAge() );
+    }
+
+
+    /**
+     * 一段档案的对比任务: 用户数 × 公式数超过 {@link #LEAF_CELL_COUNT } 时按用户对半拆分, 子任务只写各自的结果下标
+     */
+    private static final class ComparisonTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final HealthMetric metric;
+        private final List< Equation > equations;
+        private final List< ? extends UserBodyProfile > profiles;
+        private final EquationComparison[] comparisons;
+        private final int fromIndex;
+        private final int toIndex;
+
+        private ComparisonTask( HealthMetric metric, List< Equation > equations, List< ? extends UserBodyProfile > profiles,
+                                EquationComparison[] comparisons, int fromIndex, int toIndex ){
+            this.metric = metric;
+            this.equations = equations;
+            this.profiles = profiles;
+            this.comparisons = comparisons;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        protected void compute(){
+            int profileCount = toIndex - fromIndex;
+            if ( profileCount <= 1 || ( long ) profileCount * Math.max( 1, equations.size() ) <= LEAF_CELL_COUNT ){
+                for ( int i = fromIndex; i < toIndex; i++ ){
+                    comparisons[ i ] = evaluate( metric, equations, profiles.get( i ) );
+                }
+                return;
+            }
+            int middleIndex = ( fromIndex + toIndex ) >>> 1;
+            invokeAll( new ComparisonTask( metric, equations, profiles, comparisons, fromIndex, middleIndex ),
+                    new ComparisonTask( metric, equations, profiles, comparisons, middleIndex, toIndex ) );
+        }
+    }
+
+    /**
+     * 对比矩阵的一段行: 超过 {@link #CHUNK_ROW_COUNT } 行时对半拆分, 每块转为输入列后用公式的批量计算方法计算,
+     * 再复制到矩阵中该块的位置
+     */
+    private static final class MatrixTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List< Equation > equations;
+        private final List< ? extends UserBodyProfile > profiles;
+        private final double[][] values;
+        private final int fromIndex;
+        private final int toIndex;
+
+        private MatrixTask( List< Equation > equations, List< ? extends UserBodyProfile > profiles, double[][] values,
+                            int fromIndex, int toIndex ){
+            this.equations = equations;
+            this.profiles = profiles;
+            this.values = values;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        protected void compute(){
+            int rowCount = toIndex - fromIndex;
+            if ( rowCount <= CHUNK_ROW_COUNT ){
+                double[][] chunkValues = new double[ equations.size() ][ rowCount ];
+                BodyColumns columns = EquationColumnEvaluator.toBodyColumns( profiles, fromIndex, toIndex, equations );
+                EquationColumnEvaluator.evaluate( equations, columns, rowCount, chunkValues );
+                for ( int k = 0; k < chunkValues.length; k++ ){
+                    System.arraycopy( chunkValues[ k ], 0, values[ k ], fromIndex, rowCount );
+                }
+                return;
+            }
+            int middleIndex = ( fromIndex + toIndex ) >>> 1;
+            invokeAll( new MatrixTask( equations, profiles, values, fromIndex, middleIndex ),
+                    new MatrixTask( equations, profiles, values, middleIndex, toIndex ) );
+        }
+    }
+
+    /**
+     * 汇总对比矩阵的一段行: 超过 {@link #CHUNK_ROW_COUNT } 行时对半拆分, 子任务的汇总合并
+     */
+    private static final class SummaryTask extends RecursiveTask< EquationComparisonSummary > {
+        private static final long serialVersionUID = 1L;
+
+        private final EquationComparisonMatrix matrix;
+        private final int fromIndex;
+        private final int toIndex;
+
+        private SummaryTask( EquationComparisonMatrix matrix, int fromIndex, int toIndex ){
+            this.matrix = matrix;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        protected EquationComparisonSummary compute(){
+            if ( toIndex - fromIndex <= CHUNK_ROW_COUNT ){
+                return new EquationComparisonSummary( matrix.getMetric(), matrix.getEquations() )
+                        .accept( matrix.getValues(), fromIndex, toIndex );
+            }
+            int middleIndex = ( fromIndex + toIndex ) >>> 1;
+            SummaryTask left = new SummaryTask( matrix, fromIndex, middleIndex );
+            SummaryTask right = new SummaryTask( matrix, middleIndex, toIndex );
+            left.fork();
+            EquationComparisonSummary rightSummary = right.compute();
+            return left.join().merge( rightSummary );
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.existedname.healthcalculatorv3.service.comparison;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.Equation;
+
+import java.util.List;
+
+/**
+ * 用户 × 公式 对比矩阵( 列式存储 ): 每个公式一列 double[], 同一下标的各列元素属于同一个人
+ * <pre>
+ *     1. 由 {@link EquationComparisonEngine#compareMatrix( HealthMetric, List ) } 创建,
+ *        不适用该公式的行( 超出适用范围或没有测量所需围度, 见 {@code ApplicabilityMask } )为 NaN
+ *     2. 汇总统计见 {@link EquationComparisonEngine#summarize( EquationComparisonMatrix, boolean ) }
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 20:40
+ */
+public final class EquationComparisonMatrix {
+    // ==================== 实例变量 ====================
+    /** 对比的健康指标 */
+    private final HealthMetric metric;
+    /** 参与对比的公式( 不可修改 ), 第 k 个公式对应第 k 列 */
+    private final List< Equation > equations;
+    /** 结果列: values[ k ][ row ] */
+    private final double[][] values;
+    /** 行数( 档案数 ) */
+    private final int rowCount;
+
+
+    // ==================== 构造器 ====================
+    /**
+     * 由引擎创建, values 直接被持有( 调用方不再修改 )
+     */
+    EquationComparisonMatrix( HealthMetric metric, List< Equation > equations, double[][] values, int rowCount ){
+        this.metric = metric;
+        this.equations = equations;
+        this.values = values;
+        this.rowCount = rowCount;
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * @param row 行号( 档案下标 )
+     * @param index 公式下标
+     * @return 该档案用该公式的计算结果, 未计算时为 NaN
+     * @throws ArrayIndexOutOfBoundsException 当 row 或 index 越界时
+     */
+    public double getValue( int row, int index ){
+        return values[ index ][ row ];
+    }
+
+    /**
+     * @param index 公式下标
+     * @return 该公式的结果列( 副本 )
+     * @throws ArrayIndexOutOfBoundsException 当 index 不在 [ 0, 公式数 ) 内时
+     */
+    public double[] getColumn( int index ){
+        return values[ index ].clone();
+    }
+
+    public HealthMetric getMetric(){
+        return metric;
+    }
+
+    public List< Equation > getEquations(){
+        return equations;
+    }
+
+    public int getRowCount(){
+        return rowCount;
+    }
+
+    /**
+     * 供汇总统计直接读取结果列( 不复制 )
+     */
+    double[][] getValues(){
+        return values;
+    }
+}
@@ -0,0 +1,197 @@
+package com.github.existedname.healthcalculatorv3.service.comparison;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.util.calculator.equation.Equation;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 公式对比汇总: 一批档案中各公式结果的统计量, 以及每两个公式之间的一致性( Bland-Altman 分析 )
+ * <pre>
+ *     1. 每个公式一个 {@link RunningStatistics }: 个数、平均值、标准差、最值
+ *     2. 每对公式( i &lt; j )一个差值( 公式 i - 公式 j )的 {@link RunningStatistics }:
+ *        平均差值 = 系统偏差, 一致性界限 = 平均差值 ± {@value #LIMITS_OF_AGREEMENT_Z } × 差值标准差;
+ *        只统计两个公式都有结果的行
+ *     3. 只保存统计量, 内存占用与行数无关; 同一组公式的汇总可以合并, 供分块/并行统计后汇总
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 20:50
+ */
+public final class EquationComparisonSummary {
+    // ==================== 常量 ====================
+    /** 一致性界限使用的正态分布分位数( 95% ) */
+    public static final double LIMITS_OF_AGREEMENT_Z = 1.96;
+
+
+    // ==================== 实例变量 ====================
+    /** 对比的健康指标 */
+    private final HealthMetric metric;
+    /** 参与对比的公式( 不可修改 ) */
+    private final List< Equation > equations;
+    /** 各公式结果的统计量 */
+    private final RunningStatistics[] equationStatistics;
+    /** 每对公式差值的统计量, 按 ( 0,1 ), ( 0,2 ), ..., ( 1,2 ), ... 的顺序存放 */
+    private final RunningStatistics[] differenceStatistics;
+
+
+    // ==================== 构造器 ====================
+    /**
+     * 创建空汇总
+     *
+     * @param metric 健康指标
+     * @param equations 参与对比的公式
+     * @throws NullPointerException 当 metric 或 equations 为 null 时
+     */
+    public EquationComparisonSummary( HealthMetric metric, List< Equation > equations ){
+        this.metric = Objects.requireNonNull( metric, "参数 metric( 健康指标 )不能为 null" );
+        this.equations = List.copyOf( Objects.requireNonNull( equations, "参数 equations( 公式列表 )不能为 null" ) );
+        int equationCount = this.equations.size();
+        this.equationStatistics = new RunningStatistics[ equationCount ];
+        this.differenceStatistics = new RunningStatistics[ equationCount * ( equationCount - 1 ) / 2 ];
+        for ( int k = 0; k < equationStatistics.length; k++ ){
+            equationStatistics[ k ] = new RunningStatistics();
+        }
+        for ( int p = 0; p < differenceStatistics.length; p++ ){
+            differenceStatistics[ p ] = new RunningStatistics();
+        }
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 统计结果列的 [ fromIndex, toIndex ) 部分
+     *
+     * @param values 结果列: values[ k ][ row ] 为第 k 个公式的结果, NaN 表示未计算
+     * @param fromIndex 起始行( 含 )
+     * @param toIndex 结束行( 不含 )
+     * @return 当前汇总
+     * @throws NullPointerException 当 values 为 null 时
+     * @throws IllegalArgumentException 当 values 的列数与公式数不一致时
+     */
+    public EquationComparisonSummary accept( double[][] values, int fromIndex, int toIndex ){
+        Objects.requireNonNull( values, "参数 values( 结果列 )不能为 null" );
+        if ( values.length != equationStatistics.length ){
+            throw new IllegalArgumentException(
+                    String.format( "参数错误: values 的列数( %d )与公式数( %d )不一致", values.length, equationStatistics.length )
+            );
+        }
+        for ( int k = 0; k < values.length; k++ ){
+            RunningStatistics statistics = equationStatistics[ k ];
+            double[] column = values[ k ];
+            for ( int row = fromIndex; row < toIndex; row++ ){
+                statistics.accept( column[ row ] );
+            }
+        }
+        int p = 0;
+        for ( int i = 0; i < values.length; i++ ){
+            for ( int j = i + 1; j < values.length; j++ ){
+                RunningStatistics statistics = differenceStatistics[ p++ ];
+                double[] columnI = values[ i ];
+                double[] columnJ = values[ j ];
+                for ( int row = fromIndex; row < toIndex; row++ ){
+                    statistics.accept( columnI[ row ] - columnJ[ row ] );  // 任一为 NaN 时差值为 NaN, 不参与统计
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 把另一个汇总合并到当前汇总
+     *
+     * @param other 同一组公式的汇总
+     * @return 当前汇总
+     * @throws NullPointerException 当 other 为 null 时
+     * @throws IllegalArgumentException 当两个汇总的公式不一致时
+     */
+    public EquationComparisonSummary merge( EquationComparisonSummary other ){
+        Objects.requireNonNull( other, "参数 other( 公式对比汇总 )不能为 null" );
+        if ( other.metric != metric || !other.equations.equals( equations ) ){
+            throw new IllegalArgumentException( "参数错误: 只能合并同一组公式的汇总" );
+        }
+        for ( int k = 0; k < equationStatistics.length; k++ ){
+            equationStatistics[ k ].merge( other.equationStatistics[ k ] );
+        }
+        for ( int p = 0; p < differenceStatistics.length; p++ ){
+            differenceStatistics[ p ].merge( other.differenceStatistics[ p ] );
+        }
+        return this;
+    }
+
+    /**
+     * @param index 公式下标
+     * @return 该公式结果的统计量
+     * @throws ArrayIndexOutOfBoundsException 当 index 不在 [ 0, 公式数 ) 内时
+     */
+    public RunningStatistics getEquationStatistics( int index ){
+        return equationStatistics[ index ];
+    }
+
+    /**
+     * @param i 公式 i 的下标
+     * @param j 公式 j 的下标, 必须大于 i
+     * @return 差值( 公式 i - 公式 j )的统计量
+     * @throws IllegalArgumentException 当 i、j 越界或 i &gt;= j 时
+     */
+    public RunningStatistics getDifferenceStatistics( int i, int j ){
+        return differenceStatistics[ pairIndex( i, j ) ];
+    }
+
+    /**
+     * @return 平均差值( 公式 i - 公式 j ), 即系统偏差; 没有共同结果时为 NaN
+     * @throws IllegalArgumentException 当 i、j 越界或 i &gt;= j 时
+     */
+    public double getMeanDifference( int i, int j ){
+        return getDifferenceStatistics( i, j ).getMean();
+    }
+
+    /**
+     * @return 一致性下限: 平均差值 - 1.96 × 差值标准差; 共同结果少于 2 个时为 NaN
+     * @throws IllegalArgumentException 当 i、j 越界或 i &gt;= j 时
+     */
+    public double getLowerLimitOfAgreement( int i, int j ){
+        RunningStatistics statistics = getDifferenceStatistics( i, j );
+        return statistics.getMean() - LIMITS_OF_AGREEMENT_Z * statistics.getStandardDeviation();
+    }
+
+    /**
+     * @return 一致性上限: 平均差值 + 1.96 × 差值标准差; 共同结果少于 2 个时为 NaN
+     * @throws IllegalArgumentException 当 i、j 越界或 i &gt;= j 时
+     */
+    public double getUpperLimitOfAgreement( int i, int j ){
+        RunningStatistics statistics = getDifferenceStatistics( i, j );
+        return statistics.getMean() + LIMITS_OF_AGREEMENT_Z * statistics.getStandardDeviation();
+    }
+
+    public HealthMetric getMetric(){
+        return metric;
+    }
+
+    public List< Equation > getEquations(){
+        return equations;
+    }
+
+    @Override
+    public String toString(){
+        StringBuilder sb = new StringBuilder( "EquationComparisonSummary{ metric=" ).append( metric );
+        for ( int k = 0; k < equationStatistics.length; k++ ){
+            sb.append( ", " ).append( equations.get( k ).getId() ).append( '=' ).append( equationStatistics[ k ] );
+        }
+        return sb.append( " }" ).toString();
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    private int pairIndex( int i, int j ){
+        int equationCount = equationStatistics.length;
+        if ( i < 0 || j >= equationCount || i >= j ){
+            throw new IllegalArgumentException(
+                    String.format( "参数错误: 公式下标需满足 0 ≤ i( %d ) < j( %d ) < %d", i, j, equationCount )
+            );
+        }
+        return i * ( 2 * equationCount - i - 1 ) / 2 + ( j - i - 1 );
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.existedname.healthcalculatorv3.service.comparison;
+
+import java.util.Objects;
+
+/**
+ * 流式统计量: 逐个接收数值, 只保存个数、平均值、离差平方和、最值, 内存占用与数据量无关
+ * <pre>
+ *     1. 接收数值使用 Welford 算法, 合并两个统计量使用 Chan 等人的并行公式, 都不需要保存原始数据,
+ *        数值稳定性也优于先求和再求平方和
+ *     2. 可合并( {@link #merge( RunningStatistics ) } ): 分块/并行统计后汇总, 结果与整体一次统计一致( 在浮点误差内 )
+ *     3. NaN 表示没有数值( 如公式不适用 ), 不参与统计
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 20:20
+ */
+public final class RunningStatistics {
+    // ==================== 实例变量 ====================
+    /** 数值个数 */
+    private long count;
+    /** 平均值 */
+    private double mean;
+    /** 离差平方和 */
+    private double squaredDeviationSum;
+    private double minValue = Double.NaN;
+    private double maxValue = Double.NaN;
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 接收一个数值( NaN 忽略 )
+     *
+     * @param value 数值
+     */
+    public void accept( double value ){
+        if ( Double.isNaN( value ) ) return;
+        count++;
+        if ( count == 1 ){
+            minValue = value;
+            maxValue = value;
+        } else {
+            minValue = Math.min( minValue, value );
+            maxValue = Math.max( maxValue, value );
+        }
+        double delta = value - mean;
+        mean += delta / count;
+        squaredDeviationSum += delta * ( value - mean );
+    }
+
+    /**
+     * 把另一个统计量合并到当前统计量
+     *
+     * @param other 另一个统计量
+     * @return 当前统计量
+     * @throws NullPointerException 当 other 为 null 时
+     */
+    public RunningStatistics merge( RunningStatistics other ){
+        Objects.requireNonNull( other, "参数 other( 统计量 )不能为 null" );
+        if ( other.count == 0 ) return this;
+        if ( count == 0 ){
+            count = other.count;
+            mean = other.mean;
+            squaredDeviationSum = other.squaredDeviationSum;
+            minValue = other.minValue;
+            maxValue = other.maxValue;
+            return this;
+        }
+        long totalCount = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / totalCount;
+        squaredDeviationSum += other.squaredDeviationSum + delta * delta * ( ( double ) count * other.count / totalCount );
+        count = totalCount;
+        minValue = Math.min( minValue, other.minValue );
+        maxValue = Math.max( maxValue, other.maxValue );
+        return this;
+    }
+
+    public long getCount(){
+        return count;
+    }
+
+    /**
+     * @return 平均值, 没有数值时为 NaN
+     */
+    public double getMean(){
+        return ( count == 0 ? Double.NaN : mean );
+    }
+
+    /**
+     * @return 样本方差( 除以 n - 1 ), 少于 2 个数值时为 NaN
+     */
+    public double getVariance(){
+        return ( count < 2 ? Double.NaN : squaredDeviationSum / ( count - 1 ) );
+    }
+
+    /**
+     * @return 样本标准差( 除以 n - 1 ), 少于 2 个数值时为 NaN
+     */
+    public double getStandardDeviation(){
+        return Math.sqrt( getVariance() );
+    }
+
+    /**
+     * @return 最小值, 没有数值时为 NaN
+     */
+    public double getMinValue(){
+        return minValue;
+    }
+
+    /**
+     * @return 最大值, 没有数值时为 NaN
+     */
+    public double getMaxValue(){
+        return maxValue;
+    }
+
+    @Override
+    public String toString(){
+        return String.format( "RunningStatistics{ count=%d, mean=%s, sd=%s, min=%s, max=%s }",
+                count, getMean(), getStandardDeviation(), minValue, maxValue );
+    }
+}
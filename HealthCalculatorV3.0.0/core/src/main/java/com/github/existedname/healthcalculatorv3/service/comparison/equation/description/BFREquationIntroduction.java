@@ -29,9 +29,4 @@ public enum BFREquationIntroduction implements EquationIntroduction {
             return description;
         }
 
-        @Override
-        public void printEquationIntroduction(){
-            System.out.println( equationName + "\n\t————" + description );
-        }
-
     }
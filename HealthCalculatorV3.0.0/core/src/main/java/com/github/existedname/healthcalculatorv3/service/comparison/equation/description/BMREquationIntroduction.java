@@ -33,9 +33,4 @@ public enum BMREquationIntroduction implements EquationIntroduction {
             return description;
         }
 
-        @Override
-        public void printEquationIntroduction(){
-            System.out.println( equationName + "\n\t————" + description );
-        }
-
     }
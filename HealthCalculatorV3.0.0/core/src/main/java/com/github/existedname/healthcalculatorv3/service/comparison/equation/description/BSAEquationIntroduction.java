@@ -28,10 +28,5 @@ public enum BSAEquationIntroduction implements EquationIntroduction {
         public String getDescription(){
             return description;
         }
-
-        @Override
-        public void printEquationIntroduction(){
-            System.out.println( equationName + "\n\t————" + description );
-        }
     }
 
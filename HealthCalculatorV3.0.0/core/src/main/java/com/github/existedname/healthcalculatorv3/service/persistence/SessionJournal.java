@@ -0,0 +1,339 @@
+package com.github.existedname.healthcalculatorv3.service.persistence;
+
+import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile;
+import com.github.existedname.healthcalculatorv3.service.batch.ProfileRecordLayout;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+/**
+ * 会话日志: 每完成一次计算或分析就追加一条定长二进制条目, 只追加不覆盖, 进程中途退出也不会丢失之前的记录
+ * <pre>
+ *     1. 文件格式( 小端字节序 ): {@value #HEADER_SIZE } 字节的文件头( 魔数 "HCSJ"、版本、条目字节数 ), 之后是连续的条目
+ *     2. 条目( {@value #ENTRY_SIZE } 字节 ):
+ *        偏移  宽度  字段
+ *          0    8   时间戳( long, 毫秒 )
+ *          8    8   功能编号( ASCII, 不足补 0 )
+ *         16  128   档案记录( {@link ProfileRecordLayout }: 用户编号、输入的基本身体数据、已缓存的健康指标 )
+ *        144    4   前 144 字节的 CRC32C 校验和
+ *        148    4   保留( 0 )
+ *     3. 组提交: {@link #append } 只把条目放进写缓冲区, {@link #commit( long ) } 把缓冲区整块写入文件后 force;
+ *        多个线程同时提交时, 一次 force 覆盖此前追加的所有条目, 其余线程发现自己的条目已持久化后直接返回
+ *     4. 打开已有日志时用 {@link SessionJournalReader } 扫描, 只截掉末尾写了一半的条目( 之后再没有有效条目 )后继续追加;
+ *        中间的条目损坏时打开失败, 文件保持不变, 不会截掉损坏条目之后的有效条目;
+ *        文件短于文件头( 写文件头时崩溃 )时视为新文件, 重写文件头
+ *     5. 写入文件失败后, 文件末尾可能留下写了一半的条目, 此后的追加、提交都抛出 IOException, 需要关闭后重新打开
+ *     6. 线程安全
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 22:30
+ */
+public final class SessionJournal implements Closeable {
+    // ==================== 常量 ====================
+    /** 文件头字节数 */
+    public static final int HEADER_SIZE = 16;
+    /** 一条日志条目的字节数 */
+    public static final int ENTRY_SIZE = 152;
+    /** 功能编号的最大字节数 */
+    public static final int MAX_FUNCTION_ID_LENGTH = 8;
+    /** 默认写缓冲区容量( 条目数 ) */
+    public static final int DEFAULT_BUFFER_ENTRIES = 256;
+
+    /** 魔数 "HCSJ"( Health Calculator Session Journal ) */
+    static final int MAGIC = 0x4A534348;
+    /** 格式版本 */
+    static final int VERSION = 1;
+
+    /*      文件头各字段的偏移      */
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int ENTRY_SIZE_OFFSET = 8;
+
+    /*      条目各字段的偏移      */
+    static final int TIMESTAMP_OFFSET = 0;
+    static final int FUNCTION_ID_OFFSET = 8;
+    static final int RECORD_OFFSET = 16;
+    static final int CHECKSUM_OFFSET = RECORD_OFFSET + ProfileRecordLayout.RECORD_SIZE;
+
+
+    // ==================== 实例变量 ====================
+    private final FileChannel channel;
+    /** 写缓冲区: 已追加但尚未写入文件的条目 */
+    private final ByteBuffer buffer;
+    /** 计算校验和用 */
+    private final CRC32C checksum = new CRC32C();
+    /** force 互斥锁, 与写缓冲区的锁( this )分开, force 期间仍可继续追加 */
+    private final Object forceLock = new Object();
+
+    /** 已追加的条目数( 含打开前已有的条目 ) */
+    private long appendedCount;
+    /** 已持久化的条目数 */
+    private volatile long durableCount;
+    /** force 次数 */
+    private volatile long forceCount;
+    private boolean closed;
+    /** 写入文件失败的原因, 未失败时为 null */
+    private IOException failure;
+
+
+    // ==================== 构造器 ====================
+    private SessionJournal( FileChannel channel, int bufferEntries, long entryCount ){
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect( bufferEntries * ENTRY_SIZE ).order( ByteOrder.LITTLE_ENDIAN );
+        this.appendedCount = entryCount;
+        this.durableCount = entryCount;
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 打开会话日志, 写缓冲区容量为 {@value #DEFAULT_BUFFER_ENTRIES } 条
+     *
+     * @see #open( Path, int )
+     */
+    public static SessionJournal open( Path path ) throws IOException{
+        return open( path, DEFAULT_BUFFER_ENTRIES );
+    }
+
+    /**
+     * 打开会话日志: 文件不存在或短于文件头时新建, 已存在时截掉末尾写了一半的条目, 之后的条目追加在末尾
+     *
+     * @param path 日志文件
+     * @param bufferEntries 写缓冲区容量( 条目数 ), 缓冲区满时自动写入文件( 但不 force )
+     * @return 会话日志
+     * @throws NullPointerException 当 path 为 null 时
+     * @throws IllegalArgumentException 当 bufferEntries 小于 1 时
+     * @throws IOException 当文件不是会话日志, 日志中间的条目已损坏( 文件不变 ), 或打开、写入失败时
+     */
+    public static SessionJournal open( Path path, int bufferEntries ) throws IOException{
+        Objects.requireNonNull( path, "参数 path( 日志文件路径 )不能为 null" );
+        if ( bufferEntries < 1 || bufferEntries > Integer.MAX_VALUE / ENTRY_SIZE ){
+            throw new IllegalArgumentException( String.format( "参数 bufferEntries( 写缓冲区容量 ) = %d 不在 [ 1, %d ] 内",
+                    bufferEntries, Integer.MAX_VALUE / ENTRY_SIZE ) );
+        }
+        long entryCount = 0, validLength = HEADER_SIZE;
+        // 短于文件头说明上次写文件头时崩溃, 其中不会有条目
+        boolean exists = Files.exists( path ) && Files.size( path ) >= HEADER_SIZE;
+        if ( exists ){
+            try ( SessionJournalReader reader = SessionJournalReader.open( path ) ){
+                while ( reader.next() ){
+                    entryCount++;
+                }
+                validLength = reader.getValidLength();
+            }
+        }
+
+        FileChannel channel = FileChannel.open( path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE );
+        try {
+            if ( exists ){
+                // 截掉崩溃时写了一半的条目, 保证新条目紧接在最后一条完整条目之后
+                if ( channel.size() > validLength ){
+                    channel.truncate( validLength );
+                    channel.force( true );
+                }
+            } else {
+                ByteBuffer header = ByteBuffer.allocate( HEADER_SIZE ).order( ByteOrder.LITTLE_ENDIAN );
+                header.putInt( MAGIC_OFFSET, MAGIC );
+                header.putInt( VERSION_OFFSET, VERSION );
+                header.putInt( ENTRY_SIZE_OFFSET, ENTRY_SIZE );
+                channel.truncate( 0 );
+                writeFully( channel, header, 0 );
+                channel.force( true );
+            }
+            channel.position( validLength );
+            return new SessionJournal( channel, bufferEntries, entryCount );
+        } catch ( IOException | RuntimeException e ){
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 追加一条当前时间的条目
+     *
+     * @see #append( long, String, int, UserBodyProfile )
+     */
+    public long append( String functionId, User user ) throws IOException{
+        Objects.requireNonNull( user, "参数 user( 用户 )不能为 null" );
+        return append( System.currentTimeMillis(), functionId, user.getId(), user );
+    }
+
+    /**
+     * 追加一条条目( 只放进写缓冲区, 调用 {@link #commit( long ) } 后才保证持久化 )
+     *
+     * @param timestamp 时间戳( 毫秒 )
+     * @param functionId 功能编号( ASCII, 不超过 {@value #MAX_FUNCTION_ID_LENGTH } 字节 )
+     * @param userId 用户编号
+     * @param profile 功能完成后的档案( 输入的基本身体数据与已缓存的健康指标 )
+     * @return 条目的序号( 从 1 开始 ), 传给 {@link #commit( long ) }
+     * @throws NullPointerException 当 functionId 或 profile 为 null 时
+     * @throws IllegalArgumentException 当功能编号不是 ASCII 或过长时
+     * @throws IllegalStateException 当日志已关闭时
+     * @throws IOException 当写缓冲区已满且写入文件失败, 或之前写入文件失败时
+     */
+    public synchronized long append( long timestamp, String functionId, int userId, UserBodyProfile profile ) throws IOException{
+        Objects.requireNonNull( functionId, "参数 functionId( 功能编号 )不能为 null" );
+        Objects.requireNonNull( profile, "参数 profile( 档案 )不能为 null" );
+        if ( functionId.length() > MAX_FUNCTION_ID_LENGTH || !functionId.chars().allMatch( c -> c < 0x80 ) ){
+            throw new IllegalArgumentException( String.format( "功能编号 \"%s\" 不是不超过 %d 字节的 ASCII 字符串", functionId, MAX_FUNCTION_ID_LENGTH ) );
+        }
+        byte[] functionIdBytes = functionId.getBytes( StandardCharsets.US_ASCII );
+        ensureWritable();
+        if ( buffer.remaining() < ENTRY_SIZE ){
+            flushBuffer();
+        }
+
+        int offset = buffer.position();
+        buffer.putLong( offset + TIMESTAMP_OFFSET, timestamp );
+        for ( int i = 0; i < MAX_FUNCTION_ID_LENGTH; i++ ){
+            buffer.put( offset + FUNCTION_ID_OFFSET + i, ( i < functionIdBytes.length ? functionIdBytes[ i ] : 0 ) );
+        }
+        ProfileRecordLayout.write( buffer, offset + RECORD_OFFSET, userId, profile );
+        buffer.putInt( offset + CHECKSUM_OFFSET, checksum( checksum, buffer, offset ) );
+        buffer.putInt( offset + CHECKSUM_OFFSET + 4, 0 );
+        buffer.position( offset + ENTRY_SIZE );
+        return ++appendedCount;
+    }
+
+    /**
+     * 提交到指定序号: 返回时序号不超过 sequence 的条目都已持久化
+     *
+     * @param sequence {@link #append } 返回的序号
+     * @throws IllegalStateException 当日志已关闭且条目尚未持久化时
+     * @throws IOException 当写入或 force 失败, 或之前写入文件失败时
+     */
+    public void commit( long sequence ) throws IOException{
+        if ( durableCount >= sequence ) return;
+        synchronized ( forceLock ){
+            // 排队期间其他线程的 force 可能已经覆盖了该条目
+            if ( durableCount >= sequence ) return;
+            long target;
+            synchronized ( this ){
+                ensureWritable();
+                flushBuffer();
+                target = appendedCount;
+            }
+            channel.force( false );
+            forceCount++;
+            durableCount = target;
+        }
+    }
+
+    /**
+     * 提交已追加的全部条目
+     *
+     * @throws IOException 当写入或 force 失败时
+     */
+    public void commit() throws IOException{
+        long sequence;
+        synchronized ( this ){
+            sequence = appendedCount;
+        }
+        commit( sequence );
+    }
+
+    /**
+     * @return 已追加的条目数( 含打开前已有的条目 )
+     */
+    public synchronized long getAppendedCount(){
+        return appendedCount;
+    }
+
+    /**
+     * @return 已持久化的条目数
+     */
+    public long getDurableCount(){
+        return durableCount;
+    }
+
+    /**
+     * @return 打开以来 force 的次数, 小于提交次数时说明发生了组提交
+     */
+    public long getForceCount(){
+        return forceCount;
+    }
+
+    /**
+     * 提交全部条目后关闭, 重复关闭无效果; 之前写入文件失败时不再写入, 只关闭文件
+     *
+     * @throws IOException 当写入、force 或关闭失败, 或之前写入文件失败时
+     */
+    @Override
+    public void close() throws IOException{
+        synchronized ( forceLock ){
+            synchronized ( this ){
+                if ( closed ) return;
+                try {
+                    ensureWritable();
+                    flushBuffer();
+                    channel.force( false );
+                    durableCount = appendedCount;
+                } finally {
+                    closed = true;
+                    channel.close();
+                }
+            }
+        }
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * @return 条目前 {@value #CHECKSUM_OFFSET } 字节的 CRC32C 校验和
+     */
+    static int checksum( CRC32C checksum, ByteBuffer buffer, int offset ){
+        ByteBuffer entry = buffer.duplicate();
+        entry.limit( offset + CHECKSUM_OFFSET ).position( offset );
+        checksum.reset();
+        checksum.update( entry );
+        return ( int ) checksum.getValue();
+    }
+
+    /**
+     * @throws IllegalStateException 当日志已关闭时
+     * @throws IOException 当之前写入文件失败时
+     */
+    private void ensureWritable() throws IOException{
+        if ( closed ){
+            throw new IllegalStateException( "会话日志已关闭" );
+        }
+        if ( failure != null ){
+            throw new IOException( "会话日志写入失败, 已停止追加, 请关闭后重新打开", failure );
+        }
+    }
+
+    /**
+     * 把写缓冲区中的条目整块写入文件并清空缓冲区; 失败时文件位置与缓冲区已对不上, 记下原因, 之后拒绝写入
+     */
+    private void flushBuffer() throws IOException{
+        buffer.flip();
+        try {
+            while ( buffer.hasRemaining() ){
+                channel.write( buffer );
+            }
+        } catch ( IOException e ){
+            failure = e;
+            throw e;
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private static void writeFully( FileChannel channel, ByteBuffer data, long position ) throws IOException{
+        while ( data.hasRemaining() ){
+            position += channel.write( data, position );
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.github.existedname.healthcalculatorv3.service.persistence;
+
+import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile;
+import com.github.existedname.healthcalculatorv3.service.batch.ProfileRecordLayout;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+/**
+ * 会话日志读取器: 按顺序读取 {@link SessionJournal } 写入的条目, 用于启动时重放日志、恢复用户状态
+ * <pre>
+ *     1. 用法: while ( reader.next() ){ reader.getFunctionId() ... reader.readProfile( profile ) }
+ *     2. 末尾不足一条的字节, 或之后再没有有效条目的校验和不符的条目( 崩溃时写了一半 )视为日志结束,
+ *        {@link #getValidLength() } 为最后一条完整条目的末尾; 校验和不符的条目之后还有有效条目时, 说明日志中间已损坏,
+ *        {@link #next() } 抛出 IOException, 避免把之后的有效条目当作写了一半的末尾截掉
+ *     3. 每次从文件整块读入 {@value #READ_BUFFER_ENTRIES } 条
+ *     4. 非线程安全
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 22:30
+ */
+public final class SessionJournalReader implements Closeable {
+    // ==================== 常量 ====================
+    /** 读缓冲区容量( 条目数 ) */
+    private static final int READ_BUFFER_ENTRIES = 512;
+
+
+    // ==================== 实例变量 ====================
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect( READ_BUFFER_ENTRIES * SessionJournal.ENTRY_SIZE ).order( ByteOrder.LITTLE_ENDIAN );
+    private final CRC32C checksum = new CRC32C();
+    /** 当前条目在缓冲区中的起始位置, 尚未读取任何条目时为 -1 */
+    private int entryOffset = -1;
+    /** 已读取的完整条目的末尾在文件中的位置 */
+    private long validLength = SessionJournal.HEADER_SIZE;
+    /** 是否已到达日志末尾 */
+    private boolean finished;
+
+
+    // ==================== 构造器 ====================
+    private SessionJournalReader( FileChannel channel ){
+        this.channel = channel;
+        buffer.limit( 0 );
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 打开会话日志并校验文件头
+     *
+     * @param path 日志文件
+     * @return 读取器, 位于第一条条目之前
+     * @throws NullPointerException 当 path 为 null 时
+     * @throws IOException 当文件不是会话日志或打开失败时
+     */
+    public static SessionJournalReader open( Path path ) throws IOException{
+        Objects.requireNonNull( path, "参数 path( 日志文件路径 )不能为 null" );
+        FileChannel channel = FileChannel.open( path, StandardOpenOption.READ );
+        try {
+            ByteBuffer header = ByteBuffer.allocate( SessionJournal.HEADER_SIZE ).order( ByteOrder.LITTLE_ENDIAN );
+            while ( header.hasRemaining() && channel.read( header ) >= 0 ){ }
+            if ( header.hasRemaining() ){
+                throw new IOException( String.format( "%s 不是会话日志: 文件过短", path ) );
+            }
+            if ( header.getInt( SessionJournal.MAGIC_OFFSET ) != SessionJournal.MAGIC ){
+                throw new IOException( String.format( "%s 不是会话日志: 魔数不匹配", path ) );
+            }
+            if ( header.getInt( SessionJournal.VERSION_OFFSET ) != SessionJournal.VERSION
+                    || header.getInt( SessionJournal.ENTRY_SIZE_OFFSET ) != SessionJournal.ENTRY_SIZE ){
+                throw new IOException( String.format( "%s 的版本( %d )或条目字节数( %d )不受支持", path,
+                        header.getInt( SessionJournal.VERSION_OFFSET ), header.getInt( SessionJournal.ENTRY_SIZE_OFFSET ) ) );
+            }
+            return new SessionJournalReader( channel );
+        } catch ( IOException | RuntimeException e ){
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 重放整个日志: 按用户编号保留每个用户最后一条条目的档案
+     *
+     * @param path 日志文件
+     * @return 用户编号 -> 用户( 按用户首次出现的顺序, 用户名为 null )
+     * @throws NullPointerException 当 path 为 null 时
+     * @throws IOException 当文件不是会话日志或读取失败时
+     */
+    public static Map< Integer, User > replay( Path path ) throws IOException{
+        Map< Integer, User > users = new LinkedHashMap<>();
+        try ( SessionJournalReader reader = open( path ) ){
+            while ( reader.next() ){
+                User user = users.computeIfAbsent( reader.getUserId(), id -> {
+                    User newUser = new User();
+                    newUser.setId( id );
+                    return newUser;
+                } );
+                reader.readProfile( user );
+            }
+        }
+        return users;
+    }
+
+    /**
+     * 移到下一条完整条目
+     *
+     * @return 有下一条时返回 true, 到达末尾或遇到写了一半的末尾条目时返回 false
+     * @throws IOException 当读取失败, 或校验和不符的条目之后还有有效条目( 日志中间已损坏 )时
+     */
+    public boolean next() throws IOException{
+        if ( finished ) return false;
+        int nextOffset = ( entryOffset < 0 ? 0 : entryOffset + SessionJournal.ENTRY_SIZE );
+        if ( buffer.limit() - nextOffset < SessionJournal.ENTRY_SIZE ){
+            buffer.position( nextOffset ).compact();
+            while ( buffer.hasRemaining() && channel.read( buffer ) >= 0 ){ }
+            buffer.flip();
+            nextOffset = 0;
+        }
+        if ( buffer.limit() - nextOffset < SessionJournal.ENTRY_SIZE ){
+            finished = true;
+            return false;
+        }
+        if ( !isValidEntry( buffer, nextOffset ) ){
+            finished = true;
+            long corruptedEntryEnd = validLength + SessionJournal.ENTRY_SIZE;
+            if ( hasValidEntryFrom( corruptedEntryEnd ) ){
+                throw new IOException( String.format( "会话日志已损坏: 位置 %d 处的条目校验和不符, 但之后还有有效条目", validLength ) );
+            }
+            return false;
+        }
+        entryOffset = nextOffset;
+        validLength += SessionJournal.ENTRY_SIZE;
+        return true;
+    }
+
+    /**
+     * @return 当前条目的时间戳( 毫秒 )
+     */
+    public long getTimestamp(){
+        ensureEntry();
+        return buffer.getLong( entryOffset + SessionJournal.TIMESTAMP_OFFSET );
+    }
+
+    /**
+     * @return 当前条目的功能编号
+     */
+    public String getFunctionId(){
+        ensureEntry();
+        byte[] bytes = new byte[ SessionJournal.MAX_FUNCTION_ID_LENGTH ];
+        buffer.get( entryOffset + SessionJournal.FUNCTION_ID_OFFSET, bytes );
+        int length = 0;
+        while ( length < bytes.length && bytes[ length ] != 0 ){
+            length++;
+        }
+        return new String( bytes, 0, length, StandardCharsets.US_ASCII );
+    }
+
+    /**
+     * @return 当前条目的用户编号
+     */
+    public int getUserId(){
+        ensureEntry();
+        return buffer.getInt( entryOffset + SessionJournal.RECORD_OFFSET + ProfileRecordLayout.ID_OFFSET );
+    }
+
+    /**
+     * 把当前条目的档案读入 profile( 见 {@link ProfileRecordLayout#read } )
+     *
+     * @param profile 输出: 档案
+     * @throws NullPointerException 当 profile 为 null 时
+     */
+    public void readProfile( UserBodyProfile profile ){
+        ensureEntry();
+        ProfileRecordLayout.read( buffer, entryOffset + SessionJournal.RECORD_OFFSET, profile );
+    }
+
+    /**
+     * @return 已读取的完整条目的末尾在文件中的位置
+     */
+    public long getValidLength(){
+        return validLength;
+    }
+
+    @Override
+    public void close() throws IOException{
+        channel.close();
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    private boolean isValidEntry( ByteBuffer entries, int offset ){
+        return ( SessionJournal.checksum( checksum, entries, offset ) == entries.getInt( offset + SessionJournal.CHECKSUM_OFFSET ) );
+    }
+
+    /**
+     * 从 position 开始逐条检查之后的完整条目( 只在遇到校验和不符的条目时调用 )
+     *
+     * @return 是否还有校验和正确的条目
+     */
+    private boolean hasValidEntryFrom( long position ) throws IOException{
+        ByteBuffer entries = ByteBuffer.allocate( READ_BUFFER_ENTRIES * SessionJournal.ENTRY_SIZE ).order( ByteOrder.LITTLE_ENDIAN );
+        while ( true ){
+            entries.clear();
+            while ( entries.hasRemaining() && channel.read( entries, position + entries.position() ) > 0 ){ }
+            int entryCount = entries.position() / SessionJournal.ENTRY_SIZE;
+            for ( int i = 0; i < entryCount; i++ ){
+                if ( isValidEntry( entries, i * SessionJournal.ENTRY_SIZE ) ) return true;
+            }
+            if ( entries.hasRemaining() ) return false;  // 已读到文件末尾
+            position += entries.capacity();
+        }
+    }
+
+    private void ensureEntry(){
+        if ( entryOffset < 0 || finished ){
+            throw new IllegalStateException( "没有当前条目, 请先调用 next() 并确认其返回 true" );
+        }
+    }
+}
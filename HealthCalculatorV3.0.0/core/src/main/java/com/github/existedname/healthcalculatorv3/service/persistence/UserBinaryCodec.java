@@ -0,0 +1,238 @@
+package com.github.existedname.healthcalculatorv3.service.persistence;
+
+import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.service.batch.ProfileRecordLayout;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 用户二进制编解码器: 把一组 {@link User } 编码为定长记录 + 字符串堆, 代替只能看不能读回的 {@link User#toString() } 文本
+ * <pre>
+ *     1. 格式( 小端字节序 ):
+ *        [ 文件头 {@value #HEADER_SIZE } 字节 ][ 用户数 × {@value #RECORD_SIZE } 字节的定长记录 ][ 用户名字符串堆( UTF-8 ) ]
+ *     2. 文件头: 魔数 "HCUS"、版本、记录字节数、用户数、字符串堆字节数
+ *     3. 每条记录的前 {@value ProfileRecordLayout#RECORD_SIZE } 字节沿用 {@link ProfileRecordLayout }( 编号、年龄、性别代码、
+ *        基本身体参数、健康指标 ), 之后是用户名在字符串堆中的偏移与字节数( 用户名为 null 时字节数为 -1 )
+ *     4. 只保存已缓存的健康指标, 未缓存的写为 NaN, 解码后仍是未缓存状态
+ *     5. 编码先算出总字节数再一次性写入, 解码直接按偏移读取, 大量用户的保存与加载都是顺序的整块读写
+ *     6. 写入文件时先写同目录的临时文件并 force, 再原子替换原文件, 中途崩溃时原文件保持完整
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 22:20
+ */
+public final class UserBinaryCodec {
+    // ==================== 常量 ====================
+    /** 文件头字节数 */
+    public static final int HEADER_SIZE = 32;
+    /** 一条用户记录的字节数 */
+    public static final int RECORD_SIZE = ProfileRecordLayout.RECORD_SIZE + 8;
+    /** 魔数 "HCUS"( Health Calculator UserS ) */
+    private static final int MAGIC = 0x53554348;
+    /** 格式版本 */
+    private static final int VERSION = 1;
+    /** 编码结果的最大字节数( 单个 ByteBuffer 不能超过 2 GB ) */
+    private static final long MAX_ENCODED_SIZE = Integer.MAX_VALUE - 8;
+
+    /*      文件头各字段的偏移      */
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int RECORD_SIZE_OFFSET = 8;
+    private static final int USER_COUNT_OFFSET = 12;
+    private static final int NAME_HEAP_SIZE_OFFSET = 16;
+
+    /*      记录中用户名字段的偏移      */
+    private static final int NAME_OFFSET_OFFSET = ProfileRecordLayout.RECORD_SIZE;
+    private static final int NAME_LENGTH_OFFSET = ProfileRecordLayout.RECORD_SIZE + 4;
+
+
+    // ==================== 构造器 ====================
+    private UserBinaryCodec(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 把一组用户编码到新的缓冲区
+     *
+     * @param users 用户集合( 按迭代顺序编码 )
+     * @return 小端字节序的缓冲区, position 为 0, limit 为编码的字节数
+     * @throws NullPointerException 当 users 或其中任意用户为 null 时
+     * @throws IllegalArgumentException 当编码结果超过 2 GB 时
+     */
+    public static ByteBuffer encode( Collection< ? extends User > users ){
+        Objects.requireNonNull( users, "参数 users( 用户集合 )不能为 null" );
+        int count = users.size();
+        byte[][] names = new byte[ count ][];
+        long nameHeapSize = 0;
+        int i = 0;
+        for ( User user : users ){
+            Objects.requireNonNull( user, "参数 users( 用户集合 )中不能有 null" );
+            if ( user.getName() != null ){
+                names[ i ] = user.getName().getBytes( StandardCharsets.UTF_8 );
+                nameHeapSize += names[ i ].length;
+            }
+            i++;
+        }
+        long encodedSize = HEADER_SIZE + ( long ) count * RECORD_SIZE + nameHeapSize;
+        if ( encodedSize > MAX_ENCODED_SIZE ){
+            throw new IllegalArgumentException( String.format( "%d 个用户的编码结果为 %d 字节, 超过上限 %d 字节", count, encodedSize, MAX_ENCODED_SIZE ) );
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate( ( int ) encodedSize ).order( ByteOrder.LITTLE_ENDIAN );
+        buffer.putInt( MAGIC_OFFSET, MAGIC );
+        buffer.putInt( VERSION_OFFSET, VERSION );
+        buffer.putInt( RECORD_SIZE_OFFSET, RECORD_SIZE );
+        buffer.putInt( USER_COUNT_OFFSET, count );
+        buffer.putInt( NAME_HEAP_SIZE_OFFSET, ( int ) nameHeapSize );
+
+        int heapStart = HEADER_SIZE + count * RECORD_SIZE;
+        int nameOffset = 0;
+        i = 0;
+        for ( User user : users ){
+            int offset = HEADER_SIZE + i * RECORD_SIZE;
+            ProfileRecordLayout.write( buffer, offset, user.getId(), user );
+            if ( names[ i ] == null ){
+                buffer.putInt( offset + NAME_OFFSET_OFFSET, 0 );
+                buffer.putInt( offset + NAME_LENGTH_OFFSET, -1 );
+            } else {
+                buffer.putInt( offset + NAME_OFFSET_OFFSET, nameOffset );
+                buffer.putInt( offset + NAME_LENGTH_OFFSET, names[ i ].length );
+                buffer.put( heapStart + nameOffset, names[ i ] );
+                nameOffset += names[ i ].length;
+            }
+            i++;
+        }
+        return buffer;
+    }
+
+    /**
+     * 从缓冲区的 position 处解码一组用户, 解码后 position 移到编码结果之后( 字节序不影响解码 )
+     *
+     * @param buffer 缓冲区
+     * @return 用户列表( 顺序与编码时相同 )
+     * @throws NullPointerException 当 buffer 为 null 时
+     * @throws IllegalArgumentException 当缓冲区中不是有效的编码结果时
+     */
+    public static List< User > decode( ByteBuffer buffer ){
+        Objects.requireNonNull( buffer, "参数 buffer( 缓冲区 )不能为 null" );
+        ByteBuffer data = buffer.slice().order( ByteOrder.LITTLE_ENDIAN );
+        if ( data.limit() < HEADER_SIZE ){
+            throw new IllegalArgumentException( String.format( "不是用户编码结果: 只有 %d 字节", data.limit() ) );
+        }
+        if ( data.getInt( MAGIC_OFFSET ) != MAGIC ){
+            throw new IllegalArgumentException( "不是用户编码结果: 魔数不匹配" );
+        }
+        if ( data.getInt( VERSION_OFFSET ) != VERSION || data.getInt( RECORD_SIZE_OFFSET ) != RECORD_SIZE ){
+            throw new IllegalArgumentException( String.format( "不受支持的版本( %d )或记录字节数( %d )",
+                    data.getInt( VERSION_OFFSET ), data.getInt( RECORD_SIZE_OFFSET ) ) );
+        }
+        int count = data.getInt( USER_COUNT_OFFSET );
+        int nameHeapSize = data.getInt( NAME_HEAP_SIZE_OFFSET );
+        long encodedSize = HEADER_SIZE + ( long ) count * RECORD_SIZE + nameHeapSize;
+        if ( count < 0 || nameHeapSize < 0 || encodedSize > data.limit() ){
+            throw new IllegalArgumentException( String.format( "编码结果已损坏: 用户数 %d, 字符串堆 %d 字节, 实际只有 %d 字节",
+                    count, nameHeapSize, data.limit() ) );
+        }
+
+        int heapStart = HEADER_SIZE + count * RECORD_SIZE;
+        List< User > users = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ ){
+            int offset = HEADER_SIZE + i * RECORD_SIZE;
+            User user = new User();
+            ProfileRecordLayout.read( data, offset, user );
+            user.setId( data.getInt( offset + ProfileRecordLayout.ID_OFFSET ) );
+            user.setName( readName( data, offset, heapStart, nameHeapSize ) );
+            users.add( user );
+        }
+        buffer.position( buffer.position() + ( int ) encodedSize );
+        return users;
+    }
+
+    /**
+     * 把一组用户编码后写入文件( 已存在时覆盖 ): 先写入同目录的临时文件( 文件名 + ".tmp" )并 force, 再原子替换原文件,
+     * 因此读取方只会看到旧文件或完整的新文件
+     *
+     * @param path 文件路径
+     * @param users 用户集合
+     * @throws NullPointerException 当 path、users 或其中任意用户为 null 时
+     * @throws IllegalArgumentException 当编码结果超过 2 GB 时
+     * @throws IOException 当写入失败, 或文件系统不支持原子替换时( 原文件不变 )
+     */
+    public static void write( Path path, Collection< ? extends User > users ) throws IOException{
+        Objects.requireNonNull( path, "参数 path( 文件路径 )不能为 null" );
+        ByteBuffer buffer = encode( users );
+        Path tempPath = path.resolveSibling( path.getFileName() + ".tmp" );
+        try {
+            try ( FileChannel channel = FileChannel.open( tempPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE ) ){
+                while ( buffer.hasRemaining() ){
+                    channel.write( buffer );
+                }
+                channel.force( true );
+            }
+            Files.move( tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        } catch ( IOException | RuntimeException e ){
+            try {
+                Files.deleteIfExists( tempPath );
+            } catch ( IOException suppressed ){
+                e.addSuppressed( suppressed );
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 映射文件并解码其中的用户
+     *
+     * @param path 文件路径
+     * @return 用户列表
+     * @throws NullPointerException 当 path 为 null 时
+     * @throws IOException 当读取失败或文件不是有效的用户文件时
+     */
+    public static List< User > read( Path path ) throws IOException{
+        Objects.requireNonNull( path, "参数 path( 文件路径 )不能为 null" );
+        try ( FileChannel channel = FileChannel.open( path, StandardOpenOption.READ ) ){
+            long fileSize = channel.size();
+            if ( fileSize > MAX_ENCODED_SIZE ){
+                throw new IOException( String.format( "%s 有 %d 字节, 超过上限 %d 字节", path, fileSize, MAX_ENCODED_SIZE ) );
+            }
+            try {
+                return decode( channel.map( FileChannel.MapMode.READ_ONLY, 0, fileSize ) );
+            } catch ( IllegalArgumentException e ){
+                throw new IOException( String.format( "%s 不是有效的用户文件: %s", path, e.getMessage() ), e );
+            }
+        }
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * @return 记录中的用户名, 字节数为 -1 时为 null
+     * @throws IllegalArgumentException 当用户名超出字符串堆时
+     */
+    private static String readName( ByteBuffer data, int offset, int heapStart, int nameHeapSize ){
+        int nameOffset = data.getInt( offset + NAME_OFFSET_OFFSET );
+        int nameLength = data.getInt( offset + NAME_LENGTH_OFFSET );
+        if ( nameLength == -1 ) return null;
+        if ( nameOffset < 0 || nameLength < 0 || ( long ) nameOffset + nameLength > nameHeapSize ){
+            throw new IllegalArgumentException( String.format( "编码结果已损坏: 用户名位于字符串堆的 [ %d, %d + %d ), 字符串堆只有 %d 字节",
+                    nameOffset, nameOffset, nameLength, nameHeapSize ) );
+        }
+        byte[] bytes = new byte[ nameLength ];
+        data.get( heapStart + nameOffset, bytes );
+        return new String( bytes, StandardCharsets.UTF_8 );
+    }
+}
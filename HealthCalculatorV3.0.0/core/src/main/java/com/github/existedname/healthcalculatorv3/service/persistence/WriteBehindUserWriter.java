@@ -0,0 +1,447 @@
+package com.github.existedname.healthcalculatorv3.service.persistence;
+
+import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.service.batch.ProfileRecordLayout;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 写后( write-behind )用户写入器: 保存请求进入有界队列后立即返回, 由单个后台线程成批写入 {@link UserBinaryCodec } 格式的文件
+ * <pre>
+ *     1. 队列按用户编号合并: 同一用户尚未写入时再次保存只替换队列中的快照, 不占用新的位置; 保存时复制快照, 之后修改用户不影响队列
+ *     2. 有界: 队列中的用户数达到容量时, {@link #save( User ) } 阻塞、{@link #trySave( User, long, TimeUnit ) } 限时等待( 反压 )
+ *     3. 成批写入: 后台线程每次取走整个队列, 与已保存的用户合并后写入临时文件、force, 再原子替换目标文件, 一批只写一次盘
+ *     4. 写入失败时批次放回队列( 不覆盖更新的快照, 此时队列深度可能暂时超过容量 ), {@value #RETRY_DELAY_MILLIS } ms 后
+ *        ( 期间的保存不会提前触发重试 )或关闭时重试
+ *     5. {@link #flush() } 等待此前的保存全部写入; {@link #close() } 写完队列中的全部用户后停止后台线程
+ *     6. 指标: 队列深度、提交 / 合并次数、写盘次数与用户数、写盘耗时( 最近、最大、平均 )、失败次数
+ *     7. 线程安全
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 22:40
+ */
+public final class WriteBehindUserWriter implements Closeable {
+    // ==================== 常量 ====================
+    /** 默认队列容量( 用户数 ) */
+    public static final int DEFAULT_CAPACITY = 1024;
+    /** 写入失败后的重试间隔( 毫秒 ) */
+    public static final long RETRY_DELAY_MILLIS = 1000;
+    /** 后台写入线程的名称 */
+    private static final String WRITER_THREAD_NAME = "healthcalculatorv3-write-behind";
+
+
+    // ==================== 实例变量 ====================
+    /** 用户文件 */
+    private final Path path;
+    /** 队列容量 */
+    private final int capacity;
+    private final Thread writerThread;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** 队列非空或已关闭 */
+    private final Condition notEmpty = lock.newCondition();
+    /** 队列有空位或已关闭 */
+    private final Condition notFull = lock.newCondition();
+    /** 完成了一次写盘( 成功或失败 ) */
+    private final Condition flushed = lock.newCondition();
+
+    /*      以下由 lock 保护      */
+    /** 待写入的用户快照, 键为用户编号 */
+    private Map< Integer, User > pending = new LinkedHashMap<>();
+    /** 已提交的保存次数, 也是最近一次保存的序号 */
+    private long submittedCount;
+    /** 已写入的最大保存序号 */
+    private long flushedSequence;
+    private boolean closed;
+    private IOException lastFailure;
+    private long coalescedCount;
+    private long flushCount;
+    private long flushedUserCount;
+    private long failedFlushCount;
+    private long lastFlushNanos;
+    private long maxFlushNanos;
+    private long totalFlushNanos;
+
+    /** 已写入文件的全部用户, 只由后台线程访问, 第一次写盘前从文件加载 */
+    private Map< Integer, User > savedUsers;
+
+
+    // ==================== 构造器 ====================
+    /**
+     * 创建写入器, 队列容量为 {@value #DEFAULT_CAPACITY }
+     *
+     * @see #WriteBehindUserWriter( Path, int )
+     */
+    public WriteBehindUserWriter( Path path ){
+        this( path, DEFAULT_CAPACITY );
+    }
+
+    /**
+     * 创建写入器并启动后台线程( 守护线程, 退出前应调用 {@link #close() } )
+     *
+     * @param path 用户文件( 已存在时保留其中的其他用户 )
+     * @param capacity 队列容量( 用户数 )
+     * @throws NullPointerException 当 path 为 null 时
+     * @throws IllegalArgumentException 当 capacity 小于 1 时
+     */
+    public WriteBehindUserWriter( Path path, int capacity ){
+        this.path = Objects.requireNonNull( path, "参数 path( 用户文件路径 )不能为 null" );
+        if ( capacity < 1 ){
+            throw new IllegalArgumentException( String.format( "参数 capacity( 队列容量 ) = %d 不能小于 1", capacity ) );
+        }
+        this.capacity = capacity;
+        this.writerThread = new Thread( this::runWriter, WRITER_THREAD_NAME );
+        writerThread.setDaemon( true );
+        writerThread.start();
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 提交一次保存, 队列已满时阻塞到有空位
+     *
+     * @param user 用户
+     * @throws NullPointerException 当 user 为 null 时
+     * @throws IllegalStateException 当写入器已关闭时
+     * @throws InterruptedException 当等待空位时被中断
+     */
+    public void save( User user ) throws InterruptedException{
+        User snapshot = snapshot( user );
+        lock.lockInterruptibly();
+        try {
+            while ( !hasRoomFor( snapshot ) ){
+                notFull.await();
+            }
+            enqueue( snapshot );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 提交一次保存, 队列已满时最多等待 timeout
+     *
+     * @param user 用户
+     * @param timeout 最长等待时间
+     * @param unit 时间单位
+     * @return 已提交返回 true, 超时返回 false
+     * @throws NullPointerException 当 user 或 unit 为 null 时
+     * @throws IllegalStateException 当写入器已关闭时
+     * @throws InterruptedException 当等待空位时被中断
+     */
+    public boolean trySave( User user, long timeout, TimeUnit unit ) throws InterruptedException{
+        Objects.requireNonNull( unit, "参数 unit( 时间单位 )不能为 null" );
+        User snapshot = snapshot( user );
+        long nanos = unit.toNanos( timeout );
+        lock.lockInterruptibly();
+        try {
+            while ( !hasRoomFor( snapshot ) ){
+                if ( nanos <= 0 ) return false;
+                nanos = notFull.awaitNanos( nanos );
+            }
+            enqueue( snapshot );
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 等待此前提交的保存全部写入文件
+     *
+     * @throws IOException 当等待期间写盘失败时( 失败的用户仍在队列中等待重试 )
+     * @throws InterruptedIOException 当等待时被中断
+     */
+    public void flush() throws IOException{
+        lock.lock();
+        try {
+            long target = submittedCount;
+            long failedCount = failedFlushCount;
+            while ( flushedSequence < target ){
+                if ( failedFlushCount != failedCount ){
+                    throw new IOException( "写入用户文件失败: " + lastFailure.getMessage(), lastFailure );
+                }
+                if ( closed && !writerThread.isAlive() ){
+                    throw new IOException( "写入器已关闭, 队列中的用户未能写入" );
+                }
+                try {
+                    flushed.await();
+                } catch ( InterruptedException e ){
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException( "等待写入时被中断" );
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 停止接收保存, 写完队列中的全部用户后停止后台线程; 重复关闭无效果
+     *
+     * @throws IOException 当最后一次写盘失败, 队列中仍有用户未写入时
+     * @throws InterruptedIOException 当等待后台线程时被中断
+     */
+    @Override
+    public void close() throws IOException{
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writerThread.join();
+        } catch ( InterruptedException e ){
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException( "等待后台写入线程结束时被中断" );
+        }
+        lock.lock();
+        try {
+            if ( !pending.isEmpty() ){
+                throw new IOException( String.format( "%d 个用户未能写入: %s", pending.size(),
+                        ( lastFailure == null ? "未知原因" : lastFailure.getMessage() ) ), lastFailure );
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*      指标      */
+    /**
+     * @return 队列深度( 待写入的用户数 )
+     */
+    public int getQueueDepth(){
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 队列容量
+     */
+    public int getCapacity(){
+        return capacity;
+    }
+
+    /**
+     * @return 已提交的保存次数
+     */
+    public long getSubmittedCount(){
+        return read( () -> submittedCount );
+    }
+
+    /**
+     * @return 合并到队列中已有快照的保存次数
+     */
+    public long getCoalescedCount(){
+        return read( () -> coalescedCount );
+    }
+
+    /**
+     * @return 成功写盘的次数
+     */
+    public long getFlushCount(){
+        return read( () -> flushCount );
+    }
+
+    /**
+     * @return 成功写盘的用户快照数( 合并后 )
+     */
+    public long getFlushedUserCount(){
+        return read( () -> flushedUserCount );
+    }
+
+    /**
+     * @return 写盘失败的次数
+     */
+    public long getFailedFlushCount(){
+        return read( () -> failedFlushCount );
+    }
+
+    /**
+     * @return 最近一次成功写盘的耗时( 纳秒 )
+     */
+    public long getLastFlushNanos(){
+        return read( () -> lastFlushNanos );
+    }
+
+    /**
+     * @return 成功写盘的最大耗时( 纳秒 )
+     */
+    public long getMaxFlushNanos(){
+        return read( () -> maxFlushNanos );
+    }
+
+    /**
+     * @return 成功写盘的平均耗时( 纳秒 ), 尚未写盘时为 0
+     */
+    public long getAverageFlushNanos(){
+        return read( () -> ( flushCount == 0 ? 0 : totalFlushNanos / flushCount ) );
+    }
+
+    @Override
+    public String toString(){
+        lock.lock();
+        try {
+            return String.format( "WriteBehindUserWriter{ queueDepth = %d / %d, submitted = %d, coalesced = %d, flushes = %d, "
+                            + "flushedUsers = %d, failedFlushes = %d, lastFlush = %.3f ms, maxFlush = %.3f ms, averageFlush = %.3f ms }",
+                    pending.size(), capacity, submittedCount, coalescedCount, flushCount, flushedUserCount, failedFlushCount,
+                    lastFlushNanos / 1e6, maxFlushNanos / 1e6, ( flushCount == 0 ? 0 : totalFlushNanos / flushCount ) / 1e6 );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 后台线程: 每次取走整个队列写盘, 关闭后写完队列再退出
+     */
+    private void runWriter(){
+        while ( true ){
+            Map< Integer, User > batch;
+            long sequence;
+            lock.lock();
+            try {
+                while ( pending.isEmpty() && !closed ){
+                    notEmpty.awaitUninterruptibly();
+                }
+                if ( pending.isEmpty() ) return;
+                batch = pending;
+                sequence = submittedCount;
+                pending = new LinkedHashMap<>();
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            long start = System.nanoTime();
+            IOException failure = null;
+            try {
+                writeBatch( batch );
+            } catch ( IOException e ){
+                failure = e;
+            } catch ( RuntimeException e ){
+                failure = new IOException( e.getMessage(), e );
+            }
+            long elapsed = System.nanoTime() - start;
+
+            lock.lock();
+            try {
+                if ( failure == null ){
+                    flushedSequence = sequence;
+                    flushCount++;
+                    flushedUserCount += batch.size();
+                    lastFlushNanos = elapsed;
+                    maxFlushNanos = Math.max( maxFlushNanos, elapsed );
+                    totalFlushNanos += elapsed;
+                } else {
+                    lastFailure = failure;
+                    failedFlushCount++;
+                    // 放回队列重试, 队列中更新的快照优先
+                    for ( Map.Entry< Integer, User > entry : batch.entrySet() ){
+                        pending.putIfAbsent( entry.getKey(), entry.getValue() );
+                    }
+                }
+                flushed.signalAll();
+                if ( failure != null ){
+                    if ( closed ) return;
+                    // 新的保存也会唤醒 notEmpty, 等满重试间隔或关闭才重试, 磁盘故障时不会随每次保存立即重试
+                    long nanos = TimeUnit.MILLISECONDS.toNanos( RETRY_DELAY_MILLIS );
+                    while ( nanos > 0 && !closed ){
+                        nanos = notEmpty.awaitNanos( nanos );
+                    }
+                }
+            } catch ( InterruptedException e ){
+                // 后台线程不响应中断, 提前重试
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 把一批用户与已保存的用户合并后写入用户文件( {@link UserBinaryCodec#write } 写临时文件并 force 后原子替换 )
+     */
+    private void writeBatch( Map< Integer, User > batch ) throws IOException{
+        if ( savedUsers == null ){
+            Map< Integer, User > users = new LinkedHashMap<>();
+            if ( Files.exists( path ) ){
+                for ( User user : UserBinaryCodec.read( path ) ){
+                    users.put( user.getId(), user );
+                }
+            }
+            savedUsers = users;
+        }
+        savedUsers.putAll( batch );
+        UserBinaryCodec.write( path, savedUsers.values() );
+    }
+
+    /**
+     * 持有 lock 时调用
+     *
+     * @return 可以放入快照时返回 true( 编号已在队列中, 或队列未满 )
+     * @throws IllegalStateException 当写入器已关闭时
+     */
+    private boolean hasRoomFor( User snapshot ){
+        if ( closed ){
+            throw new IllegalStateException( "写入器已关闭" );
+        }
+        return ( pending.containsKey( snapshot.getId() ) || pending.size() < capacity );
+    }
+
+    /**
+     * 持有 lock 且 {@link #hasRoomFor( User ) } 为 true 时调用
+     */
+    private void enqueue( User snapshot ){
+        if ( pending.put( snapshot.getId(), snapshot ) != null ){
+            coalescedCount++;
+        }
+        submittedCount++;
+        notEmpty.signal();
+    }
+
+    /**
+     * @return 用户的副本( 编号、用户名、身体数据与已缓存的健康指标 )
+     */
+    private static User snapshot( User user ){
+        Objects.requireNonNull( user, "参数 user( 用户 )不能为 null" );
+        ByteBuffer record = ByteBuffer.allocate( ProfileRecordLayout.RECORD_SIZE ).order( ByteOrder.LITTLE_ENDIAN );
+        ProfileRecordLayout.write( record, 0, user.getId(), user );
+        User copy = new User();
+        ProfileRecordLayout.read( record, 0, copy );
+        copy.setId( user.getId() );
+        copy.setName( user.getName() );
+        return copy;
+    }
+
+    private long read( LongSupplier supplier ){
+        lock.lock();
+        try {
+            return supplier.getAsLong();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.github.existedname.healthcalculatorv3.util.calculator.basic;
 
 import com.github.existedname.healthcalculatorv3.util.calculator.constant.BFRCalculatorConstants;
+import com.github.existedname.healthcalculatorv3.util.calculator.constant.CompiledEquation;
 import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
 import com.github.existedname.healthcalculatorv3.util.convertor.UnitConvertor;
 import com.github.existedname.healthcalculatorv3.util.validator.BasicBodyParameterValidator;
 import com.github.existedname.healthcalculatorv3.util.validator.HealthMetricValidator;
+import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
 
 /**
  * BFR( Body Fat Rate, 体脂率 )计算器工具类, 提供多种 BFR 的计算公式
@@ -53,20 +55,25 @@ public final class BFRCalculator {
      * @see <a href="https://metaso.cn/s/ZiSbsAj"> 参考成人、儿童年龄区分( 见 P4 表 5 下面第 1 行 ) </a>
      */
     public static double calculateBFRByDeurenbergEquation( double bmi, int age, String gender ){
+        return calculateBFRByDeurenbergEquation( bmi, age, Gender.parse( gender ) );
+    }
+
+    /**
+     * 使用 Deurenberg 公式计算 BFR, <B>单位: %</B>( 性别为 {@link Gender } 枚举, 不再解析字符串 )
+     *
+     * @param bmi BMI 数值
+     * @param age 年龄
+     * @param gender 性别
+     * @return BFR 计算结果, <B>单位: %</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 age 或 bmi 不在有效范围时
+     * @see #calculateBFRByDeurenbergEquation( double, int, String )
+     * @since 3.1.0
+     */
+    public static double calculateBFRByDeurenbergEquation( double bmi, int age, Gender gender ){
         validateBasicParameters( bmi, age, gender );
-        if ( age >= 16 ){
-            return calculateBFRByGeneralFormula(
-                    BFRCalculatorConstants.DeurenbergEquation.Adult.BMI_COEFFICIENT, bmi,
-                    BFRCalculatorConstants.DeurenbergEquation.Adult.AGE_COEFFICIENT, age,
-                    BFRCalculatorConstants.DeurenbergEquation.Adult.GENDER_COEFFICIENT, gender,
-                    BFRCalculatorConstants.DeurenbergEquation.Adult.CONST_TERM );
-        } else {
-            return calculateBFRByGeneralFormula(
-                    BFRCalculatorConstants.DeurenbergEquation.Child.BMI_COEFFICIENT, bmi,
-                    BFRCalculatorConstants.DeurenbergEquation.Child.AGE_COEFFICIENT, age,
-                    BFRCalculatorConstants.DeurenbergEquation.Child.GENDER_COEFFICIENT, gender,
-                    BFRCalculatorConstants.DeurenbergEquation.Child.CONST_TERM );
-        }
+        // 成人、儿童公式的年龄分界已展开到系数表中
+        return CompiledEquation.BFR.DEURENBERG.evaluate( gender.getCode(), age, bmi );
     }
 
     /*
@@ -91,12 +98,24 @@ public final class BFRCalculator {
      * @see <a href="https://metaso.cn/s/9YJwhkv"> 参考 Gallagher 公式版本Ⅰ( 见 P5 表4 ) </a>
      */
     public static double calculateBFRByGallagherEquation1( double bmi, int age, String gender ){
+        return calculateBFRByGallagherEquation1( bmi, age, Gender.parse( gender ) );
+    }
+
+    /**
+     * 使用 Gallagher 公式版本Ⅰ( 基于 BMI、年龄、性别 )计算 BFR, <B>单位: %</B>( 性别为 {@link Gender } 枚举, 不再解析字符串 )
+     *
+     * @param bmi BMI 数值
+     * @param age 年龄
+     * @param gender 性别
+     * @return BFR 计算结果, <B>单位: %</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 age 或 bmi 不在有效范围时
+     * @see #calculateBFRByGallagherEquation1( double, int, String )
+     * @since 3.1.0
+     */
+    public static double calculateBFRByGallagherEquation1( double bmi, int age, Gender gender ){
         validateBasicParameters( bmi, age, gender );
-        return calculateBFRByGeneralFormula( 
-                BFRCalculatorConstants.GallagherEquation.Version1.BMI_COEFFICIENT, bmi,
-                BFRCalculatorConstants.GallagherEquation.Version1.AGE_COEFFICIENT, age,
-                BFRCalculatorConstants.GallagherEquation.Version1.GENDER_COEFFICIENT, gender,
-                BFRCalculatorConstants.GallagherEquation.Version1.CONST_TERM );
+        return CompiledEquation.BFR.GALLAGHER_1.evaluate( gender.getCode(), age, bmi );
     }
 
     /**
@@ -117,17 +136,24 @@ public final class BFRCalculator {
      * @see <a href="https://metaso.cn/s/EXCtMXF"> 参考 Gallagher 公式版本Ⅱ( 见 P5 表4 ) </a>
      */
     public static double calculateBFRByGallagherEquation2( double bmi, int age, String gender ){
+        return calculateBFRByGallagherEquation2( bmi, age, Gender.parse( gender ) );
+    }
+
+    /**
+     * 使用 Gallagher 公式版本Ⅱ( 基于 BMI 的倒数、年龄、性别 )计算 BFR, <B>单位: %</B>( 性别为 {@link Gender } 枚举, 不再解析字符串 )
+     *
+     * @param bmi BMI 数值
+     * @param age 年龄
+     * @param gender 性别
+     * @return BFR 计算结果, <B>单位: %</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 age 或 bmi 不在有效范围时
+     * @see #calculateBFRByGallagherEquation2( double, int, String )
+     * @since 3.1.0
+     */
+    public static double calculateBFRByGallagherEquation2( double bmi, int age, Gender gender ){
         validateBasicParameters( bmi, age, gender );
-        int intIsMale = Gender.intIsMale( gender );
-        double reciprocalOfBMI = 1.0 / bmi;
-        return // calculateBFRByGeneralFormula
-                (  // 前半部分: 形式同计算通式, 但是由于 BMI 倒数不在 BMI 有效范围内, 不能传入通式, 否则抛出异常
-                BFRCalculatorConstants.GallagherEquation.Version2.BMI_COEFFICIENT * reciprocalOfBMI +
-                BFRCalculatorConstants.GallagherEquation.Version2.AGE_COEFFICIENT * age +
-                BFRCalculatorConstants.GallagherEquation.Version2.GENDER_COEFFICIENT * Gender.intIsMale( gender ) +
-                BFRCalculatorConstants.GallagherEquation.Version2.CONST_TERM ) // 再补上后半部分
-                + BFRCalculatorConstants.GallagherEquation.Version2.GENDER_AGE_INTERACTION * intIsMale * age
-                + BFRCalculatorConstants.GallagherEquation.Version2.GENDER_BMI_INTERACTION * intIsMale * reciprocalOfBMI;
+        return calculateBFRByGallagherEquation2WithoutValidation( bmi, age, gender.getCode() );
     }
 
 
@@ -167,12 +193,24 @@ public final class BFRCalculator {
      * @see <a href="https://metaso.cn/s/3DB8PEH"> 参考 Jackson-Pollock 公式基于 BMI、年龄、性别的版本( 见 P5 表4 ) </a>
      */
     public static double calculateBFRByJacksonPollockSimplifiedEquation( double bmi, int age, String gender ){
+        return calculateBFRByJacksonPollockSimplifiedEquation( bmi, age, Gender.parse( gender ) );
+    }
+
+    /**
+     * 使用 Jackson-Pollock 公式简化版本( 基于 BMI、年龄、性别 )计算 BFR, <B>单位: %</B>( 性别为 {@link Gender } 枚举, 不再解析字符串 )
+     *
+     * @param bmi BMI 数值
+     * @param age 年龄
+     * @param gender 性别
+     * @return BFR 计算结果, <B>单位: %</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 age 或 bmi 不在有效范围时
+     * @see #calculateBFRByJacksonPollockSimplifiedEquation( double, int, String )
+     * @since 3.1.0
+     */
+    public static double calculateBFRByJacksonPollockSimplifiedEquation( double bmi, int age, Gender gender ){
         validateBasicParameters( bmi, age, gender );
-        return calculateBFRByGeneralFormula(
-                BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.BMI_COEFFICIENT, bmi,
-                BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.AGE_COEFFICIENT, age,
-                BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.GENDER_COEFFICIENT, gender,
-                BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.CONST_TERM );
+        return CompiledEquation.BFR.JACKSON_POLLOCK_SIMPLIFIED.evaluate( gender.getCode(), age, bmi );
     }
 
     /**
@@ -202,8 +240,155 @@ public final class BFRCalculator {
      *
      */
     public static double calculateBFRByUSNEquation( String gender, double waistCircumference, double hipCircumference, double neckCircumference, double height ){
+        return calculateBFRByUSNEquation( Gender.parse( gender ), waistCircumference, hipCircumference, neckCircumference, height );
+    }
+
+    /**
+     * 使用美国海军体脂率公式计算 BFR, <B>单位: %</B>( 性别为 {@link Gender } 枚举, 不再解析字符串 )
+     *
+     * @param gender 性别
+     * @param waistCircumference 腰围( cm )
+     * @param hipCircumference 臀围( cm )
+     * @param neckCircumference 颈围( cm )
+     * @param height 身高( cm )
+     * @return BFR 计算结果, <B>单位: %</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 waistCircumference 或 hipCircumference 或 neckCircumference 或 height 不在有效范围时
+     * @see #calculateBFRByUSNEquation( String, double, double, double, double )
+     * @since 3.1.0
+     */
+    public static double calculateBFRByUSNEquation( Gender gender, double waistCircumference, double hipCircumference, double neckCircumference, double height ){
         validateUSNEquationParameters( gender, waistCircumference, hipCircumference, neckCircumference, height );
-        if ( Gender.isMale( gender ) ){
+        return calculateBFRByUSNEquationWithoutValidation( gender.isMale(), waistCircumference, hipCircumference, neckCircumference, height );
+    }
+
+
+    /*      批量计算( 列式 ), 整批参数只检验一次, 结果与逐个调用单个计算方法逐位一致      */
+    /**
+     * 批量使用 Deurenberg 公式计算 BFR, <B>单位: %</B>
+     *
+     * @param bmis BMI 列
+     * @param ages 年龄列
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param out 输出列, 存放每个下标对应的 BFR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBFRByDeurenbergEquation( double, int, String )
+     * @since 3.1.0
+     */
+    public static void calculateBFRByDeurenbergEquation( double[] bmis, int[] ages, byte[] genderCodes, double[] out ){
+        validateBasicParameters( bmis, ages, genderCodes, out );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = CompiledEquation.BFR.DEURENBERG.evaluate( genderCodes[ i ], ages[ i ], bmis[ i ] );
+        }
+    }
+
+    /**
+     * 批量使用 Gallagher 公式版本Ⅰ计算 BFR, <B>单位: %</B>
+     *
+     * @param bmis BMI 列
+     * @param ages 年龄列
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param out 输出列, 存放每个下标对应的 BFR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBFRByGallagherEquation1( double, int, String )
+     * @since 3.1.0
+     */
+    public static void calculateBFRByGallagherEquation1( double[] bmis, int[] ages, byte[] genderCodes, double[] out ){
+        validateBasicParameters( bmis, ages, genderCodes, out );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = CompiledEquation.BFR.GALLAGHER_1.evaluate( genderCodes[ i ], ages[ i ], bmis[ i ] );
+        }
+    }
+
+    /**
+     * 批量使用 Gallagher 公式版本Ⅱ计算 BFR, <B>单位: %</B>
+     *
+     * @param bmis BMI 列
+     * @param ages 年龄列
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param out 输出列, 存放每个下标对应的 BFR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBFRByGallagherEquation2( double, int, String )
+     * @since 3.1.0
+     */
+    public static void calculateBFRByGallagherEquation2( double[] bmis, int[] ages, byte[] genderCodes, double[] out ){
+        validateBasicParameters( bmis, ages, genderCodes, out );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBFRByGallagherEquation2WithoutValidation( bmis[ i ], ages[ i ], genderCodes[ i ] );
+        }
+    }
+
+    /**
+     * 批量使用 Jackson-Pollock 公式简化版本计算 BFR, <B>单位: %</B>
+     *
+     * @param bmis BMI 列
+     * @param ages 年龄列
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param out 输出列, 存放每个下标对应的 BFR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBFRByJacksonPollockSimplifiedEquation( double, int, String )
+     * @since 3.1.0
+     */
+    public static void calculateBFRByJacksonPollockSimplifiedEquation( double[] bmis, int[] ages, byte[] genderCodes, double[] out ){
+        validateBasicParameters( bmis, ages, genderCodes, out );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = CompiledEquation.BFR.JACKSON_POLLOCK_SIMPLIFIED.evaluate( genderCodes[ i ], ages[ i ], bmis[ i ] );
+        }
+    }
+
+    /**
+     * 批量使用美国海军体脂率公式计算 BFR, <B>单位: %</B>
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param waistCircumferences 腰围列( cm )
+     * @param hipCircumferences 臀围列( cm )
+     * @param neckCircumferences 颈围列( cm )
+     * @param heights 身高列( cm )
+     * @param out 输出列, 存放每个下标对应的 BFR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBFRByUSNEquation( String, double, double, double, double )
+     * @since 3.1.0
+     */
+    public static void calculateBFRByUSNEquation( byte[] genderCodes, double[] waistCircumferences, double[] hipCircumferences,
+                                                  double[] neckCircumferences, double[] heights, double[] out ){
+        BasicBodyParameterValidator.validateGender( genderCodes );
+        BasicBodyParameterValidator.validateWaistCircumference( waistCircumferences );
+        BasicBodyParameterValidator.validateHipCircumference( hipCircumferences );
+        BasicBodyParameterValidator.validateNeckCircumference( neckCircumferences );
+        BasicBodyParameterValidator.validateHeight( heights );
+        MethodParameterValidator.validateColumnLengths( out, genderCodes.length, waistCircumferences.length,
+                hipCircumferences.length, neckCircumferences.length, heights.length );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBFRByUSNEquationWithoutValidation( Gender.isMale( genderCodes[ i ] ),
+                    waistCircumferences[ i ], hipCircumferences[ i ], neckCircumferences[ i ], heights[ i ] );
+        }
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 美国海军公式按性别选择系数的逻辑( 不检验参数 ), 单个与批量计算共用
+     *
+     * @param isMale 是否为男性
+     * @param waistCircumference 腰围( cm )
+     * @param hipCircumference 臀围( cm )
+     * @param neckCircumference 颈围( cm )
+     * @param height 身高( cm )
+     * @return BFR 计算结果, <B>单位: %</B>
+     * @since 3.1.0
+     */
+    private static double calculateBFRByUSNEquationWithoutValidation( boolean isMale, double waistCircumference, double hipCircumference, double neckCircumference, double height ){
+        if ( isMale ){
             return calculateBFRByUSNEquation(
                     BFRCalculatorConstants.USNEquation.Male.LOGARITHM_TERM_COEFFICIENT1, // 对数项系数1
                     BFRCalculatorConstants.USNEquation.Male.LOGARITHM_TERM_COEFFICIENT2, // 对数项系数2
@@ -220,8 +405,6 @@ public final class BFRCalculator {
         }
     }
 
-
-    // ==================== 私有辅助方法 ====================
     /**
      * main 方法测试
      * @param args 测试参数
@@ -247,12 +430,31 @@ public final class BFRCalculator {
      * @throws IllegalArgumentException 当 bmi 或 age 或 gender 不在有效范围时
      * @since 3.0.0
      */
-    private static void validateBasicParameters( double bmi, int age, String gender ){
+    private static void validateBasicParameters( double bmi, int age, Gender gender ){
         BasicBodyParameterValidator.validateGender( gender );
         BasicBodyParameterValidator.validateAge( age );
         HealthMetricValidator.validateBMI( bmi );
     }
 
+    /**
+     * 检验批量计算的方法参数
+     *
+     * @param bmis BMI 列
+     * @param ages 年龄列
+     * @param genderCodes 性别代码列
+     * @param out 输出列
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    private static void validateBasicParameters( double[] bmis, int[] ages, byte[] genderCodes, double[] out ){
+        BasicBodyParameterValidator.validateGender( genderCodes );
+        BasicBodyParameterValidator.validateAge( ages );
+        HealthMetricValidator.validateBMI( bmis );
+        MethodParameterValidator.validateColumnLengths( out, bmis.length, ages.length, genderCodes.length );
+    }
+
     /**
      * 检验方法参数
      *
@@ -266,7 +468,7 @@ public final class BFRCalculator {
      * @throws IllegalArgumentException 当 gender 或 waistCircumference 或 hipCircumference 或 neckCircumference 或 height 不在有效范围时
      * @since 3.0.0
      */
-    private static void validateUSNEquationParameters( String gender, double waistCircumference, double hipCircumference, double neckCircumference, double height ){
+    private static void validateUSNEquationParameters( Gender gender, double waistCircumference, double hipCircumference, double neckCircumference, double height ){
         BasicBodyParameterValidator.validateGender( gender );
         BasicBodyParameterValidator.validateWaistCircumference( waistCircumference );
         BasicBodyParameterValidator.validateHipCircumference( hipCircumference );
@@ -275,24 +477,24 @@ public final class BFRCalculator {
     }
 
     /**
-     * BFR 计算通式--符合多数公式的形式, 只需传入参数( 自变量、系数 )即可
+     * Gallagher 公式版本Ⅱ的计算逻辑( 不检验参数 ), 单个与批量计算共用, 保证结果一致
      *
-     * @param bmiCoefficient BMI 项的系数
      * @param bmi BMI
-     * @param ageCoefficient 年龄项的系数
      * @param age 年龄
-     * @param genderCoefficient 性别项的系数
-     * @param gender  性别
-     * @param constTerm 常数项
-     *                  
-     * @return BFR 计算结果, <B>单位: %</B>, 注意使用 BFR 进行计算时需要调用
-     *          {@link UnitConvertor#percentageToDecimal( double percentage ) } 转小数
-     * @throws NullPointerException 当 gender 为 null 时
-     * @throws IllegalArgumentException 当 bmi 或 age 或 gender 不再有效范围时
+     * @param intIsMale 性别代码( 女0 男1 )
+     * @return BFR 计算结果, <B>单位: %</B>
+     * @since 3.1.0
      */
-    private static double calculateBFRByGeneralFormula( double bmiCoefficient, double bmi, double ageCoefficient, int age, double genderCoefficient, String gender, double constTerm ){
-        validateBasicParameters( bmi, age, gender );
-        return ( bmiCoefficient * bmi + ageCoefficient * age + genderCoefficient * Gender.intIsMale( gender ) + constTerm );
+    private static double calculateBFRByGallagherEquation2WithoutValidation( double bmi, int age, int intIsMale ){
+        double reciprocalOfBMI = 1.0 / bmi;
+        return // calculateBFRByGeneralFormula
+                (  // 前半部分: 形式同计算通式, 但是由于 BMI 倒数不在 BMI 有效范围内, 不能传入通式, 否则抛出异常
+                BFRCalculatorConstants.GallagherEquation.Version2.BMI_COEFFICIENT * reciprocalOfBMI +
+                BFRCalculatorConstants.GallagherEquation.Version2.AGE_COEFFICIENT * age +
+                BFRCalculatorConstants.GallagherEquation.Version2.GENDER_COEFFICIENT * intIsMale +
+                BFRCalculatorConstants.GallagherEquation.Version2.CONST_TERM ) // 再补上后半部分
+                + BFRCalculatorConstants.GallagherEquation.Version2.GENDER_AGE_INTERACTION * intIsMale * age
+                + BFRCalculatorConstants.GallagherEquation.Version2.GENDER_BMI_INTERACTION * intIsMale * reciprocalOfBMI;
     }
 
     /**
@@ -3,6 +3,7 @@ package com.github.existedname.healthcalculatorv3.util.calculator.basic;
 import com.github.existedname.healthcalculatorv3.util.convertor.UnitConvertor;
 import com.github.existedname.healthcalculatorv3.util.validator.BasicBodyParameterValidator;
 import com.github.existedname.healthcalculatorv3.util.validator.HealthMetricValidator;
+import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
 
 /**
  * BMI( Body Mass Index, 身体质量指数 )计算器工具类, 提供 BMI、已知 BMI 以及体重或身高求另一方的计算
@@ -43,6 +44,42 @@ public final class BMICalculator {
      */
     public static double calculateBMI( double weight, double height ){
         validateBasicParameters( weight, height );
+        return calculateBMIWithoutValidation( weight, height );
+    }
+
+    /**
+     * 批量计算 BMI, 单位: kg/m², 结果与逐个调用 {@link #calculateBMI( double, double ) } 逐位一致
+     * <p>
+     *     整批参数只检验一次, 循环内不再检验、不分配对象
+     * </p>
+     *
+     * @param weights 体重列( 单位: kg )
+     * @param heights 身高列( <B>单位: cm</B> )
+     * @param out 输出列, 存放每个下标对应的 BMI
+     *
+     * @throws NullPointerException 当 weights 或 heights 或 out 为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void calculateBMI( double[] weights, double[] heights, double[] out ){
+        BasicBodyParameterValidator.validateWeight( weights );
+        BasicBodyParameterValidator.validateHeight( heights );
+        MethodParameterValidator.validateColumnLengths( out, weights.length, heights.length );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBMIWithoutValidation( weights[ i ], heights[ i ] );
+        }
+    }
+
+    /**
+     * BMI 计算逻辑( 不检验参数, 由调用方保证参数有效 ), 单个、批量计算与 {@link com.github.existedname.healthcalculatorv3.util.calculator.composite.ProfileEvaluator }
+     * 共用, 保证结果一致; 参数未经检验时应调用 {@link #calculateBMI( double, double ) }
+     *
+     * @param weight 体重, 单位: kg
+     * @param height 身高, 单位: cm
+     * @return BMI, 单位: kg/m²
+     * @since 3.1.0
+     */
+    public static double calculateBMIWithoutValidation( double weight, double height ){
         double heightInMetre = UnitConvertor.cmToMetre( height );
         return ( weight / heightInMetre / heightInMetre );
     }
@@ -0,0 +1,716 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.basic;
+
+import com.github.existedname.healthcalculatorv3.util.calculator.constant.CompiledEquation;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.util.convertor.UnitConvertor;
+import com.github.existedname.healthcalculatorv3.util.validator.BasicBodyParameterValidator;
+import com.github.existedname.healthcalculatorv3.util.validator.HealthMetricValidator;
+import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
+
+/**
+ *  BMR( Basal Metabolic Rate, 基础代谢率 )计算器工具类, 提供多种 BMR 的计算公式
+ *
+ *  @author <a href="https://github.com/existed-name" > existed-name </a>
+ *  @since 2.0.0
+ *  @CreateTime 2025-6-16
+ */
+public final class BMRCalculator {
+    // ==================== 常量 ====================
+
+
+
+    // ==================== 静态变量 ====================
+
+
+
+    // ==================== 实例变量 ====================
+
+
+
+    // ==================== 构造器 ====================
+    private BMRCalculator(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 基于 BSA( Body Surface Area, 体表面积 ) 的 BMR 计算方法
+     * <pre>
+     *     一段时间的基础代谢 = 每小时每平方米体表面积的基础代谢率( kcal/( hour * m² ) ) * 体表面积 * 该段时间
+     *     => 每日 BMR = 每小时 BMR * BSA * 24hours
+     *
+     *     其中每小时 BMR 可由性别、年龄估计
+     * </pre>
+     *
+     * @param gender 性别字符串
+     * @param age 年龄
+     * @param bsa 体表面积, 单位: m²
+     *
+     * @return BMR, <B>单位: kcal</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 或 age 或 bsa 不在有效范围时
+     *
+     * @see <a href="https://zhuanlan.zhihu.com/p/26465848"> 参考年龄、性别--每平方米体表面积基础代谢率对照表 </a>
+     */
+    public static double calculateBSABasedBMR( String gender, int age, double bsa ){
+        return calculateBSABasedBMR( Gender.parse( gender ), age, bsa );
+    }
+
+    /**
+     * 基于 BSA( Body Surface Area, 体表面积 ) 的 BMR 计算方法( 性别为 {@link Gender } 枚举, 不再解析字符串 )
+     *
+     * @param gender 性别
+     * @param age 年龄
+     * @param bsa 体表面积, 单位: m²
+     * @return BMR, <B>单位: kcal</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 age 或 bsa 不在有效范围时
+     * @see #calculateBSABasedBMR( String, int, double )
+     * @since 3.1.0
+     */
+    public static double calculateBSABasedBMR( Gender gender, int age, double bsa ){
+        BasicBodyParameterValidator.validateGender( gender );
+        BasicBodyParameterValidator.validateAge( age );
+        HealthMetricValidator.validateBSA( bsa );
+        return calculateBSABasedBMRWithoutValidation( gender.getCode(), age, bsa );
+    }
+
+    /**
+     * 计算 BMR 的 Henry 公式, <B>单位: KJ</B>
+     * <p>
+     *     适用于 18-60 岁,对中国女性个体和北方个体误差更小,对青少年、老年人误差较大
+     * </p>
+     * <pre>
+     *     女: BMR = 48Weight + 2562( 18-30 岁), 48Weight + 2448( 30-60 岁)
+     *     男: BMR = 56Weight + 2800( 18-30 岁), 46Weight + 3160( 30-60 岁)
+     *     计算结果将使用 {@link UnitConvertor#jouleToCalorie( double joule ) } 转为 Kcal
+     * </pre>
+     *
+     * @param gender 性别字符串
+     * @param weight 体重, 单位: kg
+     * @param age 年龄
+     *
+     * @return BMR, <B>单位: kcal</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 或 weight 或 age 不在有效范围时
+     *
+     * @see <a href="https://metaso.cn/s/j9nt7Nv"> 参考 P3 表1 的 Henry and Rees 公式 </a>
+     * @see <a href="https://www.sohu.com/a/221960937_678883"> 备用公式参考 </a>
+     */
+    public static double calculateBMRByHenryEquation( String gender, double weight, int age ) {
+        return calculateBMRByHenryEquation( Gender.parse( gender ), weight, age );
+    }
+
+    /**
+     * 计算 BMR 的 Henry 公式, <B>单位: KJ</B>( 性别为 {@link Gender } 枚举, 不再解析字符串 )
+     *
+     * @param gender 性别
+     * @param weight 体重, 单位: kg
+     * @param age 年龄
+     * @return BMR, <B>单位: kcal</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 weight 或 age 不在有效范围时
+     * @see #calculateBMRByHenryEquation( String, double, int )
+     * @since 3.1.0
+     */
+    public static double calculateBMRByHenryEquation( Gender gender, double weight, int age ) {
+        validateBasicParameters( gender, weight, age );
+        return calculateBMRByHenryEquationWithoutValidation( gender.getCode(), weight, age );
+    }
+
+    /**
+     * 计算 BMR 的 Harris-Benedict( H-B ) 公式, <B>单位: KJ</B><br>
+     * 适用于 18-60 岁,对老年人误差较大
+     * <pre>
+     *     女: BMR = 9.5634 * Weight + 1.8496 * Height - 4.6756 * Age + 655.0955
+     *     男: BMR = 13.7516 * Weight + 5.0033 * Height - 6.7550 * Age + 66.4730
+     *     计算结果将使用 {@link UnitConvertor#jouleToCalorie( double joule ) } 转为 Kcal
+     * </pre>
+     *
+     * @param gender 性别字符串
+     * @param weight 体重, 单位: kg
+     * @param age 年龄
+     *
+     * @return BMR, <B>单位: kcal</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 或 weight 或 height 或 age 不在有效范围时
+     *
+     * @see <a href="https://metaso.cn/s/hwCau6P"> 参考 P3 表1 的 Henry and Rees 公式 </a>
+     * @see <a href="https://www.sohu.com/a/221960937_678883"> 备用公式参考 </a>
+     */
+    public static double calculateBMRByHBEquation(String gender, double weight, double height, int age) {
+        return calculateBMRByHBEquation( Gender.parse( gender ), weight, height, age );
+    }
+
+    /**
+     * 计算 BMR 的 Harris-Benedict( H-B ) 公式, <B>单位: KJ</B>( 性别为 {@link Gender } 枚举, 不再解析字符串 )
+     *
+     * @param gender 性别
+     * @param weight 体重, 单位: kg
+     * @param age 年龄
+     * @return BMR, <B>单位: kcal</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 weight 或 height 或 age 不在有效范围时
+     * @see #calculateBMRByHBEquation( String, double, double, int )
+     * @since 3.1.0
+     */
+    public static double calculateBMRByHBEquation(Gender gender, double weight, double height, int age) {
+        validateBasicParameters( gender, weight, height, age );
+        return calculateBMRByHBEquationWithoutValidation( gender.getCode(), weight, height, age );
+    }
+    
+    /**
+     * 计算 BMR 的 Katch-McArdle 公式, <B>单位: Kcal</B><br>
+     * 需结合身体成分数据, 适用于肌肉量异常者( 运动员、老年人、肥胖/消瘦者 )
+     * <pre>
+     *     BMR = 370 + 21.6 * FFM( Fat-Free Mass, 去脂体重 )<br>
+     *     既然是去脂体重, 也就是去掉脂肪 = 体重 - 脂肪 = Weight( 1 - 体脂率 BFR )
+     *     => FFM = Weight( 1 - BFR )
+     * </pre>
+     *
+     * @param bfr 体脂率 BFR, <B>单位: %</B>, 由内部调用 {@link UnitConvertor#percentageToDecimal( double percentage ) } 转为小数
+     * @param weight 体重, 单位: kg
+     *
+     * @return BMR, <B>单位: kcal</B>
+     * @throws IllegalArgumentException 当 bfr 或 weight 不在有效范围时
+     *
+     * @see <a href="https://www.sohu.com/a/221960937_678883"> 参考 6、Karch-McArdle 公式 </a>
+     * @see <a href="https://zhuanlan.zhihu.com/p/76241592"> 参考 FFM 计算公式 </a>
+     * @see <a href="https://metaso.cn/s/QX7SQwF"> 备用公式参考( P4 表1 ) </a>
+     */
+    public static double calculateBMRByKatchMcArdleEquation( double bfr, double weight ){
+        HealthMetricValidator.validateBFR( bfr );
+        BasicBodyParameterValidator.validateWeight( weight );
+        return calculateBMRByKatchMcArdleEquationWithoutValidation( bfr, weight );
+    }
+
+    /**
+     * 计算 BMR 的 Mifflin-St Jeor( MSJ ) 公式, <B>单位: kcal</B><br>
+     * 适用于所有成人( ≥18岁 ),误差最小,被 ADA 和 ASCN 推荐
+     * <pre>
+     *     女: BMR = 9.99 * Weight + 6.25 * Height - 4.92 * Age - 161
+     *     男: BMR = 9.99 * Weight + 6.25 * Height - 4.92 * Age + 5
+     * </pre>
+     *
+     * @param gender 性别字符串
+     * @param weight 体重, 单位: kg
+     * @param height 身高, 单位: cm
+     * @param age 年龄
+     *
+     * @return BMR, <B>单位: kcal</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 或 weight 或 height 或 age 不在有效范围时
+     *
+     * @see <a href="https://www.sohu.com/a/221960937_678883"> 参考 5、Mifflin-St Jeor Equations </a> ( 系数比常见版本更精确 )
+     */
+    public static double calculateBMRByMSJEquation( String gender, double weight, double height, int age ){
+        return calculateBMRByMSJEquation( Gender.parse( gender ), weight, height, age );
+    }
+
+    /**
+     * 计算 BMR 的 Mifflin-St Jeor( MSJ ) 公式, <B>单位: kcal</B>( 性别为 {@link Gender } 枚举, 不再解析字符串 )
+     *
+     * @param gender 性别
+     * @param weight 体重, 单位: kg
+     * @param height 身高, 单位: cm
+     * @param age 年龄
+     * @return BMR, <B>单位: kcal</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 weight 或 height 或 age 不在有效范围时
+     * @see #calculateBMRByMSJEquation( String, double, double, int )
+     * @since 3.1.0
+     */
+    public static double calculateBMRByMSJEquation( Gender gender, double weight, double height, int age ){
+        validateBasicParameters( gender, weight, height, age );
+        return calculateBMRByMSJEquationWithoutValidation( gender.getCode(), weight, height, age );
+    }
+
+    /**
+     * 计算 BMR 的 毛德倩 公式, <B>单位: KJ</B><br>
+     *     适用于20-45岁中国人群,误差较小
+     * <pre>
+     *     女: BMR = 41.9 * Weight + 2869.1
+     *     男: BMR = 48.5 * Weight + 2954.7
+     *     计算结果将使用 {@link UnitConvertor#jouleToCalorie( double joule ) } 转为 Kcal
+     * </pre>
+     *
+     * @param gender 性别字符串
+     * @param weight 体重, 单位: kg
+     *
+     * @return BMR, <B>单位: kcal</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 或 weight 不在有效范围时
+     *
+     * @see <a href="https://www.zhihu.com/question/551650901/answer/2662411450"> 参考 毛德倩 公式 </a>
+     */
+    public static double calculateBMRByMaoEquation( String gender, double weight ){
+        return calculateBMRByMaoEquation( Gender.parse( gender ), weight );
+    }
+
+    /**
+     * 计算 BMR 的 毛德倩 公式, <B>单位: KJ</B>( 性别为 {@link Gender } 枚举, 不再解析字符串 )
+     *
+     * @param gender 性别
+     * @param weight 体重, 单位: kg
+     * @return BMR, <B>单位: kcal</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 weight 不在有效范围时
+     * @see #calculateBMRByMaoEquation( String, double )
+     * @since 3.1.0
+     */
+    public static double calculateBMRByMaoEquation( Gender gender, double weight ){
+        validateBasicParameters( gender, weight );
+        return calculateBMRByMaoEquationWithoutValidation( gender.getCode(), weight );
+    }
+
+    /**
+     * 计算 BMR 的 Schofield 公式, <B>单位: Kcal</B><br>
+     * 推荐: 18-60岁人群, 尤其适合中国健康成人; 修订版( WHO暂用标准 )提供儿童青少年专用公式
+     * <pre>
+     *     公式太多, 只展示常用的 18-60 岁
+     *     女: BMR = 14.8 * Weight + 487( 18-30 岁), 8.3 * Weight + 846( 30-60 岁)
+     *     男: BMR = 15.1 * Weight + 692( 18-30 岁), 11.5 * Weight + 873( 30-60 岁)
+     * </pre>
+     *
+     * @param gender 性别字符串
+     * @param weight 体重, 单位: kg
+     * @param age 年龄
+     *
+     * @return BMR, <B>单位: kcal</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 或 weight 或 age 不在有效范围时
+     *
+     * @see <a href="https://metaso.cn/s/vNaT2cH"> 参考 0-18 岁对应的公式( 见 P3 表 2 ) </a> 
+     * @see <a href="https://metaso.cn/s/hGmPhbm"> 参考 18-75+ 岁对应的公式( 见 P38 ) </a> 
+     * @see <a href="https://zhuanlan.zhihu.com/p/26465848"> 备用公式参考( 0-60+ 岁 ) </a>
+     */
+    public static double calculateBMRBySchofieldEquation(String gender, double weight, int age) {
+        return calculateBMRBySchofieldEquation( Gender.parse( gender ), weight, age );
+    }
+
+    /**
+     * 计算 BMR 的 Schofield 公式, <B>单位: Kcal</B>( 性别为 {@link Gender } 枚举, 不再解析字符串 )
+     *
+     * @param gender 性别
+     * @param weight 体重, 单位: kg
+     * @param age 年龄
+     * @return BMR, <B>单位: kcal</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 weight 或 age 不在有效范围时
+     * @see #calculateBMRBySchofieldEquation( String, double, int )
+     * @since 3.1.0
+     */
+    public static double calculateBMRBySchofieldEquation(Gender gender, double weight, int age) {
+        validateBasicParameters( gender, weight, age );
+        return calculateBMRBySchofieldEquationWithoutValidation( gender.getCode(), weight, age );
+    }
+
+    /**
+     * 计算 BMR 的 Shizgal-Rosa 公式, <B>单位: KJ</B>
+     * <pre>
+     *     女: BMR = 39 * Weight + 13 * Height - 18 * Age + 1873
+     *     男: BMR = 52 * Weight + 20 * Height - 25 * Age + 370
+     *     计算结果将使用 {@link UnitConvertor#jouleToCalorie( double joule ) } 转为 Kcal
+     * </pre>
+     *
+     * @param gender 性别字符串
+     * @param weight 体重, 单位: kg
+     * @param height 身高, 单位: cm
+     * @param age 年龄
+     *
+     * @return BMR, <B>单位: kcal</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 或 weight 或 height 或 age 不在有效范围时
+     *
+     * @see <a href="https://www.sohu.com/a/221960937_678883"> 参考 9、Shizgal -Rosa Equation </a>
+     */
+    public static double calculateBMRByShizgalRosaEquation( String gender, double weight, double height, int age ){
+        return calculateBMRByShizgalRosaEquation( Gender.parse( gender ), weight, height, age );
+    }
+
+    /**
+     * 计算 BMR 的 Shizgal-Rosa 公式, <B>单位: KJ</B>( 性别为 {@link Gender } 枚举, 不再解析字符串 )
+     *
+     * @param gender 性别
+     * @param weight 体重, 单位: kg
+     * @param height 身高, 单位: cm
+     * @param age 年龄
+     * @return BMR, <B>单位: kcal</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 weight 或 height 或 age 不在有效范围时
+     * @see #calculateBMRByShizgalRosaEquation( String, double, double, int )
+     * @since 3.1.0
+     */
+    public static double calculateBMRByShizgalRosaEquation( Gender gender, double weight, double height, int age ){
+        validateBasicParameters( gender, weight, height, age );
+        return calculateBMRByShizgalRosaEquationWithoutValidation( gender.getCode(), weight, height, age );
+    }
+
+    /*      批量计算( 列式 ), 整批参数只检验一次, 结果与逐个调用单个计算方法逐位一致      */
+    /**
+     * 批量计算基于 BSA 的 BMR, <B>单位: kcal</B>
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param ages 年龄列
+     * @param bsas 体表面积列, 单位: m²
+     * @param out 输出列, 存放每个下标对应的 BMR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBSABasedBMR( String, int, double )
+     * @since 3.1.0
+     */
+    public static void calculateBSABasedBMR( byte[] genderCodes, int[] ages, double[] bsas, double[] out ){
+        BasicBodyParameterValidator.validateGender( genderCodes );
+        BasicBodyParameterValidator.validateAge( ages );
+        HealthMetricValidator.validateBSA( bsas );
+        MethodParameterValidator.validateColumnLengths( out, genderCodes.length, ages.length, bsas.length );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBSABasedBMRWithoutValidation( genderCodes[ i ], ages[ i ], bsas[ i ] );
+        }
+    }
+
+    /**
+     * 批量使用 Henry 公式计算 BMR, <B>单位: kcal</B>
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param weights 体重列, 单位: kg
+     * @param ages 年龄列
+     * @param out 输出列, 存放每个下标对应的 BMR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBMRByHenryEquation( String, double, int )
+     * @since 3.1.0
+     */
+    public static void calculateBMRByHenryEquation( byte[] genderCodes, double[] weights, int[] ages, double[] out ){
+        validateBasicParameters( genderCodes, weights, ages, out );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBMRByHenryEquationWithoutValidation( genderCodes[ i ], weights[ i ], ages[ i ] );
+        }
+    }
+
+    /**
+     * 批量使用 Harris-Benedict( H-B ) 公式计算 BMR, <B>单位: kcal</B>
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param weights 体重列, 单位: kg
+     * @param heights 身高列, 单位: cm
+     * @param ages 年龄列
+     * @param out 输出列, 存放每个下标对应的 BMR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBMRByHBEquation( String, double, double, int )
+     * @since 3.1.0
+     */
+    public static void calculateBMRByHBEquation( byte[] genderCodes, double[] weights, double[] heights, int[] ages, double[] out ){
+        validateBasicParameters( genderCodes, weights, heights, ages, out );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBMRByHBEquationWithoutValidation( genderCodes[ i ], weights[ i ], heights[ i ], ages[ i ] );
+        }
+    }
+
+    /**
+     * 批量使用 Katch-McArdle 公式计算 BMR, <B>单位: kcal</B>
+     *
+     * @param bfrs 体脂率列, 单位: %
+     * @param weights 体重列, 单位: kg
+     * @param out 输出列, 存放每个下标对应的 BMR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBMRByKatchMcArdleEquation( double, double )
+     * @since 3.1.0
+     */
+    public static void calculateBMRByKatchMcArdleEquation( double[] bfrs, double[] weights, double[] out ){
+        HealthMetricValidator.validateBFR( bfrs );
+        BasicBodyParameterValidator.validateWeight( weights );
+        MethodParameterValidator.validateColumnLengths( out, bfrs.length, weights.length );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBMRByKatchMcArdleEquationWithoutValidation( bfrs[ i ], weights[ i ] );
+        }
+    }
+
+    /**
+     * 批量使用 Mifflin-St Jeor( MSJ ) 公式计算 BMR, <B>单位: kcal</B>
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param weights 体重列, 单位: kg
+     * @param heights 身高列, 单位: cm
+     * @param ages 年龄列
+     * @param out 输出列, 存放每个下标对应的 BMR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBMRByMSJEquation( String, double, double, int )
+     * @since 3.1.0
+     */
+    public static void calculateBMRByMSJEquation( byte[] genderCodes, double[] weights, double[] heights, int[] ages, double[] out ){
+        validateBasicParameters( genderCodes, weights, heights, ages, out );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBMRByMSJEquationWithoutValidation( genderCodes[ i ], weights[ i ], heights[ i ], ages[ i ] );
+        }
+    }
+
+    /**
+     * 批量使用 毛德倩 公式计算 BMR, <B>单位: kcal</B>
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param weights 体重列, 单位: kg
+     * @param out 输出列, 存放每个下标对应的 BMR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBMRByMaoEquation( String, double )
+     * @since 3.1.0
+     */
+    public static void calculateBMRByMaoEquation( byte[] genderCodes, double[] weights, double[] out ){
+        BasicBodyParameterValidator.validateGender( genderCodes );
+        BasicBodyParameterValidator.validateWeight( weights );
+        MethodParameterValidator.validateColumnLengths( out, genderCodes.length, weights.length );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBMRByMaoEquationWithoutValidation( genderCodes[ i ], weights[ i ] );
+        }
+    }
+
+    /**
+     * 批量使用 Schofield 公式计算 BMR, <B>单位: kcal</B>
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param weights 体重列, 单位: kg
+     * @param ages 年龄列
+     * @param out 输出列, 存放每个下标对应的 BMR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBMRBySchofieldEquation( String, double, int )
+     * @since 3.1.0
+     */
+    public static void calculateBMRBySchofieldEquation( byte[] genderCodes, double[] weights, int[] ages, double[] out ){
+        validateBasicParameters( genderCodes, weights, ages, out );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBMRBySchofieldEquationWithoutValidation( genderCodes[ i ], weights[ i ], ages[ i ] );
+        }
+    }
+
+    /**
+     * 批量使用 Shizgal-Rosa 公式计算 BMR, <B>单位: kcal</B>
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param weights 体重列, 单位: kg
+     * @param heights 身高列, 单位: cm
+     * @param ages 年龄列
+     * @param out 输出列, 存放每个下标对应的 BMR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBMRByShizgalRosaEquation( String, double, double, int )
+     * @since 3.1.0
+     */
+    public static void calculateBMRByShizgalRosaEquation( byte[] genderCodes, double[] weights, double[] heights, int[] ages, double[] out ){
+        validateBasicParameters( genderCodes, weights, heights, ages, out );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBMRByShizgalRosaEquationWithoutValidation( genderCodes[ i ], weights[ i ], heights[ i ], ages[ i ] );
+        }
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /*      单个与批量计算共用的计算逻辑      */
+    /**
+     * 基于 BSA 的 BMR 计算逻辑( 不检验参数 ), 单个与批量计算共用 {@link CompiledEquation } 系数表, 保证结果一致
+     *
+     * @param genderCode 性别代码( 女0 男1 )
+     * @param age 年龄
+     * @param bsa 体表面积, 单位: m²
+     * @return BMR, <B>单位: kcal</B>
+     * @since 3.1.0
+     */
+    private static double calculateBSABasedBMRWithoutValidation( int genderCode, int age, double bsa ){
+        return CompiledEquation.BMR.BSA_BASED.evaluate( genderCode, age, bsa );
+    }
+
+    /**
+     * Henry 公式的计算逻辑( 不检验参数 ), 单个与批量计算共用 {@link CompiledEquation } 系数表, 保证结果一致
+     *
+     * @param genderCode 性别代码( 女0 男1 )
+     * @param weight 体重, 单位: kg
+     * @param age 年龄
+     * @return BMR, <B>单位: kcal</B>
+     * @since 3.1.0
+     */
+    private static double calculateBMRByHenryEquationWithoutValidation( int genderCode, double weight, int age ){
+        // 原单位: KJ, 系数表已并入 KJ → Kcal 的换算
+        return CompiledEquation.BMR.HENRY.evaluate( genderCode, age, weight );
+    }
+
+    /**
+     * Harris-Benedict( H-B ) 公式的计算逻辑( 不检验参数 ), 单个与批量计算共用 {@link CompiledEquation } 系数表, 保证结果一致
+     *
+     * @param genderCode 性别代码( 女0 男1 )
+     * @param weight 体重, 单位: kg
+     * @param height 身高, 单位: cm
+     * @param age 年龄
+     * @return BMR, <B>单位: kcal</B>
+     * @since 3.1.0
+     */
+    private static double calculateBMRByHBEquationWithoutValidation( int genderCode, double weight, double height, int age ){
+        // 单位: Kcal
+        return CompiledEquation.BMR.HB.evaluate( genderCode, age, weight, height );
+    }
+
+    /**
+     * Katch-McArdle 公式的计算逻辑( 不检验参数 ), 单个与批量计算共用, 保证结果一致
+     *
+     * @param bfr 体脂率 BFR, 单位: %
+     * @param weight 体重, 单位: kg
+     * @return BMR, <B>单位: kcal</B>
+     * @since 3.1.0
+     */
+    private static double calculateBMRByKatchMcArdleEquationWithoutValidation( double bfr, double weight ){
+        double ffm = weight * ( 1 - UnitConvertor.percentageToDecimal( bfr ) );
+        return 370 + 21.6 * ffm;
+    }
+
+    /**
+     * Mifflin-St Jeor( MSJ ) 公式的计算逻辑( 不检验参数 ), 单个与批量计算共用 {@link CompiledEquation } 系数表, 保证结果一致
+     *
+     * @param genderCode 性别代码( 女0 男1 )
+     * @param weight 体重, 单位: kg
+     * @param height 身高, 单位: cm
+     * @param age 年龄
+     * @return BMR, <B>单位: kcal</B>
+     * @since 3.1.0
+     */
+    private static double calculateBMRByMSJEquationWithoutValidation( int genderCode, double weight, double height, int age ){
+        return CompiledEquation.BMR.MSJ.evaluate( genderCode, age, weight, height );
+    }
+
+    /**
+     * 毛德倩 公式的计算逻辑( 不检验参数 ), 单个与批量计算共用 {@link CompiledEquation } 系数表, 保证结果一致
+     *
+     * @param genderCode 性别代码( 女0 男1 )
+     * @param weight 体重, 单位: kg
+     * @return BMR, <B>单位: kcal</B>
+     * @since 3.1.0
+     */
+    private static double calculateBMRByMaoEquationWithoutValidation( int genderCode, double weight ){
+        // 原单位: KJ, 系数表已并入 KJ → Kcal 的换算; 公式与年龄无关
+        return CompiledEquation.BMR.MAO.evaluate( genderCode, CompiledEquation.AGE_INDEPENDENT, weight );
+    }
+
+    /**
+     * Schofield 公式的计算逻辑( 不检验参数 ), 单个与批量计算共用 {@link CompiledEquation } 系数表, 保证结果一致
+     *
+     * @param genderCode 性别代码( 女0 男1 )
+     * @param weight 体重, 单位: kg
+     * @param age 年龄
+     * @return BMR, <B>单位: kcal</B>
+     * @since 3.1.0
+     */
+    private static double calculateBMRBySchofieldEquationWithoutValidation( int genderCode, double weight, int age ){
+        // 单位: Kcal
+        return CompiledEquation.BMR.SCHOFIELD.evaluate( genderCode, age, weight );
+    }
+
+    /**
+     * Shizgal-Rosa 公式的计算逻辑( 不检验参数 ), 单个与批量计算共用 {@link CompiledEquation } 系数表, 保证结果一致
+     *
+     * @param genderCode 性别代码( 女0 男1 )
+     * @param weight 体重, 单位: kg
+     * @param height 身高, 单位: cm
+     * @param age 年龄
+     * @return BMR, <B>单位: kcal</B>
+     * @since 3.1.0
+     */
+    private static double calculateBMRByShizgalRosaEquationWithoutValidation( int genderCode, double weight, double height, int age ){
+        // 原单位: KJ, 系数表已并入 KJ → Kcal 的换算
+        return CompiledEquation.BMR.SHIZGAL_ROSA.evaluate( genderCode, age, weight, height );
+    }
+
+    /**
+     * 检验批量计算的身体参数列
+     *
+     * @param genderCodes 性别代码列
+     * @param weights 体重列, <B>单位: kg</B>
+     * @param heights 身高列, <B>单位: cm</B>
+     * @param ages 年龄列
+     * @param out 输出列
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    private static void validateBasicParameters( byte[] genderCodes, double[] weights, double[] heights, int[] ages, double[] out ){
+        BasicBodyParameterValidator.validateHeight( heights );
+        validateBasicParameters( genderCodes, weights, ages, out );
+        MethodParameterValidator.validateColumnLengths( out, heights.length );
+    }
+
+    /**
+     * 检验批量计算的身体参数列
+     *
+     * @param genderCodes 性别代码列
+     * @param weights 体重列, <B>单位: kg</B>
+     * @param ages 年龄列
+     * @param out 输出列
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    private static void validateBasicParameters( byte[] genderCodes, double[] weights, int[] ages, double[] out ){
+        BasicBodyParameterValidator.validateGender( genderCodes );
+        BasicBodyParameterValidator.validateWeight( weights );
+        BasicBodyParameterValidator.validateAge( ages );
+        MethodParameterValidator.validateColumnLengths( out, genderCodes.length, weights.length, ages.length );
+    }
+
+    /**
+     * 检验身体参数
+     *
+     * @param gender 性别字符串
+     * @param weight 体重, <B>单位: kg</B>
+     * @param height 身高, <B>单位: cm</B>
+     * @param age 年龄
+     *
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 或 weight 或 height 或 age 不在有效范围时
+     * @since 3.0.0
+     */
+    private static void validateBasicParameters( Gender gender, double weight, double height, int age ){
+        BasicBodyParameterValidator.validateHeight( height );
+        validateBasicParameters( gender, weight, age );
+    }
+
+    /**
+     * 检验身体参数
+     *
+     * @param gender 性别字符串
+     * @param weight 体重, <B>单位: kg</B>
+     * @param age 年龄
+     *
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 或 weight 或 age 不在有效范围时
+     * @since 3.0.0
+     */
+    private static void validateBasicParameters( Gender gender, double weight, int age ){
+        validateBasicParameters( gender, weight );
+        BasicBodyParameterValidator.validateAge( age );
+    }
+
+    /**
+     * 检验身体参数
+     *
+     * @param gender 性别字符串
+     * @param weight 体重, <B>单位: kg</B>
+     *
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 或 weight 不在有效范围时
+     * @since 3.0.0
+     */
+    private static void validateBasicParameters( Gender gender, double weight ){
+        BasicBodyParameterValidator.validateGender( gender );
+        BasicBodyParameterValidator.validateWeight( weight );
+    }
+}
\ No newline at end of file
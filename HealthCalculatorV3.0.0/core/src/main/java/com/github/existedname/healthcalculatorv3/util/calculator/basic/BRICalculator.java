@@ -1,6 +1,7 @@
 package com.github.existedname.healthcalculatorv3.util.calculator.basic;
 
 import com.github.existedname.healthcalculatorv3.util.validator.BasicBodyParameterValidator;
+import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
 
 /**
  * BRI( Body Roundness Index, 身体圆度指数 )计算器工具类, 提供 BRI 的计算公式
@@ -44,6 +45,39 @@ public final class BRICalculator {
      */
     public static double calculateBRI( double waistCircumference, double height ){
         validateBasicParameters( waistCircumference, height );
+        return calculateBRIWithoutValidation( waistCircumference, height );
+    }
+
+    /**
+     * 批量计算 BRI, <B>单位: 无</B>, 结果与逐个调用 {@link #calculateBRI( double, double ) } 逐位一致
+     *
+     * @param waistCircumferences 腰围列, <B>单位: cm</B>
+     * @param heights 身高列, <B>单位: cm</B>
+     * @param out 输出列, 存放每个下标对应的 BRI
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void calculateBRI( double[] waistCircumferences, double[] heights, double[] out ){
+        BasicBodyParameterValidator.validateWaistCircumference( waistCircumferences );
+        BasicBodyParameterValidator.validateHeight( heights );
+        MethodParameterValidator.validateColumnLengths( out, waistCircumferences.length, heights.length );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBRIWithoutValidation( waistCircumferences[ i ], heights[ i ] );
+        }
+    }
+
+    /**
+     * BRI 计算逻辑( 不检验参数, 由调用方保证参数有效 ), 单个、批量计算与 {@link com.github.existedname.healthcalculatorv3.util.calculator.composite.ProfileEvaluator }
+     * 共用, 保证结果一致; 参数未经检验时应调用 {@link #calculateBRI( double, double ) }
+     *
+     * @param waistCircumference 腰围, <B>单位: cm</B>
+     * @param height 身高, <B>单位: cm</B>
+     * @return BRI, <B>单位: 无</B>
+     * @since 3.1.0
+     */
+    public static double calculateBRIWithoutValidation( double waistCircumference, double height ){
         double fraction = waistCircumference / Math.PI / height; // PI = Math.PI = Math.acos( -1 )
         return (  364.2 - 365.5 * Math.sqrt( 1 - Math.pow( fraction, 2 ) )  );
     }
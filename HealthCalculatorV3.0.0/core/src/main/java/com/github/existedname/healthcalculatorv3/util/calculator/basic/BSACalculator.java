@@ -1,10 +1,12 @@
 package com.github.existedname.healthcalculatorv3.util.calculator.basic;
 
 import com.github.existedname.healthcalculatorv3.util.calculator.constant.BSACalculatorConstants;
+import com.github.existedname.healthcalculatorv3.util.calculator.constant.CompiledEquation;
 import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
 import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
 import com.github.existedname.healthcalculatorv3.util.convertor.UnitConvertor;
 import com.github.existedname.healthcalculatorv3.util.validator.BasicBodyParameterValidator;
+import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
 
 import java.util.Objects;
 
@@ -159,17 +161,112 @@ public final class BSACalculator {
      * @see <a href="https://www.bchrt.com/tools/bsa-calculator/"> 参考"BSA体表面积计算器" </a>
      */
     public static double calculateBSABySchlichEquation( String gender, double height, double weight ){
+        return calculateBSABySchlichEquation( Gender.parse( gender ), height, weight );
+    }
+
+    /**
+     * 计算 BSA 的 Schlich 公式, <B>单位: m²</B>( 性别为 {@link Gender } 枚举, 不再解析字符串 )
+     *
+     * @param gender 性别
+     * @param height 身高, 单位: cm
+     * @param weight 体重, 单位: kg
+     * @return BSA, <B>单位: m²</B>
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 height 或 weight 不在有效范围时
+     * @see #calculateBSABySchlichEquation( String, double, double )
+     * @since 3.1.0
+     */
+    public static double calculateBSABySchlichEquation( Gender gender, double height, double weight ){
         validateBasicParameters( gender, height, weight );
-        if ( Gender.isMale( gender ) ){
-            return calculateBSAByGeneralFormula(
-                    BSACalculatorConstants.SchlichEquation.Male.POWER_FUNCTION_COEFFICIENT,
-                    height, BSACalculatorConstants.SchlichEquation.Male.HEIGHT_EXPONENT,
-                    weight, BSACalculatorConstants.SchlichEquation.Male.WEIGHT_EXPONENT );
-        } else {
-            return calculateBSAByGeneralFormula(
-                    BSACalculatorConstants.SchlichEquation.Female.POWER_FUNCTION_COEFFICIENT,
-                    height, BSACalculatorConstants.SchlichEquation.Female.HEIGHT_EXPONENT,
-                    weight, BSACalculatorConstants.SchlichEquation.Female.WEIGHT_EXPONENT );
+        return CompiledEquation.BSA.SCHLICH.evaluate( gender.getCode(), CompiledEquation.AGE_INDEPENDENT, height, weight );
+    }
+
+    /*      批量计算( 列式 ), 整批参数只检验一次, 结果与逐个调用单个计算方法逐位一致      */
+    /**
+     * 批量使用 Du Bois 公式计算 BSA, <B>单位: m²</B>
+     *
+     * @param heights 身高列, 单位: cm
+     * @param weights 体重列, 单位: kg
+     * @param out 输出列, 存放每个下标对应的 BSA
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBSAByDuBoisEquation( double, double )
+     * @since 3.1.0
+     */
+    public static void calculateBSAByDuBoisEquation( double[] heights, double[] weights, double[] out ){
+        validateBasicParameters( heights, weights, out );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBSAByPowerFunction(
+                    BSACalculatorConstants.DuBoisEquation.POWER_FUNCTION_COEFFICIENT,
+                    heights[ i ], BSACalculatorConstants.DuBoisEquation.HEIGHT_EXPONENT,
+                    weights[ i ], BSACalculatorConstants.DuBoisEquation.WEIGHT_EXPONENT );
+        }
+    }
+
+    /**
+     * 批量使用 Haycock 公式计算 BSA, <B>单位: m²</B>
+     *
+     * @param heights 身高列, 单位: cm
+     * @param weights 体重列, 单位: kg
+     * @param out 输出列, 存放每个下标对应的 BSA
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBSAByHaycockEquation( double, double )
+     * @since 3.1.0
+     */
+    public static void calculateBSAByHaycockEquation( double[] heights, double[] weights, double[] out ){
+        validateBasicParameters( heights, weights, out );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBSAByPowerFunction(
+                    BSACalculatorConstants.HaycockEquation.POWER_FUNCTION_COEFFICIENT,
+                    heights[ i ], BSACalculatorConstants.HaycockEquation.HEIGHT_EXPONENT,
+                    weights[ i ], BSACalculatorConstants.HaycockEquation.WEIGHT_EXPONENT );
+        }
+    }
+
+    /**
+     * 批量使用 Mosteller 公式计算 BSA, <B>单位: m²</B>
+     *
+     * @param heights 身高列, 单位: cm
+     * @param weights 体重列, 单位: kg
+     * @param out 输出列, 存放每个下标对应的 BSA
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBSAByMostellerEquation( double, double )
+     * @since 3.1.0
+     */
+    public static void calculateBSAByMostellerEquation( double[] heights, double[] weights, double[] out ){
+        validateBasicParameters( heights, weights, out );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = calculateBSAByPowerFunction(
+                    BSACalculatorConstants.MostellerEquation.POWER_FUNCTION_COEFFICIENT,
+                    heights[ i ], BSACalculatorConstants.MostellerEquation.HEIGHT_EXPONENT,
+                    weights[ i ], BSACalculatorConstants.MostellerEquation.WEIGHT_EXPONENT );
+        }
+    }
+
+    /**
+     * 批量使用 Schlich 公式计算 BSA, <B>单位: m²</B>
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param heights 身高列, 单位: cm
+     * @param weights 体重列, 单位: kg
+     * @param out 输出列, 存放每个下标对应的 BSA
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see #calculateBSABySchlichEquation( String, double, double )
+     * @since 3.1.0
+     */
+    public static void calculateBSABySchlichEquation( byte[] genderCodes, double[] heights, double[] weights, double[] out ){
+        BasicBodyParameterValidator.validateGender( genderCodes );
+        validateBasicParameters( heights, weights, out );
+        MethodParameterValidator.validateColumnLengths( out, genderCodes.length );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = CompiledEquation.BSA.SCHLICH.evaluate( genderCodes[ i ], CompiledEquation.AGE_INDEPENDENT, heights[ i ], weights[ i ] );
         }
     }
 
@@ -193,6 +290,21 @@ public final class BSACalculator {
      */
     private static double calculateBSAByGeneralFormula( double powerFunctionCoefficient, double height, double heightExponent, double weight, double weightExponent ){
         validateBasicParameters( height, weight );
+        return calculateBSAByPowerFunction( powerFunctionCoefficient, height, heightExponent, weight, weightExponent );
+    }
+
+    /**
+     * BSA 幂函数通式的计算逻辑( 不检验参数 ), 单个与批量计算共用, 保证结果一致
+     *
+     * @param powerFunctionCoefficient 幂函数的系数
+     * @param height 身高, 单位: cm
+     * @param heightExponent 身高的指数
+     * @param weight 体重, 单位: kg
+     * @param weightExponent 体重的指数
+     * @return 体表面积 BSA, <B>单位: m²</B>
+     * @since 3.1.0
+     */
+    private static double calculateBSAByPowerFunction( double powerFunctionCoefficient, double height, double heightExponent, double weight, double weightExponent ){
         return powerFunctionCoefficient * Math.pow( height, heightExponent ) * Math.pow( weight, weightExponent );
     }
 
@@ -221,8 +333,25 @@ public final class BSACalculator {
      * @throws IllegalArgumentException 当 gender 或 height 或 weight 不在有效范围时
      * @since 3.0.0
      */
-    private static void validateBasicParameters( String gender, double height, double weight ){
+    private static void validateBasicParameters( Gender gender, double height, double weight ){
         BasicBodyParameterValidator.validateGender( gender );
         validateBasicParameters( height, weight );
     }
+
+    /**
+     * 检验批量计算的方法参数
+     *
+     * @param heights 身高列, <B>单位: cm</B>
+     * @param weights 体重列, <B>单位: kg</B>
+     * @param out 输出列
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    private static void validateBasicParameters( double[] heights, double[] weights, double[] out ){
+        BasicBodyParameterValidator.validateHeight( heights );
+        BasicBodyParameterValidator.validateWeight( weights );
+        MethodParameterValidator.validateColumnLengths( out, heights.length, weights.length );
+    }
 }
\ No newline at end of file
@@ -1,11 +1,10 @@
 package com.github.existedname.healthcalculatorv3.util.calculator.basic;
 
-import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
 import com.github.existedname.healthcalculatorv3.util.ValueFormatter;
 import com.github.existedname.healthcalculatorv3.util.calculator.constant.IdealWeightCalculatorConstants;
-import com.github.existedname.healthcalculatorv3.util.input.BodyDataReader;
-
-import java.util.Scanner;
+import com.github.existedname.healthcalculatorv3.util.validator.BasicBodyParameterValidator;
+import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
 
 /**
  * 理想体重计算器工具类, 提供多种 理想体重 的计算方法, 目前用于 {@link com.github.existedname.healthcalculatorv3.service.reference.ReferenceService }
@@ -33,31 +32,6 @@ public final class IdealWeightCalculator {
      * 基于身高估计理想体重
      */
     public static final class BasedOnHeight {
-        /**
-         * 获取计算好的理想体重, <B>单位: kg</B>
-         * <p>
-         *     内部封装读取、计算操作:
-         *     <pre>
-         *     调用 {@link BodyDataReader } 读取用户性别和身高数据
-         *     调用{@link BasedOnHeight#calculateIdealWeight( String gender, double height ) }计算理想体重
-         *     </pre>
-         * </p>
-         *
-         * @param user 用户对象
-         * @param scanner 扫描器
-         *
-         * @return 理想体重, <B>单位: kg</B>
-         * @throws NullPointerException 当 user 或 scanner 为 null 时
-         */
-        public static double getCalculatedIdealWeight( User user, Scanner scanner ){
-            // 1. 读取、保存有效性别、身高
-            String gender = BodyDataReader.readGender( scanner );
-            double height = BodyDataReader.readHeight( scanner );
-            user.setGender( gender ); user.setHeight( height );
-            // 2. 计算理想体重
-            return calculateIdealWeight( gender, height );
-        }
-
         /**
          * 格式化理想体重范围为字符串
          * <p>
@@ -92,11 +66,47 @@ public final class IdealWeightCalculator {
          * @throws IllegalArgumentException 当 gender 或 height 不在有效范围时
          */
         public static double calculateIdealWeight( String gender, double height ){
+            return calculateIdealWeight( Gender.parse( gender ), height );
+        }
+
+        /**
+         * 计算理想体重, <B>单位: kg</B>( 性别为 {@link Gender } 枚举, 不再解析字符串 )
+         *
+         * @param gender 性别
+         * @param height 身高, <B>单位: cm</B>
+         * @return 理想体重, <B>单位: kg</B>
+         * @throws NullPointerException 当 gender 为 null 时
+         * @throws IllegalArgumentException 当 height 不在有效范围时
+         * @see #calculateIdealWeight( String, double )
+         * @since 3.1.0
+         */
+        public static double calculateIdealWeight( Gender gender, double height ){
             double constTerm = IdealWeightCalculatorConstants.BasedOnHeight.getConstTerm( gender ); // 需要减掉的常数项( 男 105 女 100 )
             double idealWeight = height - constTerm;
             return idealWeight;
         }
 
+        /**
+         * 批量计算理想体重, <B>单位: kg</B>, 整批参数只检验一次, 结果与逐个调用 {@link #calculateIdealWeight( String, double ) } 逐位一致
+         *
+         * @param genderCodes 性别代码列( 女0 男1 )
+         * @param heights 身高列, <B>单位: cm</B>
+         * @param out 输出列, 存放每个下标对应的理想体重
+         *
+         * @throws NullPointerException 当任意列为 null 时
+         * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+         * @since 3.1.0
+         */
+        public static void calculateIdealWeight( byte[] genderCodes, double[] heights, double[] out ){
+            BasicBodyParameterValidator.validateGender( genderCodes );
+            BasicBodyParameterValidator.validateHeight( heights );
+            MethodParameterValidator.validateColumnLengths( out, genderCodes.length, heights.length );
+            for ( int i = 0; i < out.length; i++ ){
+                double constTerm = IdealWeightCalculatorConstants.BasedOnHeight.getConstTerm( Gender.isMale( genderCodes[ i ] ) );
+                out[ i ] = heights[ i ] - constTerm;
+            }
+        }
+
         /**
          * 计算理想体重下限, <B>单位: kg</B>
          * <pre>
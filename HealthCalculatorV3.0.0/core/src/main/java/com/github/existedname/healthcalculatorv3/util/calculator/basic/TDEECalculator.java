@@ -2,6 +2,9 @@ package com.github.existedname.healthcalculatorv3.util.calculator.basic;
 
 import com.github.existedname.healthcalculatorv3.util.validator.BasicBodyParameterValidator;
 import com.github.existedname.healthcalculatorv3.util.validator.HealthMetricValidator;
+import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
+
+import java.util.List;
 
 /**
  * TDEE( Total Daily Energy Expenditure, 每日总能量消耗 )计算器工具类, 提供 TDEE 的计算公式
@@ -37,13 +40,14 @@ public final class TDEECalculator {
 
     // ==================== 公有方法 ====================
     /**
-     * 展示 TDEE 系数对照表( {@link #ACTIVITY_COEFFICIENT_COMPARISON_TABLE } )
-     * 用于比对选择活动系数, 进而计算 TDEE
+     * 获取 TDEE 系数对照表( {@link #ACTIVITY_COEFFICIENT_COMPARISON_TABLE } )的每一行,
+     * 用于比对选择活动系数, 进而计算 TDEE; 由控制台层负责打印
+     *
+     * @return 不可变的表格行列表
+     * @since 3.1.0
      */
-    public static void printCoefficientTable(){
-        for ( String row : ACTIVITY_COEFFICIENT_COMPARISON_TABLE ){
-            System.out.println( row );
-        }
+    public static List< String > getCoefficientTable(){
+        return List.of( ACTIVITY_COEFFICIENT_COMPARISON_TABLE );
     }
 
     /**
@@ -63,11 +67,31 @@ public final class TDEECalculator {
         return bmr * activityCoefficient;
     }
 
+    /**
+     * 批量计算 TDEE, <B>单位: Kcal</B>, 结果与逐个调用 {@link #calculateTDEE( double, double ) } 逐位一致
+     *
+     * @param bmrs 基础代谢率 BMR 列, <B>单位: Kcal</B>
+     * @param activityCoefficients 活动系数列
+     * @param out 输出列, 存放每个下标对应的 TDEE
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void calculateTDEE( double[] bmrs, double[] activityCoefficients, double[] out ){
+        HealthMetricValidator.validateBMR( bmrs );
+        BasicBodyParameterValidator.validateActivityCoefficient( activityCoefficients );
+        MethodParameterValidator.validateColumnLengths( out, bmrs.length, activityCoefficients.length );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = bmrs[ i ] * activityCoefficients[ i ];
+        }
+    }
+
 
     // ==================== 私有辅助方法 ====================
     /** main 方法用于测试( 方便对照修改表格格式 ) */
     private static void main( String[] args ){
-        printCoefficientTable();
+        getCoefficientTable().forEach( System.out::println );
     }
 
     /**
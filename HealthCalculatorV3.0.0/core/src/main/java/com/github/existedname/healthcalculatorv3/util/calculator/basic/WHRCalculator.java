@@ -1,6 +1,7 @@
 package com.github.existedname.healthcalculatorv3.util.calculator.basic;
 
 import com.github.existedname.healthcalculatorv3.util.validator.BasicBodyParameterValidator;
+import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
 
 /**
  * WHR( Waist-to-Hip Ratio, 腰臀比 )计算器工具类, 提供 WHR 的计算公式
@@ -45,6 +46,26 @@ public final class WHRCalculator {
         return wasitCircumference / hipCircumference;
     }
 
+    /**
+     * 批量计算腰臀比 WHR, <B>单位: 无</B>, 结果与逐个调用 {@link #calculateWHR( double, double ) } 逐位一致
+     *
+     * @param waistCircumferences 腰围列, <B>单位: cm</B>
+     * @param hipCircumferences 臀围列, <B>单位: cm</B>
+     * @param out 输出列, 存放每个下标对应的 WHR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void calculateWHR( double[] waistCircumferences, double[] hipCircumferences, double[] out ){
+        BasicBodyParameterValidator.validateWaistCircumference( waistCircumferences );
+        BasicBodyParameterValidator.validateHipCircumference( hipCircumferences );
+        MethodParameterValidator.validateColumnLengths( out, waistCircumferences.length, hipCircumferences.length );
+        for ( int i = 0; i < out.length; i++ ){
+            out[ i ] = waistCircumferences[ i ] / hipCircumferences[ i ];
+        }
+    }
+
 
     // ==================== 私有辅助方法 ====================
     /**
@@ -0,0 +1,97 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.composite;
+
+import com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMICalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BRICalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.constant.CompiledEquation;
+import com.github.existedname.healthcalculatorv3.util.validator.BasicBodyParameterValidator;
+import com.github.existedname.healthcalculatorv3.util.validator.HealthMetricValidator;
+import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
+
+import java.util.Objects;
+
+/**
+ * 档案健康指标一次性计算器工具类: 读取填写完整的 {@link UserBodyProfile }, 一次算出全部健康指标
+ * <pre>
+ *     1. 只检验一次: 性别、年龄、体重、身高、腰围、臀围、活动系数各检验一次,
+ *        中间结果 BMI、BMR、BSA 作为下游公式的输入时也只检验一次, 之后的计算不再重复检验
+ *     2. 复用中间结果:
+ *          BMI → BFR( Deurenberg 公式 )
+ *          BMR( MSJ 公式 ) → TDEE
+ *          BSA( Du Bois 公式 ) → 基于 BSA 的 BMR
+ *     3. 结果写入调用方传入的 {@link ProfileMetrics }, 可反复使用同一个容器, 计算过程不创建对象
+ * </pre>
+ * 各指标选用的公式与 {@link ProfileMetricCalculator } 一致; BMI、BRI 直接调用基本计算器不检验参数的版本, 其余使用 {@link CompiledEquation },
+ * 与单独调用基本计算器的结果逐位一致
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 17:05
+ */
+public final class ProfileEvaluator {
+    // ==================== 构造器 ====================
+    private ProfileEvaluator(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 一次性计算档案的全部健康指标, 结果写入 result( 不回写档案, 需要时调用 {@link ProfileMetrics#applyTo( UserBodyProfile ) } )
+     *
+     * @param profile 用户身体参数档案( 需填写性别、年龄、体重、身高、腰围、臀围、活动系数 )
+     * @param result 结果容器
+     *
+     * @throws NullPointerException 当 profile、result 或档案的性别为 null 时
+     * @throws IllegalArgumentException 当任意基本身体参数或中间结果( BMI、BMR、BSA )不在有效范围时
+     */
+    public static void evaluate( UserBodyProfile profile, ProfileMetrics result ){
+        MethodParameterValidator.validateProfile( profile );
+        Objects.requireNonNull( result, "参数 result( 结果容器 )不能为 null" );
+
+        Gender gender = profile.getGender();
+        int age = profile.getAge();
+        double weight = profile.getWeight();
+        double height = profile.getHeight();
+        double waistCircumference = profile.getWaistCircumference();
+        double hipCircumference = profile.getHipCircumference();
+        double activityCoefficient = profile.getActivityCoefficient();
+        validateBasicParameters( gender, age, weight, height, waistCircumference, hipCircumference, activityCoefficient );
+        int genderCode = gender.getCode();
+
+        // 体态评估类
+        double bmi = BMICalculator.calculateBMIWithoutValidation( weight, height );
+        HealthMetricValidator.validateBMI( bmi );
+        result.bmi = bmi;
+        result.whr = waistCircumference / hipCircumference;
+        result.bfr = CompiledEquation.BFR.DEURENBERG.evaluate( genderCode, age, bmi );
+        result.bri = BRICalculator.calculateBRIWithoutValidation( waistCircumference, height );
+
+        // 能量代谢类
+        double bmr = CompiledEquation.BMR.MSJ.evaluate( genderCode, age, weight, height );
+        HealthMetricValidator.validateBMR( bmr );
+        result.bmr = bmr;
+        result.tdee = bmr * activityCoefficient;
+
+        // 生理特征类
+        double bsa = CompiledEquation.BSA.DU_BOIS.evaluate( genderCode, CompiledEquation.AGE_INDEPENDENT, height, weight );
+        HealthMetricValidator.validateBSA( bsa );
+        result.bsa = bsa;
+        result.bsaBasedBMR = CompiledEquation.BMR.BSA_BASED.evaluate( genderCode, age, bsa );
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 检验计算全部指标所需的基本身体参数
+     */
+    private static void validateBasicParameters( Gender gender, int age, double weight, double height,
+                                                 double waistCircumference, double hipCircumference, double activityCoefficient ){
+        BasicBodyParameterValidator.validateGender( gender );
+        BasicBodyParameterValidator.validateAge( age );
+        BasicBodyParameterValidator.validateWeight( weight );
+        BasicBodyParameterValidator.validateHeight( height );
+        BasicBodyParameterValidator.validateWaistCircumference( waistCircumference );
+        BasicBodyParameterValidator.validateHipCircumference( hipCircumference );
+        BasicBodyParameterValidator.validateActivityCoefficient( activityCoefficient );
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.composite;
+
+import com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BFRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMICalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BRICalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BSACalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.IdealWeightCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.TDEECalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.WHRCalculator;
+import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
+
+/**
+ * 档案健康指标计算器工具类, 面向 {@link UserBodyProfile } 的无副作用计算入口
+ * <pre>
+ *     只读取档案中已有的基本身体参数, 调用 {@link com.github.existedname.healthcalculatorv3.util.calculator.basic } 计算并返回结果,
+ *     不读取控制台输入、不打印、也不回写档案; 各指标选用的默认公式与控制台版本保持一致:
+ *          BFR: Deurenberg 公式
+ *          BMR: Mifflin-St Jeor( MSJ ) 公式
+ *          BSA: Du Bois 公式
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 9:30
+ */
+public final class ProfileMetricCalculator {
+    // ==================== 常量 ====================
+
+
+    // ==================== 静态变量 ====================
+
+
+    // ==================== 实例变量 ====================
+
+
+    // ==================== 构造器 ====================
+    private ProfileMetricCalculator(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 根据档案中的体重、身高计算 BMI, <B>单位: kg/m²</B>
+     *
+     * @param profile 用户身体参数档案
+     * @return BMI, <B>单位: kg/m²</B>
+     * @throws NullPointerException 当 profile 为 null 时
+     * @throws IllegalArgumentException 当体重或身高不在有效范围时
+     */
+    public static double calculateBMI( UserBodyProfile profile ){
+        MethodParameterValidator.validateProfile( profile );
+        return BMICalculator.calculateBMI( profile.getWeight(), profile.getHeight() );
+    }
+
+    /**
+     * 根据档案中的腰围、臀围计算 WHR, <B>单位: 无</B>
+     *
+     * @param profile 用户身体参数档案
+     * @return WHR, <B>单位: 无</B>
+     * @throws NullPointerException 当 profile 为 null 时
+     * @throws IllegalArgumentException 当腰围或臀围不在有效范围时
+     */
+    public static double calculateWHR( UserBodyProfile profile ){
+        MethodParameterValidator.validateProfile( profile );
+        return WHRCalculator.calculateWHR( profile.getWaistCircumference(), profile.getHipCircumference() );
+    }
+
+    /**
+     * 根据档案中的性别、年龄、体重、身高计算 BFR( Deurenberg 公式 ), <B>单位: %</B>
+     *
+     * @param profile 用户身体参数档案
+     * @return BFR, <B>单位: %</B>
+     * @throws NullPointerException 当 profile 或其性别为 null 时
+     * @throws IllegalArgumentException 当性别、年龄、体重或身高不在有效范围时
+     */
+    public static double calculateBFR( UserBodyProfile profile ){
+        double bmi = calculateBMI( profile );
+        return BFRCalculator.calculateBFRByDeurenbergEquation( bmi, profile.getAge(), profile.getGender() );
+    }
+
+    /**
+     * 根据档案中的腰围、身高计算 BRI, <B>单位: 无</B>
+     *
+     * @param profile 用户身体参数档案
+     * @return BRI, <B>单位: 无</B>
+     * @throws NullPointerException 当 profile 为 null 时
+     * @throws IllegalArgumentException 当腰围或身高不在有效范围时
+     */
+    public static double calculateBRI( UserBodyProfile profile ){
+        MethodParameterValidator.validateProfile( profile );
+        return BRICalculator.calculateBRI( profile.getWaistCircumference(), profile.getHeight() );
+    }
+
+    /**
+     * 根据档案中的性别、年龄、体重、身高计算 BMR( MSJ 公式 ), <B>单位: Kcal</B>
+     *
+     * @param profile 用户身体参数档案
+     * @return BMR, <B>单位: Kcal</B>
+     * @throws NullPointerException 当 profile 或其性别为 null 时
+     * @throws IllegalArgumentException 当性别、年龄、体重或身高不在有效范围时
+     */
+    public static double calculateBMR( UserBodyProfile profile ){
+        MethodParameterValidator.validateProfile( profile );
+        return BMRCalculator.calculateBMRByMSJEquation( profile.getGender(), profile.getWeight(), profile.getHeight(), profile.getAge() );
+    }
+
+    /**
+     * 根据档案中的性别、年龄、体重、身高、活动系数计算 TDEE, <B>单位: Kcal</B>
+     *
+     * @param profile 用户身体参数档案
+     * @return TDEE, <B>单位: Kcal</B>
+     * @throws NullPointerException 当 profile 或其性别为 null 时
+     * @throws IllegalArgumentException 当 BMR 所需参数或活动系数不在有效范围时
+     */
+    public static double calculateTDEE( UserBodyProfile profile ){
+        double bmr = calculateBMR( profile );
+        return TDEECalculator.calculateTDEE( bmr, profile.getActivityCoefficient() );
+    }
+
+    /**
+     * 根据档案中的体重、身高计算 BSA( Du Bois 公式 ), <B>单位: m²</B>
+     *
+     * @param profile 用户身体参数档案
+     * @return BSA, <B>单位: m²</B>
+     * @throws NullPointerException 当 profile 为 null 时
+     * @throws IllegalArgumentException 当体重或身高不在有效范围时
+     */
+    public static double calculateBSA( UserBodyProfile profile ){
+        MethodParameterValidator.validateProfile( profile );
+        return BSACalculator.calculateBSAByDuBoisEquation( profile.getHeight(), profile.getWeight() );
+    }
+
+    /**
+     * 根据档案中的性别、身高估计理想体重, <B>单位: kg</B>
+     *
+     * @param profile 用户身体参数档案
+     * @return 理想体重, <B>单位: kg</B>
+     * @throws NullPointerException 当 profile 或其性别为 null 时
+     * @throws IllegalArgumentException 当性别不在有效范围时
+     */
+    public static double calculateIdealWeight( UserBodyProfile profile ){
+        MethodParameterValidator.validateProfile( profile );
+        return IdealWeightCalculator.BasedOnHeight.calculateIdealWeight( profile.getGender(), profile.getHeight() );
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+
+}
@@ -0,0 +1,93 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.composite;
+
+import com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile;
+import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
+
+/**
+ * 档案健康指标结果容器, 由 {@link ProfileEvaluator } 一次性写入全部指标
+ * <pre>
+ *     调用方创建一次后可反复传入 {@link ProfileEvaluator#evaluate( UserBodyProfile, ProfileMetrics ) },
+ *     每次计算覆盖上一次的结果, 批量逐个计算档案时不产生额外对象
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 17:05
+ */
+public final class ProfileMetrics {
+    // ==================== 实例变量 ====================
+    /** BMI( 单位: kg/m² ) */
+    double bmi;
+    /** WHR( 无单位 ) */
+    double whr;
+    /** BFR( Deurenberg 公式, 单位: % ) */
+    double bfr;
+    /** BRI( 无单位 ) */
+    double bri;
+    /** BMR( MSJ 公式, 单位: kcal ) */
+    double bmr;
+    /** TDEE( 单位: kcal ) */
+    double tdee;
+    /** BSA( Du Bois 公式, 单位: m² ) */
+    double bsa;
+    /** 基于 BSA 的 BMR( 单位: kcal ) */
+    double bsaBasedBMR;
+
+
+    // ==================== 构造器 ====================
+    public ProfileMetrics(){ }
+
+
+    // ==================== 公有方法 ====================
+    /*
+     *      getter
+     *      与 UserBodyProfile 一致, 缩略词手动命名为 getBMI 而不是 getBmi
+     */
+    public double getBMI(){
+        return bmi;
+    }
+    public double getWHR(){
+        return whr;
+    }
+    public double getBFR(){
+        return bfr;
+    }
+    public double getBRI(){
+        return bri;
+    }
+    public double getBMR(){
+        return bmr;
+    }
+    public double getTDEE(){
+        return tdee;
+    }
+    public double getBSA(){
+        return bsa;
+    }
+    public double getBSABasedBMR(){
+        return bsaBasedBMR;
+    }
+
+    /**
+     * 把结果回写到档案的健康指标字段( 基于 BSA 的 BMR 档案中没有对应字段, 不回写 )
+     *
+     * @param profile 用户身体参数档案
+     * @throws NullPointerException 当 profile 为 null 时
+     */
+    public void applyTo( UserBodyProfile profile ){
+        MethodParameterValidator.validateProfile( profile );
+        profile.setBMI( bmi );
+        profile.setWHR( whr );
+        profile.setBFR( bfr );
+        profile.setBRI( bri );
+        profile.setBMR( bmr );
+        profile.setTDEE( tdee );
+        profile.setBSA( bsa );
+    }
+
+    @Override
+    public String toString(){
+        return String.format( "ProfileMetrics{ BMI=%.2f, WHR=%.2f, BFR=%.2f, BRI=%.2f, BMR=%.2f, TDEE=%.2f, BSA=%.2f, BSABasedBMR=%.2f }",
+                bmi, whr, bfr, bri, bmr, tdee, bsa, bsaBasedBMR );
+    }
+}
@@ -16,6 +16,9 @@ public final class BFRCalculatorConstants {
      * Deurenberg公式系数
      */
     public static final class DeurenbergEquation {
+        /** 成人公式的最小年龄, 年龄 ≥ 该值使用成人公式, 否则使用儿童公式 */
+        public static final int ADULT_MIN_AGE = 16;
+
         /**
          * 成人公式系数 (年龄≥16岁)
          */
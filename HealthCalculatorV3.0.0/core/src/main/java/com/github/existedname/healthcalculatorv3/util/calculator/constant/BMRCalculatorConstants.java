@@ -112,9 +112,31 @@ public final class BMRCalculatorConstants {
          * @return 每小时基础代谢率
          */
         public static double getHourlyBMR( String gender, int age ){
+            return getHourlyBMR( Gender.isMale( gender ), age );
+        }
+
+        /**
+         * 根据性别和年龄获取每小时基础代谢率( 性别为 {@link Gender } 枚举 )
+         * @param gender 性别
+         * @param age 年龄
+         * @return 每小时基础代谢率
+         * @throws NullPointerException 当 gender 为 null 时
+         * @since 3.1.0
+         */
+        public static double getHourlyBMR( Gender gender, int age ){
+            return getHourlyBMR( gender.isMale(), age );
+        }
 
+        /**
+         * 根据性别和年龄获取每小时基础代谢率( 性别已解析为 boolean, 供批量计算使用 )
+         * @param isMale 是否为男性
+         * @param age 年龄
+         * @return 每小时基础代谢率
+         * @since 3.1.0
+         */
+        public static double getHourlyBMR( boolean isMale, int age ){
             int bmrIdx = getBMRIdx( age );
-            return ( Gender.isMale( gender ) ?
+            return ( isMale ?
                     BSABasedBMR.Male.HOURLY_BMR_ARR[ bmrIdx ] :
                     BSABasedBMR.Female.HOURLY_BMR_ARR[ bmrIdx ] );
         }
@@ -204,7 +226,30 @@ public final class BMRCalculatorConstants {
          * @return 体重系数
          */
         public static double getWeightCoefficient( String gender, int age ){
-            return ( Gender.isMale( gender ) ?
+            return getWeightCoefficient( Gender.isMale( gender ), age );
+        }
+
+        /**
+         * 根据性别和年龄获取 Henry 公式的体重系数( 单位: 千焦 )( 性别为 {@link Gender } 枚举 )
+         * @param gender 性别
+         * @param age 年龄
+         * @return 体重系数
+         * @throws NullPointerException 当 gender 为 null 时
+         * @since 3.1.0
+         */
+        public static double getWeightCoefficient( Gender gender, int age ){
+            return getWeightCoefficient( gender.isMale(), age );
+        }
+
+        /**
+         * 根据性别和年龄获取 Henry 公式的体重系数( 单位: 千焦 ), 性别已解析为 boolean, 供批量计算使用
+         * @param isMale 是否为男性
+         * @param age 年龄
+         * @return 体重系数
+         * @since 3.1.0
+         */
+        public static double getWeightCoefficient( boolean isMale, int age ){
+            return ( isMale ?
                     ( age < 30 ? HenryEquation.Male.WeightCoefficient.AGE_18_TO_30 : HenryEquation.Male.WeightCoefficient.AGE_30_TO_60 ) :
                     ( age < 30 ? HenryEquation.Female.WeightCoefficient.AGE_18_TO_30 : HenryEquation.Female.WeightCoefficient.AGE_30_TO_60)
             );
@@ -222,7 +267,30 @@ public final class BMRCalculatorConstants {
          * @return 常数项
          */
         public static double getConstTerm( String gender, int age ){
-            return ( Gender.isMale( gender ) ?
+            return getConstTerm( Gender.isMale( gender ), age );
+        }
+
+        /**
+         * 根据性别和年龄获取 Henry 公式的常数项( 单位: 千焦 )( 性别为 {@link Gender } 枚举 )
+         * @param gender 性别
+         * @param age 年龄
+         * @return 常数项
+         * @throws NullPointerException 当 gender 为 null 时
+         * @since 3.1.0
+         */
+        public static double getConstTerm( Gender gender, int age ){
+            return getConstTerm( gender.isMale(), age );
+        }
+
+        /**
+         * 根据性别和年龄获取 Henry 公式的常数项( 单位: 千焦 ), 性别已解析为 boolean, 供批量计算使用
+         * @param isMale 是否为男性
+         * @param age 年龄
+         * @return 常数项
+         * @since 3.1.0
+         */
+        public static double getConstTerm( boolean isMale, int age ){
+            return ( isMale ?
                     ( age < 30 ? HenryEquation.Male.ConstTerm.AGE_18_TO_30 : HenryEquation.Male.ConstTerm.AGE_30_TO_60 ) :
                     ( age < 30 ? HenryEquation.Female.ConstTerm.AGE_18_TO_30 : HenryEquation.Female.ConstTerm.AGE_30_TO_60)
             );
@@ -415,15 +483,61 @@ public final class BMRCalculatorConstants {
         private SchofieldEquation() {}
 
         public static double getWeightCoefficient( String gender, int age ){
+            return getWeightCoefficient( Gender.isMale( gender ), age );
+        }
+
+        /**
+         * 根据性别和年龄获取 Schofield 公式的体重系数( 性别为 {@link Gender } 枚举 )
+         * @param gender 性别
+         * @param age 年龄
+         * @return 体重系数
+         * @throws NullPointerException 当 gender 为 null 时
+         * @since 3.1.0
+         */
+        public static double getWeightCoefficient( Gender gender, int age ){
+            return getWeightCoefficient( gender.isMale(), age );
+        }
+
+        /**
+         * 根据性别和年龄获取 Schofield 公式的体重系数, 性别已解析为 boolean, 供批量计算使用
+         * @param isMale 是否为男性
+         * @param age 年龄
+         * @return 体重系数
+         * @since 3.1.0
+         */
+        public static double getWeightCoefficient( boolean isMale, int age ){
             int weightCoefficientIdx = getIdx( age );
-            return ( Gender.isMale( gender ) ?
+            return ( isMale ?
                     SchofieldEquation.Male.WEIGHT_COEFFICIENT_ARR[ weightCoefficientIdx ] :
                     SchofieldEquation.Female.WEIGHT_COEFFICIENT_ARR[ weightCoefficientIdx ] );
         }
 
         public static double getConstantTerm( String gender, int age ){
+            return getConstantTerm( Gender.isMale( gender ), age );
+        }
+
+        /**
+         * 根据性别和年龄获取 Schofield 公式的常数项( 性别为 {@link Gender } 枚举 )
+         * @param gender 性别
+         * @param age 年龄
+         * @return 常数项
+         * @throws NullPointerException 当 gender 为 null 时
+         * @since 3.1.0
+         */
+        public static double getConstantTerm( Gender gender, int age ){
+            return getConstantTerm( gender.isMale(), age );
+        }
+
+        /**
+         * 根据性别和年龄获取 Schofield 公式的常数项, 性别已解析为 boolean, 供批量计算使用
+         * @param isMale 是否为男性
+         * @param age 年龄
+         * @return 常数项
+         * @since 3.1.0
+         */
+        public static double getConstantTerm( boolean isMale, int age ){
             int constantTermIdx = getIdx( age );
-            return ( Gender.isMale( gender ) ?
+            return ( isMale ?
                     SchofieldEquation.Male.CONST_TERM_ARR[ constantTermIdx ] :
                     SchofieldEquation.Female.CONST_TERM_ARR[ constantTermIdx ] );
         }
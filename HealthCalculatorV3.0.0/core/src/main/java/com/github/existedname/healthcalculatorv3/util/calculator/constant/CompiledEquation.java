@@ -0,0 +1,320 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.constant;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BFRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BSACalculator;
+import com.github.existedname.healthcalculatorv3.util.convertor.UnitConvertor;
+
+/**
+ * 预编译公式: 在类初始化时把与性别、年龄有关的公式系数展开成 [ 性别 ][ 年龄 1..122 ] 的系数表,
+ * 计算时按( 性别代码, 年龄 )直接定位一行系数, 不再重复解析性别字符串、判断年龄段
+ * <pre>
+ *     线性公式: 结果 = ( x 系数 * x + y 系数 * y + 年龄项 + 性别项 + 常数项 ) * 结果换算系数
+ *          年龄项 = 年龄系数 * 年龄, 性别项 = 性别系数 * 性别代码( 女0 男1 ), 均在建表时算好
+ *          BMR: x = 体重, y = 身高;  BFR: x = BMI, 无 y;  基于 BSA 的 BMR: x = BSA, 无 y
+ *     幂函数公式: 结果 = 幂函数系数 * x^x 指数 * y^y 指数( BSA: x = 身高, y = 体重 )
+ * </pre>
+ * 各项的运算顺序与 {@link BMRCalculator }、{@link BFRCalculator }、{@link BSACalculator } 中的计算通式一致
+ * ( 缺失的项以 0 补齐, 加 0、乘 1 不改变结果 ), 所以查表计算的结果与原先逐项计算的结果逐位一致,
+ * 单个计算与批量计算共用同一张表
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 15:20
+ */
+public final class CompiledEquation {
+    // ==================== 常量 ====================
+    /** 系数表覆盖的最小年龄 */
+    public static final int MIN_AGE = ( int ) BasicBodyParameter.AGE.getMinValue();
+    /** 系数表覆盖的最大年龄 */
+    public static final int MAX_AGE = ( int ) BasicBodyParameter.AGE.getMaxValue();
+    /** 与年龄无关的公式( 如 BSA 幂函数公式 )查表时使用的年龄 */
+    public static final int AGE_INDEPENDENT = MIN_AGE;
+
+    /**
+     * 系数表中每一行的列下标
+     */
+    public static final class Column {
+        /** 线性公式: x 项系数; 幂函数公式: 幂函数系数 */
+        public static final int X_COEFFICIENT = 0;
+        /** 线性公式: y 项系数; 幂函数公式: x 指数 */
+        public static final int Y_COEFFICIENT = 1;
+        /** 线性公式: 年龄项( 年龄系数 * 年龄 ); 幂函数公式: y 指数 */
+        public static final int AGE_TERM = 2;
+        /** 线性公式: 性别项( 性别系数 * 性别代码 ) */
+        public static final int GENDER_TERM = 3;
+        /** 线性公式: 常数项 */
+        public static final int CONST_TERM = 4;
+        /** 每行的列数 */
+        public static final int WIDTH = 5;
+
+        private Column() {}
+    }
+
+    /**
+     * BMR 公式( 单位: kcal, 以 KJ 为单位的公式已并入 KJ → Kcal 的换算系数 )
+     */
+    public static final class BMR {
+        /** 基于 BSA 的 BMR: x = BSA, 结果换算系数 = 每天小时数 */
+        public static final CompiledEquation BSA_BASED = linear( BMRCalculatorConstants.BSABasedBMR.HOURS,
+                ( isMale, age ) -> linearRow( BMRCalculatorConstants.BSABasedBMR.getHourlyBMR( isMale, age ),
+                        0, 0, age, 0, 0, 0 ) );
+
+        /** Henry 公式: x = 体重 */
+        public static final CompiledEquation HENRY = linear( UnitConvertor.Constants.HeatQuantity.JOULE_TO_CALORIE,
+                ( isMale, age ) -> linearRow( BMRCalculatorConstants.HenryEquation.getWeightCoefficient( isMale, age ),
+                        BMRCalculatorConstants.ZeroConstants.HEIGHT_COEFFICIENT_NONE,
+                        BMRCalculatorConstants.ZeroConstants.AGE_COEFFICIENT_NONE, BMRCalculatorConstants.ZeroConstants.AGE_VALUE_ZERO,
+                        0, 0, BMRCalculatorConstants.HenryEquation.getConstTerm( isMale, age ) ) );
+
+        /** Harris-Benedict( H-B ) 公式: x = 体重, y = 身高 */
+        public static final CompiledEquation HB = linear( 1,
+                ( isMale, age ) -> isMale ?
+                        linearRow( BMRCalculatorConstants.HBEquation.Male.WEIGHT_COEFFICIENT,
+                                BMRCalculatorConstants.HBEquation.Male.HEIGHT_COEFFICIENT,
+                                BMRCalculatorConstants.HBEquation.Male.AGE_COEFFICIENT, age,
+                                0, 0, BMRCalculatorConstants.HBEquation.Male.CONST_TERM ) :
+                        linearRow( BMRCalculatorConstants.HBEquation.Female.WEIGHT_COEFFICIENT,
+                                BMRCalculatorConstants.HBEquation.Female.HEIGHT_COEFFICIENT,
+                                BMRCalculatorConstants.HBEquation.Female.AGE_COEFFICIENT, age,
+                                0, 0, BMRCalculatorConstants.HBEquation.Female.CONST_TERM ) );
+
+        /** Mifflin-St Jeor( MSJ ) 公式: x = 体重, y = 身高 */
+        public static final CompiledEquation MSJ = linear( 1,
+                ( isMale, age ) -> isMale ?
+                        linearRow( BMRCalculatorConstants.MSJEquation.Male.WEIGHT_COEFFICIENT,
+                                BMRCalculatorConstants.MSJEquation.Male.HEIGHT_COEFFICIENT,
+                                BMRCalculatorConstants.MSJEquation.Male.AGE_COEFFICIENT, age,
+                                0, 0, BMRCalculatorConstants.MSJEquation.Male.CONST_TERM ) :
+                        linearRow( BMRCalculatorConstants.MSJEquation.Female.WEIGHT_COEFFICIENT,
+                                BMRCalculatorConstants.MSJEquation.Female.HEIGHT_COEFFICIENT,
+                                BMRCalculatorConstants.MSJEquation.Female.AGE_COEFFICIENT, age,
+                                0, 0, BMRCalculatorConstants.MSJEquation.Female.CONST_TERM ) );
+
+        /** 毛德倩 公式: x = 体重 */
+        public static final CompiledEquation MAO = linear( UnitConvertor.Constants.HeatQuantity.JOULE_TO_CALORIE,
+                ( isMale, age ) -> isMale ?
+                        linearRow( BMRCalculatorConstants.MaoEquation.Male.WEIGHT_COEFFICIENT,
+                                BMRCalculatorConstants.ZeroConstants.HEIGHT_COEFFICIENT_NONE,
+                                BMRCalculatorConstants.ZeroConstants.AGE_COEFFICIENT_NONE, BMRCalculatorConstants.ZeroConstants.AGE_VALUE_ZERO,
+                                0, 0, BMRCalculatorConstants.MaoEquation.Male.CONST_TERM ) :
+                        linearRow( BMRCalculatorConstants.MaoEquation.Female.WEIGHT_COEFFICIENT,
+                                BMRCalculatorConstants.ZeroConstants.HEIGHT_COEFFICIENT_NONE,
+                                BMRCalculatorConstants.ZeroConstants.AGE_COEFFICIENT_NONE, BMRCalculatorConstants.ZeroConstants.AGE_VALUE_ZERO,
+                                0, 0, BMRCalculatorConstants.MaoEquation.Female.CONST_TERM ) );
+
+        /** Schofield 公式: x = 体重 */
+        public static final CompiledEquation SCHOFIELD = linear( 1,
+                ( isMale, age ) -> linearRow( BMRCalculatorConstants.SchofieldEquation.getWeightCoefficient( isMale, age ),
+                        BMRCalculatorConstants.ZeroConstants.HEIGHT_COEFFICIENT_NONE,
+                        BMRCalculatorConstants.ZeroConstants.AGE_COEFFICIENT_NONE, BMRCalculatorConstants.ZeroConstants.AGE_VALUE_ZERO,
+                        0, 0, BMRCalculatorConstants.SchofieldEquation.getConstantTerm( isMale, age ) ) );
+
+        /** Shizgal-Rosa 公式: x = 体重, y = 身高 */
+        public static final CompiledEquation SHIZGAL_ROSA = linear( UnitConvertor.Constants.HeatQuantity.JOULE_TO_CALORIE,
+                ( isMale, age ) -> isMale ?
+                        linearRow( BMRCalculatorConstants.ShizgalRosaEquation.Male.WEIGHT_COEFFICIENT,
+                                BMRCalculatorConstants.ShizgalRosaEquation.Male.HEIGHT_COEFFICIENT,
+                                BMRCalculatorConstants.ShizgalRosaEquation.Male.AGE_COEFFICIENT, age,
+                                0, 0, BMRCalculatorConstants.ShizgalRosaEquation.Male.CONST_TERM ) :
+                        linearRow( BMRCalculatorConstants.ShizgalRosaEquation.Female.WEIGHT_COEFFICIENT,
+                                BMRCalculatorConstants.ShizgalRosaEquation.Female.HEIGHT_COEFFICIENT,
+                                BMRCalculatorConstants.ShizgalRosaEquation.Female.AGE_COEFFICIENT, age,
+                                0, 0, BMRCalculatorConstants.ShizgalRosaEquation.Female.CONST_TERM ) );
+
+        private BMR() {}
+    }
+
+    /**
+     * BFR 公式( 单位: % ), x = BMI
+     */
+    public static final class BFR {
+        /** Deurenberg 公式, 成人、儿童公式的年龄分界已展开到系数表中 */
+        public static final CompiledEquation DEURENBERG = linear( 1,
+                ( isMale, age ) -> age >= BFRCalculatorConstants.DeurenbergEquation.ADULT_MIN_AGE ?
+                        bfrRow( BFRCalculatorConstants.DeurenbergEquation.Adult.BMI_COEFFICIENT,
+                                BFRCalculatorConstants.DeurenbergEquation.Adult.AGE_COEFFICIENT, age,
+                                BFRCalculatorConstants.DeurenbergEquation.Adult.GENDER_COEFFICIENT, isMale,
+                                BFRCalculatorConstants.DeurenbergEquation.Adult.CONST_TERM ) :
+                        bfrRow( BFRCalculatorConstants.DeurenbergEquation.Child.BMI_COEFFICIENT,
+                                BFRCalculatorConstants.DeurenbergEquation.Child.AGE_COEFFICIENT, age,
+                                BFRCalculatorConstants.DeurenbergEquation.Child.GENDER_COEFFICIENT, isMale,
+                                BFRCalculatorConstants.DeurenbergEquation.Child.CONST_TERM ) );
+
+        /** Gallagher 公式版本Ⅰ */
+        public static final CompiledEquation GALLAGHER_1 = linear( 1,
+                ( isMale, age ) -> bfrRow( BFRCalculatorConstants.GallagherEquation.Version1.BMI_COEFFICIENT,
+                        BFRCalculatorConstants.GallagherEquation.Version1.AGE_COEFFICIENT, age,
+                        BFRCalculatorConstants.GallagherEquation.Version1.GENDER_COEFFICIENT, isMale,
+                        BFRCalculatorConstants.GallagherEquation.Version1.CONST_TERM ) );
+
+        /** Jackson-Pollock 公式简化版本 */
+        public static final CompiledEquation JACKSON_POLLOCK_SIMPLIFIED = linear( 1,
+                ( isMale, age ) -> bfrRow( BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.BMI_COEFFICIENT,
+                        BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.AGE_COEFFICIENT, age,
+                        BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.GENDER_COEFFICIENT, isMale,
+                        BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.CONST_TERM ) );
+
+        private BFR() {}
+    }
+
+    /**
+     * BSA 公式( 单位: m² ), x = 身高( cm ), y = 体重( kg )
+     */
+    public static final class BSA {
+        /** Du Bois 公式( 与性别、年龄无关, 每行系数相同 ) */
+        public static final CompiledEquation DU_BOIS = powerLaw(
+                ( isMale, age ) -> new double[]{ BSACalculatorConstants.DuBoisEquation.POWER_FUNCTION_COEFFICIENT,
+                        BSACalculatorConstants.DuBoisEquation.HEIGHT_EXPONENT,
+                        BSACalculatorConstants.DuBoisEquation.WEIGHT_EXPONENT } );
+        /** Schlich 公式 */
+        public static final CompiledEquation SCHLICH = powerLaw(
+                ( isMale, age ) -> isMale ?
+                        new double[]{ BSACalculatorConstants.SchlichEquation.Male.POWER_FUNCTION_COEFFICIENT,
+                                BSACalculatorConstants.SchlichEquation.Male.HEIGHT_EXPONENT,
+                                BSACalculatorConstants.SchlichEquation.Male.WEIGHT_EXPONENT } :
+                        new double[]{ BSACalculatorConstants.SchlichEquation.Female.POWER_FUNCTION_COEFFICIENT,
+                                BSACalculatorConstants.SchlichEquation.Female.HEIGHT_EXPONENT,
+                                BSACalculatorConstants.SchlichEquation.Female.WEIGHT_EXPONENT } );
+
+        private BSA() {}
+    }
+
+    /** 每个性别占用的年龄槽数( 下标 0 不使用, 直接以年龄作下标 ) */
+    private static final int AGE_SLOTS = MAX_AGE + 1;
+
+
+    // ==================== 实例变量 ====================
+    /** 是否为幂函数公式 */
+    private final boolean powerLaw;
+    /** 结果换算系数( 如 KJ → Kcal ), 不换算时为 1 */
+    private final double resultScale;
+    /** 系数表, 第 ( 性别代码 * 年龄槽数 + 年龄 ) 行, 每行 {@link Column#WIDTH } 列 */
+    private final double[] table;
+
+
+    // ==================== 构造器 ====================
+    private CompiledEquation( boolean powerLaw, double resultScale, RowCompiler rowCompiler ){
+        this.powerLaw = powerLaw;
+        this.resultScale = resultScale;
+        this.table = new double[ 2 * AGE_SLOTS * Column.WIDTH ];
+        for ( Gender gender : Gender.values() ){
+            boolean isMale = ( gender == Gender.MALE );
+            for ( int age = MIN_AGE; age <= MAX_AGE; age++ ){
+                double[] row = rowCompiler.compile( isMale, age );
+                System.arraycopy( row, 0, table, rowOffsetOf( gender.getCode(), age ), row.length );
+            }
+        }
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 计算只有 x 一个自变量的公式( 不检验参数 )
+     *
+     * @param genderCode 性别代码( 女0 男1 )
+     * @param age 年龄, 1-122
+     * @param x 自变量 x
+     * @return 计算结果
+     * @throws ArrayIndexOutOfBoundsException 当性别代码或年龄超出系数表范围时
+     */
+    public double evaluate( int genderCode, int age, double x ){
+        return evaluate( genderCode, age, x, 0 );
+    }
+
+    /**
+     * 计算公式( 不检验参数 ), 调用方需保证性别代码与年龄已通过检验
+     *
+     * @param genderCode 性别代码( 女0 男1 )
+     * @param age 年龄, 1-122; 与年龄无关的公式可传 {@link #AGE_INDEPENDENT }
+     * @param x 自变量 x
+     * @param y 自变量 y
+     * @return 计算结果
+     * @throws ArrayIndexOutOfBoundsException 当性别代码或年龄超出系数表范围时
+     */
+    public double evaluate( int genderCode, int age, double x, double y ){
+        int offset = rowOffsetOf( genderCode, age );
+        if ( powerLaw ){
+            return table[ offset + Column.X_COEFFICIENT ]
+                    * Math.pow( x, table[ offset + Column.Y_COEFFICIENT ] )
+                    * Math.pow( y, table[ offset + Column.AGE_TERM ] );
+        }
+        return ( table[ offset + Column.X_COEFFICIENT ] * x
+                + table[ offset + Column.Y_COEFFICIENT ] * y
+                + table[ offset + Column.AGE_TERM ]
+                + table[ offset + Column.GENDER_TERM ]
+                + table[ offset + Column.CONST_TERM ] ) * resultScale;
+    }
+
+    /**
+     * 获取系数表中的一个系数
+     *
+     * @param genderCode 性别代码( 女0 男1 )
+     * @param age 年龄, 1-122
+     * @param column 列下标, 见 {@link Column }
+     * @return 系数
+     * @throws ArrayIndexOutOfBoundsException 当性别代码、年龄或列下标超出系数表范围时
+     */
+    public double getCoefficient( int genderCode, int age, int column ){
+        return table[ rowOffsetOf( genderCode, age ) + column ];
+    }
+
+    /**
+     * 获取结果换算系数
+     *
+     * @return 结果换算系数, 幂函数公式为 1
+     */
+    public double getResultScale(){
+        return resultScale;
+    }
+
+    /**
+     * 判断是否为幂函数公式
+     *
+     * @return 幂函数公式返回 true, 线性公式返回 false
+     */
+    public boolean isPowerLaw(){
+        return powerLaw;
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 按性别、年龄生成一行系数
+     */
+    @FunctionalInterface
+    private interface RowCompiler {
+        double[] compile( boolean isMale, int age );
+    }
+
+    private static CompiledEquation linear( double resultScale, RowCompiler rowCompiler ){
+        return new CompiledEquation( false, resultScale, rowCompiler );
+    }
+
+    private static CompiledEquation powerLaw( RowCompiler rowCompiler ){
+        return new CompiledEquation( true, 1, rowCompiler );
+    }
+
+    /**
+     * 生成线性公式的一行系数, 年龄项、性别项在此处按原公式的乘法算好
+     */
+    private static double[] linearRow( double xCoefficient, double yCoefficient, double ageCoefficient, int age,
+                                       double genderCoefficient, int genderCode, double constTerm ){
+        return new double[]{ xCoefficient, yCoefficient, ageCoefficient * age, genderCoefficient * genderCode, constTerm };
+    }
+
+    /**
+     * 生成 BFR 线性公式的一行系数( 无 y 项 )
+     */
+    private static double[] bfrRow( double bmiCoefficient, double ageCoefficient, int age,
+                                    double genderCoefficient, boolean isMale, double constTerm ){
+        int genderCode = ( isMale ? Gender.MALE.getCode() : Gender.FEMALE.getCode() );
+        return linearRow( bmiCoefficient, 0, ageCoefficient, age, genderCoefficient, genderCode, constTerm );
+    }
+
+    private static int rowOffsetOf( int genderCode, int age ){
+        return ( genderCode * AGE_SLOTS + age ) * Column.WIDTH;
+    }
+}
@@ -49,7 +49,30 @@ public final class IdealWeightCalculatorConstants {
          * @throws IllegalArgumentException 当 gender 不在有效范围时
          */
         public static double getConstTerm( String gender ){
-            return ( Gender.isMale( gender ) ?
+            return getConstTerm( Gender.isMale( gender ) );
+        }
+
+        /**
+         * 获取性别对应的常数项( 性别为 {@link Gender } 枚举 )
+         *
+         * @param gender 性别
+         * @return 常数项
+         * @throws NullPointerException 当 gender 为 null 时
+         * @since 3.1.0
+         */
+        public static double getConstTerm( Gender gender ){
+            return getConstTerm( gender.isMale() );
+        }
+
+        /**
+         * 获取性别对应的常数项( 性别已解析为 boolean, 供批量计算使用 )
+         *
+         * @param isMale 是否为男性
+         * @return 常数项
+         * @since 3.1.0
+         */
+        public static double getConstTerm( boolean isMale ){
+            return ( isMale ?
                     IdealWeightCalculatorConstants.BasedOnHeight.Male.CONST_TERM :
                     IdealWeightCalculatorConstants.BasedOnHeight.Female.CONST_TERM );
         }
@@ -0,0 +1,155 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.equation;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.util.calculator.vector.VectorBatchCalculator;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 公式的适用位图: 一批输入列中每一行是否适用某个公式, 第 row 行对应 words[ row / 64 ] 的第 row % 64 位
+ * <pre>
+ *     1. 适用条件:
+ *        (1) 年龄、BMI 在公式的适用范围( {@link ApplicabilityRange } )内, 如 Gallagher 公式 18-61 岁 & BMI 18-35 kg/m²,
+ *            Haycock 公式 2-18 岁; 没有提供年龄列或 BMI 列时不按该维度限制( 与控制台没有读取年龄时不提示一致 )
+ *        (2) 公式需要的围度( 如美国海军公式的腰围、臀围、颈围 )在有效范围内; 没有提供围度列时所有行都不适用
+ *     2. 每个条件对整列做一次范围检验( {@link VectorBatchCalculator#retainRange( double[], double, double, long[], int ) },
+ *        向量后端可用时按通道比较 ), 结果按位与
+ *     3. Deurenberg 公式 16 岁的成人/儿童分界只是系数的切换( 已展开到系数表中 ), 不影响是否适用
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 21:00
+ */
+public final class ApplicabilityMask {
+    // ==================== 实例变量 ====================
+    /** 位图 */
+    private final long[] words;
+    /** 行数 */
+    private final int rowCount;
+
+
+    // ==================== 构造器 ====================
+    private ApplicabilityMask( long[] words, int rowCount ){
+        this.words = words;
+        this.rowCount = rowCount;
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 计算一批输入列中每一行是否适用指定公式
+     *
+     * @param equation 公式
+     * @param columns 输入列
+     * @param rowCount 行数( 检验各列的前 rowCount 行 )
+     * @return 适用位图
+     * @throws NullPointerException 当 equation 或 columns 为 null 时
+     * @throws IllegalArgumentException 当 rowCount 为负数或超过某一列的长度时
+     */
+    public static ApplicabilityMask of( Equation equation, BodyColumns columns, int rowCount ){
+        Objects.requireNonNull( equation, "参数 equation( 公式 )不能为 null" );
+        Objects.requireNonNull( columns, "参数 columns( 输入列 )不能为 null" );
+        if ( rowCount < 0 ){
+            throw new IllegalArgumentException( String.format( "参数错误: rowCount( %d )不能为负数", rowCount ) );
+        }
+        long[] words = new long[ ( rowCount + Long.SIZE - 1 ) >>> 6 ];
+        Arrays.fill( words, -1L );
+        if ( ( rowCount & 63 ) != 0 ){
+            words[ words.length - 1 ] = ( 1L << rowCount ) - 1;  // 超出 rowCount 的位清零
+        }
+
+        ApplicabilityRange applicabilityRange = equation.getApplicabilityRange();
+        if ( applicabilityRange.isAgeRestricted() && columns.getAges() != null ){
+            VectorBatchCalculator.retainRange( columns.getAges(),
+                    applicabilityRange.getMinAge(), applicabilityRange.getMaxAge(), words, rowCount );
+        }
+        if ( applicabilityRange.isBMIRestricted() && columns.getBmis() != null ){
+            VectorBatchCalculator.retainRange( columns.getBmis(),
+                    applicabilityRange.getMinBMI(), applicabilityRange.getMaxBMI(), words, rowCount );
+        }
+        for ( EquationInput equationInput : equation.getInputs() ){
+            switch ( equationInput ){
+                case WAIST_CIRCUMFERENCE:
+                    retainValid( columns.getWaistCircumferences(), BasicBodyParameter.WAIST_CIRCUMFERENCE, words, rowCount );
+                    break;
+                case HIP_CIRCUMFERENCE:
+                    retainValid( columns.getHipCircumferences(), BasicBodyParameter.HIP_CIRCUMFERENCE, words, rowCount );
+                    break;
+                case NECK_CIRCUMFERENCE:
+                    retainValid( columns.getNeckCircumferences(), BasicBodyParameter.NECK_CIRCUMFERENCE, words, rowCount );
+                    break;
+                default:
+                    break;
+            }
+        }
+        return new ApplicabilityMask( words, rowCount );
+    }
+
+    /**
+     * @param row 行号
+     * @return 该行是否适用
+     * @throws IndexOutOfBoundsException 当 row 不在 [ 0, 行数 ) 内时
+     */
+    public boolean isApplicable( int row ){
+        Objects.checkIndex( row, rowCount );
+        return ( words[ row >>> 6 ] & ( 1L << row ) ) != 0;
+    }
+
+    /**
+     * @return 适用的行数
+     */
+    public int cardinality(){
+        int count = 0;
+        for ( long word : words ){
+            count += Long.bitCount( word );
+        }
+        return count;
+    }
+
+    /**
+     * @return 所有行都适用时返回 true
+     */
+    public boolean isAllApplicable(){
+        return cardinality() == rowCount;
+    }
+
+    /**
+     * @return 适用的行号( 升序 )
+     */
+    public int[] toRowIndexes(){
+        int[] rows = new int[ cardinality() ];
+        int count = 0;
+        for ( int w = 0; w < words.length; w++ ){
+            for ( long word = words[ w ]; word != 0; word &= word - 1 ){
+                rows[ count++ ] = ( w << 6 ) + Long.numberOfTrailingZeros( word );
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * @return 位图( 副本 )
+     */
+    public long[] toLongArray(){
+        return words.clone();
+    }
+
+    public int getRowCount(){
+        return rowCount;
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 只保留参数在有效范围内的行, 没有提供该列时清空位图
+     */
+    private static void retainValid( double[] values, BasicBodyParameter parameter, long[] words, int rowCount ){
+        if ( values == null ){
+            Arrays.fill( words, 0L );
+            return;
+        }
+        VectorBatchCalculator.retainRange( values, parameter.getMinValue(), parameter.getMaxValue(), words, rowCount );
+    }
+}
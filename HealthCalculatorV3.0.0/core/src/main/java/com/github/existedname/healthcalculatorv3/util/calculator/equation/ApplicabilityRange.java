@@ -0,0 +1,126 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.equation;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.util.ValueFormatter;
+import lombok.Getter;
+
+/**
+ * 公式的适用范围( 年龄、BMI 闭区间 ), 超出范围时公式仍可计算, 但误差较大
+ * <pre>
+ *     例如 Gallagher 公式适用于 18-61 岁 & BMI 18-35 kg/m², Haycock 公式推荐 2-18 岁
+ *     未声明的维度取该参数的整个有效范围, 见 {@link BasicBodyParameter#AGE }、{@link HealthMetric#BMI }
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 16:10
+ */
+@Getter
+public final class ApplicabilityRange {
+    // ==================== 常量 ====================
+    /** 不限制适用范围( 年龄、BMI 均为整个有效范围 ) */
+    public static final ApplicabilityRange UNRESTRICTED = new ApplicabilityRange(
+            ( int ) BasicBodyParameter.AGE.getMinValue(), ( int ) BasicBodyParameter.AGE.getMaxValue(),
+            HealthMetric.BMI.getMinValue(), HealthMetric.BMI.getMaxValue() );
+
+
+    // ==================== 实例变量 ====================
+    /** 最小适用年龄 */
+    private final int minAge;
+    /** 最大适用年龄 */
+    private final int maxAge;
+    /** 最小适用 BMI */
+    private final double minBMI;
+    /** 最大适用 BMI */
+    private final double maxBMI;
+
+
+    // ==================== 构造器 ====================
+    private ApplicabilityRange( int minAge, int maxAge, double minBMI, double maxBMI ){
+        if ( minAge > maxAge || minBMI > maxBMI ){
+            throw new IllegalArgumentException( String.format( "适用范围无效: 年龄%s, BMI%s",
+                    ValueFormatter.formatClosedRange( minAge, maxAge ), ValueFormatter.formatClosedRange( minBMI, maxBMI ) ) );
+        }
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.minBMI = minBMI;
+        this.maxBMI = maxBMI;
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 创建只限制年龄的适用范围
+     *
+     * @param minAge 最小适用年龄
+     * @param maxAge 最大适用年龄
+     * @return 适用范围
+     * @throws IllegalArgumentException 当 minAge > maxAge 时
+     */
+    public static ApplicabilityRange ofAge( int minAge, int maxAge ){
+        return new ApplicabilityRange( minAge, maxAge, UNRESTRICTED.minBMI, UNRESTRICTED.maxBMI );
+    }
+
+    /**
+     * 创建同时限制年龄、BMI 的适用范围
+     *
+     * @param minAge 最小适用年龄
+     * @param maxAge 最大适用年龄
+     * @param minBMI 最小适用 BMI
+     * @param maxBMI 最大适用 BMI
+     * @return 适用范围
+     * @throws IllegalArgumentException 当 minAge > maxAge 或 minBMI > maxBMI 时
+     */
+    public static ApplicabilityRange ofAgeAndBMI( int minAge, int maxAge, double minBMI, double maxBMI ){
+        return new ApplicabilityRange( minAge, maxAge, minBMI, maxBMI );
+    }
+
+    /**
+     * 判断年龄是否在适用范围内
+     *
+     * @param age 年龄
+     * @return 在范围内返回 true, 否则返回 false
+     */
+    public boolean isApplicableAge( int age ){
+        return ( minAge <= age && age <= maxAge );
+    }
+
+    /**
+     * 判断年龄、BMI 是否都在适用范围内
+     *
+     * @param age 年龄
+     * @param bmi BMI
+     * @return 都在范围内返回 true, 否则返回 false
+     */
+    public boolean isApplicable( int age, double bmi ){
+        return isApplicableAge( age ) && ( minBMI <= bmi && bmi <= maxBMI );
+    }
+
+    /**
+     * 判断是否限制了年龄( 比年龄的整个有效范围窄 )
+     *
+     * @return 限制了年龄返回 true, 否则返回 false
+     */
+    public boolean isAgeRestricted(){
+        return ( minAge != UNRESTRICTED.minAge || maxAge != UNRESTRICTED.maxAge );
+    }
+
+    /**
+     * 判断是否限制了 BMI
+     *
+     * @return 限制了 BMI 返回 true, 否则返回 false
+     */
+    public boolean isBMIRestricted(){
+        return ( minBMI != UNRESTRICTED.minBMI || maxBMI != UNRESTRICTED.maxBMI );
+    }
+
+
+    /*      重写方法        */
+    @Override
+    public String toString(){
+        String ageRange = String.format( "%s 岁", ValueFormatter.formatClosedRange( minAge, maxAge ) );
+        if ( !isBMIRestricted() ) return ageRange;
+        return String.format( "%s & BMI %s kg/m²", ageRange, ValueFormatter.formatClosedRange( minBMI, maxBMI ) );
+    }
+}
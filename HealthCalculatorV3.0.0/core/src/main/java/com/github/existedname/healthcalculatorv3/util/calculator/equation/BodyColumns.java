@@ -0,0 +1,43 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.equation;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 批量计算的输入列( 列式存储, 同一下标的各列元素属于同一个人 ), 供 {@link Equation#evaluate( BodyColumns, double[] ) } 使用
+ * <pre>
+ *     只需设置公式 {@link Equation#getInputs() } 声明的列, 其余列可为 null;
+ *     列本身不复制, 列长度与有效性由各公式的批量计算方法检验
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 16:10
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public final class BodyColumns {
+    // ==================== 实例变量 ====================
+    /** 性别代码列( 女0 男1 ) */
+    private byte[] genderCodes;
+    /** 年龄列 */
+    private int[] ages;
+    /** 体重列( 单位: kg ) */
+    private double[] weights;
+    /** 身高列( 单位: cm ) */
+    private double[] heights;
+    /** 腰围列( 单位: cm ) */
+    private double[] waistCircumferences;
+    /** 臀围列( 单位: cm ) */
+    private double[] hipCircumferences;
+    /** 颈围列( 单位: cm ) */
+    private double[] neckCircumferences;
+    /** BMI 列( 单位: kg/m² ) */
+    private double[] bmis;
+    /** BFR 列( 单位: % ) */
+    private double[] bfrs;
+    /** BSA 列( 单位: m² ) */
+    private double[] bsas;
+}
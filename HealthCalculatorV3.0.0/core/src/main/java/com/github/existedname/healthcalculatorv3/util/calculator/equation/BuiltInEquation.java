@@ -0,0 +1,279 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.equation;
+
+import com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.service.comparison.equation.description.BFREquationIntroduction;
+import com.github.existedname.healthcalculatorv3.service.comparison.equation.description.BMREquationIntroduction;
+import com.github.existedname.healthcalculatorv3.service.comparison.equation.description.BSAEquationIntroduction;
+import com.github.existedname.healthcalculatorv3.service.comparison.equation.description.EquationIntroduction;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BFRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BSACalculator;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 内置公式枚举类, 登记 {@link BFRCalculator }、{@link BMRCalculator }、{@link BSACalculator } 中的各个公式,
+ * 实现 {@link Equation } 接口<br>
+ * 每个成员直接调用对应计算器的单个、批量计算方法, 不经过反射也不额外创建对象; 同一健康指标的成员按展示顺序排列
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 16:10
+ */
+@Getter
+public enum BuiltInEquation implements Equation {
+    /*      BFR 公式      */
+    DEURENBERG( "BFR.DEURENBERG", HealthMetric.BFR, BFREquationIntroduction.DEURENBERG_EQUATION, "",
+            ApplicabilityRange.ofAgeAndBMI( 7, 83, 13.9, 40.9 ),
+            EquationInput.BMI, EquationInput.AGE, EquationInput.GENDER ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BFRCalculator.calculateBFRByDeurenbergEquation( profile.getBMI(), profile.getAge(), profile.getGender() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BFRCalculator.calculateBFRByDeurenbergEquation( columns.getBmis(), columns.getAges(), columns.getGenderCodes(), out );
+        }
+    },
+    GALLAGHER_1( "BFR.GALLAGHER_1", HealthMetric.BFR, BFREquationIntroduction.GALLAGHER_EQUATION,
+            "2.1 Gallagher 公式版本Ⅰ: 基于 BMI、年龄、性别",
+            ApplicabilityRange.ofAgeAndBMI( 18, 61, 18, 35 ),
+            EquationInput.BMI, EquationInput.AGE, EquationInput.GENDER ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BFRCalculator.calculateBFRByGallagherEquation1( profile.getBMI(), profile.getAge(), profile.getGender() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BFRCalculator.calculateBFRByGallagherEquation1( columns.getBmis(), columns.getAges(), columns.getGenderCodes(), out );
+        }
+    },
+    GALLAGHER_2( "BFR.GALLAGHER_2", HealthMetric.BFR, BFREquationIntroduction.GALLAGHER_EQUATION,
+            "2.2 Gallagher 公式版本Ⅱ: 基于 BMI 的倒数( 1/BMI )、年龄、性别",
+            ApplicabilityRange.ofAgeAndBMI( 18, 61, 18, 35 ),
+            EquationInput.BMI, EquationInput.AGE, EquationInput.GENDER ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BFRCalculator.calculateBFRByGallagherEquation2( profile.getBMI(), profile.getAge(), profile.getGender() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BFRCalculator.calculateBFRByGallagherEquation2( columns.getBmis(), columns.getAges(), columns.getGenderCodes(), out );
+        }
+    },
+    USN( "BFR.USN", HealthMetric.BFR, BFREquationIntroduction.USN_EQUATION, "",
+            ApplicabilityRange.UNRESTRICTED,
+            EquationInput.GENDER, EquationInput.WAIST_CIRCUMFERENCE, EquationInput.HIP_CIRCUMFERENCE,
+            EquationInput.NECK_CIRCUMFERENCE, EquationInput.HEIGHT ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BFRCalculator.calculateBFRByUSNEquation( profile.getGender(), profile.getWaistCircumference(),
+                    profile.getHipCircumference(), profile.getNeckCircumference(), profile.getHeight() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BFRCalculator.calculateBFRByUSNEquation( columns.getGenderCodes(), columns.getWaistCircumferences(),
+                    columns.getHipCircumferences(), columns.getNeckCircumferences(), columns.getHeights(), out );
+        }
+    },
+    JACKSON_POLLOCK_SIMPLIFIED( "BFR.JACKSON_POLLOCK_SIMPLIFIED", HealthMetric.BFR, BFREquationIntroduction.JACKSON_POLLOCK_EQUATION,
+            "4.1 Jackson-Pollock 公式版本Ⅰ: 基于 皮褶厚度,广泛用于学术和临床\n"
+                    + "由于需要用皮脂钳测量多处皮褶厚度,较为麻烦,此处略过~~~\n"
+                    + "4.2 Jackson-Pollock 公式版本Ⅱ( 简化版本 ): 基于 BMI、年龄、性别",
+            ApplicabilityRange.UNRESTRICTED,
+            EquationInput.BMI, EquationInput.AGE, EquationInput.GENDER ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BFRCalculator.calculateBFRByJacksonPollockSimplifiedEquation( profile.getBMI(), profile.getAge(), profile.getGender() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BFRCalculator.calculateBFRByJacksonPollockSimplifiedEquation( columns.getBmis(), columns.getAges(), columns.getGenderCodes(), out );
+        }
+    },
+
+    /*      BMR 公式      */
+    MSJ( "BMR.MSJ", HealthMetric.BMR, BMREquationIntroduction.MSJ_EQUATION, "",
+            ApplicabilityRange.ofAge( 18, 122 ),
+            EquationInput.GENDER, EquationInput.WEIGHT, EquationInput.HEIGHT, EquationInput.AGE ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BMRCalculator.calculateBMRByMSJEquation( profile.getGender(), profile.getWeight(), profile.getHeight(), profile.getAge() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BMRCalculator.calculateBMRByMSJEquation( columns.getGenderCodes(), columns.getWeights(), columns.getHeights(), columns.getAges(), out );
+        }
+    },
+    HB( "BMR.HB", HealthMetric.BMR, BMREquationIntroduction.HB_EQUATION, "",
+            ApplicabilityRange.ofAge( 18, 60 ),
+            EquationInput.GENDER, EquationInput.WEIGHT, EquationInput.HEIGHT, EquationInput.AGE ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BMRCalculator.calculateBMRByHBEquation( profile.getGender(), profile.getWeight(), profile.getHeight(), profile.getAge() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BMRCalculator.calculateBMRByHBEquation( columns.getGenderCodes(), columns.getWeights(), columns.getHeights(), columns.getAges(), out );
+        }
+    },
+    HENRY( "BMR.HENRY", HealthMetric.BMR, BMREquationIntroduction.HENRY_EQUATION, "",
+            ApplicabilityRange.ofAge( 18, 60 ),
+            EquationInput.GENDER, EquationInput.WEIGHT, EquationInput.AGE ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BMRCalculator.calculateBMRByHenryEquation( profile.getGender(), profile.getWeight(), profile.getAge() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BMRCalculator.calculateBMRByHenryEquation( columns.getGenderCodes(), columns.getWeights(), columns.getAges(), out );
+        }
+    },
+    SCHOFIELD( "BMR.SCHOFIELD", HealthMetric.BMR, BMREquationIntroduction.SCHOFIELD_EQUATION, "",
+            ApplicabilityRange.UNRESTRICTED,
+            EquationInput.GENDER, EquationInput.WEIGHT, EquationInput.AGE ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BMRCalculator.calculateBMRBySchofieldEquation( profile.getGender(), profile.getWeight(), profile.getAge() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BMRCalculator.calculateBMRBySchofieldEquation( columns.getGenderCodes(), columns.getWeights(), columns.getAges(), out );
+        }
+    },
+    KATCH_MCARDLE( "BMR.KATCH_MCARDLE", HealthMetric.BMR, BMREquationIntroduction.KATCH_MCARDLE_EQUATION, "",
+            ApplicabilityRange.UNRESTRICTED,
+            EquationInput.BFR, EquationInput.WEIGHT ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BMRCalculator.calculateBMRByKatchMcArdleEquation( profile.getBFR(), profile.getWeight() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BMRCalculator.calculateBMRByKatchMcArdleEquation( columns.getBfrs(), columns.getWeights(), out );
+        }
+    },
+    SHIZGAL_ROSA( "BMR.SHIZGAL_ROSA", HealthMetric.BMR, BMREquationIntroduction.SHIZGAL_ROSA_EQUATION, "",
+            ApplicabilityRange.UNRESTRICTED,
+            EquationInput.GENDER, EquationInput.WEIGHT, EquationInput.HEIGHT, EquationInput.AGE ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BMRCalculator.calculateBMRByShizgalRosaEquation( profile.getGender(), profile.getWeight(), profile.getHeight(), profile.getAge() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BMRCalculator.calculateBMRByShizgalRosaEquation( columns.getGenderCodes(), columns.getWeights(), columns.getHeights(), columns.getAges(), out );
+        }
+    },
+    MAO( "BMR.MAO", HealthMetric.BMR, BMREquationIntroduction.MAO_EQUATION, "",
+            ApplicabilityRange.ofAge( 20, 45 ),
+            EquationInput.GENDER, EquationInput.WEIGHT ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BMRCalculator.calculateBMRByMaoEquation( profile.getGender(), profile.getWeight() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BMRCalculator.calculateBMRByMaoEquation( columns.getGenderCodes(), columns.getWeights(), out );
+        }
+    },
+    BSA_BASED( "BMR.BSA_BASED", HealthMetric.BMR, BMREquationIntroduction.BSA_CALCULATION_METHOD, "",
+            ApplicabilityRange.UNRESTRICTED,
+            EquationInput.GENDER, EquationInput.AGE, EquationInput.BSA ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BMRCalculator.calculateBSABasedBMR( profile.getGender(), profile.getAge(), profile.getBSA() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BMRCalculator.calculateBSABasedBMR( columns.getGenderCodes(), columns.getAges(), columns.getBsas(), out );
+        }
+    },
+
+    /*      BSA 公式      */
+    DU_BOIS( "BSA.DU_BOIS", HealthMetric.BSA, BSAEquationIntroduction.DUBOIS_EQUATION, "",
+            ApplicabilityRange.UNRESTRICTED,
+            EquationInput.HEIGHT, EquationInput.WEIGHT ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BSACalculator.calculateBSAByDuBoisEquation( profile.getHeight(), profile.getWeight() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BSACalculator.calculateBSAByDuBoisEquation( columns.getHeights(), columns.getWeights(), out );
+        }
+    },
+    SCHLICH( "BSA.SCHLICH", HealthMetric.BSA, BSAEquationIntroduction.SCHLICH_EQUATION, "",
+            ApplicabilityRange.UNRESTRICTED,
+            EquationInput.GENDER, EquationInput.HEIGHT, EquationInput.WEIGHT ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BSACalculator.calculateBSABySchlichEquation( profile.getGender(), profile.getHeight(), profile.getWeight() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BSACalculator.calculateBSABySchlichEquation( columns.getGenderCodes(), columns.getHeights(), columns.getWeights(), out );
+        }
+    },
+    MOSTELLER( "BSA.MOSTELLER", HealthMetric.BSA, BSAEquationIntroduction.MOSTELLER_EQUATION, "",
+            ApplicabilityRange.UNRESTRICTED,
+            EquationInput.HEIGHT, EquationInput.WEIGHT ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BSACalculator.calculateBSAByMostellerEquation( profile.getHeight(), profile.getWeight() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BSACalculator.calculateBSAByMostellerEquation( columns.getHeights(), columns.getWeights(), out );
+        }
+    },
+    HAYCOCK( "BSA.HAYCOCK", HealthMetric.BSA, BSAEquationIntroduction.HAYCOCK_EQUATION, "",
+            ApplicabilityRange.ofAge( 2, 18 ),
+            EquationInput.HEIGHT, EquationInput.WEIGHT ){
+        @Override
+        public double evaluate( UserBodyProfile profile ){
+            return BSACalculator.calculateBSAByHaycockEquation( profile.getHeight(), profile.getWeight() );
+        }
+
+        @Override
+        public void evaluate( BodyColumns columns, double[] out ){
+            BSACalculator.calculateBSAByHaycockEquation( columns.getHeights(), columns.getWeights(), out );
+        }
+    };
+
+    // 字段定义
+    private final String id;
+    private final HealthMetric metric;
+    private final EquationIntroduction introduction;
+    private final String variantName;
+    private final ApplicabilityRange applicabilityRange;
+    private final List< EquationInput > inputs;
+
+    BuiltInEquation( String id, HealthMetric metric, EquationIntroduction introduction, String variantName,
+                     ApplicabilityRange applicabilityRange, EquationInput... inputs ){
+        this.id = id;
+        this.metric = metric;
+        this.introduction = introduction;
+        this.variantName = variantName;
+        this.applicabilityRange = applicabilityRange;
+        this.inputs = List.of( inputs );
+    }
+}
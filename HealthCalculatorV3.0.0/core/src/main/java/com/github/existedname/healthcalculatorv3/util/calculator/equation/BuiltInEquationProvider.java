@@ -0,0 +1,28 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.equation;
+
+import java.util.List;
+
+/**
+ * 内置公式提供者, 提供 {@link BuiltInEquation } 的全部成员, 在 core 模块的
+ * {@code META-INF/services/} 中登记
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 16:10
+ */
+public final class BuiltInEquationProvider implements EquationProvider {
+    // ==================== 常量 ====================
+    private static final List< Equation > EQUATIONS = List.of( BuiltInEquation.values() );
+
+
+    // ==================== 构造器 ====================
+    /** 供 {@link java.util.ServiceLoader } 调用 */
+    public BuiltInEquationProvider(){ }
+
+
+    // ==================== 公有方法 ====================
+    @Override
+    public List< Equation > getEquations(){
+        return EQUATIONS;
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.equation;
+
+import com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.service.comparison.equation.description.EquationIntroduction;
+
+import java.util.List;
+
+/**
+ * 健康指标计算公式接口( {@link EquationRegistry } 中的登记项 )<br>
+ * 每个公式声明自己计算的健康指标、输入、适用范围、公式简介, 并提供单个与批量两种计算方法
+ * <pre>
+ *     新增公式只需实现该接口并由某个 {@link EquationProvider } 提供, 公式对比、批量评分等调用方遍历注册表即可,
+ *     不需要修改服务类
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 16:10
+ */
+public interface Equation {
+    /** @return 公式唯一标识, 形如 "BMR.MSJ" */
+    String getId();
+
+    /** @return 公式计算的健康指标 */
+    HealthMetric getMetric();
+
+    /** @return 公式简介( 同一公式的多个版本共用一个简介 ) */
+    EquationIntroduction getIntroduction();
+
+    /** @return 公式版本说明, 没有多个版本时为空字符串 */
+    String getVariantName();
+
+    /** @return 公式需要的输入( 不可修改 ) */
+    List< EquationInput > getInputs();
+
+    /** @return 公式的适用范围 */
+    ApplicabilityRange getApplicabilityRange();
+
+    /**
+     * 单个计算, 从身体参数档案中读取 {@link #getInputs() } 声明的输入
+     *
+     * @param profile 身体参数档案
+     * @return 计算结果, 单位见 {@link HealthMetric#getUnit() }
+     * @throws NullPointerException 当 profile 或需要的性别为 null 时
+     * @throws IllegalArgumentException 当需要的输入不在有效范围时
+     */
+    double evaluate( UserBodyProfile profile );
+
+    /**
+     * 批量计算, 从输入列中读取 {@link #getInputs() } 声明的列, 结果与逐个单个计算逐位一致
+     *
+     * @param columns 输入列
+     * @param out 输出列
+     * @throws NullPointerException 当 columns、out 或需要的列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     */
+    void evaluate( BodyColumns columns, double[] out );
+}
@@ -0,0 +1,31 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.equation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 公式输入枚举类, 声明一个公式需要哪些身体参数( 或已算出的健康指标 )作为自变量<br>
+ * 单个计算从 {@link com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile } 的同名字段取值,
+ * 批量计算从 {@link BodyColumns } 的同名列取值
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 16:10
+ */
+@Getter
+@AllArgsConstructor
+public enum EquationInput {
+    GENDER( "性别" ),
+    AGE( "年龄" ),
+    WEIGHT( "体重" ),
+    HEIGHT( "身高" ),
+    WAIST_CIRCUMFERENCE( "腰围" ),
+    HIP_CIRCUMFERENCE( "臀围" ),
+    NECK_CIRCUMFERENCE( "颈围" ),
+    BMI( "BMI" ),
+    BFR( "体脂率" ),
+    BSA( "体表面积" );
+
+    /** 中文名称 */
+    private final String chineseName;
+}
@@ -0,0 +1,16 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.equation;
+
+import java.util.List;
+
+/**
+ * 公式提供者 SPI 接口, 由 {@link java.util.ServiceLoader } 加载<br>
+ * 实现类需要有 public 无参构造器, 并在 {@code META-INF/services/} 目录下以本接口的全限定名登记
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 16:10
+ */
+public interface EquationProvider {
+    /** @return 提供的公式, 同一健康指标的公式按展示顺序排列 */
+    List< Equation > getEquations();
+}
@@ -0,0 +1,112 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.equation;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * 公式注册表工具类, 在类初始化时通过 {@link ServiceLoader } 加载全部 {@link EquationProvider }, 按健康指标分组登记公式
+ * <pre>
+ *     1. 分组内的顺序 = 提供者的加载顺序 + 提供者内部的顺序, 内置公式( {@link BuiltInEquationProvider } )在最前
+ *     2. 注册表加载后不可修改, 查询结果为不可修改的 List, 调用方可按下标遍历, 不产生额外对象
+ *     3. 公式标识重复时抛出 {@link IllegalStateException }, 避免两个提供者登记同一个公式
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 16:10
+ */
+public final class EquationRegistry {
+    // ==================== 常量 ====================
+    /** 全部公式( 按登记顺序排列 ) */
+    private static final List< Equation > ALL_EQUATIONS;
+    /** 全部公式( 按标识索引 ) */
+    private static final Map< String, Equation > EQUATIONS_BY_ID;
+    /** 按健康指标分组的公式 */
+    private static final Map< HealthMetric, List< Equation > > EQUATIONS_BY_METRIC;
+
+    static {
+        Map< String, Equation > equationsById = new LinkedHashMap<>();
+        Map< HealthMetric, List< Equation > > equationsByMetric = new EnumMap<>( HealthMetric.class );
+        for ( EquationProvider provider : ServiceLoader.load( EquationProvider.class, EquationRegistry.class.getClassLoader() ) ){
+            for ( Equation equation : provider.getEquations() ){
+                Objects.requireNonNull( equation, "公式提供者 " + provider.getClass().getName() + " 提供了 null 公式" );
+                if ( equationsById.putIfAbsent( equation.getId(), equation ) != null ){
+                    throw new IllegalStateException( String.format( "公式标识 %s 重复登记( 提供者: %s )",
+                            equation.getId(), provider.getClass().getName() ) );
+                }
+                equationsByMetric.computeIfAbsent( equation.getMetric(), metric -> new ArrayList<>() ).add( equation );
+            }
+        }
+        equationsByMetric.replaceAll( ( metric, equations ) -> List.copyOf( equations ) );
+        ALL_EQUATIONS = List.copyOf( equationsById.values() );
+        EQUATIONS_BY_ID = Collections.unmodifiableMap( equationsById );
+        EQUATIONS_BY_METRIC = Collections.unmodifiableMap( equationsByMetric );
+    }
+
+
+    // ==================== 构造器 ====================
+    private EquationRegistry(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 获取计算指定健康指标的全部公式
+     *
+     * @param metric 健康指标
+     * @return 公式列表( 不可修改, 按展示顺序排列 ), 没有公式时为空列表
+     * @throws NullPointerException 当 metric 为 null 时
+     */
+    public static List< Equation > getEquations( HealthMetric metric ){
+        Objects.requireNonNull( metric, "参数 metric( 健康指标 )不能为 null" );
+        return EQUATIONS_BY_METRIC.getOrDefault( metric, List.of() );
+    }
+
+    /**
+     * 获取全部公式
+     *
+     * @return 公式列表( 不可修改, 按登记顺序排列 )
+     */
+    public static List< Equation > getAllEquations(){
+        return ALL_EQUATIONS;
+    }
+
+    /**
+     * 按标识查找公式
+     *
+     * @param id 公式标识, 形如 "BMR.MSJ"
+     * @return 找到的公式, 没有登记时为空
+     * @throws NullPointerException 当 id 为 null 时
+     */
+    public static Optional< Equation > findById( String id ){
+        Objects.requireNonNull( id, "参数 id( 公式标识 )不能为 null" );
+        return Optional.ofNullable( EQUATIONS_BY_ID.get( id ) );
+    }
+
+    /**
+     * 批量评分: 用计算指定健康指标的每个公式计算整批输入, 第 k 个公式的结果写入 out[ k ]
+     *
+     * @param metric 健康指标
+     * @param columns 输入列( 需包含这些公式声明的全部输入 )
+     * @param out 输出矩阵, 行数 = 公式数, 每行长度 = 输入列长度
+     * @throws NullPointerException 当任意参数或需要的列为 null 时
+     * @throws IllegalArgumentException 当 out 的行数与公式数不一致, 或列长度不一致、元素不在有效范围时
+     */
+    public static void evaluateAll( HealthMetric metric, BodyColumns columns, double[][] out ){
+        List< Equation > equations = getEquations( metric );
+        Objects.requireNonNull( columns, "参数 columns( 输入列 )不能为 null" );
+        MethodParameterValidator.validateMatrixRows( out, equations.size() );
+        for ( int k = 0; k < equations.size(); k++ ){
+            equations.get( k ).evaluate( columns, out[ k ] );
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.vector;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+
+/**
+ * 线性公式族的系数( 按年龄段、性别分组 ), 供 {@link VectorEquationKernel } 逐列计算
+ * <pre>
+ *     结果 = ( x 系数 * x + y 系数 * y + 年龄系数 * 年龄 + 性别项 + 常数项 ) * 结果换算系数
+ *     各项的运算顺序与 BMR、BFR 计算通式一致, 所以逐元素结果与标量计算逐位一致:
+ *          BMR: x = 体重, y = 身高, 性别项 = 0
+ *          BFR: x = BMI, 无 y, 性别项 = 性别系数 * 性别代码( 女0 男1 )
+ *     系数数组下标 = 年龄段( 年龄 < 分界年龄为 0, 否则为 1 ) * 2 + 性别代码
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 13:00
+ */
+final class LinearForm {
+    // ==================== 常量 ====================
+
+
+    // ==================== 实例变量 ====================
+    /** 分界年龄, 年龄 ≥ 该值时使用第二个年龄段的系数 */
+    final int ageThreshold;
+    /** x 项系数 */
+    final double[] xCoefficients;
+    /** y 项系数 */
+    final double[] yCoefficients;
+    /** 年龄项系数 */
+    final double[] ageCoefficients;
+    /** 性别项( 性别系数 * 性别代码 ) */
+    final double[] genderTerms;
+    /** 常数项 */
+    final double[] constTerms;
+    /** 结果换算系数( 如 KJ → Kcal ), 不换算时为 1 */
+    final double resultScale;
+
+
+    // ==================== 构造器 ====================
+    private LinearForm( int ageThreshold, double[] xCoefficients, double[] yCoefficients, double[] ageCoefficients,
+                        double[] genderTerms, double[] constTerms, double resultScale ){
+        this.ageThreshold = ageThreshold;
+        this.xCoefficients = xCoefficients;
+        this.yCoefficients = yCoefficients;
+        this.ageCoefficients = ageCoefficients;
+        this.genderTerms = genderTerms;
+        this.constTerms = constTerms;
+        this.resultScale = resultScale;
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 创建只按性别区分系数的线性公式, 每个数组形如 { 女性系数, 男性系数 }
+     *
+     * @param xCoefficients x 项系数
+     * @param yCoefficients y 项系数( 无 y 项时传 { 0, 0 } )
+     * @param ageCoefficients 年龄项系数( 无年龄项时传 { 0, 0 } )
+     * @param genderTerms 性别项
+     * @param constTerms 常数项
+     * @param resultScale 结果换算系数
+     * @return 线性公式系数
+     */
+    static LinearForm byGender( double[] xCoefficients, double[] yCoefficients, double[] ageCoefficients,
+                                double[] genderTerms, double[] constTerms, double resultScale ){
+        return new LinearForm( Integer.MIN_VALUE,
+                repeatForBothAgeGroups( xCoefficients ), repeatForBothAgeGroups( yCoefficients ),
+                repeatForBothAgeGroups( ageCoefficients ), repeatForBothAgeGroups( genderTerms ),
+                repeatForBothAgeGroups( constTerms ), resultScale );
+    }
+
+    /**
+     * 以分界年龄拼接两个只按性别区分系数的线性公式
+     *
+     * @param ageThreshold 分界年龄
+     * @param belowThreshold 年龄 &lt; 分界年龄时使用的公式
+     * @param atOrAboveThreshold 年龄 ≥ 分界年龄时使用的公式
+     * @return 线性公式系数
+     */
+    static LinearForm byGenderAndAge( int ageThreshold, LinearForm belowThreshold, LinearForm atOrAboveThreshold ){
+        return new LinearForm( ageThreshold,
+                concatAgeGroups( belowThreshold.xCoefficients, atOrAboveThreshold.xCoefficients ),
+                concatAgeGroups( belowThreshold.yCoefficients, atOrAboveThreshold.yCoefficients ),
+                concatAgeGroups( belowThreshold.ageCoefficients, atOrAboveThreshold.ageCoefficients ),
+                concatAgeGroups( belowThreshold.genderTerms, atOrAboveThreshold.genderTerms ),
+                concatAgeGroups( belowThreshold.constTerms, atOrAboveThreshold.constTerms ),
+                atOrAboveThreshold.resultScale );
+    }
+
+    /**
+     * 计算 BFR 公式的性别项 { 性别系数 * 女性代码, 性别系数 * 男性代码 }
+     *
+     * @param genderCoefficient 性别系数
+     * @return 性别项
+     */
+    static double[] genderTermsOf( double genderCoefficient ){
+        return new double[]{ genderCoefficient * Gender.FEMALE.getCode(), genderCoefficient * Gender.MALE.getCode() };
+    }
+
+    /**
+     * 判断公式是否按年龄段区分系数
+     *
+     * @return 区分返回 true, 否则返回 false
+     */
+    boolean isAgeDependent(){
+        return ageThreshold != Integer.MIN_VALUE;
+    }
+
+    /**
+     * 计算分组下标
+     *
+     * @param age 年龄
+     * @param genderCode 性别代码( 女0 男1 )
+     * @return 系数数组下标
+     */
+    int groupOf( int age, int genderCode ){
+        return ( age >= ageThreshold ? 2 : 0 ) + genderCode;
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    private static double[] repeatForBothAgeGroups( double[] byGender ){
+        return new double[]{ byGender[ 0 ], byGender[ 1 ], byGender[ 0 ], byGender[ 1 ] };
+    }
+
+    private static double[] concatAgeGroups( double[] below, double[] atOrAbove ){
+        return new double[]{ below[ 0 ], below[ 1 ], atOrAbove[ 2 ], atOrAbove[ 3 ] };
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.vector;
+
+/**
+ * 幂函数公式族( BSA )的系数( 按性别分组 ), 供 {@link VectorEquationKernel } 在对数空间逐列计算
+ * <pre>
+ *     BSA = 系数 * 身高^身高指数 * 体重^体重指数
+ *         = exp( ln 系数 + 身高指数 * ln 身高 + 体重指数 * ln 体重 )
+ *     系数数组下标 = 性别代码( 女0 男1 )
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 13:00
+ */
+final class PowerLaw {
+    // ==================== 实例变量 ====================
+    /** 幂函数系数的自然对数 */
+    final double[] logCoefficients;
+    /** 身高指数 */
+    final double[] heightExponents;
+    /** 体重指数 */
+    final double[] weightExponents;
+
+
+    // ==================== 构造器 ====================
+    private PowerLaw( double[] logCoefficients, double[] heightExponents, double[] weightExponents ){
+        this.logCoefficients = logCoefficients;
+        this.heightExponents = heightExponents;
+        this.weightExponents = weightExponents;
+    }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 创建不区分性别的幂函数公式
+     *
+     * @param coefficient 幂函数系数
+     * @param heightExponent 身高指数
+     * @param weightExponent 体重指数
+     * @return 幂函数公式系数
+     */
+    static PowerLaw of( double coefficient, double heightExponent, double weightExponent ){
+        return byGender( new double[]{ coefficient, coefficient },
+                new double[]{ heightExponent, heightExponent }, new double[]{ weightExponent, weightExponent } );
+    }
+
+    /**
+     * 创建按性别区分系数的幂函数公式, 每个数组形如 { 女性系数, 男性系数 }
+     *
+     * @param coefficients 幂函数系数
+     * @param heightExponents 身高指数
+     * @param weightExponents 体重指数
+     * @return 幂函数公式系数
+     */
+    static PowerLaw byGender( double[] coefficients, double[] heightExponents, double[] weightExponents ){
+        double[] logCoefficients = { Math.log( coefficients[ 0 ] ), Math.log( coefficients[ 1 ] ) };
+        return new PowerLaw( logCoefficients, heightExponents.clone(), weightExponents.clone() );
+    }
+}
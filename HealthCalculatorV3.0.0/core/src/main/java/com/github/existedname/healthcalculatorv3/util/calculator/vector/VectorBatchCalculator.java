@@ -0,0 +1,535 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.vector;
+
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BFRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BSACalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.constant.BFRCalculatorConstants;
+import com.github.existedname.healthcalculatorv3.util.calculator.constant.BMRCalculatorConstants;
+import com.github.existedname.healthcalculatorv3.util.calculator.constant.BSACalculatorConstants;
+import com.github.existedname.healthcalculatorv3.util.convertor.UnitConvertor;
+import com.github.existedname.healthcalculatorv3.util.validator.BasicBodyParameterValidator;
+import com.github.existedname.healthcalculatorv3.util.validator.HealthMetricValidator;
+import com.github.existedname.healthcalculatorv3.util.validator.MethodParameterValidator;
+
+import java.util.Objects;
+
+/**
+ * 向量化批量计算器工具类, 以 SIMD( jdk.incubator.vector )计算线性公式族( BMR、BFR )和幂函数公式族( BSA )的整列数据
+ * <pre>
+ *     向量后端是可选的: 只有在启动参数带上 --add-modules jdk.incubator.vector 时才会启用,
+ *     否则( 或者设置了 -Dhealthcalculatorv3.vector=false )自动回退到 basic 包中各计算器的标量批量方法
+ *
+ *     方法签名、参数检验、异常与 basic 包中同名的批量方法一致;
+ *     线性公式( BMR、BFR )的结果与标量计算逐位一致,
+ *     幂函数公式( BSA )在对数空间计算 exp( a + b·ln h + c·ln w ), 与 Math.pow 存在舍入级别的差异
+ *
+ *     需要按年龄段( 多于两段 )查系数的公式( Henry、Schofield、基于 BSA 的 BMR )、
+ *     非线性的公式( Gallagher 版本Ⅱ、美国海军公式、Katch-McArdle )暂不提供向量版本, 请直接使用 basic 包
+ *
+ *     适用范围位图( retainRange ): 逐通道比较数值是否在范围内, 比较结果直接写入 long 位图, 供批量对比跳过不适用的行
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 14:00
+ */
+public final class VectorBatchCalculator {
+    // ==================== 常量 ====================
+    /** 向量孵化模块名 */
+    public static final String VECTOR_MODULE_NAME = "jdk.incubator.vector";
+    /** 开关向量后端的系统属性名( 值为 false 时强制使用标量后端 ) */
+    public static final String VECTOR_ENABLED_PROPERTY = "healthcalculatorv3.vector";
+    /** 标量后端的名称 */
+    public static final String SCALAR_BACKEND_NAME = "scalar";
+
+    /*      线性公式族( 系数数组形如 { 女性, 男性 } )      */
+    private static final double[] NONE = { 0, 0 };
+
+    private static final LinearForm MSJ_EQUATION = LinearForm.byGender(
+            new double[]{ BMRCalculatorConstants.MSJEquation.Female.WEIGHT_COEFFICIENT, BMRCalculatorConstants.MSJEquation.Male.WEIGHT_COEFFICIENT },
+            new double[]{ BMRCalculatorConstants.MSJEquation.Female.HEIGHT_COEFFICIENT, BMRCalculatorConstants.MSJEquation.Male.HEIGHT_COEFFICIENT },
+            new double[]{ BMRCalculatorConstants.MSJEquation.Female.AGE_COEFFICIENT, BMRCalculatorConstants.MSJEquation.Male.AGE_COEFFICIENT },
+            NONE,
+            new double[]{ BMRCalculatorConstants.MSJEquation.Female.CONST_TERM, BMRCalculatorConstants.MSJEquation.Male.CONST_TERM },
+            1 );
+
+    private static final LinearForm HB_EQUATION = LinearForm.byGender(
+            new double[]{ BMRCalculatorConstants.HBEquation.Female.WEIGHT_COEFFICIENT, BMRCalculatorConstants.HBEquation.Male.WEIGHT_COEFFICIENT },
+            new double[]{ BMRCalculatorConstants.HBEquation.Female.HEIGHT_COEFFICIENT, BMRCalculatorConstants.HBEquation.Male.HEIGHT_COEFFICIENT },
+            new double[]{ BMRCalculatorConstants.HBEquation.Female.AGE_COEFFICIENT, BMRCalculatorConstants.HBEquation.Male.AGE_COEFFICIENT },
+            NONE,
+            new double[]{ BMRCalculatorConstants.HBEquation.Female.CONST_TERM, BMRCalculatorConstants.HBEquation.Male.CONST_TERM },
+            1 );
+
+    private static final LinearForm SHIZGAL_ROSA_EQUATION = LinearForm.byGender(
+            new double[]{ BMRCalculatorConstants.ShizgalRosaEquation.Female.WEIGHT_COEFFICIENT, BMRCalculatorConstants.ShizgalRosaEquation.Male.WEIGHT_COEFFICIENT },
+            new double[]{ BMRCalculatorConstants.ShizgalRosaEquation.Female.HEIGHT_COEFFICIENT, BMRCalculatorConstants.ShizgalRosaEquation.Male.HEIGHT_COEFFICIENT },
+            new double[]{ BMRCalculatorConstants.ShizgalRosaEquation.Female.AGE_COEFFICIENT, BMRCalculatorConstants.ShizgalRosaEquation.Male.AGE_COEFFICIENT },
+            NONE,
+            new double[]{ BMRCalculatorConstants.ShizgalRosaEquation.Female.CONST_TERM, BMRCalculatorConstants.ShizgalRosaEquation.Male.CONST_TERM },
+            UnitConvertor.Constants.HeatQuantity.JOULE_TO_CALORIE ); // KJ → Kcal
+
+    private static final LinearForm MAO_EQUATION = LinearForm.byGender(
+            new double[]{ BMRCalculatorConstants.MaoEquation.Female.WEIGHT_COEFFICIENT, BMRCalculatorConstants.MaoEquation.Male.WEIGHT_COEFFICIENT },
+            NONE, NONE, NONE,
+            new double[]{ BMRCalculatorConstants.MaoEquation.Female.CONST_TERM, BMRCalculatorConstants.MaoEquation.Male.CONST_TERM },
+            UnitConvertor.Constants.HeatQuantity.JOULE_TO_CALORIE ); // KJ → Kcal
+
+    private static final LinearForm DEURENBERG_EQUATION = LinearForm.byGenderAndAge( BFRCalculatorConstants.DeurenbergEquation.ADULT_MIN_AGE,
+            bfrLinearForm( BFRCalculatorConstants.DeurenbergEquation.Child.BMI_COEFFICIENT,
+                    BFRCalculatorConstants.DeurenbergEquation.Child.AGE_COEFFICIENT,
+                    BFRCalculatorConstants.DeurenbergEquation.Child.GENDER_COEFFICIENT,
+                    BFRCalculatorConstants.DeurenbergEquation.Child.CONST_TERM ),
+            bfrLinearForm( BFRCalculatorConstants.DeurenbergEquation.Adult.BMI_COEFFICIENT,
+                    BFRCalculatorConstants.DeurenbergEquation.Adult.AGE_COEFFICIENT,
+                    BFRCalculatorConstants.DeurenbergEquation.Adult.GENDER_COEFFICIENT,
+                    BFRCalculatorConstants.DeurenbergEquation.Adult.CONST_TERM ) );
+
+    private static final LinearForm GALLAGHER_EQUATION_1 = bfrLinearForm(
+            BFRCalculatorConstants.GallagherEquation.Version1.BMI_COEFFICIENT,
+            BFRCalculatorConstants.GallagherEquation.Version1.AGE_COEFFICIENT,
+            BFRCalculatorConstants.GallagherEquation.Version1.GENDER_COEFFICIENT,
+            BFRCalculatorConstants.GallagherEquation.Version1.CONST_TERM );
+
+    private static final LinearForm JACKSON_POLLOCK_SIMPLIFIED_EQUATION = bfrLinearForm(
+            BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.BMI_COEFFICIENT,
+            BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.AGE_COEFFICIENT,
+            BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.GENDER_COEFFICIENT,
+            BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.CONST_TERM );
+
+    /*      幂函数公式族      */
+    private static final PowerLaw DU_BOIS_EQUATION = PowerLaw.of(
+            BSACalculatorConstants.DuBoisEquation.POWER_FUNCTION_COEFFICIENT,
+            BSACalculatorConstants.DuBoisEquation.HEIGHT_EXPONENT,
+            BSACalculatorConstants.DuBoisEquation.WEIGHT_EXPONENT );
+
+    private static final PowerLaw HAYCOCK_EQUATION = PowerLaw.of(
+            BSACalculatorConstants.HaycockEquation.POWER_FUNCTION_COEFFICIENT,
+            BSACalculatorConstants.HaycockEquation.HEIGHT_EXPONENT,
+            BSACalculatorConstants.HaycockEquation.WEIGHT_EXPONENT );
+
+    private static final PowerLaw MOSTELLER_EQUATION = PowerLaw.of(
+            BSACalculatorConstants.MostellerEquation.POWER_FUNCTION_COEFFICIENT,
+            BSACalculatorConstants.MostellerEquation.HEIGHT_EXPONENT,
+            BSACalculatorConstants.MostellerEquation.WEIGHT_EXPONENT );
+
+    private static final PowerLaw SCHLICH_EQUATION = PowerLaw.byGender(
+            new double[]{ BSACalculatorConstants.SchlichEquation.Female.POWER_FUNCTION_COEFFICIENT, BSACalculatorConstants.SchlichEquation.Male.POWER_FUNCTION_COEFFICIENT },
+            new double[]{ BSACalculatorConstants.SchlichEquation.Female.HEIGHT_EXPONENT, BSACalculatorConstants.SchlichEquation.Male.HEIGHT_EXPONENT },
+            new double[]{ BSACalculatorConstants.SchlichEquation.Female.WEIGHT_EXPONENT, BSACalculatorConstants.SchlichEquation.Male.WEIGHT_EXPONENT } );
+
+
+    // ==================== 静态变量 ====================
+    /** 向量后端是否可用( 类加载时检测一次 ) */
+    private static final boolean VECTOR_BACKEND_AVAILABLE = detectVectorBackend();
+
+
+    // ==================== 构造器 ====================
+    private VectorBatchCalculator(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 判断向量后端是否可用
+     *
+     * @return 可用返回 true, 否则( 将回退到标量后端 )返回 false
+     */
+    public static boolean isVectorBackendAvailable(){
+        return VECTOR_BACKEND_AVAILABLE;
+    }
+
+    /**
+     * 获取当前使用的后端名称
+     *
+     * @return 向量后端返回向量种类描述( 如 "Species[double, 4, S_256_BIT]" ), 否则返回 {@link #SCALAR_BACKEND_NAME }
+     */
+    public static String getBackendName(){
+        return VECTOR_BACKEND_AVAILABLE ? VectorEquationKernel.getSpeciesDescription() : SCALAR_BACKEND_NAME;
+    }
+
+
+    /*      BMR( 线性公式族 )      */
+    /**
+     * 批量使用 Mifflin-St Jeor( MSJ ) 公式计算 BMR, <B>单位: kcal</B>
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param weights 体重列, 单位: kg
+     * @param heights 身高列, 单位: cm
+     * @param ages 年龄列
+     * @param out 输出列, 存放每个下标对应的 BMR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see BMRCalculator#calculateBMRByMSJEquation( byte[], double[], double[], int[], double[] )
+     */
+    public static void calculateBMRByMSJEquation( byte[] genderCodes, double[] weights, double[] heights, int[] ages, double[] out ){
+        if ( !VECTOR_BACKEND_AVAILABLE ){
+            BMRCalculator.calculateBMRByMSJEquation( genderCodes, weights, heights, ages, out );
+            return;
+        }
+        validateBMRParameters( genderCodes, weights, heights, ages, out );
+        VectorEquationKernel.evaluateLinearForm( MSJ_EQUATION, genderCodes, weights, heights, ages, out );
+    }
+
+    /**
+     * 批量使用 Harris-Benedict( H-B ) 公式计算 BMR, <B>单位: kcal</B>
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param weights 体重列, 单位: kg
+     * @param heights 身高列, 单位: cm
+     * @param ages 年龄列
+     * @param out 输出列, 存放每个下标对应的 BMR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see BMRCalculator#calculateBMRByHBEquation( byte[], double[], double[], int[], double[] )
+     */
+    public static void calculateBMRByHBEquation( byte[] genderCodes, double[] weights, double[] heights, int[] ages, double[] out ){
+        if ( !VECTOR_BACKEND_AVAILABLE ){
+            BMRCalculator.calculateBMRByHBEquation( genderCodes, weights, heights, ages, out );
+            return;
+        }
+        validateBMRParameters( genderCodes, weights, heights, ages, out );
+        VectorEquationKernel.evaluateLinearForm( HB_EQUATION, genderCodes, weights, heights, ages, out );
+    }
+
+    /**
+     * 批量使用 Shizgal-Rosa 公式计算 BMR, <B>单位: kcal</B>
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param weights 体重列, 单位: kg
+     * @param heights 身高列, 单位: cm
+     * @param ages 年龄列
+     * @param out 输出列, 存放每个下标对应的 BMR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see BMRCalculator#calculateBMRByShizgalRosaEquation( byte[], double[], double[], int[], double[] )
+     */
+    public static void calculateBMRByShizgalRosaEquation( byte[] genderCodes, double[] weights, double[] heights, int[] ages, double[] out ){
+        if ( !VECTOR_BACKEND_AVAILABLE ){
+            BMRCalculator.calculateBMRByShizgalRosaEquation( genderCodes, weights, heights, ages, out );
+            return;
+        }
+        validateBMRParameters( genderCodes, weights, heights, ages, out );
+        VectorEquationKernel.evaluateLinearForm( SHIZGAL_ROSA_EQUATION, genderCodes, weights, heights, ages, out );
+    }
+
+    /**
+     * 批量使用 毛德倩 公式计算 BMR, <B>单位: kcal</B>
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param weights 体重列, 单位: kg
+     * @param out 输出列, 存放每个下标对应的 BMR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see BMRCalculator#calculateBMRByMaoEquation( byte[], double[], double[] )
+     */
+    public static void calculateBMRByMaoEquation( byte[] genderCodes, double[] weights, double[] out ){
+        if ( !VECTOR_BACKEND_AVAILABLE ){
+            BMRCalculator.calculateBMRByMaoEquation( genderCodes, weights, out );
+            return;
+        }
+        BasicBodyParameterValidator.validateGender( genderCodes );
+        BasicBodyParameterValidator.validateWeight( weights );
+        MethodParameterValidator.validateColumnLengths( out, genderCodes.length, weights.length );
+        VectorEquationKernel.evaluateLinearForm( MAO_EQUATION, genderCodes, weights, null, null, out );
+    }
+
+
+    /*      BFR( 线性公式族 )      */
+    /**
+     * 批量使用 Deurenberg 公式计算 BFR, <B>单位: %</B>
+     *
+     * @param bmis BMI 列
+     * @param ages 年龄列
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param out 输出列, 存放每个下标对应的 BFR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see BFRCalculator#calculateBFRByDeurenbergEquation( double[], int[], byte[], double[] )
+     */
+    public static void calculateBFRByDeurenbergEquation( double[] bmis, int[] ages, byte[] genderCodes, double[] out ){
+        if ( !VECTOR_BACKEND_AVAILABLE ){
+            BFRCalculator.calculateBFRByDeurenbergEquation( bmis, ages, genderCodes, out );
+            return;
+        }
+        validateBFRParameters( bmis, ages, genderCodes, out );
+        VectorEquationKernel.evaluateLinearForm( DEURENBERG_EQUATION, genderCodes, bmis, null, ages, out );
+    }
+
+    /**
+     * 批量使用 Gallagher 公式版本Ⅰ计算 BFR, <B>单位: %</B>
+     *
+     * @param bmis BMI 列
+     * @param ages 年龄列
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param out 输出列, 存放每个下标对应的 BFR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see BFRCalculator#calculateBFRByGallagherEquation1( double[], int[], byte[], double[] )
+     */
+    public static void calculateBFRByGallagherEquation1( double[] bmis, int[] ages, byte[] genderCodes, double[] out ){
+        if ( !VECTOR_BACKEND_AVAILABLE ){
+            BFRCalculator.calculateBFRByGallagherEquation1( bmis, ages, genderCodes, out );
+            return;
+        }
+        validateBFRParameters( bmis, ages, genderCodes, out );
+        VectorEquationKernel.evaluateLinearForm( GALLAGHER_EQUATION_1, genderCodes, bmis, null, ages, out );
+    }
+
+    /**
+     * 批量使用 Jackson-Pollock 公式简化版本计算 BFR, <B>单位: %</B>
+     *
+     * @param bmis BMI 列
+     * @param ages 年龄列
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param out 输出列, 存放每个下标对应的 BFR
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see BFRCalculator#calculateBFRByJacksonPollockSimplifiedEquation( double[], int[], byte[], double[] )
+     */
+    public static void calculateBFRByJacksonPollockSimplifiedEquation( double[] bmis, int[] ages, byte[] genderCodes, double[] out ){
+        if ( !VECTOR_BACKEND_AVAILABLE ){
+            BFRCalculator.calculateBFRByJacksonPollockSimplifiedEquation( bmis, ages, genderCodes, out );
+            return;
+        }
+        validateBFRParameters( bmis, ages, genderCodes, out );
+        VectorEquationKernel.evaluateLinearForm( JACKSON_POLLOCK_SIMPLIFIED_EQUATION, genderCodes, bmis, null, ages, out );
+    }
+
+
+    /*      BSA( 幂函数公式族 )      */
+    /**
+     * 批量使用 Du Bois 公式计算 BSA, <B>单位: m²</B>
+     *
+     * @param heights 身高列, 单位: cm
+     * @param weights 体重列, 单位: kg
+     * @param out 输出列, 存放每个下标对应的 BSA
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see BSACalculator#calculateBSAByDuBoisEquation( double[], double[], double[] )
+     */
+    public static void calculateBSAByDuBoisEquation( double[] heights, double[] weights, double[] out ){
+        if ( !VECTOR_BACKEND_AVAILABLE ){
+            BSACalculator.calculateBSAByDuBoisEquation( heights, weights, out );
+            return;
+        }
+        validateBSAParameters( heights, weights, out );
+        VectorEquationKernel.evaluatePowerLaw( DU_BOIS_EQUATION, null, heights, weights, out );
+    }
+
+    /**
+     * 批量使用 Haycock 公式计算 BSA, <B>单位: m²</B>
+     *
+     * @param heights 身高列, 单位: cm
+     * @param weights 体重列, 单位: kg
+     * @param out 输出列, 存放每个下标对应的 BSA
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see BSACalculator#calculateBSAByHaycockEquation( double[], double[], double[] )
+     */
+    public static void calculateBSAByHaycockEquation( double[] heights, double[] weights, double[] out ){
+        if ( !VECTOR_BACKEND_AVAILABLE ){
+            BSACalculator.calculateBSAByHaycockEquation( heights, weights, out );
+            return;
+        }
+        validateBSAParameters( heights, weights, out );
+        VectorEquationKernel.evaluatePowerLaw( HAYCOCK_EQUATION, null, heights, weights, out );
+    }
+
+    /**
+     * 批量使用 Mosteller 公式计算 BSA, <B>单位: m²</B>
+     *
+     * @param heights 身高列, 单位: cm
+     * @param weights 体重列, 单位: kg
+     * @param out 输出列, 存放每个下标对应的 BSA
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see BSACalculator#calculateBSAByMostellerEquation( double[], double[], double[] )
+     */
+    public static void calculateBSAByMostellerEquation( double[] heights, double[] weights, double[] out ){
+        if ( !VECTOR_BACKEND_AVAILABLE ){
+            BSACalculator.calculateBSAByMostellerEquation( heights, weights, out );
+            return;
+        }
+        validateBSAParameters( heights, weights, out );
+        VectorEquationKernel.evaluatePowerLaw( MOSTELLER_EQUATION, null, heights, weights, out );
+    }
+
+    /**
+     * 批量使用 Schlich 公式计算 BSA, <B>单位: m²</B>
+     *
+     * @param genderCodes 性别代码列( 女0 男1 )
+     * @param heights 身高列, 单位: cm
+     * @param weights 体重列, 单位: kg
+     * @param out 输出列, 存放每个下标对应的 BSA
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     * @see BSACalculator#calculateBSABySchlichEquation( byte[], double[], double[], double[] )
+     */
+    public static void calculateBSABySchlichEquation( byte[] genderCodes, double[] heights, double[] weights, double[] out ){
+        if ( !VECTOR_BACKEND_AVAILABLE ){
+            BSACalculator.calculateBSABySchlichEquation( genderCodes, heights, weights, out );
+            return;
+        }
+        BasicBodyParameterValidator.validateGender( genderCodes );
+        validateBSAParameters( heights, weights, out );
+        MethodParameterValidator.validateColumnLengths( out, genderCodes.length );
+        VectorEquationKernel.evaluatePowerLaw( SCHLICH_EQUATION, genderCodes, heights, weights, out );
+    }
+
+
+    /*      适用范围位图      */
+    /**
+     * 批量检验数值列是否在[ minValue, maxValue ]内, 不在范围内的行把位图中对应的位清零( 已清零的位保持不变 )
+     *
+     * @param values 数值列, 如年龄列
+     * @param minValue 最小值
+     * @param maxValue 最大值
+     * @param words 位图, 第 row 行对应 words[ row / 64 ] 的第 row % 64 位
+     * @param length 检验的行数( 前 length 行 )
+     *
+     * @throws NullPointerException 当 values 或 words 为 null 时
+     * @throws IllegalArgumentException 当 length 为负数或超过 values、words 的容量时
+     */
+    public static void retainRange( int[] values, int minValue, int maxValue, long[] words, int length ){
+        Objects.requireNonNull( values, "参数 values( 数值列 )不能为 null" );
+        validateMaskParameters( values.length, words, length );
+        if ( VECTOR_BACKEND_AVAILABLE ){
+            VectorEquationKernel.retainRange( values, minValue, maxValue, words, length );
+            return;
+        }
+        for ( int i = 0; i < length; i++ ){
+            if ( values[ i ] < minValue || values[ i ] > maxValue ) words[ i >>> 6 ] &= ~( 1L << i );
+        }
+    }
+
+    /**
+     * 批量检验数值列是否在[ minValue, maxValue ]内( NaN 不在范围内 ), 不在范围内的行把位图中对应的位清零
+     *
+     * @param values 数值列, 如 BMI 列、腰围列
+     * @param minValue 最小值
+     * @param maxValue 最大值
+     * @param words 位图, 第 row 行对应 words[ row / 64 ] 的第 row % 64 位
+     * @param length 检验的行数( 前 length 行 )
+     *
+     * @throws NullPointerException 当 values 或 words 为 null 时
+     * @throws IllegalArgumentException 当 length 为负数或超过 values、words 的容量时
+     */
+    public static void retainRange( double[] values, double minValue, double maxValue, long[] words, int length ){
+        Objects.requireNonNull( values, "参数 values( 数值列 )不能为 null" );
+        validateMaskParameters( values.length, words, length );
+        if ( VECTOR_BACKEND_AVAILABLE ){
+            VectorEquationKernel.retainRange( values, minValue, maxValue, words, length );
+            return;
+        }
+        for ( int i = 0; i < length; i++ ){
+            if ( !( minValue <= values[ i ] && values[ i ] <= maxValue ) ) words[ i >>> 6 ] &= ~( 1L << i );
+        }
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 检测向量后端是否可用: 系统属性未关闭、孵化模块已解析到启动层、内核类能够成功初始化
+     *
+     * @return 可用返回 true, 否则返回 false
+     */
+    private static boolean detectVectorBackend(){
+        if ( !Boolean.parseBoolean( System.getProperty( VECTOR_ENABLED_PROPERTY, "true" ) ) ){
+            return false;
+        }
+        if ( ModuleLayer.boot().findModule( VECTOR_MODULE_NAME ).isEmpty() ){
+            return false;
+        }
+        try {
+            Class.forName( VectorEquationKernel.class.getName(), true, VectorBatchCalculator.class.getClassLoader() );
+            return true;
+        } catch ( ClassNotFoundException | LinkageError e ){
+            return false;
+        }
+    }
+
+    /**
+     * 由 BFR 计算通式的系数创建线性公式: BMI 系数 * BMI + 年龄系数 * 年龄 + 性别系数 * 性别代码 + 常数项
+     *
+     * @param bmiCoefficient BMI 项的系数
+     * @param ageCoefficient 年龄项的系数
+     * @param genderCoefficient 性别项的系数
+     * @param constTerm 常数项
+     * @return 线性公式系数
+     */
+    private static LinearForm bfrLinearForm( double bmiCoefficient, double ageCoefficient, double genderCoefficient, double constTerm ){
+        return LinearForm.byGender(
+                new double[]{ bmiCoefficient, bmiCoefficient },
+                NONE,
+                new double[]{ ageCoefficient, ageCoefficient },
+                LinearForm.genderTermsOf( genderCoefficient ),
+                new double[]{ constTerm, constTerm },
+                1 );
+    }
+
+    /**
+     * 检验 BMR 批量计算的参数列
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     */
+    private static void validateBMRParameters( byte[] genderCodes, double[] weights, double[] heights, int[] ages, double[] out ){
+        BasicBodyParameterValidator.validateGender( genderCodes );
+        BasicBodyParameterValidator.validateWeight( weights );
+        BasicBodyParameterValidator.validateHeight( heights );
+        BasicBodyParameterValidator.validateAge( ages );
+        MethodParameterValidator.validateColumnLengths( out, genderCodes.length, weights.length, heights.length, ages.length );
+    }
+
+    /**
+     * 检验 BFR 批量计算的参数列
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     */
+    private static void validateBFRParameters( double[] bmis, int[] ages, byte[] genderCodes, double[] out ){
+        BasicBodyParameterValidator.validateGender( genderCodes );
+        BasicBodyParameterValidator.validateAge( ages );
+        HealthMetricValidator.validateBMI( bmis );
+        MethodParameterValidator.validateColumnLengths( out, bmis.length, ages.length, genderCodes.length );
+    }
+
+    /**
+     * 检验 BSA 批量计算的参数列
+     *
+     * @throws NullPointerException 当任意列为 null 时
+     * @throws IllegalArgumentException 当列长度不一致或任意元素不在有效范围时
+     */
+    private static void validateBSAParameters( double[] heights, double[] weights, double[] out ){
+        BasicBodyParameterValidator.validateHeight( heights );
+        BasicBodyParameterValidator.validateWeight( weights );
+        MethodParameterValidator.validateColumnLengths( out, heights.length, weights.length );
+    }
+
+    /**
+     * 检验位图范围检验的参数
+     *
+     * @throws NullPointerException 当 words 为 null 时
+     * @throws IllegalArgumentException 当 length 为负数或超过数值列长度、位图容量时
+     */
+    private static void validateMaskParameters( int valueCount, long[] words, int length ){
+        Objects.requireNonNull( words, "参数 words( 位图 )不能为 null" );
+        if ( length < 0 || length > valueCount || length > ( long ) words.length * Long.SIZE ){
+            throw new IllegalArgumentException(
+                    String.format( "参数错误: length( %d )必须在 0 到数值列长度( %d )与位图容量( %d )之间",
+                            length, valueCount, ( long ) words.length * Long.SIZE )
+            );
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.vector;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * 基于 jdk.incubator.vector 的公式计算内核, 以 {@link DoubleVector } 的通道并行计算整列数据
+ * <pre>
+ *     这是包内唯一引用孵化模块的类, 只有在 {@link VectorBatchCalculator } 确认模块可用后才会被加载;
+ *     线性公式: 逐通道的乘、加顺序与标量通式一致, 结果与标量计算逐位一致
+ *     幂函数公式: 在对数空间计算 exp( a + b·ln h + c·ln w ), 与 Math.pow 的结果存在舍入级别( 约 1e-15 相对误差 )的差异
+ *     尾部不足一个向量长度的元素按相同公式逐个计算
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 13:30
+ */
+final class VectorEquationKernel {
+    // ==================== 常量 ====================
+    /** 双精度向量种类( 当前平台的首选长度, AVX2 为 4 通道, AVX-512 为 8 通道 ) */
+    private static final VectorSpecies< Double > SPECIES = DoubleVector.SPECIES_PREFERRED;
+    /** 与双精度向量通道数相同的整型向量种类, 用于加载年龄列后转换为 double */
+    private static final VectorSpecies< Integer > AGE_SPECIES =
+            VectorSpecies.of( int.class, VectorShape.forBitSize( SPECIES.vectorBitSize() / 2 ) );
+    /** 加载性别代码列的字节向量种类( 8 通道, 转换为 double 时只取前 SPECIES.length() 个 ) */
+    private static final VectorSpecies< Byte > GENDER_SPECIES = ByteVector.SPECIES_64;
+    /** 位图范围检验使用的整型向量种类( 通道数为 2 的幂且不超过 64, 一个向量的结果不会跨越两个 long ) */
+    private static final VectorSpecies< Integer > RANGE_INT_SPECIES = IntVector.SPECIES_PREFERRED;
+
+
+    // ==================== 构造器 ====================
+    private VectorEquationKernel(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 获取向量种类的描述, 如 "Species[double, 4, S_256_BIT]"
+     *
+     * @return 向量种类描述
+     */
+    static String getSpeciesDescription(){
+        return SPECIES.toString();
+    }
+
+    /**
+     * 逐列计算线性公式, 调用方负责检验参数
+     *
+     * @param form 线性公式系数
+     * @param genderCodes 性别代码列( 女0 男1 ), 公式不区分性别时可为 null
+     * @param x x 列
+     * @param y y 列, 无 y 项时为 null
+     * @param ages 年龄列, 无年龄项时为 null
+     * @param out 输出列
+     */
+    static void evaluateLinearForm( LinearForm form, byte[] genderCodes, double[] x, double[] y, int[] ages, double[] out ){
+        if ( form.isAgeDependent() ){
+            evaluateAgeDependentLinearForm( form, genderCodes, x, y, ages, out );
+        } else {
+            evaluateGenderDependentLinearForm( form, genderCodes, x, y, ages, out );
+        }
+        // 尾部逐个计算, 运算顺序与向量通道一致
+        for ( int i = loopBoundOf( out.length, genderCodes ); i < out.length; i++ ){
+            int group = form.groupOf( ages == null ? Integer.MAX_VALUE : ages[ i ], genderCodes == null ? 0 : genderCodes[ i ] );
+            double result = form.xCoefficients[ group ] * x[ i ];
+            if ( y != null ){
+                result = result + form.yCoefficients[ group ] * y[ i ];
+            }
+            if ( ages != null ){
+                result = result + form.ageCoefficients[ group ] * ages[ i ];
+            }
+            out[ i ] = ( result + form.genderTerms[ group ] + form.constTerms[ group ] ) * form.resultScale;
+        }
+    }
+
+    /**
+     * 在对数空间逐列计算幂函数公式, 调用方负责检验参数
+     *
+     * @param law 幂函数公式系数
+     * @param genderCodes 性别代码列( 女0 男1 ), 公式不区分性别时可为 null
+     * @param heights 身高列
+     * @param weights 体重列
+     * @param out 输出列
+     */
+    static void evaluatePowerLaw( PowerLaw law, byte[] genderCodes, double[] heights, double[] weights, double[] out ){
+        DoubleVector femaleLogCoefficient = DoubleVector.broadcast( SPECIES, law.logCoefficients[ 0 ] );
+        DoubleVector maleLogCoefficient = DoubleVector.broadcast( SPECIES, law.logCoefficients[ 1 ] );
+        DoubleVector femaleHeightExponent = DoubleVector.broadcast( SPECIES, law.heightExponents[ 0 ] );
+        DoubleVector maleHeightExponent = DoubleVector.broadcast( SPECIES, law.heightExponents[ 1 ] );
+        DoubleVector femaleWeightExponent = DoubleVector.broadcast( SPECIES, law.weightExponents[ 0 ] );
+        DoubleVector maleWeightExponent = DoubleVector.broadcast( SPECIES, law.weightExponents[ 1 ] );
+
+        int length = out.length;
+        int loopBound = loopBoundOf( length, genderCodes );
+        int i = 0;
+        for ( ; i < loopBound; i += SPECIES.length() ){
+            VectorMask< Double > isMale = loadMaleMask( genderCodes, i );
+            DoubleVector logHeight = DoubleVector.fromArray( SPECIES, heights, i ).lanewise( VectorOperators.LOG );
+            DoubleVector logWeight = DoubleVector.fromArray( SPECIES, weights, i ).lanewise( VectorOperators.LOG );
+            femaleLogCoefficient.blend( maleLogCoefficient, isMale )
+                    .add( femaleHeightExponent.blend( maleHeightExponent, isMale ).mul( logHeight ) )
+                    .add( femaleWeightExponent.blend( maleWeightExponent, isMale ).mul( logWeight ) )
+                    .lanewise( VectorOperators.EXP )
+                    .intoArray( out, i );
+        }
+
+        // 尾部逐个计算
+        for ( ; i < length; i++ ){
+            int genderCode = ( genderCodes == null ? 0 : genderCodes[ i ] );
+            out[ i ] = Math.exp( law.logCoefficients[ genderCode ]
+                    + law.heightExponents[ genderCode ] * Math.log( heights[ i ] )
+                    + law.weightExponents[ genderCode ] * Math.log( weights[ i ] ) );
+        }
+    }
+
+    /**
+     * 只保留数值在[ minValue, maxValue ]内的行: 不在范围内的行把位图中对应的位清零, 调用方负责检验参数
+     *
+     * @param values 数值列
+     * @param minValue 最小值
+     * @param maxValue 最大值
+     * @param words 位图, 第 row 行对应 words[ row / 64 ] 的第 row % 64 位
+     * @param length 行数
+     */
+    static void retainRange( int[] values, int minValue, int maxValue, long[] words, int length ){
+        long laneBits = laneBitsOf( RANGE_INT_SPECIES.length() );
+        int loopBound = RANGE_INT_SPECIES.loopBound( length );
+        int i = 0;
+        for ( ; i < loopBound; i += RANGE_INT_SPECIES.length() ){
+            IntVector v = IntVector.fromArray( RANGE_INT_SPECIES, values, i );
+            long inRange = v.compare( VectorOperators.GE, minValue ).and( v.compare( VectorOperators.LE, maxValue ) ).toLong();
+            words[ i >>> 6 ] &= ~( ( ~inRange & laneBits ) << ( i & 63 ) );
+        }
+        for ( ; i < length; i++ ){
+            if ( values[ i ] < minValue || values[ i ] > maxValue ) words[ i >>> 6 ] &= ~( 1L << i );
+        }
+    }
+
+    /**
+     * 只保留数值在[ minValue, maxValue ]内的行( NaN 不在范围内 ), 调用方负责检验参数
+     *
+     * @param values 数值列
+     * @param minValue 最小值
+     * @param maxValue 最大值
+     * @param words 位图, 第 row 行对应 words[ row / 64 ] 的第 row % 64 位
+     * @param length 行数
+     */
+    static void retainRange( double[] values, double minValue, double maxValue, long[] words, int length ){
+        long laneBits = laneBitsOf( SPECIES.length() );
+        int loopBound = SPECIES.loopBound( length );
+        int i = 0;
+        for ( ; i < loopBound; i += SPECIES.length() ){
+            DoubleVector v = DoubleVector.fromArray( SPECIES, values, i );
+            long inRange = v.compare( VectorOperators.GE, minValue ).and( v.compare( VectorOperators.LE, maxValue ) ).toLong();
+            words[ i >>> 6 ] &= ~( ( ~inRange & laneBits ) << ( i & 63 ) );
+        }
+        for ( ; i < length; i++ ){
+            if ( !( minValue <= values[ i ] && values[ i ] <= maxValue ) ) words[ i >>> 6 ] &= ~( 1L << i );
+        }
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 低 laneCount 位全为 1 的掩码
+     */
+    private static long laneBitsOf( int laneCount ){
+        return ( laneCount >= Long.SIZE ? -1L : ( 1L << laneCount ) - 1 );
+    }
+
+    /**
+     * 向量部分: 只按性别区分系数的线性公式( 系数向量放在局部变量中, 循环内只需一次混合 )
+     */
+    private static void evaluateGenderDependentLinearForm( LinearForm form, byte[] genderCodes, double[] x, double[] y, int[] ages, double[] out ){
+        DoubleVector femaleXCoefficient = DoubleVector.broadcast( SPECIES, form.xCoefficients[ 0 ] );
+        DoubleVector maleXCoefficient = DoubleVector.broadcast( SPECIES, form.xCoefficients[ 1 ] );
+        DoubleVector femaleYCoefficient = DoubleVector.broadcast( SPECIES, form.yCoefficients[ 0 ] );
+        DoubleVector maleYCoefficient = DoubleVector.broadcast( SPECIES, form.yCoefficients[ 1 ] );
+        DoubleVector femaleAgeCoefficient = DoubleVector.broadcast( SPECIES, form.ageCoefficients[ 0 ] );
+        DoubleVector maleAgeCoefficient = DoubleVector.broadcast( SPECIES, form.ageCoefficients[ 1 ] );
+        DoubleVector femaleGenderTerm = DoubleVector.broadcast( SPECIES, form.genderTerms[ 0 ] );
+        DoubleVector maleGenderTerm = DoubleVector.broadcast( SPECIES, form.genderTerms[ 1 ] );
+        DoubleVector femaleConstTerm = DoubleVector.broadcast( SPECIES, form.constTerms[ 0 ] );
+        DoubleVector maleConstTerm = DoubleVector.broadcast( SPECIES, form.constTerms[ 1 ] );
+
+        int loopBound = loopBoundOf( out.length, genderCodes );
+        for ( int i = 0; i < loopBound; i += SPECIES.length() ){
+            VectorMask< Double > isMale = loadMaleMask( genderCodes, i );
+            DoubleVector result = femaleXCoefficient.blend( maleXCoefficient, isMale ).mul( DoubleVector.fromArray( SPECIES, x, i ) );
+            if ( y != null ){
+                result = result.add( femaleYCoefficient.blend( maleYCoefficient, isMale ).mul( DoubleVector.fromArray( SPECIES, y, i ) ) );
+            }
+            if ( ages != null ){
+                result = result.add( femaleAgeCoefficient.blend( maleAgeCoefficient, isMale ).mul( loadAges( ages, i ) ) );
+            }
+            result.add( femaleGenderTerm.blend( maleGenderTerm, isMale ) )
+                    .add( femaleConstTerm.blend( maleConstTerm, isMale ) )
+                    .mul( form.resultScale )
+                    .intoArray( out, i );
+        }
+    }
+
+    /**
+     * 向量部分: 按年龄段、性别区分系数的线性公式
+     */
+    private static void evaluateAgeDependentLinearForm( LinearForm form, byte[] genderCodes, double[] x, double[] y, int[] ages, double[] out ){
+        DoubleVector[] xCoefficients = broadcast( form.xCoefficients );
+        DoubleVector[] yCoefficients = broadcast( form.yCoefficients );
+        DoubleVector[] ageCoefficients = broadcast( form.ageCoefficients );
+        DoubleVector[] genderTerms = broadcast( form.genderTerms );
+        DoubleVector[] constTerms = broadcast( form.constTerms );
+
+        int loopBound = loopBoundOf( out.length, genderCodes );
+        for ( int i = 0; i < loopBound; i += SPECIES.length() ){
+            VectorMask< Double > isMale = loadMaleMask( genderCodes, i );
+            DoubleVector ageVector = loadAges( ages, i );
+            VectorMask< Double > atOrAboveThreshold = ageVector.compare( VectorOperators.GE, form.ageThreshold );
+            DoubleVector result = select( xCoefficients, isMale, atOrAboveThreshold ).mul( DoubleVector.fromArray( SPECIES, x, i ) );
+            if ( y != null ){
+                result = result.add( select( yCoefficients, isMale, atOrAboveThreshold ).mul( DoubleVector.fromArray( SPECIES, y, i ) ) );
+            }
+            result.add( select( ageCoefficients, isMale, atOrAboveThreshold ).mul( ageVector ) )
+                    .add( select( genderTerms, isMale, atOrAboveThreshold ) )
+                    .add( select( constTerms, isMale, atOrAboveThreshold ) )
+                    .mul( form.resultScale )
+                    .intoArray( out, i );
+        }
+    }
+
+    /**
+     * 把按分组存放的系数广播为向量
+     *
+     * @param coefficients 各分组的系数
+     * @return 各分组的系数向量
+     */
+    private static DoubleVector[] broadcast( double[] coefficients ){
+        DoubleVector[] vectors = new DoubleVector[ coefficients.length ];
+        for ( int group = 0; group < coefficients.length; group++ ){
+            vectors[ group ] = DoubleVector.broadcast( SPECIES, coefficients[ group ] );
+        }
+        return vectors;
+    }
+
+    /**
+     * 按性别掩码、年龄段掩码选出每个通道的系数
+     *
+     * @param coefficients 4 个分组的系数向量( 下标 = 年龄段 * 2 + 性别代码 )
+     * @param isMale 男性通道掩码
+     * @param atOrAboveThreshold 年龄 ≥ 分界年龄的通道掩码
+     * @return 每个通道对应的系数
+     */
+    private static DoubleVector select( DoubleVector[] coefficients, VectorMask< Double > isMale, VectorMask< Double > atOrAboveThreshold ){
+        DoubleVector belowThreshold = coefficients[ 0 ].blend( coefficients[ 1 ], isMale );
+        DoubleVector aboveThreshold = coefficients[ 2 ].blend( coefficients[ 3 ], isMale );
+        return belowThreshold.blend( aboveThreshold, atOrAboveThreshold );
+    }
+
+    /**
+     * 加载一个向量长度的年龄并转换为 double
+     *
+     * @param ages 年龄列
+     * @param offset 起始下标
+     * @return 年龄向量
+     */
+    private static DoubleVector loadAges( int[] ages, int offset ){
+        return ( DoubleVector ) IntVector.fromArray( AGE_SPECIES, ages, offset ).convertShape( VectorOperators.I2D, SPECIES, 0 );
+    }
+
+    /**
+     * 计算向量循环的上界: 既要整除向量长度, 又要保证每次加载 8 个字节的性别代码不越界
+     *
+     * @param length 列长度
+     * @param genderCodes 性别代码列, 可为 null
+     * @return 向量循环的上界( 不含 ), 其后的元素由尾部循环逐个计算
+     */
+    private static int loopBoundOf( int length, byte[] genderCodes ){
+        int loopBound = SPECIES.loopBound( length );
+        if ( genderCodes == null ){
+            return loopBound;
+        }
+        return Math.max( 0, Math.min( loopBound, SPECIES.loopBound( length - GENDER_SPECIES.length() + SPECIES.length() ) ) );
+    }
+
+    /**
+     * 加载一个向量长度的性别代码( 已检验为 0 或 1 ), 转换为男性通道掩码
+     * <p>
+     *     JDK 17 的 VectorMask.fromLong 没有内联为向量指令, 所以先整段加载字节再转换为 double 比较
+     * </p>
+     *
+     * @param genderCodes 性别代码列, 为 null 时全部视为女性通道( 公式不区分性别, 两组系数相同 )
+     * @param offset 起始下标
+     * @return 男性通道掩码
+     */
+    private static VectorMask< Double > loadMaleMask( byte[] genderCodes, int offset ){
+        if ( genderCodes == null ){
+            return SPECIES.maskAll( false );
+        }
+        DoubleVector genderVector = ( DoubleVector ) ByteVector.fromArray( GENDER_SPECIES, genderCodes, offset )
+                .convertShape( VectorOperators.B2D, SPECIES, 0 );
+        return genderVector.compare( VectorOperators.NE, 0 );
+    }
+}
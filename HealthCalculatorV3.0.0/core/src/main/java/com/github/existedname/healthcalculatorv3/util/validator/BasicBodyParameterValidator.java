@@ -0,0 +1,296 @@
+package com.github.existedname.healthcalculatorv3.util.validator;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+
+import java.util.Objects;
+
+/**
+ * 基本身体参数检验器, 封装对基本身体参数( {@link BasicBodyParameter } )的检验方法
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.0.0
+ * @CreateTime 2025/8/26 14:18
+ */
+public final class BasicBodyParameterValidator {
+    // ==================== 常量 ====================
+
+
+    // ==================== 静态变量 ====================
+
+
+    // ==================== 实例变量 ====================
+
+
+    // ==================== 构造器 ====================
+    private BasicBodyParameterValidator() { }
+
+    // ==================== 公有方法 ====================
+    /*      基本身体参数      */
+    /**
+     * 检验性别是否合法
+     *
+     * @param gender 性别字符串
+     * @throws NullPointerException 当 gender 为 null 时
+     * @throws IllegalArgumentException 当 gender 不在有效范围时
+     */
+    public static void validateGender( String gender ){
+        Objects.requireNonNull( gender, "参数 gender( 性别 )不能为 null" );
+        if ( ! Gender.isValidGender( gender ) ){
+            throw new IllegalArgumentException(
+                   String.format( "参数 gender 不在有效范围%s", Gender.getValidGenderOptions() )
+            );
+        }
+    }
+
+    /**
+     * 检验性别是否合法( 枚举只需检验非 null )
+     *
+     * @param gender 性别
+     * @throws NullPointerException 当 gender 为 null 时
+     * @since 3.1.0
+     */
+    public static void validateGender( Gender gender ){
+        Objects.requireNonNull( gender, "参数 gender( 性别 )不能为 null" );
+    }
+
+    /**
+     * 检验年龄是否合法
+     *
+     * @param age 年龄<B>单位: 岁/年</B>
+     * @throws IllegalArgumentException 当 age 不在有效范围时
+     */
+    public static void validateAge( int age ){
+        if ( ! BasicBodyParameter.AGE.isValid( age ) ){
+            throw new IllegalArgumentException(
+                   String.format( "参数 age( 年龄 )不在有效范围%s", BasicBodyParameter.AGE.getFormattedClosedRange() )
+            );
+        }
+    }
+
+    /**
+     * 检验体重是否合法
+     *
+     * @param weight 体重, <B>单位: kg</B>
+     * @throws IllegalArgumentException 当 weight 不在有效范围时
+     */
+    public static void validateWeight( double weight ){
+        validateBasicBodyParameter( BasicBodyParameter.WEIGHT, weight );
+    }
+
+    /**
+     * 检验身高是否合法
+     *
+     * @param height 体重, <B>单位: cm</B>
+     * @throws IllegalArgumentException 当 height 不在有效范围时
+     */
+    public static void validateHeight( double height ){
+        validateBasicBodyParameter( BasicBodyParameter.HEIGHT, height );
+    }
+
+    /**
+     * 检验腰围是否合法
+     *
+     * @param waistCircumference 体重, <B>单位: cm</B>
+     * @throws IllegalArgumentException 当 waistCircumference 不在有效范围时
+     */
+    public static void validateWaistCircumference( double waistCircumference ){
+        validateBasicBodyParameter( BasicBodyParameter.WAIST_CIRCUMFERENCE, waistCircumference );
+    }
+
+    /**
+     * 检验臀围是否合法
+     *
+     * @param hipCircumference 臀围, <B>单位: cm</B>
+     * @throws IllegalArgumentException 当 hipCircumference 不在有效范围时
+     */
+    public static void validateHipCircumference( double hipCircumference ){
+        validateBasicBodyParameter( BasicBodyParameter.HIP_CIRCUMFERENCE, hipCircumference );
+    }
+
+    /**
+     * 检验颈围是否合法
+     *
+     * @param neckCircumference 颈围, <B>单位: cm</B>
+     * @throws IllegalArgumentException 当 neckCircumference 不在有效范围时
+     */
+    public static void validateNeckCircumference( double neckCircumference ){
+        validateBasicBodyParameter( BasicBodyParameter.NECK_CIRCUMFERENCE, neckCircumference );
+    }
+
+    /**
+     * 检验臂围是否合法
+     *
+     * @param armCircumference 臂围, <B>单位: cm</B>
+     * @throws IllegalArgumentException 当 armCircumference 不在有效范围时
+     */
+    public static void validateArmCircumference( double armCircumference ){
+        validateBasicBodyParameter( BasicBodyParameter.ARM_CIRCUMFERENCE, armCircumference );
+    }
+
+    /**
+     * 检验活动系数是否合法
+     *
+     * @param activityCoefficient 活动系数, <B>单位: 无</B>
+     * @throws IllegalArgumentException 当 activityCoefficient 不在有效范围时
+     */
+    public static void validateActivityCoefficient( double activityCoefficient ){
+        validateBasicBodyParameter( BasicBodyParameter.ACTIVITY_COEFFICIENT, activityCoefficient );
+    }
+
+
+    /*      基本身体参数列( 批量计算, 每批只检验一次 )      */
+    /**
+     * 检验性别代码列( 女0 男1 )是否合法
+     *
+     * @param genderCodes 性别代码列
+     * @throws NullPointerException 当 genderCodes 为 null 时
+     * @throws IllegalArgumentException 当任意元素不是有效的性别代码时
+     * @since 3.1.0
+     */
+    public static void validateGender( byte[] genderCodes ){
+        Objects.requireNonNull( genderCodes, "参数 genderCodes( 性别代码列 )不能为 null" );
+        for ( int i = 0; i < genderCodes.length; i++ ){
+            if ( ! Gender.isValidGenderCode( genderCodes[ i ] ) ){
+                throw new IllegalArgumentException(
+                        String.format( "参数 genderCodes[ %d ] = %d 不是有效的性别代码( 女%d 男%d )",
+                                i, genderCodes[ i ], Gender.FEMALE.getCode(), Gender.MALE.getCode() )
+                );
+            }
+        }
+    }
+
+    /**
+     * 检验年龄列是否合法
+     *
+     * @param ages 年龄列, <B>单位: 岁/年</B>
+     * @throws NullPointerException 当 ages 为 null 时
+     * @throws IllegalArgumentException 当任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void validateAge( int[] ages ){
+        Objects.requireNonNull( ages, "参数 ages( 年龄列 )不能为 null" );
+        for ( int i = 0; i < ages.length; i++ ){
+            if ( ! BasicBodyParameter.AGE.isValid( ages[ i ] ) ){
+                throw new IllegalArgumentException(
+                        String.format( "参数 ages[ %d ]( 年龄 )不在有效范围%s", i, BasicBodyParameter.AGE.getFormattedClosedRange() )
+                );
+            }
+        }
+    }
+
+    /**
+     * 检验体重列是否合法
+     *
+     * @param weights 体重列, <B>单位: kg</B>
+     * @throws NullPointerException 当 weights 为 null 时
+     * @throws IllegalArgumentException 当任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void validateWeight( double[] weights ){
+        validateBasicBodyParameter( BasicBodyParameter.WEIGHT, weights );
+    }
+
+    /**
+     * 检验身高列是否合法
+     *
+     * @param heights 身高列, <B>单位: cm</B>
+     * @throws NullPointerException 当 heights 为 null 时
+     * @throws IllegalArgumentException 当任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void validateHeight( double[] heights ){
+        validateBasicBodyParameter( BasicBodyParameter.HEIGHT, heights );
+    }
+
+    /**
+     * 检验腰围列是否合法
+     *
+     * @param waistCircumferences 腰围列, <B>单位: cm</B>
+     * @throws NullPointerException 当 waistCircumferences 为 null 时
+     * @throws IllegalArgumentException 当任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void validateWaistCircumference( double[] waistCircumferences ){
+        validateBasicBodyParameter( BasicBodyParameter.WAIST_CIRCUMFERENCE, waistCircumferences );
+    }
+
+    /**
+     * 检验臀围列是否合法
+     *
+     * @param hipCircumferences 臀围列, <B>单位: cm</B>
+     * @throws NullPointerException 当 hipCircumferences 为 null 时
+     * @throws IllegalArgumentException 当任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void validateHipCircumference( double[] hipCircumferences ){
+        validateBasicBodyParameter( BasicBodyParameter.HIP_CIRCUMFERENCE, hipCircumferences );
+    }
+
+    /**
+     * 检验颈围列是否合法
+     *
+     * @param neckCircumferences 颈围列, <B>单位: cm</B>
+     * @throws NullPointerException 当 neckCircumferences 为 null 时
+     * @throws IllegalArgumentException 当任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void validateNeckCircumference( double[] neckCircumferences ){
+        validateBasicBodyParameter( BasicBodyParameter.NECK_CIRCUMFERENCE, neckCircumferences );
+    }
+
+    /**
+     * 检验活动系数列是否合法
+     *
+     * @param activityCoefficients 活动系数列, <B>单位: 无</B>
+     * @throws NullPointerException 当 activityCoefficients 为 null 时
+     * @throws IllegalArgumentException 当任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void validateActivityCoefficient( double[] activityCoefficients ){
+        validateBasicBodyParameter( BasicBodyParameter.ACTIVITY_COEFFICIENT, activityCoefficients );
+    }
+
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 检验基本身体参数( {@link BasicBodyParameter } )的数值是否合法
+     *
+     * @param basicBodyParameter 基本身体参数枚举成员
+     * @param value 基本身体参数的数值
+     *
+     * @throws NullPointerException 当 basicBodyParameter 为 null 时
+     * @throws IllegalArgumentException 当 value 不在有效范围时
+     */
+    private static void validateBasicBodyParameter( BasicBodyParameter basicBodyParameter, double value ){
+        Objects.requireNonNull( basicBodyParameter, "参数 basicBodyParameter( 基本身体参数枚举成员 )不能为 null" );
+        if( ! basicBodyParameter.isValid( value ) ){
+            throw new IllegalArgumentException(
+                    String.format( "参数 %s 不在有效范围%s%s", basicBodyParameter.getAbbreviation(), basicBodyParameter.getFormattedClosedRange(), basicBodyParameter.getUnit() )
+            );
+        }
+    }
+
+    /**
+     * 检验基本身体参数( {@link BasicBodyParameter } )列的每个数值是否合法, 出错时指明下标
+     *
+     * @param basicBodyParameter 基本身体参数枚举成员
+     * @param values 基本身体参数列
+     *
+     * @throws NullPointerException 当 basicBodyParameter 或 values 为 null 时
+     * @throws IllegalArgumentException 当任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    private static void validateBasicBodyParameter( BasicBodyParameter basicBodyParameter, double[] values ){
+        Objects.requireNonNull( basicBodyParameter, "参数 basicBodyParameter( 基本身体参数枚举成员 )不能为 null" );
+        Objects.requireNonNull( values, "参数 values( 基本身体参数列 )不能为 null" );
+        for ( int i = 0; i < values.length; i++ ){
+            if( ! basicBodyParameter.isValid( values[ i ] ) ){
+                throw new IllegalArgumentException(
+                        String.format( "参数 %s[ %d ] 不在有效范围%s%s", basicBodyParameter.getAbbreviation(), i, basicBodyParameter.getFormattedClosedRange(), basicBodyParameter.getUnit() )
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.github.existedname.healthcalculatorv3.util.validator;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BodyMetric;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * 列检验报告: 逐列调用 {@link ColumnValidator } 检验同一批数据, 汇总每列的错误位掩码
+ * <pre>
+ *     1. 检验过程不抛出异常, 每列只记录一个位掩码
+ *     2. 错误说明延迟生成: 只有调用 {@link #describeRow( int ) }、{@link #describeErrors( int ) } 时,
+ *        才为真正要报告的行格式化字符串
+ *     3. 用法: new ColumnValidationReport( 行数 ).checkGenderCodes( ... ).checkAges( ... ).check( BasicBodyParameter.WEIGHT, ... )
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 17:40
+ */
+public final class ColumnValidationReport {
+    // ==================== 实例变量 ====================
+    /** 行数 */
+    private final int rowCount;
+    /** 已检验的列( 按检验顺序排列 ) */
+    private final List< CheckedColumn > checkedColumns = new ArrayList<>();
+    /** 所有列错误位掩码的并集, 首次查询时计算, 之后追加检验时失效 */
+    private long[] invalidRowMask;
+
+
+    // ==================== 构造器 ====================
+    /**
+     * @param rowCount 行数
+     * @throws IllegalArgumentException 当 rowCount < 0 时
+     */
+    public ColumnValidationReport( int rowCount ){
+        if ( rowCount < 0 ){
+            throw new IllegalArgumentException( String.format( "参数 rowCount( 行数 ) = %d 不能小于 0", rowCount ) );
+        }
+        this.rowCount = rowCount;
+    }
+
+
+    // ==================== 公有方法 ====================
+    /*      检验      */
+    /**
+     * 检验性别代码列( 女0 男1 )
+     *
+     * @param genderCodes 性别代码列
+     * @return 当前报告
+     * @throws NullPointerException 当 genderCodes 为 null 时
+     * @throws IllegalArgumentException 当列长度与行数不一致时
+     */
+    public ColumnValidationReport checkGenderCodes( byte[] genderCodes ){
+        Objects.requireNonNull( genderCodes, "参数 genderCodes( 性别代码列 )不能为 null" );
+        validateLength( genderCodes.length );
+        return addColumn( null, ColumnValidator.findInvalidGenderCodes( genderCodes ),
+                row -> String.format( "参数 genderCodes[ %d ] = %d 不是有效的性别代码( 女%d 男%d )",
+                        row, genderCodes[ row ], Gender.FEMALE.getCode(), Gender.MALE.getCode() ) );
+    }
+
+    /**
+     * 检验年龄列
+     *
+     * @param ages 年龄列, <B>单位: 岁/年</B>
+     * @return 当前报告
+     * @throws NullPointerException 当 ages 为 null 时
+     * @throws IllegalArgumentException 当列长度与行数不一致时
+     */
+    public ColumnValidationReport checkAges( int[] ages ){
+        Objects.requireNonNull( ages, "参数 ages( 年龄列 )不能为 null" );
+        validateLength( ages.length );
+        BasicBodyParameter age = BasicBodyParameter.AGE;
+        return addColumn( age, ColumnValidator.findInvalidAges( ages ),
+                row -> String.format( "参数 %s[ %d ] = %d 不在有效范围%s%s",
+                        age.getAbbreviation(), row, ages[ row ], age.getFormattedClosedRange(), age.getUnit() ) );
+    }
+
+    /**
+     * 检验一列身体指标( 基本身体参数或健康指标 )
+     *
+     * @param bodyMetric 身体指标
+     * @param values 数值列
+     * @return 当前报告
+     * @throws NullPointerException 当 bodyMetric 或 values 为 null 时
+     * @throws IllegalArgumentException 当列长度与行数不一致时
+     */
+    public ColumnValidationReport check( BodyMetric bodyMetric, double[] values ){
+        Objects.requireNonNull( bodyMetric, "参数 bodyMetric( 身体指标 )不能为 null" );
+        Objects.requireNonNull( values, "参数 values( 数值列 )不能为 null" );
+        validateLength( values.length );
+        return addColumn( bodyMetric, ColumnValidator.findInvalid( bodyMetric, values ),
+                row -> String.format( "参数 %s[ %d ] = %s 不在有效范围%s%s",
+                        bodyMetric.getAbbreviation(), row, values[ row ], bodyMetric.getFormattedClosedRange(), bodyMetric.getUnit() ) );
+    }
+
+
+    /*      查询      */
+    public int getRowCount(){
+        return rowCount;
+    }
+
+    /**
+     * @return 有任意一行不合法时返回 true
+     */
+    public boolean hasErrors(){
+        return ColumnValidator.nextSetRow( getInvalidRowMask(), 0 ) >= 0;
+    }
+
+    /**
+     * @return 不合法的行数( 同一行多列出错只计一次 )
+     */
+    public int countInvalidRows(){
+        return ColumnValidator.countSetRows( getInvalidRowMask() );
+    }
+
+    /**
+     * @param row 行号( 从 0 开始 )
+     * @return 该行所有已检验的列都合法时返回 true
+     */
+    public boolean isValidRow( int row ){
+        return ! ColumnValidator.isSet( getInvalidRowMask(), row );
+    }
+
+    /**
+     * 获取所有列错误位掩码的并集( 内部数组, 调用方不要修改 )
+     *
+     * @return 不合法行的位掩码
+     */
+    public long[] getInvalidRowMask(){
+        if ( invalidRowMask == null ){
+            long[] union = new long[ ColumnValidator.maskLength( rowCount ) ];
+            for ( CheckedColumn column : checkedColumns ){
+                for ( int w = 0; w < union.length; w++ ){
+                    union[ w ] |= column.mask[ w ];
+                }
+            }
+            invalidRowMask = union;
+        }
+        return invalidRowMask;
+    }
+
+    /**
+     * @return 不合法行的 BitSet( 副本 )
+     */
+    public BitSet getInvalidRows(){
+        return BitSet.valueOf( getInvalidRowMask() );
+    }
+
+    /**
+     * 获取指定身体指标列的错误位掩码( 内部数组, 调用方不要修改 )
+     *
+     * @param bodyMetric 身体指标
+     * @return 错误位掩码, 该列未检验时为 null
+     */
+    public long[] getErrorMask( BodyMetric bodyMetric ){
+        Objects.requireNonNull( bodyMetric, "参数 bodyMetric( 身体指标 )不能为 null" );
+        CheckedColumn column = findColumn( bodyMetric );
+        return ( column == null ? null : column.mask );
+    }
+
+    /**
+     * 获取性别代码列的错误位掩码( 内部数组, 调用方不要修改 )
+     *
+     * @return 错误位掩码, 该列未检验时为 null
+     */
+    public long[] getGenderErrorMask(){
+        CheckedColumn column = findColumn( null );
+        return ( column == null ? null : column.mask );
+    }
+
+    /**
+     * 生成一行的全部错误说明
+     *
+     * @param row 行号( 从 0 开始 )
+     * @return 错误说明, 该行合法时为空列表
+     */
+    public List< String > describeRow( int row ){
+        List< String > messages = new ArrayList<>();
+        for ( CheckedColumn column : checkedColumns ){
+            if ( ColumnValidator.isSet( column.mask, row ) ){
+                messages.add( column.messageFactory.apply( row ) );
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * 按行号顺序生成前 limit 条错误说明, 其余错误只计数不格式化
+     *
+     * @param limit 最多生成的说明条数
+     * @return 错误说明
+     * @throws IllegalArgumentException 当 limit < 0 时
+     */
+    public List< String > describeErrors( int limit ){
+        if ( limit < 0 ){
+            throw new IllegalArgumentException( String.format( "参数 limit( 说明条数 ) = %d 不能小于 0", limit ) );
+        }
+        List< String > messages = new ArrayList<>( Math.min( limit, 16 ) );
+        long[] invalidRows = getInvalidRowMask();
+        for ( int row = ColumnValidator.nextSetRow( invalidRows, 0 );
+              row >= 0 && messages.size() < limit;
+              row = ColumnValidator.nextSetRow( invalidRows, row + 1 ) ){
+            for ( CheckedColumn column : checkedColumns ){
+                if ( messages.size() < limit && ColumnValidator.isSet( column.mask, row ) ){
+                    messages.add( column.messageFactory.apply( row ) );
+                }
+            }
+        }
+        return messages;
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    private void validateLength( int columnLength ){
+        if ( columnLength != rowCount ){
+            String message = String.format( "参数错误: 列长度( %d )与行数( %d )不一致", columnLength, rowCount );
+            throw new IllegalArgumentException( message );
+        }
+    }
+
+    private ColumnValidationReport addColumn( BodyMetric bodyMetric, long[] mask, IntFunction< String > messageFactory ){
+        checkedColumns.add( new CheckedColumn( bodyMetric, mask, messageFactory ) );
+        invalidRowMask = null;
+        return this;
+    }
+
+    /**
+     * @param bodyMetric 身体指标, null 表示性别代码列
+     */
+    private CheckedColumn findColumn( BodyMetric bodyMetric ){
+        for ( CheckedColumn column : checkedColumns ){
+            if ( column.bodyMetric == bodyMetric ){
+                return column;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 一列的检验结果
+     */
+    private static final class CheckedColumn {
+        /** 身体指标, 性别代码列为 null */
+        private final BodyMetric bodyMetric;
+        /** 错误位掩码 */
+        private final long[] mask;
+        /** 按行号生成错误说明 */
+        private final IntFunction< String > messageFactory;
+
+        private CheckedColumn( BodyMetric bodyMetric, long[] mask, IntFunction< String > messageFactory ){
+            this.bodyMetric = bodyMetric;
+            this.mask = mask;
+            this.messageFactory = messageFactory;
+        }
+    }
+}
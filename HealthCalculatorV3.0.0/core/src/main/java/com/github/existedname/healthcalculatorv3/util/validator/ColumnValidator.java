@@ -0,0 +1,149 @@
+package com.github.existedname.healthcalculatorv3.util.validator;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BodyMetric;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+
+import java.util.Objects;
+
+/**
+ * 列检验器, 按 {@link BodyMetric } 的有效范围检验整列数据, 以位掩码返回检验结果, 不抛出异常
+ * <pre>
+ *     1. 位掩码: long[], 第 i 行对应第 i / 64 个 long 的第 i % 64 位, 置 1 表示该行不合法
+ *        可用 {@link java.util.BitSet#valueOf( long[] ) } 转为 BitSet
+ *     2. 只比较上下限、置位, 不创建异常、不拼接字符串, 适合错误行较多的批量导入;
+ *        错误说明由 {@link ColumnValidationReport } 在需要报告时再生成
+ *     3. 交互式输入仍使用会抛出异常的 {@link BasicBodyParameterValidator }、{@link HealthMetricValidator }
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 17:40
+ */
+public final class ColumnValidator {
+    // ==================== 常量 ====================
+    /** 每个 long 存放的行数 */
+    private static final int ROWS_PER_WORD = Long.SIZE;
+    /** 行号 → 下标的右移位数( 2^6 = 64 ) */
+    private static final int ROW_TO_WORD_SHIFT = 6;
+
+
+    // ==================== 构造器 ====================
+    private ColumnValidator(){ }
+
+
+    // ==================== 公有方法 ====================
+    /**
+     * 检验一列数值是否都在身体指标的有效范围( 闭区间 )内, NaN 视为不合法
+     *
+     * @param bodyMetric 身体指标( 基本身体参数或健康指标 )
+     * @param values 数值列
+     * @return 错误位掩码, 长度为 {@link #maskLength( int ) }
+     * @throws NullPointerException 当 bodyMetric 或 values 为 null 时
+     */
+    public static long[] findInvalid( BodyMetric bodyMetric, double[] values ){
+        Objects.requireNonNull( bodyMetric, "参数 bodyMetric( 身体指标 )不能为 null" );
+        Objects.requireNonNull( values, "参数 values( 数值列 )不能为 null" );
+        double minValue = bodyMetric.getMinValue(), maxValue = bodyMetric.getMaxValue();
+        long[] mask = new long[ maskLength( values.length ) ];
+        for ( int i = 0; i < values.length; i++ ){
+            double value = values[ i ];
+            long invalid = ( minValue <= value & value <= maxValue ) ? 0L : 1L;
+            mask[ i >>> ROW_TO_WORD_SHIFT ] |= invalid << i;
+        }
+        return mask;
+    }
+
+    /**
+     * 检验年龄列
+     *
+     * @param ages 年龄列, <B>单位: 岁/年</B>
+     * @return 错误位掩码
+     * @throws NullPointerException 当 ages 为 null 时
+     */
+    public static long[] findInvalidAges( int[] ages ){
+        Objects.requireNonNull( ages, "参数 ages( 年龄列 )不能为 null" );
+        int minAge = ( int ) BasicBodyParameter.AGE.getMinValue(), maxAge = ( int ) BasicBodyParameter.AGE.getMaxValue();
+        long[] mask = new long[ maskLength( ages.length ) ];
+        for ( int i = 0; i < ages.length; i++ ){
+            int age = ages[ i ];
+            long invalid = ( minAge <= age & age <= maxAge ) ? 0L : 1L;
+            mask[ i >>> ROW_TO_WORD_SHIFT ] |= invalid << i;
+        }
+        return mask;
+    }
+
+    /**
+     * 检验性别代码列( 女0 男1 )
+     *
+     * @param genderCodes 性别代码列
+     * @return 错误位掩码
+     * @throws NullPointerException 当 genderCodes 为 null 时
+     */
+    public static long[] findInvalidGenderCodes( byte[] genderCodes ){
+        Objects.requireNonNull( genderCodes, "参数 genderCodes( 性别代码列 )不能为 null" );
+        long[] mask = new long[ maskLength( genderCodes.length ) ];
+        for ( int i = 0; i < genderCodes.length; i++ ){
+            long invalid = Gender.isValidGenderCode( genderCodes[ i ] ) ? 0L : 1L;
+            mask[ i >>> ROW_TO_WORD_SHIFT ] |= invalid << i;
+        }
+        return mask;
+    }
+
+    /**
+     * 计算容纳指定行数所需的位掩码长度
+     *
+     * @param rowCount 行数
+     * @return long 的个数
+     */
+    public static int maskLength( int rowCount ){
+        return ( rowCount + ROWS_PER_WORD - 1 ) >>> ROW_TO_WORD_SHIFT;
+    }
+
+    /**
+     * 判断位掩码中指定行是否置位( 不合法 )
+     *
+     * @param mask 位掩码
+     * @param row 行号
+     * @return 置位则返回 true
+     */
+    public static boolean isSet( long[] mask, int row ){
+        return ( mask[ row >>> ROW_TO_WORD_SHIFT ] & ( 1L << row ) ) != 0;
+    }
+
+    /**
+     * 查找从 fromRow( 含 )开始的下一个置位行
+     *
+     * @param mask 位掩码
+     * @param fromRow 起始行号
+     * @return 下一个置位行的行号, 没有时返回 -1
+     */
+    public static int nextSetRow( long[] mask, int fromRow ){
+        int wordIndex = fromRow >>> ROW_TO_WORD_SHIFT;
+        if ( fromRow < 0 || wordIndex >= mask.length ){
+            return -1;
+        }
+        long word = mask[ wordIndex ] & ( -1L << fromRow );
+        while ( word == 0 ){
+            if ( ++wordIndex == mask.length ){
+                return -1;
+            }
+            word = mask[ wordIndex ];
+        }
+        return ( wordIndex << ROW_TO_WORD_SHIFT ) + Long.numberOfTrailingZeros( word );
+    }
+
+    /**
+     * 统计位掩码中置位的行数
+     *
+     * @param mask 位掩码
+     * @return 置位行数
+     */
+    public static int countSetRows( long[] mask ){
+        int count = 0;
+        for ( long word : mask ){
+            count += Long.bitCount( word );
+        }
+        return count;
+    }
+}
@@ -101,6 +101,56 @@ public final class HealthMetricValidator {
     }
 
 
+    /*      健康指标列( 批量计算, 每批只检验一次 )      */
+    /**
+     * 检验 BMI 列是否合法
+     *
+     * @param bmis 身体质量指数列, <B>单位: kg/m²</B>
+     * @throws NullPointerException 当 bmis 为 null 时
+     * @throws IllegalArgumentException 当任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void validateBMI( double[] bmis ){
+        validateHealthMetric( HealthMetric.BMI, bmis );
+    }
+
+    /**
+     * 检验 BFR 列是否合法
+     *
+     * @param bfrs 体脂率列, <B>单位: %</B>
+     * @throws NullPointerException 当 bfrs 为 null 时
+     * @throws IllegalArgumentException 当任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void validateBFR( double[] bfrs ){
+        validateHealthMetric( HealthMetric.BFR, bfrs );
+    }
+
+    /**
+     * 检验 BMR 列是否合法
+     *
+     * @param bmrs 基础代谢率列, <B>单位: Kcal</B>
+     * @throws NullPointerException 当 bmrs 为 null 时
+     * @throws IllegalArgumentException 当任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void validateBMR( double[] bmrs ){
+        validateHealthMetric( HealthMetric.BMR, bmrs );
+    }
+
+    /**
+     * 检验 BSA 列是否合法
+     *
+     * @param bsas 体表面积列, <B>单位: m²</B>
+     * @throws NullPointerException 当 bsas 为 null 时
+     * @throws IllegalArgumentException 当任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    public static void validateBSA( double[] bsas ){
+        validateHealthMetric( HealthMetric.BSA, bsas );
+    }
+
+
     // ==================== 私有辅助方法 ====================
     /**
      * 检验健康指标( {@link HealthMetric } )的数值是否合法
@@ -120,4 +170,25 @@ public final class HealthMetricValidator {
         }
     }
 
+    /**
+     * 检验健康指标( {@link HealthMetric } )列的每个数值是否合法, 出错时指明下标
+     *
+     * @param healthMetric 健康指标枚举成员
+     * @param values 健康指标列
+     *
+     * @throws NullPointerException 当 healthMetric 或 values 为 null 时
+     * @throws IllegalArgumentException 当任意元素不在有效范围时
+     * @since 3.1.0
+     */
+    private static void validateHealthMetric( HealthMetric healthMetric, double[] values ){
+        Objects.requireNonNull( healthMetric, "参数 healthMetric( 健康指标枚举成员 )不能为 null" );
+        Objects.requireNonNull( values, "参数 values( 健康指标列 )不能为 null" );
+        for ( int i = 0; i < values.length; i++ ){
+            if( ! healthMetric.isValid( values[ i ] ) ){
+                throw new IllegalArgumentException(
+                        String.format( "参数 %s[ %d ] 不在有效范围%s%s", healthMetric.getAbbreviation(), i, healthMetric.getFormattedClosedRange(), healthMetric.getUnit() )
+                );
+            }
+        }
+    }
 }
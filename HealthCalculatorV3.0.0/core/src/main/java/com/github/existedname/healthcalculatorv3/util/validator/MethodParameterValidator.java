@@ -1,6 +1,7 @@
 package com.github.existedname.healthcalculatorv3.util.validator;
 
 import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.model.entity.UserBodyProfile;
 
 import java.util.Objects;
 import java.util.Scanner;
@@ -49,6 +50,17 @@ public final class MethodParameterValidator {
         Objects.requireNonNull( user, "参数 user( 用户对象 )不能为 null" );
     }
 
+    /**
+     * 检验用户身体参数档案
+     *
+     * @param profile 用户身体参数档案
+     * @throws NullPointerException 当 profile 为 null 时
+     * @since 3.1.0
+     */
+    public static void validateProfile( UserBodyProfile profile ){
+        Objects.requireNonNull( profile, "参数 profile( 用户身体参数档案 )不能为 null" );
+    }
+
     /**
      * 检验扫描器
      *
@@ -85,6 +97,48 @@ public final class MethodParameterValidator {
     }
 
 
+    /**
+     * 检验批量计算的输出列, 并要求所有输入列与输出列等长
+     *
+     * @param out 输出列
+     * @param inputLengths 各输入列的长度
+     *
+     * @throws NullPointerException 当 out 为 null 时
+     * @throws IllegalArgumentException 当任意输入列长度与输出列不一致时
+     * @since 3.1.0
+     */
+    public static void validateColumnLengths( double[] out, int... inputLengths ){
+        Objects.requireNonNull( out, "参数 out( 输出列 )不能为 null" );
+        for ( int i = 0; i < inputLengths.length; i++ ){
+            if ( inputLengths[ i ] != out.length ){
+                String message = String.format( "参数错误: 第 %d 个输入列长度( %d )与输出列长度( %d )不一致", i + 1, inputLengths[ i ], out.length );
+                throw new IllegalArgumentException( message );
+            }
+        }
+    }
+
+    /**
+     * 检验批量计算的输出矩阵( 每行对应一个公式 ), 要求行数与公式数一致且每行不为 null
+     *
+     * @param out 输出矩阵
+     * @param expectedRows 期望的行数
+     *
+     * @throws NullPointerException 当 out 或其中任意一行为 null 时
+     * @throws IllegalArgumentException 当行数与期望不一致时
+     * @since 3.1.0
+     */
+    public static void validateMatrixRows( double[][] out, int expectedRows ){
+        Objects.requireNonNull( out, "参数 out( 输出矩阵 )不能为 null" );
+        if ( out.length != expectedRows ){
+            String message = String.format( "参数错误: 输出矩阵行数( %d )与期望行数( %d )不一致", out.length, expectedRows );
+            throw new IllegalArgumentException( message );
+        }
+        for ( int i = 0; i < out.length; i++ ){
+            Objects.requireNonNull( out[ i ], String.format( "参数 out( 输出矩阵 )的第 %d 行不能为 null", i + 1 ) );
+        }
+    }
+
+
     // ==================== 私有辅助方法 ====================
 
 }
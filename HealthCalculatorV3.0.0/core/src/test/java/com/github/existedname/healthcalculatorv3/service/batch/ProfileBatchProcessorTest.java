@@ -0,0 +1,90 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ProfileBatchProcessor } 测试: 分块并行计算的结果与串行计算逐字节一致
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 22:50
+ */
+class ProfileBatchProcessorTest {
+    // ==================== 静态变量 ====================
+    @TempDir
+    static Path directory;
+    /** 档案文件, 至少能切成 3 块 */
+    private static Path inputPath;
+    /** 串行计算的结果 */
+    private static byte[] serialOutput;
+
+
+    // ==================== 测试 ====================
+    @BeforeAll
+    static void writeInput() throws IOException{
+        inputPath = directory.resolve( "profiles.csv" );
+        Random random = new Random( 20261018 );
+        try ( Writer writer = Files.newBufferedWriter( inputPath, StandardCharsets.UTF_8 ) ){
+            writer.write( "性别,年龄,体重,身高,腰围,臀围,颈围,臂围,活动系数\n" );
+            long size = 0;
+            for ( int row = 0; size < 3 * ProfileBatchProcessor.MIN_CHUNK_SIZE + 1024; row++ ){
+                String line;
+                if ( row % 997 == 0 ){
+                    line = "\n";
+                } else if ( row % 991 == 0 ){
+                    line = "未知,abc,70\n";
+                } else {
+                    line = String.format( Locale.ROOT, "%s,%d,%.1f,%.1f,%.1f,%.1f,%s,%.1f,1.55\n",
+                            random.nextBoolean() ? "男" : "Female", 18 + random.nextInt( 60 ),
+                            40 + random.nextDouble() * 80, 150 + random.nextDouble() * 45,
+                            60 + random.nextDouble() * 50, 80 + random.nextDouble() * 40,
+                            row % 7 == 0 ? "" : String.format( Locale.ROOT, "%.1f", 30 + random.nextDouble() * 12 ),
+                            22 + random.nextDouble() * 15 );
+                }
+                writer.write( line );
+                size += line.getBytes( StandardCharsets.UTF_8 ).length;
+            }
+        }
+        Path serialPath = directory.resolve( "serial.csv" );
+        ProfileBatchResult result = ProfileBatchProcessor.process( inputPath, serialPath, 1 );
+        assertEquals( 1, result.getChunkCount() );
+        assertTrue( result.getInvalidRowCount() > 0 );
+        serialOutput = Files.readAllBytes( serialPath );
+    }
+
+    @Test
+    void parallelOutputMatchesSerial() throws IOException{
+        ProfileBatchResult serialResult = ProfileBatchProcessor.process( inputPath, directory.resolve( "serial-again.csv" ), 1 );
+        for ( int parallelism : new int[]{ 2, 3, 16 } ){
+            Path outputPath = directory.resolve( "parallel-" + parallelism + ".csv" );
+            ProfileBatchResult result = ProfileBatchProcessor.process( inputPath, outputPath, parallelism );
+            assertTrue( result.getChunkCount() > 1, "并行度 " + parallelism + " 应当分块计算" );
+            assertEquals( serialResult.getRowCount(), result.getRowCount() );
+            assertEquals( serialResult.getInvalidRowCount(), result.getInvalidRowCount() );
+            assertArrayEquals( serialOutput, Files.readAllBytes( outputPath ), "并行度 " + parallelism + " 的结果与串行计算不一致" );
+        }
+    }
+
+    @Test
+    void rejectsOutputSameAsInput() throws IOException{
+        long inputSize = Files.size( inputPath );
+        Path samePath = inputPath.getParent().resolve( "." ).resolve( inputPath.getFileName() );
+        assertThrows( IllegalArgumentException.class, () -> ProfileBatchProcessor.process( inputPath, samePath, 2 ) );
+        assertEquals( inputSize, Files.size( inputPath ) );
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ProfileBatchScorer } 测试: 计算不修改批次的输入列
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 22:50
+ */
+class ProfileBatchScorerTest {
+    @Test
+    void scoreKeepsInputColumns(){
+        ProfileBatch batch = new ProfileBatch( 8 );
+        batch.addRow( ( byte ) 1, 30, parameters( 70, 175, 80, 95, 1.55 ) );
+        batch.addRow( ( byte ) -1, -1, parameters( Double.NaN, 175, 80, 95, 1.55 ) );
+        batch.addRow( ( byte ) 0, 200, parameters( 5000, 10, -3, Double.NaN, 9 ) );
+        batch.addRow( ( byte ) 0, 25, parameters( 55, 160, Double.NaN, 90, Double.NaN ) );
+
+        byte[] genderCodes = batch.genderCodes.clone();
+        int[] ages = batch.ages.clone();
+        double[][] parameterColumns = new double[ batch.parameterColumns.length ][];
+        for ( int p = 0; p < parameterColumns.length; p++ ){
+            if ( batch.parameterColumns[ p ] != null ) parameterColumns[ p ] = batch.parameterColumns[ p ].clone();
+        }
+
+        ProfileBatchScorer.score( batch );
+
+        assertArrayEquals( genderCodes, batch.genderCodes );
+        assertArrayEquals( ages, batch.ages );
+        for ( int p = 0; p < parameterColumns.length; p++ ){
+            assertArrayEquals( parameterColumns[ p ], batch.parameterColumns[ p ], "输入列 " + BasicBodyParameter.values()[ p ] + " 被修改" );
+        }
+        assertTrue( batch.isValidRow( 0 ) );
+        assertFalse( batch.isValidRow( 1 ) );
+        assertFalse( batch.isValidRow( 2 ) );
+        assertTrue( batch.isValidRow( 3 ) );
+        assertEquals( 2, batch.countInvalidRows() );
+        assertEquals( 70 / ( 1.75 * 1.75 ), batch.getMetricColumn( HealthMetric.BMI )[ 0 ], 1e-9 );
+        assertTrue( Double.isNaN( batch.getMetricColumn( HealthMetric.BMI )[ 1 ] ) );
+        assertTrue( Double.isNaN( batch.getMetricColumn( HealthMetric.WHR )[ 3 ] ) );
+        assertTrue( Double.isNaN( batch.getMetricColumn( HealthMetric.TDEE )[ 3 ] ) );
+    }
+
+    /**
+     * @return 基本身体参数, 下标为 BasicBodyParameter 的 ordinal, 颈围、臂围为 NaN
+     */
+    private static double[] parameters( double weight, double height, double waistCircumference, double hipCircumference,
+                                        double activityCoefficient ){
+        double[] parameters = new double[ BasicBodyParameter.values().length ];
+        Arrays.fill( parameters, Double.NaN );
+        parameters[ BasicBodyParameter.WEIGHT.ordinal() ] = weight;
+        parameters[ BasicBodyParameter.HEIGHT.ordinal() ] = height;
+        parameters[ BasicBodyParameter.WAIST_CIRCUMFERENCE.ordinal() ] = waistCircumference;
+        parameters[ BasicBodyParameter.HIP_CIRCUMFERENCE.ordinal() ] = hipCircumference;
+        parameters[ BasicBodyParameter.ACTIVITY_COEFFICIENT.ordinal() ] = activityCoefficient;
+        return parameters;
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.existedname.healthcalculatorv3.service.batch;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.BasicBodyParameter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link MappedProfileCsvReader } 与 {@link ProfileCsvReader } 测试: 同一份文件的读取结果与计算结果逐字节一致,
+ * 手写的年龄、小数解析与 {@link Integer#parseInt( String ) }、{@link Double#parseDouble( String ) } 一致
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 23:00
+ */
+class ProfileCsvReaderTest {
+    // ==================== 常量 ====================
+    /** 各种边界写法: 字节顺序标记、CRLF、单独的 CR、Unicode 空白行、控制字符行、科学计数法、超长数字、正负号、超长年龄 */
+    private static final String EDGE_CASES = "\uFEFF性别,年龄,体重,身高,腰围\r\n"
+            + "男,30,70,175,80\r\n"
+            + "\r\n"
+            + "女,25,55.5,162,70\r"
+            + "Male,40,8.0e1,1.8E2,9E1\r"
+            + "\u3000\n"
+            + "\u0001\n"
+            + " \t \n"
+            + "FEMALE,+35,60.123456789012345678,165.00000000000000001,75\n"
+            + "男,0000000030,-70,+175,-0\n"
+            + "女,2147483647,70,175\n"
+            + "女,2147483648,70,175\n"
+            + "男,-2147483648,70,175\n"
+            + "男,99999999999,70,175\n"
+            + "男,３０,70,175\n"
+            + "男,+,.5,5.,.\n"
+            + "女, 30 ,Infinity,NaN,0x1p6\n"
+            + "女,30,1.5d,1e400,0.0000000000000000000000123\n"
+            + " 男,30,70,175\n"
+            + "男\u3000,30,70,175\r\n"
+            + "女,30,70,175";
+
+
+    // ==================== 测试 ====================
+    @Test
+    void readersAgreeOnEdgeCases( @TempDir Path directory ) throws IOException{
+        Path inputPath = directory.resolve( "edge.csv" );
+        Files.write( inputPath, EDGE_CASES.getBytes( StandardCharsets.UTF_8 ) );
+
+        ProfileBatch mapped = readMapped( inputPath );
+        ProfileBatch streamed = readStreamed( inputPath );
+        assertBatchesEqual( mapped, streamed );
+        assertEquals( 17, mapped.getRowCount() );
+
+        Path mappedOutput = directory.resolve( "mapped.csv" );
+        ProfileBatchProcessor.process( inputPath, mappedOutput, 1 );
+        ByteArrayOutputStream streamedOutput = new ByteArrayOutputStream();
+        try ( InputStream in = Files.newInputStream( inputPath ) ){
+            ProfileBatchProcessor.process( in, streamedOutput );
+        }
+        assertArrayEquals( Files.readAllBytes( mappedOutput ), streamedOutput.toByteArray() );
+    }
+
+    @Test
+    void parsingMatchesJdk( @TempDir Path directory ) throws IOException{
+        Random random = new Random( 20261018 );
+        List< String > ages = new ArrayList<>();
+        List< String > weights = new ArrayList<>();
+        StringBuilder input = new StringBuilder();
+        for ( int row = 0; row < 5000; row++ ){
+            String age = randomAge( random );
+            String weight = randomDecimal( random );
+            ages.add( age );
+            weights.add( weight );
+            input.append( "男," ).append( age ).append( ',' ).append( weight ).append( ",175\n" );
+        }
+        Path inputPath = directory.resolve( "numbers.csv" );
+        Files.write( inputPath, input.toString().getBytes( StandardCharsets.UTF_8 ) );
+
+        ProfileBatch mapped = readMapped( inputPath );
+        assertBatchesEqual( mapped, readStreamed( inputPath ) );
+        assertEquals( ages.size(), mapped.getRowCount() );
+        double[] weightColumn = mapped.parameterColumns[ BasicBodyParameter.WEIGHT.ordinal() ];
+        for ( int row = 0; row < mapped.getRowCount(); row++ ){
+            assertEquals( parseAge( ages.get( row ) ), mapped.ages[ row ], ages.get( row ) );
+            assertEquals( Double.doubleToRawLongBits( Double.parseDouble( weights.get( row ) ) ),
+                    Double.doubleToRawLongBits( weightColumn[ row ] ), weights.get( row ) );
+        }
+    }
+
+
+    // ==================== 辅助方法 ====================
+    private static ProfileBatch readMapped( Path inputPath ) throws IOException{
+        ProfileBatch batch = new ProfileBatch( 8192 );
+        try ( MappedProfileCsvReader reader = MappedProfileCsvReader.open( inputPath ) ){
+            reader.read( batch );
+        }
+        return batch;
+    }
+
+    private static ProfileBatch readStreamed( Path inputPath ) throws IOException{
+        ProfileBatch batch = new ProfileBatch( 8192 );
+        try ( ProfileCsvReader reader = new ProfileCsvReader( Files.newInputStream( inputPath ) ) ){
+            reader.read( batch );
+        }
+        return batch;
+    }
+
+    /**
+     * 比较输入列, 小数按位比较( 区分 -0.0 与 0.0 )
+     */
+    private static void assertBatchesEqual( ProfileBatch expected, ProfileBatch actual ){
+        assertEquals( expected.getRowCount(), actual.getRowCount() );
+        int rowCount = expected.getRowCount();
+        for ( int row = 0; row < rowCount; row++ ){
+            String message = "第 " + ( row + 1 ) + " 行";
+            assertEquals( expected.genderCodes[ row ], actual.genderCodes[ row ], message );
+            assertEquals( expected.ages[ row ], actual.ages[ row ], message );
+            for ( int p = 0; p < expected.parameterColumns.length; p++ ){
+                if ( expected.parameterColumns[ p ] == null ) continue;
+                assertEquals( Double.doubleToRawLongBits( expected.parameterColumns[ p ][ row ] ),
+                        Double.doubleToRawLongBits( actual.parameterColumns[ p ][ row ] ), message + " 第 " + p + " 个参数" );
+            }
+        }
+    }
+
+    private static int parseAge( String field ){
+        try {
+            return Integer.parseInt( field );
+        } catch ( NumberFormatException e ){
+            return -1;
+        }
+    }
+
+    /**
+     * @return 随机写法的年龄: 正负号、前导 0、超出 int 范围、非数字
+     */
+    private static String randomAge( Random random ){
+        switch ( random.nextInt( 6 ) ){
+            case 0: return "+" + random.nextInt( 120 );
+            case 1: return "-" + random.nextInt( 120 );
+            case 2: return "0000000" + random.nextInt( 120 );
+            case 3: return Long.toString( random.nextLong() >>> random.nextInt( 64 ) );
+            case 4: return random.nextInt( 120 ) + "a";
+            default: return Integer.toString( random.nextInt( 120 ) );
+        }
+    }
+
+    /**
+     * @return 随机写法的小数: 正负号、1 ~ 25 位有效数字、科学计数法
+     */
+    private static String randomDecimal( Random random ){
+        StringBuilder builder = new StringBuilder();
+        int sign = random.nextInt( 3 );
+        if ( sign == 1 ) builder.append( '-' );
+        if ( sign == 2 ) builder.append( '+' );
+        int digitCount = 1 + random.nextInt( 25 );
+        int pointPosition = random.nextInt( digitCount + 1 );
+        for ( int i = 0; i < digitCount; i++ ){
+            if ( i == pointPosition ) builder.append( '.' );
+            builder.append( ( char ) ( '0' + random.nextInt( 10 ) ) );
+        }
+        if ( random.nextInt( 8 ) == 0 ){
+            builder.append( random.nextBoolean() ? 'e' : 'E' ).append( String.format( Locale.ROOT, "%d", random.nextInt( 41 ) - 20 ) );
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.existedname.healthcalculatorv3.service.persistence;
+
+import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link SessionJournal } 与 {@link SessionJournalReader } 测试: 条目往返、只截掉写了一半的末尾、中间损坏时拒绝打开、文件头不完整时重建
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 22:50
+ */
+class SessionJournalTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void entryRoundTrip() throws IOException{
+        Path path = directory.resolve( "session.journal" );
+        try ( SessionJournal journal = SessionJournal.open( path, 4 ) ){
+            for ( int i = 0; i < 10; i++ ){
+                journal.commit( journal.append( 1000L + i, "2.1." + ( i % 4 + 1 ), i % 3, createUser( i % 3, 60 + i ) ) );
+            }
+            assertEquals( 10, journal.getDurableCount() );
+        }
+
+        try ( SessionJournalReader reader = SessionJournalReader.open( path ) ){
+            for ( int i = 0; i < 10; i++ ){
+                assertTrue( reader.next() );
+                assertEquals( 1000L + i, reader.getTimestamp() );
+                assertEquals( "2.1." + ( i % 4 + 1 ), reader.getFunctionId() );
+                assertEquals( i % 3, reader.getUserId() );
+            }
+            assertFalse( reader.next() );
+            assertEquals( SessionJournal.HEADER_SIZE + 10L * SessionJournal.ENTRY_SIZE, reader.getValidLength() );
+        }
+
+        Map< Integer, User > users = SessionJournalReader.replay( path );
+        assertEquals( 3, users.size() );
+        User user = users.get( 0 );
+        User expected = createUser( 0, 69 );
+        assertEquals( expected.getWeight(), user.getWeight() );
+        assertEquals( expected.getGender(), user.getGender() );
+        assertEquals( expected.getAge(), user.getAge() );
+        assertTrue( user.isCached( HealthMetric.BMI ) );
+        assertEquals( expected.getBMI(), user.getBMI() );
+        assertFalse( user.isCached( HealthMetric.BMR ) );
+    }
+
+    @Test
+    void reopenTruncatesTornTail() throws IOException{
+        Path path = directory.resolve( "session.journal" );
+        try ( SessionJournal journal = SessionJournal.open( path ) ){
+            for ( int i = 0; i < 3; i++ ){
+                journal.append( "2.1.1", createUser( i, 60 ) );
+            }
+        }
+        long validSize = Files.size( path );
+        try ( FileChannel channel = FileChannel.open( path, StandardOpenOption.WRITE, StandardOpenOption.APPEND ) ){
+            channel.write( ByteBuffer.wrap( new byte[ SessionJournal.ENTRY_SIZE / 2 ] ) );
+        }
+
+        try ( SessionJournal journal = SessionJournal.open( path ) ){
+            assertEquals( 3, journal.getAppendedCount() );
+            assertEquals( validSize, Files.size( path ) );
+            journal.commit( journal.append( "3.1.1", createUser( 7, 70 ) ) );
+        }
+        Map< Integer, User > users = SessionJournalReader.replay( path );
+        assertEquals( 4, users.size() );
+        assertEquals( 70, users.get( 7 ).getWeight() );
+    }
+
+    @Test
+    void reopenRejectsCorruptedMiddleEntry() throws IOException{
+        Path path = writeEntries( 5 );
+        long size = Files.size( path );
+        corruptEntry( path, 2 );
+
+        assertThrows( IOException.class, () -> SessionJournal.open( path ) );
+        assertThrows( IOException.class, () -> SessionJournalReader.replay( path ) );
+        assertEquals( size, Files.size( path ) );
+    }
+
+    @Test
+    void reopenTruncatesCorruptedTailEntries() throws IOException{
+        Path path = writeEntries( 5 );
+        corruptEntry( path, 4 );
+        try ( SessionJournal journal = SessionJournal.open( path ) ){
+            assertEquals( 4, journal.getAppendedCount() );
+        }
+        assertEquals( SessionJournal.HEADER_SIZE + 4L * SessionJournal.ENTRY_SIZE, Files.size( path ) );
+
+        // 一次组提交写了一半: 末尾连续几条都损坏, 之后没有有效条目
+        corruptEntry( path, 2 );
+        corruptEntry( path, 3 );
+        try ( SessionJournal journal = SessionJournal.open( path ) ){
+            assertEquals( 2, journal.getAppendedCount() );
+        }
+        assertEquals( SessionJournal.HEADER_SIZE + 2L * SessionJournal.ENTRY_SIZE, Files.size( path ) );
+    }
+
+    @Test
+    void reopenRewritesIncompleteHeader() throws IOException{
+        Path path = directory.resolve( "session.journal" );
+        Files.write( path, new byte[ SessionJournal.HEADER_SIZE - 4 ] );
+
+        try ( SessionJournal journal = SessionJournal.open( path ) ){
+            assertEquals( 0, journal.getAppendedCount() );
+            journal.append( "2.1.1", createUser( 1, 60 ) );
+        }
+        assertEquals( 1, SessionJournalReader.replay( path ).size() );
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException{
+        Path path = directory.resolve( "session.journal" );
+        Files.write( path, new byte[ 40 ] );
+
+        assertThrows( IOException.class, () -> SessionJournal.open( path ) );
+        assertThrows( IOException.class, () -> SessionJournalReader.open( path ) );
+        assertEquals( 40, Files.size( path ) );
+    }
+
+    @Test
+    void rejectsInvalidFunctionIdAndClosedJournal() throws IOException{
+        SessionJournal journal = SessionJournal.open( directory.resolve( "session.journal" ) );
+        assertThrows( IllegalArgumentException.class, () -> journal.append( "2.1.1.1.1", createUser( 1, 60 ) ) );
+        assertThrows( IllegalArgumentException.class, () -> journal.append( "功能", createUser( 1, 60 ) ) );
+        journal.close();
+        journal.close();
+        assertThrows( IllegalStateException.class, () -> journal.append( "2.1.1", createUser( 1, 60 ) ) );
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * @return 写入了 count 条条目的日志文件
+     */
+    private Path writeEntries( int count ) throws IOException{
+        Path path = directory.resolve( "session.journal" );
+        try ( SessionJournal journal = SessionJournal.open( path ) ){
+            for ( int i = 0; i < count; i++ ){
+                journal.append( "2.1.1", createUser( i, 60 ) );
+            }
+        }
+        return path;
+    }
+
+    /**
+     * 改动第 index 条( 从 0 开始 )的体重, 校验和不再匹配
+     */
+    private static void corruptEntry( Path path, int index ) throws IOException{
+        try ( FileChannel channel = FileChannel.open( path, StandardOpenOption.WRITE ) ){
+            channel.write( ByteBuffer.wrap( new byte[]{ 1 } ), SessionJournal.HEADER_SIZE + ( long ) index * SessionJournal.ENTRY_SIZE + 40 );
+        }
+    }
+
+    /**
+     * @return 缓存了 BMI 的用户
+     */
+    private static User createUser( int id, double weight ){
+        User user = new User();
+        user.setId( id );
+        user.setGender( Gender.MALE );
+        user.setAge( 30 );
+        user.setWeight( weight );
+        user.setHeight( 175 );
+        user.setWaistCircumference( 80 );
+        user.setHipCircumference( 95 );
+        user.setActivityCoefficient( 1.4 );
+        user.getOrCalculateBMI();
+        return user;
+    }
+}
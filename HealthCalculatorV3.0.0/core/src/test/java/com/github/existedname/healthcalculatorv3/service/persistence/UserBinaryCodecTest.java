@@ -0,0 +1,157 @@
+package com.github.existedname.healthcalculatorv3.service.persistence;
+
+import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.HealthMetric;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link UserBinaryCodec } 测试: 编解码往返、原子写入与损坏文件的检测
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 22:50
+ */
+class UserBinaryCodecTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void fileRoundTrip() throws IOException{
+        List< User > users = createUsers( 1000 );
+        Path path = directory.resolve( "user.dat" );
+        UserBinaryCodec.write( path, users );
+
+        assertUsersEqual( users, UserBinaryCodec.read( path ) );
+        assertFalse( Files.exists( directory.resolve( "user.dat.tmp" ) ) );
+    }
+
+    @Test
+    void writeReplacesExistingFile() throws IOException{
+        Path path = directory.resolve( "user.dat" );
+        UserBinaryCodec.write( path, createUsers( 50 ) );
+        List< User > users = createUsers( 3 );
+        UserBinaryCodec.write( path, users );
+
+        assertUsersEqual( users, UserBinaryCodec.read( path ) );
+        assertEquals( UserBinaryCodec.encode( users ).limit(), Files.size( path ) );
+    }
+
+    @Test
+    void failedWriteKeepsExistingFile() throws IOException{
+        Path path = directory.resolve( "user.dat" );
+        List< User > users = createUsers( 10 );
+        UserBinaryCodec.write( path, users );
+        List< User > invalidUsers = new ArrayList<>( createUsers( 5 ) );
+        invalidUsers.add( null );
+
+        assertThrows( NullPointerException.class, () -> UserBinaryCodec.write( path, invalidUsers ) );
+        assertUsersEqual( users, UserBinaryCodec.read( path ) );
+    }
+
+    @Test
+    void decodeAdvancesPosition(){
+        List< User > users = createUsers( 4 );
+        ByteBuffer encoded = UserBinaryCodec.encode( users );
+        ByteBuffer buffer = ByteBuffer.allocate( encoded.limit() + 16 );
+        buffer.put( encoded ).flip();
+
+        assertUsersEqual( users, UserBinaryCodec.decode( buffer ) );
+        assertEquals( encoded.limit(), buffer.position() );
+        assertEquals( 0, UserBinaryCodec.decode( UserBinaryCodec.encode( List.of() ) ).size() );
+    }
+
+    @Test
+    void rejectsCorruptedData() throws IOException{
+        ByteBuffer encoded = UserBinaryCodec.encode( createUsers( 3 ) );
+
+        assertThrows( IllegalArgumentException.class, () -> UserBinaryCodec.decode( ByteBuffer.allocate( UserBinaryCodec.HEADER_SIZE - 1 ) ) );
+        ByteBuffer badMagic = copy( encoded );
+        badMagic.putInt( 0, 0 );
+        assertThrows( IllegalArgumentException.class, () -> UserBinaryCodec.decode( badMagic ) );
+        ByteBuffer truncated = copy( encoded ).limit( encoded.limit() - 1 );
+        assertThrows( IllegalArgumentException.class, () -> UserBinaryCodec.decode( truncated ) );
+        ByteBuffer badName = copy( encoded );
+        // 第 2 个用户有用户名, 把它在字符串堆中的偏移改到堆外
+        badName.putInt( UserBinaryCodec.HEADER_SIZE + 2 * UserBinaryCodec.RECORD_SIZE - 8, 1 << 20 );
+        assertThrows( IllegalArgumentException.class, () -> UserBinaryCodec.decode( badName ) );
+
+        Path path = directory.resolve( "user.dat" );
+        Files.write( path, new byte[ 40 ] );
+        assertThrows( IOException.class, () -> UserBinaryCodec.read( path ) );
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * @return count 个用户, 用户名依次为 null、中文、英文, 偶数编号的用户缓存了 BMI、BMR
+     */
+    private static List< User > createUsers( int count ){
+        List< User > users = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ ){
+            User user = new User();
+            user.setId( i );
+            user.setName( i % 3 == 0 ? null : ( i % 3 == 1 ? "张三" + i : "bob" + i ) );
+            user.setGender( i % 2 == 0 ? Gender.MALE : Gender.FEMALE );
+            user.setAge( 20 + i % 50 );
+            user.setWeight( 60 + i % 30 );
+            user.setHeight( 160 + i % 30 );
+            user.setWaistCircumference( 80 );
+            user.setHipCircumference( 95 );
+            user.setNeckCircumference( 37 );
+            user.setArmCircumference( 30 );
+            user.setActivityCoefficient( 1.4 );
+            if ( i % 2 == 0 ){
+                user.getOrCalculateBMI();
+                user.getOrCalculateBMR();
+            }
+            users.add( user );
+        }
+        return users;
+    }
+
+    private static void assertUsersEqual( List< User > expected, List< User > actual ){
+        assertEquals( expected.size(), actual.size() );
+        for ( int i = 0; i < expected.size(); i++ ){
+            User x = expected.get( i ), y = actual.get( i );
+            assertEquals( x.getId(), y.getId() );
+            assertEquals( x.getName(), y.getName() );
+            assertEquals( x.getGender(), y.getGender() );
+            assertEquals( x.getAge(), y.getAge() );
+            assertEquals( x.getWeight(), y.getWeight() );
+            assertEquals( x.getHeight(), y.getHeight() );
+            assertEquals( x.getWaistCircumference(), y.getWaistCircumference() );
+            assertEquals( x.getHipCircumference(), y.getHipCircumference() );
+            assertEquals( x.getNeckCircumference(), y.getNeckCircumference() );
+            assertEquals( x.getArmCircumference(), y.getArmCircumference() );
+            assertEquals( x.getActivityCoefficient(), y.getActivityCoefficient() );
+            for ( HealthMetric healthMetric : HealthMetric.values() ){
+                assertEquals( x.isCached( healthMetric ), y.isCached( healthMetric ), healthMetric.name() );
+            }
+            if ( x.isCached( HealthMetric.BMI ) ){
+                assertEquals( x.getBMI(), y.getBMI() );
+                assertEquals( x.getBMR(), y.getBMR() );
+            }
+        }
+    }
+
+    private static ByteBuffer copy( ByteBuffer buffer ){
+        ByteBuffer copy = ByteBuffer.allocate( buffer.limit() ).order( ByteOrder.LITTLE_ENDIAN );
+        copy.put( buffer.duplicate().position( 0 ) ).flip();
+        return copy;
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.existedname.healthcalculatorv3.service.persistence;
+
+import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link WriteBehindUserWriter } 测试: 合并、队列满时阻塞、限时保存超时、写盘失败后的重试间隔、flush、关闭时写完队列
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 23:00
+ */
+class WriteBehindUserWriterTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void closeDrainsQueue() throws IOException, InterruptedException{
+        Path path = directory.resolve( "user.dat" );
+        WriteBehindUserWriter writer = new WriteBehindUserWriter( path, 16 );
+        for ( int i = 0; i < 200; i++ ){
+            writer.save( createUser( i % 50, 60 + i ) );
+        }
+        writer.close();
+        writer.close();
+
+        assertEquals( 0, writer.getQueueDepth() );
+        assertEquals( 200, writer.getSubmittedCount() );
+        assertThrows( IllegalStateException.class, () -> writer.save( createUser( 1, 60 ) ) );
+        Map< Integer, User > users = readUsers( path );
+        assertEquals( 50, users.size() );
+        for ( int id = 0; id < 50; id++ ){
+            assertEquals( 60 + 150 + id, users.get( id ).getWeight() );
+        }
+    }
+
+    @Test
+    void blocksAtCapacityWhileDiskFails() throws IOException, InterruptedException{
+        // 目录不存在时写盘失败, 批次放回队列, 后台线程在重试间隔内不再取走队列
+        Path missingDirectory = directory.resolve( "missing" );
+        Path path = missingDirectory.resolve( "user.dat" );
+        WriteBehindUserWriter writer = new WriteBehindUserWriter( path, 2 );
+        writer.save( createUser( 1, 60 ) );
+        writer.save( createUser( 2, 60 ) );
+        awaitCondition( () -> writer.getQueueDepth() == 2 && writer.getFailedFlushCount() > 0 );
+        long failedFlushCount = writer.getFailedFlushCount();
+
+        // 合并: 编号已在队列中时不占用新位置, 队列满也不阻塞
+        writer.save( createUser( 1, 61 ) );
+        assertEquals( 1, writer.getCoalescedCount() );
+        assertEquals( 2, writer.getQueueDepth() );
+        // 队列满: 限时保存超时, 保存阻塞
+        assertFalse( writer.trySave( createUser( 3, 60 ), 50, TimeUnit.MILLISECONDS ) );
+        Thread blockedSaver = new Thread( () -> {
+            try {
+                writer.save( createUser( 3, 62 ) );
+            } catch ( InterruptedException e ){
+                Thread.currentThread().interrupt();
+            }
+        } );
+        blockedSaver.start();
+        blockedSaver.join( 100 );
+        assertTrue( blockedSaver.isAlive() );
+        // 期间的保存没有提前触发重试
+        assertEquals( failedFlushCount, writer.getFailedFlushCount() );
+
+        // 磁盘恢复后重试成功, 阻塞的保存继续, flush 等到全部写入
+        Files.createDirectories( missingDirectory );
+        blockedSaver.join( TimeUnit.SECONDS.toMillis( 10 ) );
+        assertFalse( blockedSaver.isAlive() );
+        writer.flush();
+        Map< Integer, User > users = readUsers( path );
+        assertEquals( 3, users.size() );
+        assertEquals( 61, users.get( 1 ).getWeight() );
+        assertEquals( 62, users.get( 3 ).getWeight() );
+        writer.close();
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    private static User createUser( int id, double weight ){
+        User user = new User();
+        user.setId( id );
+        user.setName( "user" + id );
+        user.setGender( Gender.FEMALE );
+        user.setAge( 30 );
+        user.setWeight( weight );
+        user.setHeight( 165 );
+        return user;
+    }
+
+    private static Map< Integer, User > readUsers( Path path ) throws IOException{
+        Map< Integer, User > users = new HashMap<>();
+        for ( User user : UserBinaryCodec.read( path ) ){
+            users.put( user.getId(), user );
+        }
+        return users;
+    }
+
+    /**
+     * 轮询等待条件成立, 最多 10 秒
+     */
+    private static void awaitCondition( BooleanSupplier condition ) throws InterruptedException{
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+        while ( !condition.getAsBoolean() ){
+            assertTrue( System.nanoTime() < deadline, "等待超时" );
+            Thread.sleep( 10 );
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.composite;
+
+import com.github.existedname.healthcalculatorv3.model.entity.User;
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMRCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link ProfileEvaluator } 测试: 一次计算全部指标的结果与逐个指标计算的结果逐位一致
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 22:50
+ */
+class ProfileEvaluatorTest {
+    @Test
+    void matchesPerMetricCalculators(){
+        Random random = new Random( 7 );
+        ProfileMetrics metrics = new ProfileMetrics();
+        for ( int i = 0; i < 20000; i++ ){
+            User user = new User();
+            user.setGender( random.nextBoolean() ? Gender.MALE : Gender.FEMALE );
+            user.setAge( 18 + random.nextInt( 63 ) );
+            user.setWeight( 45 + random.nextDouble() * 70 );
+            user.setHeight( 150 + random.nextDouble() * 45 );
+            user.setWaistCircumference( 60 + random.nextDouble() * 50 );
+            user.setHipCircumference( 80 + random.nextDouble() * 40 );
+            user.setActivityCoefficient( 1.2 + random.nextDouble() * 0.7 );
+
+            ProfileEvaluator.evaluate( user, metrics );
+
+            // assertEquals( double, double ) 按 doubleToLongBits 比较
+            assertEquals( ProfileMetricCalculator.calculateBMI( user ), metrics.getBMI() );
+            assertEquals( ProfileMetricCalculator.calculateWHR( user ), metrics.getWHR() );
+            assertEquals( ProfileMetricCalculator.calculateBFR( user ), metrics.getBFR() );
+            assertEquals( ProfileMetricCalculator.calculateBRI( user ), metrics.getBRI() );
+            assertEquals( ProfileMetricCalculator.calculateBMR( user ), metrics.getBMR() );
+            assertEquals( ProfileMetricCalculator.calculateTDEE( user ), metrics.getTDEE() );
+            assertEquals( ProfileMetricCalculator.calculateBSA( user ), metrics.getBSA() );
+            assertEquals( BMRCalculator.calculateBSABasedBMR( user.getGender(), user.getAge(), metrics.getBSA() ), metrics.getBSABasedBMR() );
+        }
+    }
+
+    @Test
+    void rejectsInvalidProfile(){
+        User user = new User();
+        user.setGender( Gender.MALE );
+        user.setAge( 30 );
+        user.setWeight( 70 );
+        user.setHeight( 175 );
+        user.setWaistCircumference( 80 );
+        user.setHipCircumference( 95 );
+        user.setActivityCoefficient( 99 );
+
+        assertThrows( IllegalArgumentException.class, () -> ProfileEvaluator.evaluate( user, new ProfileMetrics() ) );
+        assertThrows( NullPointerException.class, () -> ProfileEvaluator.evaluate( user, null ) );
+    }
+}
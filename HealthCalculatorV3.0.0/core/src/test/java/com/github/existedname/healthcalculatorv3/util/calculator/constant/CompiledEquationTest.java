@@ -0,0 +1,191 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.constant;
+
+import com.github.existedname.healthcalculatorv3.model.enums.bodymetric.Gender;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BFRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BSACalculator;
+import com.github.existedname.healthcalculatorv3.util.convertor.UnitConvertor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link CompiledEquation } 测试: 查表计算与逐项计算公式( 查表之前的实现 )的结果逐位一致, 单个计算与批量计算的结果逐位一致
+ * <p>
+ * assertEquals( double, double ) 按 {@link Double#doubleToLongBits } 比较, 相差 1 ulp 也会失败
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 22:50
+ */
+class CompiledEquationTest {
+    // ==================== 常量 ====================
+    /** 随机档案数 */
+    private static final int SAMPLE_COUNT = 20000;
+
+
+    // ==================== 测试 ====================
+    @Test
+    void bmrMatchesTermByTermFormulas(){
+        Random random = new Random( 5 );
+        byte[] genderCodes = new byte[ SAMPLE_COUNT ];
+        int[] ages = new int[ SAMPLE_COUNT ];
+        double[] weights = new double[ SAMPLE_COUNT ];
+        double[] heights = new double[ SAMPLE_COUNT ];
+        double[] bsas = new double[ SAMPLE_COUNT ];
+        double[][] expected = new double[ 6 ][ SAMPLE_COUNT ];
+        for ( int i = 0; i < SAMPLE_COUNT; i++ ){
+            Gender gender = ( random.nextBoolean() ? Gender.MALE : Gender.FEMALE );
+            boolean isMale = gender.isMale();
+            int age = 18 + random.nextInt( 63 );
+            double weight = 45 + random.nextDouble() * 70;
+            double height = 150 + random.nextDouble() * 45;
+            double bsa = 1.4 + random.nextDouble() * 0.8;
+            genderCodes[ i ] = ( byte ) gender.getCode();
+            ages[ i ] = age;
+            weights[ i ] = weight;
+            heights[ i ] = height;
+            bsas[ i ] = bsa;
+
+            expected[ 0 ][ i ] = BMRCalculatorConstants.BSABasedBMR.getHourlyBMR( isMale, age ) * bsa * BMRCalculatorConstants.BSABasedBMR.HOURS;
+            expected[ 1 ][ i ] = UnitConvertor.jouleToCalorie( linear( BMRCalculatorConstants.HenryEquation.getWeightCoefficient( isMale, age ), weight,
+                    0, 0, 0, 0, BMRCalculatorConstants.HenryEquation.getConstTerm( isMale, age ) ) );
+            expected[ 2 ][ i ] = isMale ?
+                    linear( BMRCalculatorConstants.HBEquation.Male.WEIGHT_COEFFICIENT, weight, BMRCalculatorConstants.HBEquation.Male.HEIGHT_COEFFICIENT, height,
+                            BMRCalculatorConstants.HBEquation.Male.AGE_COEFFICIENT, age, BMRCalculatorConstants.HBEquation.Male.CONST_TERM ) :
+                    linear( BMRCalculatorConstants.HBEquation.Female.WEIGHT_COEFFICIENT, weight, BMRCalculatorConstants.HBEquation.Female.HEIGHT_COEFFICIENT, height,
+                            BMRCalculatorConstants.HBEquation.Female.AGE_COEFFICIENT, age, BMRCalculatorConstants.HBEquation.Female.CONST_TERM );
+            expected[ 3 ][ i ] = isMale ?
+                    linear( BMRCalculatorConstants.MSJEquation.Male.WEIGHT_COEFFICIENT, weight, BMRCalculatorConstants.MSJEquation.Male.HEIGHT_COEFFICIENT, height,
+                            BMRCalculatorConstants.MSJEquation.Male.AGE_COEFFICIENT, age, BMRCalculatorConstants.MSJEquation.Male.CONST_TERM ) :
+                    linear( BMRCalculatorConstants.MSJEquation.Female.WEIGHT_COEFFICIENT, weight, BMRCalculatorConstants.MSJEquation.Female.HEIGHT_COEFFICIENT, height,
+                            BMRCalculatorConstants.MSJEquation.Female.AGE_COEFFICIENT, age, BMRCalculatorConstants.MSJEquation.Female.CONST_TERM );
+            expected[ 4 ][ i ] = linear( BMRCalculatorConstants.SchofieldEquation.getWeightCoefficient( isMale, age ), weight,
+                    0, 0, 0, 0, BMRCalculatorConstants.SchofieldEquation.getConstantTerm( isMale, age ) );
+            expected[ 5 ][ i ] = UnitConvertor.jouleToCalorie( isMale ?
+                    linear( BMRCalculatorConstants.ShizgalRosaEquation.Male.WEIGHT_COEFFICIENT, weight, BMRCalculatorConstants.ShizgalRosaEquation.Male.HEIGHT_COEFFICIENT, height,
+                            BMRCalculatorConstants.ShizgalRosaEquation.Male.AGE_COEFFICIENT, age, BMRCalculatorConstants.ShizgalRosaEquation.Male.CONST_TERM ) :
+                    linear( BMRCalculatorConstants.ShizgalRosaEquation.Female.WEIGHT_COEFFICIENT, weight, BMRCalculatorConstants.ShizgalRosaEquation.Female.HEIGHT_COEFFICIENT, height,
+                            BMRCalculatorConstants.ShizgalRosaEquation.Female.AGE_COEFFICIENT, age, BMRCalculatorConstants.ShizgalRosaEquation.Female.CONST_TERM ) );
+
+            assertEquals( expected[ 0 ][ i ], BMRCalculator.calculateBSABasedBMR( gender, age, bsa ) );
+            assertEquals( expected[ 1 ][ i ], BMRCalculator.calculateBMRByHenryEquation( gender, weight, age ) );
+            assertEquals( expected[ 2 ][ i ], BMRCalculator.calculateBMRByHBEquation( gender, weight, height, age ) );
+            assertEquals( expected[ 3 ][ i ], BMRCalculator.calculateBMRByMSJEquation( gender, weight, height, age ) );
+            assertEquals( expected[ 4 ][ i ], BMRCalculator.calculateBMRBySchofieldEquation( gender, weight, age ) );
+            assertEquals( expected[ 5 ][ i ], BMRCalculator.calculateBMRByShizgalRosaEquation( gender, weight, height, age ) );
+        }
+
+        double[] out = new double[ SAMPLE_COUNT ];
+        BMRCalculator.calculateBSABasedBMR( genderCodes, ages, bsas, out );
+        assertColumnEquals( expected[ 0 ], out );
+        BMRCalculator.calculateBMRByHenryEquation( genderCodes, weights, ages, out );
+        assertColumnEquals( expected[ 1 ], out );
+        BMRCalculator.calculateBMRByHBEquation( genderCodes, weights, heights, ages, out );
+        assertColumnEquals( expected[ 2 ], out );
+        BMRCalculator.calculateBMRByMSJEquation( genderCodes, weights, heights, ages, out );
+        assertColumnEquals( expected[ 3 ], out );
+        BMRCalculator.calculateBMRBySchofieldEquation( genderCodes, weights, ages, out );
+        assertColumnEquals( expected[ 4 ], out );
+        BMRCalculator.calculateBMRByShizgalRosaEquation( genderCodes, weights, heights, ages, out );
+        assertColumnEquals( expected[ 5 ], out );
+    }
+
+    @Test
+    void bfrMatchesTermByTermFormulas(){
+        Random random = new Random( 6 );
+        byte[] genderCodes = new byte[ SAMPLE_COUNT ];
+        int[] ages = new int[ SAMPLE_COUNT ];
+        double[] bmis = new double[ SAMPLE_COUNT ];
+        double[][] expected = new double[ 3 ][ SAMPLE_COUNT ];
+        int childCount = 0;
+        for ( int i = 0; i < SAMPLE_COUNT; i++ ){
+            Gender gender = ( random.nextBoolean() ? Gender.MALE : Gender.FEMALE );
+            int genderCode = gender.getCode();
+            // Deurenberg 公式在 16 岁前后使用不同的系数
+            int age = 8 + random.nextInt( 73 );
+            double bmi = 16 + random.nextDouble() * 20;
+            genderCodes[ i ] = ( byte ) genderCode;
+            ages[ i ] = age;
+            bmis[ i ] = bmi;
+            if ( age < BFRCalculatorConstants.DeurenbergEquation.ADULT_MIN_AGE ) childCount++;
+
+            expected[ 0 ][ i ] = age >= BFRCalculatorConstants.DeurenbergEquation.ADULT_MIN_AGE ?
+                    linearBFR( BFRCalculatorConstants.DeurenbergEquation.Adult.BMI_COEFFICIENT, bmi, BFRCalculatorConstants.DeurenbergEquation.Adult.AGE_COEFFICIENT, age,
+                            BFRCalculatorConstants.DeurenbergEquation.Adult.GENDER_COEFFICIENT, genderCode, BFRCalculatorConstants.DeurenbergEquation.Adult.CONST_TERM ) :
+                    linearBFR( BFRCalculatorConstants.DeurenbergEquation.Child.BMI_COEFFICIENT, bmi, BFRCalculatorConstants.DeurenbergEquation.Child.AGE_COEFFICIENT, age,
+                            BFRCalculatorConstants.DeurenbergEquation.Child.GENDER_COEFFICIENT, genderCode, BFRCalculatorConstants.DeurenbergEquation.Child.CONST_TERM );
+            expected[ 1 ][ i ] = linearBFR( BFRCalculatorConstants.GallagherEquation.Version1.BMI_COEFFICIENT, bmi,
+                    BFRCalculatorConstants.GallagherEquation.Version1.AGE_COEFFICIENT, age,
+                    BFRCalculatorConstants.GallagherEquation.Version1.GENDER_COEFFICIENT, genderCode,
+                    BFRCalculatorConstants.GallagherEquation.Version1.CONST_TERM );
+            expected[ 2 ][ i ] = linearBFR( BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.BMI_COEFFICIENT, bmi,
+                    BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.AGE_COEFFICIENT, age,
+                    BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.GENDER_COEFFICIENT, genderCode,
+                    BFRCalculatorConstants.JacksonPollockEquation.SimplifiedVersion.CONST_TERM );
+
+            assertEquals( expected[ 0 ][ i ], BFRCalculator.calculateBFRByDeurenbergEquation( bmi, age, gender ) );
+            assertEquals( expected[ 1 ][ i ], BFRCalculator.calculateBFRByGallagherEquation1( bmi, age, gender ) );
+            assertEquals( expected[ 2 ][ i ], BFRCalculator.calculateBFRByJacksonPollockSimplifiedEquation( bmi, age, gender ) );
+        }
+        assertTrue( childCount > 0 );
+
+        double[] out = new double[ SAMPLE_COUNT ];
+        BFRCalculator.calculateBFRByDeurenbergEquation( bmis, ages, genderCodes, out );
+        assertColumnEquals( expected[ 0 ], out );
+        BFRCalculator.calculateBFRByGallagherEquation1( bmis, ages, genderCodes, out );
+        assertColumnEquals( expected[ 1 ], out );
+        BFRCalculator.calculateBFRByJacksonPollockSimplifiedEquation( bmis, ages, genderCodes, out );
+        assertColumnEquals( expected[ 2 ], out );
+    }
+
+    @Test
+    void bsaMatchesPowerFunction(){
+        Random random = new Random( 7 );
+        for ( int i = 0; i < SAMPLE_COUNT; i++ ){
+            Gender gender = ( random.nextBoolean() ? Gender.MALE : Gender.FEMALE );
+            double height = 150 + random.nextDouble() * 45;
+            double weight = 45 + random.nextDouble() * 70;
+
+            assertEquals( BSACalculatorConstants.DuBoisEquation.POWER_FUNCTION_COEFFICIENT
+                            * Math.pow( height, BSACalculatorConstants.DuBoisEquation.HEIGHT_EXPONENT )
+                            * Math.pow( weight, BSACalculatorConstants.DuBoisEquation.WEIGHT_EXPONENT ),
+                    BSACalculator.calculateBSAByDuBoisEquation( height, weight ) );
+            double expected = gender.isMale() ?
+                    BSACalculatorConstants.SchlichEquation.Male.POWER_FUNCTION_COEFFICIENT
+                            * Math.pow( height, BSACalculatorConstants.SchlichEquation.Male.HEIGHT_EXPONENT )
+                            * Math.pow( weight, BSACalculatorConstants.SchlichEquation.Male.WEIGHT_EXPONENT ) :
+                    BSACalculatorConstants.SchlichEquation.Female.POWER_FUNCTION_COEFFICIENT
+                            * Math.pow( height, BSACalculatorConstants.SchlichEquation.Female.HEIGHT_EXPONENT )
+                            * Math.pow( weight, BSACalculatorConstants.SchlichEquation.Female.WEIGHT_EXPONENT );
+            assertEquals( expected, BSACalculator.calculateBSABySchlichEquation( gender, height, weight ) );
+        }
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    /**
+     * 查表之前的 BMR 计算通式: 体重系数 * 体重 + 身高系数 * 身高 + 年龄系数 * 年龄 + 常数项
+     */
+    private static double linear( double weightCoefficient, double weight, double heightCoefficient, double height,
+                                  double ageCoefficient, int age, double constTerm ){
+        return weightCoefficient * weight + heightCoefficient * height + ageCoefficient * age + constTerm;
+    }
+
+    /**
+     * 查表之前的 BFR 计算通式: BMI 系数 * BMI + 年龄系数 * 年龄 + 性别系数 * 性别代码 + 常数项
+     */
+    private static double linearBFR( double bmiCoefficient, double bmi, double ageCoefficient, int age,
+                                     double genderCoefficient, int genderCode, double constTerm ){
+        return bmiCoefficient * bmi + ageCoefficient * age + genderCoefficient * genderCode + constTerm;
+    }
+
+    private static void assertColumnEquals( double[] expected, double[] actual ){
+        for ( int i = 0; i < expected.length; i++ ){
+            assertEquals( expected[ i ], actual[ i ], "第 " + i + " 行" );
+        }
+    }
+}
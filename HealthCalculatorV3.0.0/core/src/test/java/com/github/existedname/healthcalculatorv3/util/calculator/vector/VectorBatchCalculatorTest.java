@@ -0,0 +1,176 @@
+package com.github.existedname.healthcalculatorv3.util.calculator.vector;
+
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BFRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BMRCalculator;
+import com.github.existedname.healthcalculatorv3.util.calculator.basic.BSACalculator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link VectorBatchCalculator } 测试: 向量后端与 basic 包标量批量方法的结果对比
+ * <pre>
+ *     1. 线性公式族( BMR、BFR )逐位一致, 幂函数公式族( BSA )在相对误差 {@value #BSA_RELATIVE_TOLERANCE } 内一致
+ *     2. 列长度覆盖 0 到 {@value #MAX_SHORT_LENGTH } 及一个较长的奇数长度, 不是向量宽度整数倍的尾部也参与对比
+ *     3. 需要 --add-modules jdk.incubator.vector( core/pom.xml 中 surefire 的 argLine ), 否则只会对比标量与标量
+ * </pre>
+ *
+ * @author <a href="https://github.com/existed-name"> existed-name </a>
+ * @since 3.1.0
+ * @CreateTime 2026/10/18 23:00
+ */
+class VectorBatchCalculatorTest {
+    // ==================== 常量 ====================
+    /** 逐一测试的最大短列长度( 大于常见向量宽度的数倍 ) */
+    private static final int MAX_SHORT_LENGTH = 40;
+    /** 较长的列长度( 奇数, 不是任何向量宽度的整数倍 ) */
+    private static final int LONG_LENGTH = 1021;
+    /** BSA 的相对误差上限: 对数空间 exp( a + b·ln h + c·ln w ) 与 Math.pow 只有舍入级别的差异 */
+    private static final double BSA_RELATIVE_TOLERANCE = 1e-12;
+
+    private static byte[] genderCodes;
+    private static int[] ages;
+    private static double[] weights;
+    private static double[] heights;
+    private static double[] bmis;
+
+
+    // ==================== 测试 ====================
+    @BeforeAll
+    static void createColumns(){
+        assertTrue( VectorBatchCalculator.isVectorBackendAvailable(),
+                "向量后端不可用, 请用 --add-modules " + VectorBatchCalculator.VECTOR_MODULE_NAME + " 运行测试" );
+        Random random = new Random( 20261018 );
+        genderCodes = new byte[ LONG_LENGTH ];
+        ages = new int[ LONG_LENGTH ];
+        weights = new double[ LONG_LENGTH ];
+        heights = new double[ LONG_LENGTH ];
+        bmis = new double[ LONG_LENGTH ];
+        for ( int i = 0; i < LONG_LENGTH; i++ ){
+            genderCodes[ i ] = ( byte ) random.nextInt( 2 );
+            ages[ i ] = 1 + random.nextInt( 100 );  // 含 Deurenberg 公式儿童、成人两段
+            weights[ i ] = 10 + random.nextDouble() * 140;
+            heights[ i ] = 80 + random.nextDouble() * 130;
+            bmis[ i ] = 12 + random.nextDouble() * 35;
+        }
+    }
+
+    @Test
+    void linearFormsMatchScalarExactly(){
+        for ( int length : lengths() ){
+            byte[] g = copyOf( genderCodes, length );
+            int[] a = copyOf( ages, length );
+            double[] w = copyOf( weights, length ), h = copyOf( heights, length ), b = copyOf( bmis, length );
+            double[] expected = new double[ length ], actual = new double[ length ];
+
+            BMRCalculator.calculateBMRByMSJEquation( g, w, h, a, expected );
+            VectorBatchCalculator.calculateBMRByMSJEquation( g, w, h, a, actual );
+            assertArrayEquals( expected, actual, "MSJ, 长度 " + length );
+
+            BMRCalculator.calculateBMRByHBEquation( g, w, h, a, expected );
+            VectorBatchCalculator.calculateBMRByHBEquation( g, w, h, a, actual );
+            assertArrayEquals( expected, actual, "H-B, 长度 " + length );
+
+            BMRCalculator.calculateBMRByShizgalRosaEquation( g, w, h, a, expected );
+            VectorBatchCalculator.calculateBMRByShizgalRosaEquation( g, w, h, a, actual );
+            assertArrayEquals( expected, actual, "Shizgal-Rosa, 长度 " + length );
+
+            BMRCalculator.calculateBMRByMaoEquation( g, w, expected );
+            VectorBatchCalculator.calculateBMRByMaoEquation( g, w, actual );
+            assertArrayEquals( expected, actual, "毛德倩, 长度 " + length );
+
+            BFRCalculator.calculateBFRByDeurenbergEquation( b, a, g, expected );
+            VectorBatchCalculator.calculateBFRByDeurenbergEquation( b, a, g, actual );
+            assertArrayEquals( expected, actual, "Deurenberg, 长度 " + length );
+
+            BFRCalculator.calculateBFRByGallagherEquation1( b, a, g, expected );
+            VectorBatchCalculator.calculateBFRByGallagherEquation1( b, a, g, actual );
+            assertArrayEquals( expected, actual, "Gallagher Ⅰ, 长度 " + length );
+
+            BFRCalculator.calculateBFRByJacksonPollockSimplifiedEquation( b, a, g, expected );
+            VectorBatchCalculator.calculateBFRByJacksonPollockSimplifiedEquation( b, a, g, actual );
+            assertArrayEquals( expected, actual, "Jackson-Pollock, 长度 " + length );
+        }
+    }
+
+    @Test
+    void powerLawsMatchScalarWithinTolerance(){
+        for ( int length : lengths() ){
+            byte[] g = copyOf( genderCodes, length );
+            double[] w = copyOf( weights, length ), h = copyOf( heights, length );
+            double[] expected = new double[ length ], actual = new double[ length ];
+
+            BSACalculator.calculateBSAByDuBoisEquation( h, w, expected );
+            VectorBatchCalculator.calculateBSAByDuBoisEquation( h, w, actual );
+            assertClose( expected, actual, "Du Bois, 长度 " + length );
+
+            BSACalculator.calculateBSAByHaycockEquation( h, w, expected );
+            VectorBatchCalculator.calculateBSAByHaycockEquation( h, w, actual );
+            assertClose( expected, actual, "Haycock, 长度 " + length );
+
+            BSACalculator.calculateBSAByMostellerEquation( h, w, expected );
+            VectorBatchCalculator.calculateBSAByMostellerEquation( h, w, actual );
+            assertClose( expected, actual, "Mosteller, 长度 " + length );
+
+            BSACalculator.calculateBSABySchlichEquation( g, h, w, expected );
+            VectorBatchCalculator.calculateBSABySchlichEquation( g, h, w, actual );
+            assertClose( expected, actual, "Schlich, 长度 " + length );
+        }
+    }
+
+    @Test
+    void retainRangeMatchesScalar(){
+        for ( int length : lengths() ){
+            int wordCount = ( length + Long.SIZE - 1 ) >>> 6;
+            long[] expected = new long[ wordCount ], actual = new long[ wordCount ];
+            Arrays.fill( actual, -1L );
+            for ( int i = 0; i < length; i++ ){
+                if ( 18 <= ages[ i ] && ages[ i ] <= 60 && 50 <= weights[ i ] && weights[ i ] <= 100 ){
+                    expected[ i >>> 6 ] |= 1L << i;
+                }
+            }
+            VectorBatchCalculator.retainRange( ages, 18, 60, actual, length );
+            VectorBatchCalculator.retainRange( weights, 50, 100, actual, length );
+            // 只比较前 length 位, 之后的位保持不变
+            for ( int i = 0; i < length; i++ ){
+                assertEquals( ( expected[ i >>> 6 ] >>> i ) & 1, ( actual[ i >>> 6 ] >>> i ) & 1, "第 " + i + " 行, 长度 " + length );
+            }
+        }
+    }
+
+
+    // ==================== 私有辅助方法 ====================
+    private static int[] lengths(){
+        int[] lengths = new int[ MAX_SHORT_LENGTH + 2 ];
+        for ( int i = 0; i <= MAX_SHORT_LENGTH; i++ ){
+            lengths[ i ] = i;
+        }
+        lengths[ MAX_SHORT_LENGTH + 1 ] = LONG_LENGTH;
+        return lengths;
+    }
+
+    private static void assertClose( double[] expected, double[] actual, String message ){
+        assertEquals( expected.length, actual.length, message );
+        for ( int i = 0; i < expected.length; i++ ){
+            assertEquals( expected[ i ], actual[ i ], Math.abs( expected[ i ] ) * BSA_RELATIVE_TOLERANCE, message + ", 第 " + i + " 行" );
+        }
+    }
+
+    private static byte[] copyOf( byte[] column, int length ){
+        return Arrays.copyOf( column, length );
+    }
+
+    private static int[] copyOf( int[] column, int length ){
+        return Arrays.copyOf( column, length );
+    }
+
+    private static double[] copyOf( double[] column, int length ){
+        return Arrays.copyOf( column, length );
+    }
+}